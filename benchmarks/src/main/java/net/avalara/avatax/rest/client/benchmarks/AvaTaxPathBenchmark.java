@@ -0,0 +1,29 @@
+package net.avalara.avatax.rest.client.benchmarks;
+
+import net.avalara.avatax.rest.client.AvaTaxPath;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the URL of a typical list call: two path fields and four query parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvaTaxPathBenchmark {
+    @Benchmark
+    public String buildListTransactionsPath() {
+        AvaTaxPath path = new AvaTaxPath("/api/v2/companies/{companyCode}/transactions/{transactionCode}");
+        path.applyField("companyCode", "DEFAULT");
+        path.applyField("transactionCode", "INV-0001");
+        path.addQuery("$include", "Lines,Details");
+        path.addQuery("$filter", "date between '2018-01-01' and '2018-01-31'");
+        path.addQuery("$top", 1000);
+        path.addQuery("$skip", 0);
+        return path.toString();
+    }
+}
@@ -0,0 +1,120 @@
+package net.avalara.avatax.rest.client.benchmarks;
+
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+
+/**
+ * Realistic request and response models shared by the benchmarks.
+ */
+public final class Fixtures {
+    private Fixtures() {
+    }
+
+    public static CreateTransactionModel createTransactionModel(int lineCount) {
+        CreateTransactionModel model = new CreateTransactionModel();
+        model.setCompanyCode("DEFAULT");
+        model.setType(DocumentType.SalesInvoice);
+        model.setCode("INV-" + lineCount);
+        model.setCustomerCode("CUST-0001");
+        model.setDate(new Date(1514764800000L));
+        model.setCurrencyCode("USD");
+        model.setCommit(false);
+
+        AddressesModel addresses = new AddressesModel();
+        addresses.setShipFrom(address("100 Ravine Ln NE", "Bainbridge Island", "WA", "98110"));
+        addresses.setShipTo(address("255 S King St", "Seattle", "WA", "98104"));
+        model.setAddresses(addresses);
+
+        ArrayList<LineItemModel> lines = new ArrayList<LineItemModel>(lineCount);
+
+        for (int i = 0; i < lineCount; i++) {
+            LineItemModel line = new LineItemModel();
+            line.setNumber(Integer.toString(i + 1));
+            line.setQuantity(BigDecimal.ONE);
+            line.setAmount(new BigDecimal("100.00").add(BigDecimal.valueOf(i, 2)));
+            line.setTaxCode("P0000000");
+            line.setItemCode("SKU-" + i);
+            line.setDescription("Line item " + i);
+            lines.add(line);
+        }
+
+        model.setLines(lines);
+        return model;
+    }
+
+    public static TransactionModel transactionModel(int lineCount) {
+        TransactionModel model = new TransactionModel();
+        model.setId(123456789L);
+        model.setCode("INV-" + lineCount);
+        model.setCompanyId(12345);
+        model.setDate(new Date(1514764800000L));
+        model.setStatus(DocumentStatus.Committed);
+        model.setType(DocumentType.SalesInvoice);
+        model.setCurrencyCode("USD");
+        model.setCustomerCode("CUST-0001");
+        model.setReconciled(false);
+        model.setTotalAmount(new BigDecimal("100.00").multiply(BigDecimal.valueOf(lineCount)));
+        model.setTotalTax(new BigDecimal("10.10").multiply(BigDecimal.valueOf(lineCount)));
+        model.setModifiedDate(new Date(1514764800000L));
+
+        ArrayList<TransactionLineModel> lines = new ArrayList<TransactionLineModel>(lineCount);
+
+        for (int i = 0; i < lineCount; i++) {
+            TransactionLineModel line = new TransactionLineModel();
+            line.setId(1000000L + i);
+            line.setTransactionId(123456789L);
+            line.setLineNumber(Integer.toString(i + 1));
+            line.setDescription("Line item " + i);
+            line.setItemCode("SKU-" + i);
+            line.setLineAmount(new BigDecimal("100.00"));
+            line.setQuantity(BigDecimal.ONE);
+            line.setTax(new BigDecimal("10.10"));
+            line.setTaxableAmount(new BigDecimal("100.00"));
+            line.setTaxCode("P0000000");
+            line.setIsItemTaxable(true);
+            line.setReportingDate(new Date(1514764800000L));
+            line.setSourcing(Sourcing.Destination);
+
+            ArrayList<TransactionLineDetailModel> details = new ArrayList<TransactionLineDetailModel>();
+            details.add(detail("WA", "WASHINGTON", JurisdictionType.State, "0.065", "6.50"));
+            details.add(detail("033", "KING", JurisdictionType.County, "0.000", "0.00"));
+            details.add(detail("63000", "SEATTLE", JurisdictionType.City, "0.036", "3.60"));
+            line.setDetails(details);
+            lines.add(line);
+        }
+
+        model.setLines(lines);
+        return model;
+    }
+
+    private static AddressLocationInfo address(String line1, String city, String region, String postalCode) {
+        AddressLocationInfo address = new AddressLocationInfo();
+        address.setLine1(line1);
+        address.setCity(city);
+        address.setRegion(region);
+        address.setPostalCode(postalCode);
+        address.setCountry("US");
+        return address;
+    }
+
+    private static TransactionLineDetailModel detail(String jurisCode, String jurisName, JurisdictionType type, String rate, String tax) {
+        TransactionLineDetailModel detail = new TransactionLineDetailModel();
+        detail.setCountry("US");
+        detail.setRegion("WA");
+        detail.setJurisCode(jurisCode);
+        detail.setJurisName(jurisName);
+        detail.setJurisdictionType(type);
+        detail.setRate(new BigDecimal(rate));
+        detail.setTax(new BigDecimal(tax));
+        detail.setTaxableAmount(new BigDecimal("100.00"));
+        detail.setTaxName(jurisName + " TAX");
+        detail.setTaxType(TaxType.Sales);
+        detail.setRateType(RateType.General);
+        detail.setSourcing(Sourcing.Destination);
+        return detail;
+    }
+}
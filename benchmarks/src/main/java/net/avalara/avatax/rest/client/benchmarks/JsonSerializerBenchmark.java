@@ -0,0 +1,61 @@
+package net.avalara.avatax.rest.client.benchmarks;
+
+import net.avalara.avatax.rest.client.models.CreateTransactionModel;
+import net.avalara.avatax.rest.client.models.TransactionModel;
+import net.avalara.avatax.rest.client.serializer.JsonSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of a tax request and deserialization of its response, at 1, 100 and 10,000 lines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializerBenchmark {
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    @Param({"1", "100", "10000"})
+    public int lines;
+
+    private CreateTransactionModel request;
+    private String responseJson;
+    private byte[] responseBytes;
+
+    @Setup
+    public void setup() {
+        request = Fixtures.createTransactionModel(lines);
+        responseJson = JsonSerializer.SerializeObject(Fixtures.transactionModel(lines));
+        responseBytes = responseJson.getBytes(UTF8);
+    }
+
+    @Benchmark
+    public String serializeCreateTransaction() {
+        return JsonSerializer.SerializeObject(request);
+    }
+
+    @Benchmark
+    public StringWriter serializeCreateTransactionToWriter() {
+        StringWriter writer = new StringWriter();
+        JsonSerializer.SerializeObject(request, writer);
+        return writer;
+    }
+
+    @Benchmark
+    public Object deserializeTransaction() {
+        return JsonSerializer.DeserializeObject(responseJson, TransactionModel.class);
+    }
+
+    @Benchmark
+    public Object deserializeTransactionFromStream() {
+        return JsonSerializer.DeserializeObject(new InputStreamReader(new ByteArrayInputStream(responseBytes), UTF8), TransactionModel.class);
+    }
+}
@@ -0,0 +1,45 @@
+package net.avalara.avatax.rest.client.benchmarks;
+
+import com.google.gson.reflect.TypeToken;
+import net.avalara.avatax.rest.client.AvaTaxPath;
+import net.avalara.avatax.rest.client.RestCall;
+import net.avalara.avatax.rest.client.RestCallFactory;
+import net.avalara.avatax.rest.client.models.CreateTransactionModel;
+import net.avalara.avatax.rest.client.models.TransactionModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating the RestCall for a createTransaction request, without sending it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestCallBenchmark {
+    private RestCallFactory factory;
+    private CreateTransactionModel model;
+
+    @Setup
+    public void setup() {
+        factory = new RestCallFactory("Benchmark", "1.0", "localhost", "http://localhost:1");
+        factory.addSecurityHeader("dXNlcm5hbWU6cGFzc3dvcmQ=");
+        model = Fixtures.createTransactionModel(10);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        factory.close();
+    }
+
+    @Benchmark
+    public RestCall<TransactionModel> createTransactionCall() {
+        AvaTaxPath path = new AvaTaxPath("/api/v2/transactions/create");
+        path.addQuery("$include", "Lines");
+        return factory.createRestCall("post", path, model, new TypeToken<TransactionModel>(){});
+    }
+}
@@ -0,0 +1,284 @@
+package net.avalara.avatax.rest.client.benchmarks;
+
+import net.avalara.avatax.rest.client.AvaTaxClient;
+import net.avalara.avatax.rest.client.ConnectionPoolSettings;
+import net.avalara.avatax.rest.client.models.CreateTransactionModel;
+import net.avalara.avatax.rest.client.models.TransactionModel;
+import net.avalara.avatax.rest.client.testkit.FakeAvaTaxServer;
+import org.apache.http.concurrent.FutureCallback;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives createTransaction calls through AvaTaxClient against a FakeAvaTaxServer and reports throughput,
+ * latency percentiles, connections opened and client-side allocation per call.
+ *
+ * Run with: sbt "benchmarks/runMain net.avalara.avatax.rest.client.benchmarks.ThroughputHarness --mode nonblocking --concurrency 64"
+ *
+ * Options, all optional:
+ * <ul>
+ *     <li>--mode blocking|async|nonblocking - synchronous calls from worker threads, callback calls run on a
+ *     thread pool of size concurrency, or callback calls over the non-blocking transport (default blocking)</li>
+ *     <li>--concurrency n - calls in flight at once, also the connection pool size (default 16)</li>
+ *     <li>--requests n - measured calls (default 5000), preceded by --warmup n calls (default 1000)</li>
+ *     <li>--lines n - lines per transaction (default 10)</li>
+ *     <li>--latency min:max - server latency in milliseconds (default 0:0)</li>
+ *     <li>--error-rate p - fraction of calls the server fails with a 500 (default 0)</li>
+ *     <li>--compression on|off - gzip request bodies of 4 KB or more and responses of 1 KB or more (default off)</li>
+ * </ul>
+ */
+public class ThroughputHarness {
+    private final String mode;
+    private final int concurrency;
+    private final int requests;
+    private final int warmup;
+    private final CreateTransactionModel model;
+    private final ExecutorService threadPool;
+    private final AvaTaxClient client;
+
+    private final AtomicInteger failures = new AtomicInteger();
+    private final AtomicLong exitedThreadAllocatedBytes = new AtomicLong();
+
+    private ThroughputHarness(Map<String, String> options, FakeAvaTaxServer server) {
+        this.mode = option(options, "mode", "blocking");
+        this.concurrency = Integer.parseInt(option(options, "concurrency", "16"));
+        this.requests = Integer.parseInt(option(options, "requests", "5000"));
+        this.warmup = Integer.parseInt(option(options, "warmup", "1000"));
+        this.model = Fixtures.createTransactionModel(Integer.parseInt(option(options, "lines", "10")));
+        this.threadPool = Executors.newFixedThreadPool(concurrency);
+        this.client = new AvaTaxClient("ThroughputHarness", "1.0", "localhost", server.getUrl(), threadPool)
+                .withSecurity("username", "password")
+                .withConnectionPool(new ConnectionPoolSettings().withMaxTotal(concurrency).withMaxPerRoute(concurrency));
+
+        if (option(options, "compression", "off").equals("on")) {
+            client.withCompression();
+        }
+
+        if (mode.equals("nonblocking")) {
+            client.withNonBlockingTransport();
+        } else if (!mode.equals("blocking") && !mode.equals("async")) {
+            throw new IllegalArgumentException("Unknown mode: " + mode);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String[] latency = option(options, "latency", "0:0").split(":");
+        FakeAvaTaxServer server = new FakeAvaTaxServer()
+                .withLatency(Long.parseLong(latency[0]), Long.parseLong(latency[latency.length - 1]))
+                .withErrorRate(Double.parseDouble(option(options, "error-rate", "0")), 500)
+                .withCompression(1024)
+                .start();
+
+        try {
+            ThroughputHarness harness = new ThroughputHarness(options, server);
+
+            try {
+                harness.run(harness.warmup, new long[harness.warmup]);
+                server.resetStats();
+                harness.failures.set(0);
+                harness.exitedThreadAllocatedBytes.set(0);
+
+                long[] latencies = new long[harness.requests];
+                long allocatedBefore = clientAllocatedBytes();
+                long start = System.nanoTime();
+                harness.run(harness.requests, latencies);
+                long elapsed = System.nanoTime() - start;
+                long allocated = clientAllocatedBytes() - allocatedBefore + harness.exitedThreadAllocatedBytes.get();
+
+                harness.report(server, latencies, elapsed, allocated);
+            } finally {
+                harness.client.close();
+                harness.threadPool.shutdown();
+            }
+        } finally {
+            server.close();
+        }
+    }
+
+    private void run(int count, long[] latencies) throws InterruptedException {
+        if (mode.equals("blocking")) {
+            runBlocking(count, latencies);
+        } else {
+            runWindowed(count, latencies);
+        }
+    }
+
+    /**
+     * One thread per in-flight call, each making synchronous calls back to back.
+     */
+    private void runBlocking(final int count, final long[] latencies) throws InterruptedException {
+        final AtomicInteger next = new AtomicInteger();
+        Thread[] workers = new Thread[concurrency];
+
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    long allocatedBefore = currentThreadAllocatedBytes();
+                    int index;
+
+                    while ((index = next.getAndIncrement()) < count) {
+                        long start = System.nanoTime();
+
+                        try {
+                            client.createTransaction(null, model);
+                        } catch (Exception ex) {
+                            failures.incrementAndGet();
+                        }
+
+                        latencies[index] = System.nanoTime() - start;
+                    }
+
+                    // The worker is gone by the time the run is measured, so it reports its own allocation
+                    exitedThreadAllocatedBytes.addAndGet(currentThreadAllocatedBytes() - allocatedBefore);
+                }
+            }, "harness-" + i);
+            workers[i].start();
+        }
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    /**
+     * A single submitting thread keeping at most concurrency calls in flight.
+     */
+    private void runWindowed(int count, final long[] latencies) throws InterruptedException {
+        final Semaphore window = new Semaphore(concurrency);
+        final CountDownLatch done = new CountDownLatch(count);
+
+        for (int i = 0; i < count; i++) {
+            window.acquire();
+            final int index = i;
+            final long start = System.nanoTime();
+
+            client.createTransactionAsync(null, model, new FutureCallback<TransactionModel>() {
+                @Override
+                public void completed(TransactionModel result) {
+                    finish();
+                }
+
+                @Override
+                public void failed(Exception ex) {
+                    failures.incrementAndGet();
+                    finish();
+                }
+
+                @Override
+                public void cancelled() {
+                    failures.incrementAndGet();
+                    finish();
+                }
+
+                private void finish() {
+                    latencies[index] = System.nanoTime() - start;
+                    window.release();
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+    }
+
+    private void report(FakeAvaTaxServer server, long[] latencies, long elapsedNanos, long allocatedBytes) {
+        Arrays.sort(latencies);
+        System.out.printf("mode=%s concurrency=%d requests=%d lines=%d%n", mode, concurrency, requests, model.getLines().size());
+        System.out.printf("throughput      %10.1f calls/s%n", requests / (elapsedNanos / 1e9));
+        System.out.printf("latency p50     %10.3f ms%n", percentile(latencies, 0.50) / 1e6);
+        System.out.printf("latency p90     %10.3f ms%n", percentile(latencies, 0.90) / 1e6);
+        System.out.printf("latency p99     %10.3f ms%n", percentile(latencies, 0.99) / 1e6);
+        System.out.printf("latency max     %10.3f ms%n", latencies[latencies.length - 1] / 1e6);
+        System.out.printf("failures        %10d%n", failures.get());
+        System.out.printf("connections     %10d (server saw %d requests, max %d concurrent)%n",
+                server.getConnectionCount(), server.getRequestCount(), server.getMaxConcurrentRequests());
+
+        System.out.printf("body bytes/call %10d sent, %d received%n",
+                server.getBytesReceived() / requests, server.getBytesSent() / requests);
+
+        if (allocatedBytes >= 0) {
+            System.out.printf("allocated/call  %10d bytes (client threads only)%n", allocatedBytes / requests);
+        }
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(fraction * sorted.length) - 1)];
+    }
+
+    /**
+     * Bytes allocated so far by live threads other than the fake server's, or -1 when the JVM cannot tell.
+     * Threads that have already exited are not counted, so measure while the client's threads are still alive.
+     */
+    private static long clientAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+
+        long total = 0;
+
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info == null || info.getThreadName().startsWith("fake-avatax-") || info.getThreadName().startsWith("HTTP-Dispatcher")) {
+                continue;
+            }
+
+            long bytes = threads.getThreadAllocatedBytes(info.getThreadId());
+
+            if (bytes > 0) {
+                total += bytes;
+            }
+        }
+
+        return total;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return 0;
+        }
+
+        long bytes = ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        return bytes > 0 ? bytes : 0;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<String, String>();
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected an option but found: " + args[i]);
+            }
+
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+
+        return options;
+    }
+
+    private static String option(Map<String, String> options, String name, String defaultValue) {
+        String value = options.get(name);
+        return value != null ? value : defaultValue;
+    }
+}
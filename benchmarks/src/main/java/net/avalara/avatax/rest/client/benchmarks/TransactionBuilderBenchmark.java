@@ -0,0 +1,52 @@
+package net.avalara.avatax.rest.client.benchmarks;
+
+import net.avalara.avatax.rest.client.AvaTaxClient;
+import net.avalara.avatax.rest.client.TransactionBuilder;
+import net.avalara.avatax.rest.client.enums.DocumentType;
+import net.avalara.avatax.rest.client.enums.TransactionAddressType;
+import net.avalara.avatax.rest.client.models.CreateTransactionModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a CreateTransactionModel line by line through the fluent TransactionBuilder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionBuilderBenchmark {
+    private static final BigDecimal AMOUNT = new BigDecimal("100.00");
+
+    @Param({"1", "100", "10000"})
+    public int lines;
+
+    private AvaTaxClient client;
+
+    @Setup
+    public void setup() {
+        client = new AvaTaxClient("Benchmark", "1.0", "localhost", "http://localhost:1");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        client.close();
+    }
+
+    @Benchmark
+    public CreateTransactionModel buildTransaction() {
+        TransactionBuilder builder = new TransactionBuilder(client, "DEFAULT", DocumentType.SalesInvoice, "CUST-0001")
+                .withAddress(TransactionAddressType.SingleLocation, "100 Ravine Ln NE", null, null, "Bainbridge Island", "WA", "98110", "US");
+
+        for (int i = 0; i < lines; i++) {
+            builder.withLine(AMOUNT, BigDecimal.ONE, "P0000000", "SKU-" + i);
+        }
+
+        return builder.getIntermediaryTransactionModel();
+    }
+}
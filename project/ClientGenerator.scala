@@ -25,14 +25,29 @@ object ClientGenerator {
     var fileText = TemplateConstants.APIClassTemplate.replace("@@APILIST@@", builder.toString())
     sbt.IO.write(new File("./src/main/java/net/avalara/avatax/rest/client/AvaTaxClient.java"), fileText, java.nio.charset.Charset.forName("utf-8"))
 
-    for (m <- model.models) {
+    val adapterCases = new StringBuilder()
+
+    for (m <- model.models.sortBy(_.schemaName)) {
       if (!m.schemaName.startsWith("FetchResult")) {
         sbt.IO.write(new File("./src/main/java/net/avalara/avatax/rest/client/models/" + m.schemaName + ".java"), m.toString, java.nio.charset.Charset.forName("utf-8"))
+        sbt.IO.write(new File("./src/main/java/net/avalara/avatax/rest/client/serializer/adapters/" + m.schemaName + "TypeAdapter.java"), m.toTypeAdapterString, java.nio.charset.Charset.forName("utf-8"))
+        adapterCases.append(TemplateConstants.TypeAdapterFactoryModelCaseTemplate.replace("@@MODELCLASS@@", m.schemaName))
       }
     }
 
     for (e <- model.enums) {
       sbt.IO.write(new File("./src/main/java/net/avalara/avatax/rest/client/enums/" + e.enumDataType + ".java"), e.toString, java.nio.charset.Charset.forName("utf-8"))
     }
+
+    val enumCases = new StringBuilder()
+
+    for (e <- model.enums.map(_.enumDataType).distinct.sorted) {
+      enumCases.append(TemplateConstants.TypeAdapterFactoryEnumCaseTemplate.replace("@@ENUMCLASS@@", e))
+    }
+
+    val factoryText = TemplateConstants.TypeAdapterFactoryTemplate
+      .replace("@@MODELCASES@@", adapterCases.toString())
+      .replace("@@ENUMCASES@@", enumCases.toString())
+    sbt.IO.write(new File("./src/main/java/net/avalara/avatax/rest/client/serializer/adapters/ModelTypeAdapterFactory.java"), factoryText, java.nio.charset.Charset.forName("utf-8"))
   }
 }
\ No newline at end of file
@@ -68,7 +68,18 @@ object ParseSwagger {
 
   case class ApiModel(methods: Seq[ApiInfo], enums: Seq[EnumInfo], models: Seq[ModelInfo])
 
-  case class ApiInfo(uri: String, comment: String, category: String, typeName: String, httpVerb: String, operationId: String, bodyParam: Option[ParameterInfo], params: Seq[ParameterInfo], queryParams: Seq[ParameterInfo]) {
+  // Operations whose String result is a file, such as a report or an attachment, and so also get overloads that
+  // stream it to a channel, an output stream or a path
+  val DownloadOperations = Set("DownloadBatch", "DownloadCertificateImage", "GetFilingAttachment", "GetFilingAttachments",
+    "GetFilingAttachmentsTraceFile", "DownloadNoticeAttachment", "DownloadReport", "ExportDocumentLine",
+    "BuildTaxContentFile", "BuildTaxContentFileForLocation", "DownloadTaxRatesByZipCode")
+
+  // Operations that accept a file as multipart/form-data, and so also get overloads that stream it from a path, an
+  // input stream or a buffer, mapped to the name of the file's form field.  Where the swagger form has a file
+  // parameter, the generated methods take it as the path of the file to send.
+  val UploadOperations = Map("UploadCertificateImage" -> "file", "UploadAttachment" -> "content")
+
+  case class ApiInfo(uri: String, comment: String, category: String, typeName: String, httpVerb: String, operationId: String, bodyParam: Option[ParameterInfo], params: Seq[ParameterInfo], queryParams: Seq[ParameterInfo], fileParam: Option[ParameterInfo]) {
     override def toString: String = {
       val paramComments = new StringBuilder()
       val paramList = new StringBuilder()
@@ -86,6 +97,11 @@ object ParseSwagger {
         paramBuilder.append(s"""\n        path.addQuery("${p.paramName}", ${p.javaParamName});""")
       }
 
+      for (p <- fileParam) {
+        paramComments.append(s"        /// param name ${p.javaParamName}: ${p.comment}")
+        paramList.append(s"String ${p.javaParamName}, ")
+      }
+
       if (bodyParam.isDefined) {
         paramComments.append(s"        /// param name ${bodyParam.get.javaParamName}: ${bodyParam.get.comment}")
         paramList.append(s"${bodyParam.get.typeName} ${bodyParam.get.javaParamName}, ")
@@ -94,7 +110,31 @@ object ParseSwagger {
       paramComments.append("        /// returns")
       if (paramList.nonEmpty) paramList.delete(paramList.length - 2, paramList.length)
 
-      TemplateConstants.APIClassMethodTemplate
+      // The parameters ahead of the file or target in a streaming overload, which takes the place of any file parameter
+      val allParams = params ++ queryParams ++ bodyParam.toSeq
+      val leadingParams = allParams.map(p => s"${p.typeName} ${p.javaParamName}, ").mkString
+
+      val template = if (httpVerb == "get" && typeName.startsWith("FetchResult<")) {
+        TemplateConstants.APIClassMethodTemplate + TemplateConstants.APIClassPagedMethodTemplate
+          .replace("@@ITEMTYPENAME@@", typeName.stripPrefix("FetchResult<").stripSuffix(">"))
+      } else if (typeName == "String" && DownloadOperations.contains(operationId)) {
+        TemplateConstants.APIClassMethodTemplate + TemplateConstants.APIClassDownloadMethodTemplate
+          .replace("@@PARAMTYPES@@", allParams.map(_.typeName).mkString(", "))
+          .replace("@@PARAMJAVADOC@@", allParams.map(p => s"     * @param ${p.javaParamName} ${p.comment}\n").mkString)
+          .replace("@@DOWNLOADPARAMS@@", leadingParams)
+          .replace("@@DOWNLOADARGS@@", allParams.map(_.javaParamName + ", ").mkString)
+      } else if (UploadOperations.contains(operationId)) {
+        fileParam.map(p => TemplateConstants.APIClassUploadFileMethodTemplate.replace("@@FILEPARAM@@", p.javaParamName).replace("@@FILEPART@@", UploadOperations(operationId)))
+          .getOrElse(TemplateConstants.APIClassMethodTemplate) + TemplateConstants.APIClassUploadMethodTemplate
+          .replace("@@PARAMJAVADOC@@", (params ++ queryParams).map(p => s"     * @param ${p.javaParamName} ${p.comment}\n").mkString +
+            bodyParam.map(p => s"     * @param ${p.javaParamName} Sent as form fields ahead of the file\n").getOrElse(""))
+          .replace("@@UPLOADPARAMS@@", leadingParams)
+          .replace("@@FILEPART@@", UploadOperations(operationId))
+      } else {
+        TemplateConstants.APIClassMethodTemplate
+      }
+
+      template
         .replace("@@CATEGORY@@", category)
         .replace("@@COMMENT@@", comment)
         .replace("@@TYPENAME@@", typeName)
@@ -102,6 +142,7 @@ object ParseSwagger {
         .replace("@@HTTPVERB@@", httpVerb)
         .replace("@@PARAMCOMMENTS@@", paramComments.toString())
         .replace("@@PARAMBUILDER@@", paramBuilder.toString())
+        .replace("@@CALLBACKPARAMS@@", (if (paramList.nonEmpty) paramList.toString() + ", " else "") + s"FutureCallback<${typeName}> callback")
         .replace("@@PARAMS@@", paramList.toString())
         .replace("@@URI@@", uri)
         .replace("@@PAYLOAD@@", if (bodyParam.isEmpty) "null" else "model")
@@ -110,6 +151,13 @@ object ParseSwagger {
 
   case class ParameterInfo(paramName: String, typeName: String, comment: String) {
     val javaParamName = paramName.replace("\\$", "")
+
+    // Name of the Gson adapter field used for this property's type in a generated TypeAdapter
+    lazy val adapterName = {
+      val simple = typeName.replace("ArrayList<", "").replace("HashMap<", "").replaceAll("[^A-Za-z0-9]", "")
+      val suffix = if (typeName.startsWith("ArrayList<")) "ListAdapter" else if (typeName.startsWith("HashMap<")) "MapAdapter" else "Adapter"
+      simple(0).toLower + simple.substring(1) + suffix
+    }
   }
 
   case class EnumInfo(enumDataType: String, comment: String, items: Seq[EnumItem]) {
@@ -148,6 +196,41 @@ object ParseSwagger {
         .replace("@@COMMENT@@", if (comment == null) "" else comment)
         .replace("@@MODELCLASS@@", schemaName)
     }
+
+    def toTypeAdapterString: String = {
+      val fields = new StringBuilder()
+      val init = new StringBuilder()
+      val writes = new StringBuilder()
+      val reads = new StringBuilder()
+      val adapters = scala.collection.mutable.Set[String]()
+
+      for (prop <- properties) {
+        if (adapters.add(prop.adapterName)) {
+          fields.append(TemplateConstants.ModelTypeAdapterFieldTemplate
+            .replace("@@PROPERTYTYPE@@", prop.typeName)
+            .replace("@@ADAPTERNAME@@", prop.adapterName))
+          init.append(TemplateConstants.ModelTypeAdapterInitTemplate
+            .replace("@@ADAPTERNAME@@", prop.adapterName)
+            .replace("@@TYPETOKEN@@", if (prop.typeName.contains("<")) s"new TypeToken<${prop.typeName}>(){}" else s"${prop.typeName}.class"))
+        }
+
+        writes.append(TemplateConstants.ModelTypeAdapterWriteTemplate
+          .replace("@@PROPERTYNAME@@", prop.paramName)
+          .replace("@@UPPERPROPERTYNAME@@", prop.javaParamName(0).toUpper + prop.javaParamName.substring(1))
+          .replace("@@ADAPTERNAME@@", prop.adapterName))
+        reads.append(TemplateConstants.ModelTypeAdapterReadTemplate
+          .replace("@@PROPERTYNAME@@", prop.paramName)
+          .replace("@@UPPERPROPERTYNAME@@", prop.javaParamName(0).toUpper + prop.javaParamName.substring(1))
+          .replace("@@ADAPTERNAME@@", prop.adapterName))
+      }
+
+      TemplateConstants.ModelTypeAdapterTemplate
+        .replace("@@ADAPTERFIELDS@@", fields.toString)
+        .replace("@@ADAPTERINIT@@", init.toString)
+        .replace("@@WRITEPROPERTIES@@", writes.toString)
+        .replace("@@READPROPERTIES@@", reads.toString)
+        .replace("@@MODELCLASS@@", schemaName)
+    }
   }
 
   def resolveType(prop: SwaggerProperty): String = {
@@ -238,7 +321,8 @@ object ParseSwagger {
             verb._2.operationId.getOrElse("").replace("ApiV2", ""),
             if (verb._2.parameters.isDefined) verb._2.parameters.get.find(_.in.equals(Some("body"))).map(mapParameterInfo(_, Some("model"))) else null,
             if (verb._2.parameters.isDefined) verb._2.parameters.get.filter(_.in.equals(Some("path"))).map(mapParameterInfo(_)) else null,
-            if (verb._2.parameters.isDefined) verb._2.parameters.get.filter(_.in.equals(Some("query"))).map(mapParameterInfo(_)) else null
+            if (verb._2.parameters.isDefined) verb._2.parameters.get.filter(_.in.equals(Some("query"))).map(mapParameterInfo(_)) else null,
+            if (verb._2.parameters.isDefined) verb._2.parameters.get.find(p => p.in.equals(Some("formData")) && p.`type`.equals(Some("file"))).map(mapParameterInfo(_).copy(typeName = "String")) else None
           )
         }
       }).toSeq,
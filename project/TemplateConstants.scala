@@ -5,20 +5,52 @@ object TemplateConstants {
       |import com.google.gson.reflect.TypeToken;
       |import net.avalara.avatax.rest.client.models.*;
       |import net.avalara.avatax.rest.client.enums.*;
+      |import net.avalara.avatax.rest.client.cache.CoalescingCache;
+      |import net.avalara.avatax.rest.client.metrics.AvaTaxMetrics;
       |
       |import org.apache.commons.codec.binary.Base64;
+      |import org.apache.http.concurrent.FutureCallback;
+      |import org.apache.http.impl.client.HttpClientBuilder;
       |
+      |import java.io.Closeable;
+      |import java.io.IOException;
+      |import java.io.InputStream;
+      |import java.io.OutputStream;
       |import java.math.BigDecimal;
+      |import java.nio.ByteBuffer;
+      |import java.nio.channels.Channels;
+      |import java.nio.channels.FileChannel;
+      |import java.nio.channels.WritableByteChannel;
+      |import java.nio.file.Files;
+      |import java.nio.file.Path;
+      |import java.nio.file.Paths;
+      |import java.nio.file.StandardOpenOption;
       |import java.util.Date;
       |import java.util.HashMap;
       |import java.util.concurrent.ExecutorService;
       |import java.util.concurrent.Executors;
       |import java.util.concurrent.Future;
+      |import java.util.concurrent.TimeUnit;
       |import java.util.ArrayList;
       |
-      |public class AvaTaxClient {
+      |/*
+      | * AvaTax Software Development Kit for Java JRE based environments
+      | *
+      | * (c) 2004-2018 Avalara, Inc.
+      | *
+      | * For the full copyright and license information, please view the LICENSE
+      | * file that was distributed with this source code.
+      | *
+      | * @author     Dustin Welden <dustin.welden@avalara.com>
+      | * @copyright  2004-2018 Avalara, Inc.
+      | * @license    https://www.apache.org/licenses/LICENSE-2.0
+      | * @link       https://github.com/avadev/AvaTax-REST-V2-JRE-SDK
+      | */
+      | 
+      |public class AvaTaxClient implements Closeable {
       |
-      |    private final ExecutorService threadPool;
+      |    private volatile ExecutorService threadPool;
+      |    private volatile boolean ownsThreadPool;
       |    private RestCallFactory restCallFactory;
       |
       |    private AvaTaxClient() {
@@ -28,13 +60,15 @@ object TemplateConstants {
       |    private AvaTaxClient(ExecutorService threadPool) {
       |        if (threadPool != null) {
       |            this.threadPool = threadPool;
+      |            this.ownsThreadPool = false;
       |        } else {
       |            this.threadPool = Executors.newFixedThreadPool(3);
+      |            this.ownsThreadPool = true;
       |        }
       |    }
       |
       |    public AvaTaxClient(String appName, String appVersion, String machineName, AvaTaxEnvironment environment) {
-      |        this(appName, appVersion, machineName, environment == AvaTaxEnvironment.Production ? AvaTaxConstants.Production_Url : AvaTaxConstants.Sandbox_Url);
+      |        this(appName, appVersion, machineName, environment, null);
       |    }
       |
       |    public AvaTaxClient(String appName, String appVersion, String machineName, String environmentUrl) {
@@ -43,7 +77,7 @@ object TemplateConstants {
       |    }
       |
       |    public AvaTaxClient(String appName, String appVersion, String machineName, AvaTaxEnvironment environment, String proxyHost, int proxyPort, String proxySchema) {
-      |        this(appName, appVersion, machineName, environment == AvaTaxEnvironment.Production ? AvaTaxConstants.Production_Url : AvaTaxConstants.Sandbox_Url, proxyHost, proxyPort, proxySchema);
+      |        this(appName, appVersion, machineName, environment, proxyHost, proxyPort, proxySchema, null);
       |    }
       |
       |    public AvaTaxClient(String appName, String appVersion, String machineName, String environmentUrl, String proxyHost, int proxyPort, String proxySchema) {
@@ -51,6 +85,32 @@ object TemplateConstants {
       |        this.restCallFactory = new RestCallFactory(appName, appVersion, machineName, environmentUrl, proxyHost, proxyPort, proxySchema);
       |    }
       |
+      |    public AvaTaxClient(String appName, String appVersion, String machineName, AvaTaxEnvironment environment, ExecutorService threadPool) {
+      |        this(appName, appVersion, machineName, environment == AvaTaxEnvironment.Production ? AvaTaxConstants.Production_Url : AvaTaxConstants.Sandbox_Url, threadPool);
+      |    }
+      |
+      |    public AvaTaxClient(String appName, String appVersion, String machineName, AvaTaxEnvironment environment, ExecutorService threadPool, HttpClientBuilder httpClientBuilder) {
+      |        this(appName, appVersion, machineName, environment == AvaTaxEnvironment.Production ? AvaTaxConstants.Production_Url : AvaTaxConstants.Sandbox_Url, threadPool, httpClientBuilder);
+      |    }
+      |
+      |    public AvaTaxClient(String appName, String appVersion, String machineName, String environmentUrl, ExecutorService threadPool) {
+      |        this(threadPool);
+      |        this.restCallFactory = new RestCallFactory(appName, appVersion, machineName, environmentUrl);
+      |    }
+      |
+      |    public AvaTaxClient(String appName, String appVersion, String machineName, String environmentUrl, ExecutorService threadPool, HttpClientBuilder httpClientBuilder) {
+      |        this(threadPool);
+      |        this.restCallFactory = new RestCallFactory(appName, appVersion, machineName, environmentUrl, httpClientBuilder);
+      |    }
+      |
+      |    public AvaTaxClient(String appName, String appVersion, String machineName, AvaTaxEnvironment environment, String proxyHost, int proxyPort, String proxySchema, ExecutorService threadPool) {
+      |        this(appName, appVersion, machineName, environment == AvaTaxEnvironment.Production ? AvaTaxConstants.Production_Url : AvaTaxConstants.Sandbox_Url, proxyHost, proxyPort, proxySchema, threadPool);
+      |    }
+      |
+      |    public AvaTaxClient(String appName, String appVersion, String machineName, String environmentUrl, String proxyHost, int proxyPort, String proxySchema, ExecutorService threadPool) {
+      |        this(threadPool);
+      |        this.restCallFactory = new RestCallFactory(appName, appVersion, machineName, environmentUrl, proxyHost, proxyPort, proxySchema);
+      |    }
       |
       |    public AvaTaxClient withSecurity(String securityHeader) {
       |        this.restCallFactory.addSecurityHeader(securityHeader);
@@ -71,6 +131,181 @@ object TemplateConstants {
       |        return withSecurity(header);
       |    }
       |
+      |    /**
+      |     * Configure the pooled connections shared by every call made through this client.
+      |     * This must be done before the first API call.
+      |     *
+      |     * @param connectionPoolSettings The pool limits and eviction settings to use
+      |     * @return this
+      |     */
+      |    public AvaTaxClient withConnectionPool(ConnectionPoolSettings connectionPoolSettings) {
+      |        this.restCallFactory.setConnectionPoolSettings(connectionPoolSettings);
+      |
+      |        return this;
+      |    }
+      |
+      |    /**
+      |     * Send calls over a non-blocking NIO client instead of running each blocking call on the thread pool.
+      |     * Asynchronous calls are then limited only by the connection pool, not by the number of threads.
+      |     *
+      |     * @return this
+      |     */
+      |    public AvaTaxClient withNonBlockingTransport() {
+      |        this.restCallFactory.setNonBlocking(true);
+      |
+      |        return this;
+      |    }
+      |
+      |    /**
+      |     * Run each asynchronous call on its own virtual thread instead of the thread pool, so that thousands of
+      |     * blocking calls can be in flight without sizing a pool.  Requires Java 21 or later.  Calls are still limited
+      |     * by the connection pool, so raise its limits with withConnectionPool to match.  The default thread pool is
+      |     * shut down; a thread pool supplied by the caller is left running.
+      |     *
+      |     * @return this
+      |     * @throws UnsupportedOperationException If the runtime has no virtual threads
+      |     */
+      |    public AvaTaxClient withVirtualThreads() {
+      |        ExecutorService previous = this.threadPool;
+      |        boolean ownedPrevious = this.ownsThreadPool;
+      |
+      |        this.threadPool = VirtualThreads.newExecutor();
+      |        this.ownsThreadPool = true;
+      |
+      |        if (ownedPrevious) {
+      |            previous.shutdown();
+      |        }
+      |
+      |        return this;
+      |    }
+      |
+      |    /**
+      |     * @return Whether this runtime supports {@link #withVirtualThreads()}
+      |     */
+      |    public static boolean isVirtualThreadsSupported() {
+      |        return VirtualThreads.isAvailable();
+      |    }
+      |
+      |    /**
+      |     * Record the latency, status and payload size of every call, per endpoint.
+      |     *
+      |     * @param metrics The metrics to record to, such as a HistogramMetrics or DropwizardMetrics; null stops recording
+      |     * @return this
+      |     */
+      |    public AvaTaxClient withMetrics(AvaTaxMetrics metrics) {
+      |        this.restCallFactory.setMetrics(metrics);
+      |
+      |        return this;
+      |    }
+      |
+      |    /**
+      |     * Cache the reference data returned by the /api/v2/definitions/ endpoints, such as listCurrencies and
+      |     * listCountries, for an hour, and serve it for up to a day afterwards while it is refreshed in the background
+      |     * on the daemon threads shared by every cache.
+      |     *
+      |     * @return this
+      |     */
+      |    public AvaTaxClient withDefinitionsCache() {
+      |        return withDefinitionsCache(new CoalescingCache<String, Object>(1000, 1, 24, TimeUnit.HOURS));
+      |    }
+      |
+      |    /**
+      |     * Answer calls to the /api/v2/definitions/ endpoints from the given cache, keyed by URL.  Concurrent requests
+      |     * for the same URL share one API call.  Cached results are shared between callers and must not be modified.
+      |     * The same cache may be given to several clients.
+      |     *
+      |     * @param cache The cache to use, or null to stop caching
+      |     * @return this
+      |     */
+      |    public AvaTaxClient withDefinitionsCache(CoalescingCache<String, Object> cache) {
+      |        this.restCallFactory.setDefinitionsCache(cache);
+      |
+      |        return this;
+      |    }
+      |
+      |    /**
+      |     * Retry calls that fail with 429, 503 or a dropped connection, with exponential backoff that honors Retry-After.
+      |     * Only idempotent calls are retried once the request may have reached AvaTax, so transactions are never created
+      |     * twice.  The policy can also hedge slow reads.
+      |     *
+      |     * @param retryPolicy The policy to apply, or null to fail on the first error
+      |     * @return this
+      |     */
+      |    public AvaTaxClient withRetryPolicy(RetryPolicy retryPolicy) {
+      |        this.restCallFactory.setRetryPolicy(retryPolicy);
+      |
+      |        return this;
+      |    }
+      |
+      |    /**
+      |     * Rate limit calls and stop calling endpoints that keep failing.  A refused call is never sent: it fails at once
+      |     * with a CallRejectedException, or returns the result of the endpoint's fallback.
+      |     *
+      |     * @param callLimits The limits to apply, or null to send every call
+      |     * @return this
+      |     */
+      |    public AvaTaxClient withCallLimits(CallLimits callLimits) {
+      |        this.restCallFactory.setCallLimits(callLimits);
+      |
+      |        return this;
+      |    }
+      |
+      |    /**
+      |     * Ask for compressed responses, which are inflated as they are parsed, and gzip request bodies of 4 KB or more.
+      |     * JSON compresses well: a 100-line transaction shrinks about eightfold as a request and far more as a response.
+      |     *
+      |     * @return this
+      |     */
+      |    public AvaTaxClient withCompression() {
+      |        return withCompression(4096);
+      |    }
+      |
+      |    /**
+      |     * Ask for compressed responses, which are inflated as they are parsed, and gzip larger request bodies.
+      |     *
+      |     * @param requestThreshold The smallest request body, in bytes of JSON, to gzip; -1 never compresses requests
+      |     * @return this
+      |     */
+      |    public AvaTaxClient withCompression(int requestThreshold) {
+      |        this.restCallFactory.setCompression(true, requestThreshold);
+      |
+      |        return this;
+      |    }
+      |
+      |    /**
+      |     * Release the pooled connections held by this client and shut down its default thread pool.
+      |     * A thread pool supplied by the caller is left running.
+      |     */
+      |    @Override
+      |    public void close() throws IOException {
+      |        try {
+      |            this.restCallFactory.close();
+      |        } finally {
+      |            if (ownsThreadPool) {
+      |                this.threadPool.shutdown();
+      |            }
+      |        }
+      |    }
+      |
+      |    /**
+      |     * Stream a file endpoint's response into a file, replacing it, and delete the partial file if the call fails.
+      |     */
+      |    private long downloadToFile(String method, AvaTaxPath path, Object model, Path target, TransferListener listener) throws Exception {
+      |        FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+      |        boolean complete = false;
+      |
+      |        try {
+      |            long bytes = restCallFactory.createDownloadCall(method, path, model, channel, listener).call();
+      |            complete = true;
+      |            return bytes;
+      |        } finally {
+      |            channel.close();
+      |
+      |            if (!complete) {
+      |                Files.deleteIfExists(target);
+      |            }
+      |        }
+      |    }
       |
       |@@APILIST@@
       |}
@@ -81,7 +316,16 @@ object TemplateConstants {
       |     */
       |    public Future<@@TYPENAME@@> @@APINAME@@Async(@@PARAMS@@) {
       |        AvaTaxPath path = new AvaTaxPath("@@URI@@");@@PARAMBUILDER@@
-      |        return this.threadPool.submit((RestCall<@@TYPENAME@@>)restCallFactory.createRestCall("@@HTTPVERB@@", path, @@PAYLOAD@@, new TypeToken<@@TYPENAME@@>(){}));
+      |        return ((RestCall<@@TYPENAME@@>)restCallFactory.createRestCall("@@HTTPVERB@@", path, @@PAYLOAD@@, new TypeToken<@@TYPENAME@@>(){})).submit(this.threadPool, null);
+      |    }
+      |
+      |    /**
+      |     * @@COMMENT@@
+      |     * @param callback Notified when the call completes, fails or is cancelled; may be null
+      |     */
+      |    public Future<@@TYPENAME@@> @@APINAME@@Async(@@CALLBACKPARAMS@@) {
+      |        AvaTaxPath path = new AvaTaxPath("@@URI@@");@@PARAMBUILDER@@
+      |        return restCallFactory.createRestCall("@@HTTPVERB@@", path, @@PAYLOAD@@, new TypeToken<@@TYPENAME@@>(){}).submit(this.threadPool, callback);
       |    }
       |
       |    public @@TYPENAME@@ @@APINAME@@(@@PARAMS@@) throws Exception {
@@ -90,6 +334,148 @@ object TemplateConstants {
       |    }
     """.stripMargin
 
+  // Appended to APIClassMethodTemplate for GET endpoints that return a FetchResult
+  val APIClassPagedMethodTemplate =
+    """
+      |    /**
+      |     * @@COMMENT@@
+      |     */
+      |    public PagedIterable<@@ITEMTYPENAME@@> @@APINAME@@Paged(@@PARAMS@@) {
+      |        AvaTaxPath path = new AvaTaxPath("@@URI@@");@@PARAMBUILDER@@
+      |        return new PagedIterable<@@ITEMTYPENAME@@>(restCallFactory, this.threadPool, path, new TypeToken<@@TYPENAME@@>(){});
+      |    }
+    """.stripMargin
+
+  // Appended to APIClassMethodTemplate for endpoints that return a file, which can then be streamed instead of read into a String
+  val APIClassDownloadMethodTemplate =
+    """
+      |    /**
+      |     * Stream the file returned by {@link #@@APINAME@@(@@PARAMTYPES@@)} to a channel as it arrives, instead of reading it into a String.
+      |     *
+      |@@PARAMJAVADOC@@     * @param target Receives the file; it is not closed
+      |     * @param listener Notified of progress after every chunk; may be null
+      |     * @return The number of bytes written
+      |     */
+      |    public long @@APINAME@@(@@DOWNLOADPARAMS@@WritableByteChannel target, TransferListener listener) throws Exception {
+      |        AvaTaxPath path = new AvaTaxPath("@@URI@@");@@PARAMBUILDER@@
+      |        return restCallFactory.createDownloadCall("@@HTTPVERB@@", path, @@PAYLOAD@@, target, listener).call();
+      |    }
+      |
+      |    /**
+      |     * Stream the file returned by {@link #@@APINAME@@(@@PARAMTYPES@@)} to an output stream as it arrives, instead of reading it into a String.
+      |     *
+      |@@PARAMJAVADOC@@     * @param target Receives the file; it is not closed
+      |     * @param listener Notified of progress after every chunk; may be null
+      |     * @return The number of bytes written
+      |     */
+      |    public long @@APINAME@@(@@DOWNLOADPARAMS@@OutputStream target, TransferListener listener) throws Exception {
+      |        return @@APINAME@@(@@DOWNLOADARGS@@Channels.newChannel(target), listener);
+      |    }
+      |
+      |    /**
+      |     * Save the file returned by {@link #@@APINAME@@(@@PARAMTYPES@@)} to a path, replacing any file there, without reading it into a String.
+      |     * If the call fails, the partial file is deleted.
+      |     *
+      |@@PARAMJAVADOC@@     * @param target The file to write
+      |     * @param listener Notified of progress after every chunk; may be null
+      |     * @return The number of bytes written
+      |     */
+      |    public long @@APINAME@@(@@DOWNLOADPARAMS@@Path target, TransferListener listener) throws Exception {
+      |        AvaTaxPath path = new AvaTaxPath("@@URI@@");@@PARAMBUILDER@@
+      |        return downloadToFile("@@HTTPVERB@@", path, @@PAYLOAD@@, target, listener);
+      |    }
+      |
+      |    /**
+      |     * Stream the file returned by {@link #@@APINAME@@(@@PARAMTYPES@@)} to a channel as it arrives, without blocking the calling thread.
+      |     *
+      |@@PARAMJAVADOC@@     * @param target Receives the file; it is not closed
+      |     * @param listener Notified of progress after every chunk; may be null
+      |     * @param callback Notified when the call completes, fails or is cancelled; may be null
+      |     * @return The number of bytes written
+      |     */
+      |    public Future<Long> @@APINAME@@Async(@@DOWNLOADPARAMS@@WritableByteChannel target, TransferListener listener, FutureCallback<Long> callback) {
+      |        AvaTaxPath path = new AvaTaxPath("@@URI@@");@@PARAMBUILDER@@
+      |        return restCallFactory.createDownloadCall("@@HTTPVERB@@", path, @@PAYLOAD@@, target, listener).submit(this.threadPool, callback);
+      |    }
+    """.stripMargin
+
+  // Replaces APIClassMethodTemplate for uploads whose swagger form has a file parameter, which is taken as a path
+  val APIClassUploadFileMethodTemplate =
+    """    /**
+      |     * @@COMMENT@@
+      |     */
+      |    public Future<String> @@APINAME@@Async(@@PARAMS@@) {
+      |        AvaTaxPath path = new AvaTaxPath("@@URI@@");@@PARAMBUILDER@@
+      |        return restCallFactory.createUploadCall("@@HTTPVERB@@", path, @@PAYLOAD@@, MultipartEntity.of(@@PAYLOAD@@, "@@FILEPART@@", Paths.get(@@FILEPARAM@@)), new TypeToken<String>(){}).submit(this.threadPool, null);
+      |    }
+      |
+      |    /**
+      |     * @@COMMENT@@
+      |     * @param callback Notified when the call completes, fails or is cancelled; may be null
+      |     */
+      |    public Future<String> @@APINAME@@Async(@@CALLBACKPARAMS@@) {
+      |        AvaTaxPath path = new AvaTaxPath("@@URI@@");@@PARAMBUILDER@@
+      |        return restCallFactory.createUploadCall("@@HTTPVERB@@", path, @@PAYLOAD@@, MultipartEntity.of(@@PAYLOAD@@, "@@FILEPART@@", Paths.get(@@FILEPARAM@@)), new TypeToken<String>(){}).submit(this.threadPool, callback);
+      |    }
+      |
+      |    public String @@APINAME@@(@@PARAMS@@) throws Exception {
+      |        AvaTaxPath path = new AvaTaxPath("@@URI@@");@@PARAMBUILDER@@
+      |        return restCallFactory.createUploadCall("@@HTTPVERB@@", path, @@PAYLOAD@@, MultipartEntity.of(@@PAYLOAD@@, "@@FILEPART@@", Paths.get(@@FILEPARAM@@)), new TypeToken<String>(){}).call();
+      |    }
+    """.stripMargin
+
+  // Appended for endpoints that accept a file, which is then streamed as multipart/form-data
+  val APIClassUploadMethodTemplate =
+    """
+      |    /**
+      |     * Send a file to @@URI@@ as multipart/form-data, streaming it from disk as it is written to the connection.
+      |     *
+      |@@PARAMJAVADOC@@     * @param file The file to upload; its name is sent with it and its extension determines its type
+      |     * @return String
+      |     */
+      |    public String @@APINAME@@(@@UPLOADPARAMS@@Path file) throws Exception {
+      |        AvaTaxPath path = new AvaTaxPath("@@URI@@");@@PARAMBUILDER@@
+      |        return restCallFactory.createUploadCall("@@HTTPVERB@@", path, @@PAYLOAD@@, MultipartEntity.of(@@PAYLOAD@@, "@@FILEPART@@", file), new TypeToken<String>(){}).call();
+      |    }
+      |
+      |    /**
+      |     * Send a file to @@URI@@ as multipart/form-data, streaming it from an input stream as it is written to the connection.
+      |     * The length is not known in advance, so the body is sent chunked, and the call is never retried.
+      |     *
+      |@@PARAMJAVADOC@@     * @param file The content to upload; it is read to its end but not closed
+      |     * @param fileName The name to send with the content, whose extension determines its type, e.g. certificate.pdf
+      |     * @return String
+      |     */
+      |    public String @@APINAME@@(@@UPLOADPARAMS@@InputStream file, String fileName) throws Exception {
+      |        AvaTaxPath path = new AvaTaxPath("@@URI@@");@@PARAMBUILDER@@
+      |        return restCallFactory.createUploadCall("@@HTTPVERB@@", path, @@PAYLOAD@@, MultipartEntity.of(@@PAYLOAD@@, "@@FILEPART@@", file, fileName), new TypeToken<String>(){}).call();
+      |    }
+      |
+      |    /**
+      |     * Send the content of a buffer to @@URI@@ as multipart/form-data, without copying it.
+      |     *
+      |@@PARAMJAVADOC@@     * @param file The content to upload, from its position to its limit; the buffer's position is not changed
+      |     * @param fileName The name to send with the content, whose extension determines its type, e.g. certificate.pdf
+      |     * @return String
+      |     */
+      |    public String @@APINAME@@(@@UPLOADPARAMS@@ByteBuffer file, String fileName) throws Exception {
+      |        AvaTaxPath path = new AvaTaxPath("@@URI@@");@@PARAMBUILDER@@
+      |        return restCallFactory.createUploadCall("@@HTTPVERB@@", path, @@PAYLOAD@@, MultipartEntity.of(@@PAYLOAD@@, "@@FILEPART@@", file, fileName), new TypeToken<String>(){}).call();
+      |    }
+      |
+      |    /**
+      |     * Send a file to @@URI@@ as multipart/form-data, streaming it from disk, without blocking the calling thread.
+      |     *
+      |@@PARAMJAVADOC@@     * @param file The file to upload; its name is sent with it and its extension determines its type
+      |     * @param callback Notified when the call completes, fails or is cancelled; may be null
+      |     * @return String
+      |     */
+      |    public Future<String> @@APINAME@@Async(@@UPLOADPARAMS@@Path file, FutureCallback<String> callback) {
+      |        AvaTaxPath path = new AvaTaxPath("@@URI@@");@@PARAMBUILDER@@
+      |        return restCallFactory.createUploadCall("@@HTTPVERB@@", path, @@PAYLOAD@@, MultipartEntity.of(@@PAYLOAD@@, "@@FILEPART@@", file), new TypeToken<String>(){}).submit(this.threadPool, callback);
+      |    }
+    """.stripMargin
+
   val EnumClassTemplate =
     """package net.avalara.avatax.rest.client.enums;
       |
@@ -154,4 +540,118 @@ object TemplateConstants {
       |    }
       |
     """.stripMargin
+
+  val ModelTypeAdapterTemplate =
+    """package net.avalara.avatax.rest.client.serializer.adapters;
+      |
+      |import com.google.gson.Gson;
+      |import com.google.gson.TypeAdapter;
+      |import com.google.gson.reflect.TypeToken;
+      |import com.google.gson.stream.JsonReader;
+      |import com.google.gson.stream.JsonToken;
+      |import com.google.gson.stream.JsonWriter;
+      |import net.avalara.avatax.rest.client.enums.*;
+      |import net.avalara.avatax.rest.client.models.*;
+      |
+      |import java.io.IOException;
+      |import java.math.BigDecimal;
+      |import java.util.ArrayList;
+      |import java.util.Date;
+      |import java.util.HashMap;
+      |
+      |/**
+      | * Reads and writes @@MODELCLASS@@ without reflection.
+      | */
+      |public class @@MODELCLASS@@TypeAdapter extends TypeAdapter<@@MODELCLASS@@> {
+      |@@ADAPTERFIELDS@@
+      |    public @@MODELCLASS@@TypeAdapter(Gson gson) {
+      |@@ADAPTERINIT@@    }
+      |
+      |    @Override
+      |    public void write(JsonWriter out, @@MODELCLASS@@ value) throws IOException {
+      |        if (value == null) {
+      |            out.nullValue();
+      |            return;
+      |        }
+      |
+      |        out.beginObject();
+      |@@WRITEPROPERTIES@@        out.endObject();
+      |    }
+      |
+      |    @Override
+      |    public @@MODELCLASS@@ read(JsonReader in) throws IOException {
+      |        if (in.peek() == JsonToken.NULL) {
+      |            in.nextNull();
+      |            return null;
+      |        }
+      |
+      |        @@MODELCLASS@@ value = new @@MODELCLASS@@();
+      |        in.beginObject();
+      |
+      |        while (in.hasNext()) {
+      |            switch (in.nextName()) {
+      |@@READPROPERTIES@@                default:
+      |                    in.skipValue();
+      |                    break;
+      |            }
+      |        }
+      |
+      |        in.endObject();
+      |        return value;
+      |    }
+      |}
+      |""".stripMargin
+
+  val ModelTypeAdapterFieldTemplate =
+    """    private final TypeAdapter<@@PROPERTYTYPE@@> @@ADAPTERNAME@@;
+      |""".stripMargin
+
+  val ModelTypeAdapterInitTemplate =
+    """        this.@@ADAPTERNAME@@ = gson.getAdapter(@@TYPETOKEN@@);
+      |""".stripMargin
+
+  val ModelTypeAdapterWriteTemplate =
+    """        out.name("@@PROPERTYNAME@@");
+      |        @@ADAPTERNAME@@.write(out, value.get@@UPPERPROPERTYNAME@@());
+      |""".stripMargin
+
+  val ModelTypeAdapterReadTemplate =
+    """                case "@@PROPERTYNAME@@":
+      |                    value.set@@UPPERPROPERTYNAME@@(@@ADAPTERNAME@@.read(in));
+      |                    break;
+      |""".stripMargin
+
+  val TypeAdapterFactoryTemplate =
+    """package net.avalara.avatax.rest.client.serializer.adapters;
+      |
+      |import com.google.gson.Gson;
+      |import com.google.gson.TypeAdapter;
+      |import com.google.gson.TypeAdapterFactory;
+      |import com.google.gson.reflect.TypeToken;
+      |import net.avalara.avatax.rest.client.enums.*;
+      |
+      |/**
+      | * Supplies the generated, reflection-free adapters for every AvaTax model and enum.
+      | */
+      |public class ModelTypeAdapterFactory implements TypeAdapterFactory {
+      |    @Override
+      |    @SuppressWarnings("unchecked")
+      |    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+      |        switch (type.getRawType().getName()) {
+      |@@MODELCASES@@@@ENUMCASES@@            default:
+      |                return null;
+      |        }
+      |    }
+      |}
+      |""".stripMargin
+
+  val TypeAdapterFactoryModelCaseTemplate =
+    """            case "net.avalara.avatax.rest.client.models.@@MODELCLASS@@":
+      |                return (TypeAdapter<T>)new @@MODELCLASS@@TypeAdapter(gson);
+      |""".stripMargin
+
+  val TypeAdapterFactoryEnumCaseTemplate =
+    """            case "net.avalara.avatax.rest.client.enums.@@ENUMCLASS@@":
+      |                return (TypeAdapter<T>)new EnumTypeAdapter<@@ENUMCLASS@@>(@@ENUMCLASS@@.values());
+      |""".stripMargin
 }
\ No newline at end of file
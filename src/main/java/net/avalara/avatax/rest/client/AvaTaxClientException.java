@@ -8,6 +8,10 @@ public class AvaTaxClientException extends Exception {
 
     private Object erroneousRequest;
 
+    private int statusCode;
+
+    private String retryAfter;
+
     public AvaTaxClientException(String message) {
         super(message);
     }
@@ -25,4 +29,23 @@ public class AvaTaxClientException extends Exception {
     public Object getErroneousRequest() {
         return this.erroneousRequest;
     }
+
+    /**
+     * @return The HTTP status of the response that caused this exception, or 0 if it was not caused by a response
+     */
+    public int getStatusCode() {
+        return this.statusCode;
+    }
+
+    /**
+     * @return The Retry-After header of the response, or null if it had none
+     */
+    public String getRetryAfter() {
+        return this.retryAfter;
+    }
+
+    void setResponse(int statusCode, String retryAfter) {
+        this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
+    }
 }
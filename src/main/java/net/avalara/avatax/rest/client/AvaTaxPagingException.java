@@ -0,0 +1,13 @@
+package net.avalara.avatax.rest.client;
+
+/**
+ * Thrown while iterating over a {@link PagedIterable} when a page could not be fetched.
+ * The cause is the underlying failure, usually an {@link AvaTaxClientException}.
+ */
+public class AvaTaxPagingException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public AvaTaxPagingException(Throwable cause) {
+        super(cause.getMessage(), cause);
+    }
+}
@@ -1,46 +1,202 @@
 package net.avalara.avatax.rest.client;
 
-import java.util.HashMap;
+import java.util.Arrays;
 
+/**
+ * The path and query string of one API call, built from a shared {@link AvaTaxPathTemplate}.
+ *
+ * Field values are percent-encoded as path segments and query parameters are kept in the order they were first
+ * added, so the same inputs always render the same URL.  Rendering does not change the path, and the result is
+ * kept until the next change.
+ */
 public class AvaTaxPath {
-    private String path;
-    private HashMap<String, String> queryParams = new HashMap<>();
+    private static final ThreadLocal<StringBuilder> BUILDER = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(256);
+        }
+    };
+
+    private final AvaTaxPathTemplate template;
+    private final String[] fieldValues;
+    private final String link;
+    private String[] query;
+    private int queryLength;
+    private String rendered;
 
     public AvaTaxPath(String path) {
-        this.path = path;
+        this.template = AvaTaxPathTemplate.of(path);
+        this.fieldValues = template.getFieldCount() == 0 ? null : new String[template.getFieldCount()];
+        this.link = null;
+    }
+
+    private AvaTaxPath(AvaTaxPathTemplate template, String link) {
+        this.template = template;
+        this.fieldValues = null;
+        this.link = link;
+    }
+
+    private AvaTaxPath(AvaTaxPath other) {
+        this.template = other.template;
+        this.fieldValues = other.fieldValues == null ? null : other.fieldValues.clone();
+        this.link = other.link;
+        this.query = other.query == null ? null : other.query.clone();
+        this.queryLength = other.queryLength;
+    }
+
+    /**
+     * Create the path of a link returned by the API for this endpoint, such as the @nextLink of a FetchResult.
+     * The link is used as it is, apart from escaping characters that may not appear in a URL; the template is kept
+     * so that metrics still group the call under its endpoint.
+     *
+     * @param link The link, either a path starting with / or an absolute URL
+     * @return A path that renders as the link
+     */
+    public AvaTaxPath followLink(String link) {
+        int scheme = link.indexOf("://");
+
+        if (scheme >= 0) {
+            int pathStart = link.indexOf('/', scheme + 3);
+            link = pathStart >= 0 ? link.substring(pathStart) : "/";
+        }
+
+        return new AvaTaxPath(template, link);
+    }
+
+    /**
+     * @return The path as declared by the endpoint, before any fields were applied, e.g. /api/v2/companies/{companyId}/transactions
+     */
+    public String getTemplate() {
+        return this.template.getTemplate();
+    }
+
+    /**
+     * @param fieldName The query parameter, e.g. $skip
+     * @return The value it was given, or null if it has not been added
+     */
+    public String getQuery(String fieldName) {
+        for (int i = 0; i < queryLength; i += 2) {
+            if (query[i].equals(fieldName)) {
+                return query[i + 1];
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @param fieldName The query parameter to set
+     * @param value Its value
+     * @return A copy of this path with the query parameter added or replaced
+     */
+    public AvaTaxPath withQuery(String fieldName, Object value) {
+        AvaTaxPath copy = new AvaTaxPath(this);
+        copy.addQuery(fieldName, value);
+        return copy;
     }
 
     public void applyField(String fieldName, Object value) {
+        if (link != null) {
+            throw new IllegalStateException("A path created from a link cannot be changed.");
+        }
+
         if (fieldName.startsWith("$")) {
             addQuery(fieldName, value);
         } else {
-            this.path = path.replace("{" + fieldName + "}", value.toString());
+            int index = template.indexOf(fieldName);
+
+            if (index >= 0) {
+                fieldValues[index] = value.toString();
+                rendered = null;
+            }
         }
     }
 
     public void addQuery(String fieldName, Object value) {
-        if (value != null) {
-            queryParams.put(fieldName, value.toString());
+        if (link != null) {
+            throw new IllegalStateException("A path created from a link cannot be changed.");
         }
+
+        if (value == null) {
+            return;
+        }
+
+        String text = value.toString();
+
+        for (int i = 0; i < queryLength; i += 2) {
+            if (query[i].equals(fieldName)) {
+                query[i + 1] = text;
+                rendered = null;
+                return;
+            }
+        }
+
+        if (query == null) {
+            query = new String[8];
+        } else if (queryLength == query.length) {
+            query = Arrays.copyOf(query, queryLength * 2);
+        }
+
+        query[queryLength++] = fieldName;
+        query[queryLength++] = text;
+        rendered = null;
+    }
+
+    /**
+     * Render the absolute URL of this path in one pass.
+     *
+     * @param baseUrl The environment URL, without a trailing slash
+     * @return The base URL followed by the path and query string
+     */
+    public String toUrl(String baseUrl) {
+        StringBuilder builder = builder();
+        builder.append(baseUrl);
+        render(builder);
+        return builder.toString();
     }
 
     @Override
     public String toString() {
-        if (queryParams.size() > 0) {
-            path = path + "?";
-
-            for (String key : queryParams.keySet()) {
-                try {
-                    path = String.format("%s%s=%s&", path, java.net.URLEncoder.encode(key, "UTF-8"), java.net.URLEncoder.encode(queryParams.get(key), "UTF-8"));
-                } catch (java.io.UnsupportedEncodingException ex) {
-                    System.out.println("Could not find encoding UTF-8: ");
-                    ex.printStackTrace();
-                }
-            }
+        String result = this.rendered;
+
+        if (result == null) {
+            StringBuilder builder = builder();
+            render(builder);
+            result = builder.toString();
+            this.rendered = result;
+        }
+
+        return result;
+    }
+
+    private void render(StringBuilder builder) {
+        if (link != null) {
+            PercentEncoder.appendUri(builder, link);
+            return;
+        }
+
+        template.render(builder, fieldValues);
+
+        for (int i = 0; i < queryLength; i += 2) {
+            builder.append(i == 0 ? '?' : '&');
+            PercentEncoder.appendQueryComponent(builder, query[i]);
+            builder.append('=');
+            PercentEncoder.appendQueryComponent(builder, query[i + 1]);
+        }
+    }
+
+    /**
+     * The calling thread's scratch builder, emptied; one that grew unusually large is replaced rather than kept.
+     */
+    private static StringBuilder builder() {
+        StringBuilder builder = BUILDER.get();
 
-            path = path.substring(0, path.length() - 1);
+        if (builder.capacity() > 8192) {
+            builder = new StringBuilder(256);
+            BUILDER.set(builder);
         }
 
-        return path;
+        builder.setLength(0);
+        return builder;
     }
 }
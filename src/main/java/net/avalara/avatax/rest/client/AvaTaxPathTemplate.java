@@ -0,0 +1,120 @@
+package net.avalara.avatax.rest.client;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An endpoint path such as /api/v2/companies/{companyId}/transactions/{transactionCode}, split once into its literal
+ * text and field names so that URLs can be rendered without searching or copying the template.
+ *
+ * Instances are immutable and shared; obtain them with {@link #of(String)}.
+ */
+public final class AvaTaxPathTemplate {
+    private static final int MAX_CACHED = 4096;
+    private static final ConcurrentMap<String, AvaTaxPathTemplate> CACHE = new ConcurrentHashMap<String, AvaTaxPathTemplate>();
+
+    private final String template;
+    private final String[] literals;
+    private final String[] fields;
+
+    private AvaTaxPathTemplate(String template) {
+        ArrayList<String> literals = new ArrayList<String>();
+        ArrayList<String> fields = new ArrayList<String>();
+        int position = 0;
+
+        while (true) {
+            int open = template.indexOf('{', position);
+            int close = open < 0 ? -1 : template.indexOf('}', open);
+
+            if (close < 0) {
+                literals.add(template.substring(position));
+                break;
+            }
+
+            literals.add(template.substring(position, open));
+            fields.add(template.substring(open + 1, close));
+            position = close + 1;
+        }
+
+        this.template = template;
+        this.literals = literals.toArray(new String[literals.size()]);
+        this.fields = fields.toArray(new String[fields.size()]);
+    }
+
+    /**
+     * Return the parsed form of a path template, parsing it only the first time it is seen.
+     *
+     * @param template The path, with fields in braces
+     * @return The parsed template
+     */
+    public static AvaTaxPathTemplate of(String template) {
+        AvaTaxPathTemplate parsed = CACHE.get(template);
+
+        if (parsed == null) {
+            parsed = new AvaTaxPathTemplate(template);
+
+            // The SDK's endpoints are a fixed set; stop caching if callers build paths from arbitrary strings
+            if (CACHE.size() < MAX_CACHED) {
+                AvaTaxPathTemplate existing = CACHE.putIfAbsent(template, parsed);
+
+                if (existing != null) {
+                    parsed = existing;
+                }
+            }
+        }
+
+        return parsed;
+    }
+
+    public String getTemplate() {
+        return this.template;
+    }
+
+    public int getFieldCount() {
+        return this.fields.length;
+    }
+
+    public String getField(int index) {
+        return this.fields[index];
+    }
+
+    /**
+     * @param field A field name, without braces
+     * @return The position of the field in the template, or -1 if the template has no such field
+     */
+    public int indexOf(String field) {
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i].equals(field)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Append the path with each field replaced by its percent-encoded value.  Fields without a value are left as {name}.
+     *
+     * @param builder The builder to append to
+     * @param values One value per field, in template order; may contain nulls
+     */
+    void render(StringBuilder builder, String[] values) {
+        builder.append(literals[0]);
+
+        for (int i = 0; i < fields.length; i++) {
+            if (values != null && values[i] != null) {
+                PercentEncoder.appendPathSegment(builder, values[i]);
+            } else {
+                builder.append('{').append(fields[i]).append('}');
+            }
+
+            builder.append(literals[i + 1]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.template;
+    }
+}
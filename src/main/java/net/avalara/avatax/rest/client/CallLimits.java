@@ -0,0 +1,279 @@
+package net.avalara.avatax.rest.client;
+
+import net.avalara.avatax.rest.client.metrics.AvaTaxMetrics;
+import org.apache.http.impl.execchain.RequestAbortedException;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate limits and circuit breakers that keep a client from piling threads up on a slow or failing AvaTax.
+ *
+ * Calls can be limited to a steady rate overall and per endpoint, and each endpoint, identified by its
+ * {@link AvaTaxPath} template, can have its own {@link CircuitBreaker}.  A breaker counts 5xx and 429 responses,
+ * I/O errors and calls slower than the slow-call threshold as failures; other error responses mean AvaTax is
+ * answering and count as successes.  A refused call is not sent: it fails at once with a
+ * {@link CallRejectedException}, or returns whatever the endpoint's fallback supplies instead.  Each retry and hedged
+ * request is admitted like a call of its own; a retry that is refused is not sent, and the call fails with the error
+ * of its last attempt.  Refusals and breaker changes are reported to the client's metrics.
+ *
+ * Configure the limits before giving them to a client, and give each client its own.
+ *
+ * <pre>
+ * CallLimits limits = new CallLimits()
+ *         .withRateLimit(100, 200)
+ *         .withCircuitBreaker(5, 30, TimeUnit.SECONDS)
+ *         .withSlowCallThreshold(10, TimeUnit.SECONDS);
+ * AvaTaxClient client = new AvaTaxClient(...).withCallLimits(limits);
+ * </pre>
+ */
+public class CallLimits {
+    /**
+     * Supplies a result for a call that was refused, such as a locally estimated tax.
+     */
+    public interface Fallback {
+        /**
+         * @param method The HTTP method of the refused call, e.g. POST
+         * @param pathTemplate The endpoint's path template
+         * @param model The request body, or null for calls without one
+         * @param rejection Why the call was refused
+         * @return The result to return in place of the API's; it must be of the type the client method returns
+         * @throws Exception To fail the call, typically by rethrowing the rejection
+         */
+        Object fallback(String method, String pathTemplate, Object model, CallRejectedException rejection) throws Exception;
+    }
+
+    private RateLimiter rateLimiter;
+    private final Map<String, RateLimiter> endpointRateLimiters = new HashMap<String, RateLimiter>();
+    private final Map<String, Fallback> fallbacks = new HashMap<String, Fallback>();
+    private int failureThreshold;
+    private long openMillis;
+    private long slowCallNanos = Long.MAX_VALUE;
+
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<String, CircuitBreaker>();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private volatile AvaTaxMetrics metrics;
+
+    public CallLimits() {
+    }
+
+    /**
+     * Limit the rate of all calls together.
+     *
+     * @param permitsPerSecond The sustained rate of calls to allow
+     * @param burst The most calls allowed at once after an idle period
+     * @return this
+     */
+    public CallLimits withRateLimit(double permitsPerSecond, int burst) {
+        this.rateLimiter = new RateLimiter(permitsPerSecond, burst);
+        return this;
+    }
+
+    /**
+     * Limit the rate of calls to one endpoint, in addition to any overall limit.
+     *
+     * @param pathTemplate The endpoint's path template, e.g. /api/v2/transactions/create
+     * @param permitsPerSecond The sustained rate of calls to allow
+     * @param burst The most calls allowed at once after an idle period
+     * @return this
+     */
+    public CallLimits withRateLimit(String pathTemplate, double permitsPerSecond, int burst) {
+        this.endpointRateLimiters.put(pathTemplate, new RateLimiter(permitsPerSecond, burst));
+        return this;
+    }
+
+    /**
+     * Give every endpoint a circuit breaker.
+     *
+     * @param failureThreshold The consecutive failures that open an endpoint's breaker
+     * @param openDuration How long a breaker stays open before trying a call
+     * @param unit The unit of openDuration
+     * @return this
+     */
+    public CallLimits withCircuitBreaker(int failureThreshold, long openDuration, TimeUnit unit) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be at least 1");
+        }
+
+        this.failureThreshold = failureThreshold;
+        this.openMillis = unit.toMillis(openDuration);
+        return this;
+    }
+
+    /**
+     * @param duration Calls that take longer than this count as failures, even if they succeed
+     * @param unit The unit of duration
+     * @return this
+     */
+    public CallLimits withSlowCallThreshold(long duration, TimeUnit unit) {
+        this.slowCallNanos = unit.toNanos(duration);
+        return this;
+    }
+
+    /**
+     * @param pathTemplate The endpoint's path template, e.g. /api/v2/transactions/create
+     * @param fallback Supplies results for the endpoint's refused calls
+     * @return this
+     */
+    public CallLimits withFallback(String pathTemplate, Fallback fallback) {
+        this.fallbacks.put(pathTemplate, fallback);
+        return this;
+    }
+
+    /**
+     * @param pathTemplate The endpoint's path template
+     * @return The endpoint's breaker, or null if breakers are not enabled or the endpoint has not been called
+     */
+    public CircuitBreaker getCircuitBreaker(String pathTemplate) {
+        return breakers.get(pathTemplate);
+    }
+
+    /**
+     * @return The breaker of every endpoint called so far, sorted by path template
+     */
+    public Map<String, CircuitBreaker> getCircuitBreakers() {
+        return new TreeMap<String, CircuitBreaker>(breakers);
+    }
+
+    /**
+     * @return Calls refused by a rate limit or an open breaker
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("CallLimits rejected=").append(getRejectedCount());
+
+        for (Map.Entry<String, CircuitBreaker> entry : getCircuitBreakers().entrySet()) {
+            if (entry.getValue().getState() != CircuitBreaker.State.Closed) {
+                builder.append(' ').append(entry.getKey()).append('=').append(entry.getValue().getState());
+            }
+        }
+
+        return builder.toString();
+    }
+
+    void setMetrics(AvaTaxMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Decide whether a call may be sent.  The breaker is asked first, so that an open endpoint does not use up
+     * rate limit permits.
+     *
+     * @return Null if the call may be sent, otherwise why it may not
+     */
+    CallRejectedException admit(String method, String pathTemplate) {
+        CircuitBreaker breaker = breaker(pathTemplate);
+        CallRejectedException.Reason reason = null;
+
+        if (breaker != null && !breaker.tryAcquire()) {
+            reason = CallRejectedException.Reason.CircuitOpen;
+        } else {
+            RateLimiter endpointLimiter = endpointRateLimiters.get(pathTemplate);
+
+            if ((endpointLimiter != null && !endpointLimiter.tryAcquire()) || (rateLimiter != null && !rateLimiter.tryAcquire())) {
+                reason = CallRejectedException.Reason.RateLimited;
+            }
+        }
+
+        if (reason == null) {
+            return null;
+        }
+
+        rejectedCount.incrementAndGet();
+        AvaTaxMetrics metrics = this.metrics;
+
+        if (metrics != null) {
+            try {
+                metrics.recordRejection(method, pathTemplate, reason.name());
+            } catch (RuntimeException ex) {
+                // A faulty metrics implementation must not fail the API call
+            }
+        }
+
+        return new CallRejectedException(reason, method, pathTemplate);
+    }
+
+    Fallback getFallback(String pathTemplate) {
+        return fallbacks.get(pathTemplate);
+    }
+
+    /**
+     * @return True if the endpoint's breaker is open, so a failed call should not be retried
+     */
+    boolean isOpen(String pathTemplate) {
+        CircuitBreaker breaker = breakers.get(pathTemplate);
+        return breaker != null && breaker.getState() != CircuitBreaker.State.Closed;
+    }
+
+    /**
+     * Report the outcome of one HTTP exchange to the endpoint's breaker.
+     *
+     * @param error Why the exchange failed, or null if it succeeded
+     */
+    void recordResult(String pathTemplate, long nanos, Exception error) {
+        CircuitBreaker breaker = breaker(pathTemplate);
+
+        if (breaker == null || error instanceof RequestAbortedException) {
+            // An aborted exchange, such as the losing half of a hedged read, says nothing about the endpoint
+            return;
+        }
+
+        if (nanos > slowCallNanos || isFailure(error)) {
+            breaker.recordFailure();
+        } else {
+            breaker.recordSuccess();
+        }
+    }
+
+    private static boolean isFailure(Exception error) {
+        if (error instanceof AvaTaxClientException) {
+            int statusCode = ((AvaTaxClientException)error).getStatusCode();
+            return statusCode >= 500 || statusCode == 429;
+        }
+
+        return error instanceof IOException;
+    }
+
+    private CircuitBreaker breaker(final String pathTemplate) {
+        if (failureThreshold == 0) {
+            return null;
+        }
+
+        CircuitBreaker breaker = breakers.get(pathTemplate);
+
+        if (breaker == null) {
+            CircuitBreaker created = new CircuitBreaker(failureThreshold, openMillis, TimeUnit.MILLISECONDS) {
+                @Override
+                protected void stateChanged(State from, State to) {
+                    AvaTaxMetrics metrics = CallLimits.this.metrics;
+
+                    if (metrics != null) {
+                        try {
+                            metrics.recordCircuitStateChange(pathTemplate, to.name());
+                        } catch (RuntimeException ex) {
+                            // A faulty metrics implementation must not fail the API call
+                        }
+                    }
+                }
+            };
+
+            breaker = breakers.putIfAbsent(pathTemplate, created);
+
+            if (breaker == null) {
+                breaker = created;
+            }
+        }
+
+        return breaker;
+    }
+}
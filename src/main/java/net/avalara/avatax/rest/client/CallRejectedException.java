@@ -0,0 +1,36 @@
+package net.avalara.avatax.rest.client;
+
+/**
+ * Thrown instead of sending a call that the client's {@link CallLimits} refused.  Nothing was sent to AvaTax.
+ */
+public class CallRejectedException extends AvaTaxClientException {
+    private static final long serialVersionUID = 1L;
+
+    public enum Reason {
+        RateLimited,
+        CircuitOpen
+    }
+
+    private final Reason reason;
+    private final String method;
+    private final String pathTemplate;
+
+    public CallRejectedException(Reason reason, String method, String pathTemplate) {
+        super((reason == Reason.RateLimited ? "Rate limit exceeded for " : "Circuit open for ") + method + " " + pathTemplate);
+        this.reason = reason;
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+    }
+
+    public Reason getReason() {
+        return this.reason;
+    }
+
+    public String getMethod() {
+        return this.method;
+    }
+
+    public String getPathTemplate() {
+        return this.pathTemplate;
+    }
+}
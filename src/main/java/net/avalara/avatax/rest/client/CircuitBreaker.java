@@ -0,0 +1,114 @@
+package net.avalara.avatax.rest.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stops sending calls to an endpoint that keeps failing, so that callers fail fast instead of holding threads and
+ * sockets while it recovers.
+ *
+ * The breaker starts closed.  After the given number of consecutive failures it opens and refuses every call.  Once
+ * the open duration has passed it lets a single trial call through: success closes it again, failure keeps it open
+ * for another period.  A trial that never reports back is replaced by another after the same period.  All state is
+ * held in atomics, so the breaker can sit on the request path.
+ */
+public class CircuitBreaker {
+    public enum State {
+        Closed,
+        Open,
+        HalfOpen
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final AtomicReference<State> state = new AtomicReference<State>(State.Closed);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong retryAt = new AtomicLong();
+    private final AtomicLong openCount = new AtomicLong();
+
+    /**
+     * @param failureThreshold The consecutive failures that open the breaker
+     * @param openDuration How long the breaker stays open before trying a call
+     * @param unit The unit of openDuration
+     */
+    public CircuitBreaker(int failureThreshold, long openDuration, TimeUnit unit) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be at least 1");
+        }
+
+        this.failureThreshold = failureThreshold;
+        this.openNanos = unit.toNanos(openDuration);
+    }
+
+    /**
+     * @return True if a call may be sent; false if the breaker is open
+     */
+    public boolean tryAcquire() {
+        State current = state.get();
+
+        if (current == State.Closed) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        long at = retryAt.get();
+
+        // Only the caller that moves retryAt forward becomes the trial
+        if (now - at < 0 || !retryAt.compareAndSet(at, now + openNanos)) {
+            return false;
+        }
+
+        if (current == State.Open && state.compareAndSet(State.Open, State.HalfOpen)) {
+            stateChanged(State.Open, State.HalfOpen);
+        }
+
+        return true;
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        State current = state.get();
+
+        if (current != State.Closed && state.compareAndSet(current, State.Closed)) {
+            stateChanged(current, State.Closed);
+        }
+    }
+
+    public void recordFailure() {
+        State current = state.get();
+
+        if (current == State.HalfOpen || (current == State.Closed && consecutiveFailures.incrementAndGet() >= failureThreshold)) {
+            retryAt.set(System.nanoTime() + openNanos);
+
+            if (state.compareAndSet(current, State.Open)) {
+                consecutiveFailures.set(0);
+                openCount.incrementAndGet();
+                stateChanged(current, State.Open);
+            }
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * @return The number of times the breaker has opened
+     */
+    public long getOpenCount() {
+        return openCount.get();
+    }
+
+    /**
+     * Called after every change of state, on the thread that caused it.  Does nothing unless overridden.
+     */
+    protected void stateChanged(State from, State to) {
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker state=" + getState() + " opened=" + getOpenCount();
+    }
+}
@@ -0,0 +1,95 @@
+package net.avalara.avatax.rest.client;
+
+/**
+ * Configures the pooled HTTP connections shared by every call made through one AvaTaxClient.
+ *
+ * All API calls go to a single AvaTax host, so the per-route limit is effectively the number of
+ * requests that can be on the wire at once.  The settings apply to the blocking and the non-blocking transport alike,
+ * except for validate-after-inactivity, which only the blocking transport needs.
+ */
+public class ConnectionPoolSettings {
+    private int maxTotal = 20;
+    private int maxPerRoute = 20;
+    private long idleTimeoutMillis = 30000;
+    private long timeToLiveMillis = -1;
+    private int validateAfterInactivityMillis = 2000;
+
+    public ConnectionPoolSettings() {
+    }
+
+    /**
+     * @param maxTotal The maximum number of open connections across all routes
+     * @return this
+     */
+    public ConnectionPoolSettings withMaxTotal(int maxTotal) {
+        if (maxTotal < 1) {
+            throw new IllegalArgumentException("maxTotal must be at least 1");
+        }
+
+        this.maxTotal = maxTotal;
+        return this;
+    }
+
+    /**
+     * @param maxPerRoute The maximum number of open connections to a single host
+     * @return this
+     */
+    public ConnectionPoolSettings withMaxPerRoute(int maxPerRoute) {
+        if (maxPerRoute < 1) {
+            throw new IllegalArgumentException("maxPerRoute must be at least 1");
+        }
+
+        this.maxPerRoute = maxPerRoute;
+        return this;
+    }
+
+    /**
+     * @param idleTimeoutMillis Connections idle for longer than this are evicted by a background thread; zero or less disables eviction
+     * @return this
+     */
+    public ConnectionPoolSettings withIdleTimeout(long idleTimeoutMillis) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * @param timeToLiveMillis The maximum lifetime of a pooled connection; zero or less keeps connections for as long as the server allows
+     * @return this
+     */
+    public ConnectionPoolSettings withTimeToLive(long timeToLiveMillis) {
+        this.timeToLiveMillis = timeToLiveMillis;
+        return this;
+    }
+
+    /**
+     * Applies to the blocking transport only.  The non-blocking transport watches its idle connections, so it notices
+     * one closed by the server when it happens rather than when the connection is next used.
+     *
+     * @param validateAfterInactivityMillis Connections idle for longer than this are checked for staleness before they are reused
+     * @return this
+     */
+    public ConnectionPoolSettings withValidateAfterInactivity(int validateAfterInactivityMillis) {
+        this.validateAfterInactivityMillis = validateAfterInactivityMillis;
+        return this;
+    }
+
+    public int getMaxTotal() {
+        return this.maxTotal;
+    }
+
+    public int getMaxPerRoute() {
+        return this.maxPerRoute;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return this.idleTimeoutMillis;
+    }
+
+    public long getTimeToLiveMillis() {
+        return this.timeToLiveMillis;
+    }
+
+    public int getValidateAfterInactivityMillis() {
+        return this.validateAfterInactivityMillis;
+    }
+}
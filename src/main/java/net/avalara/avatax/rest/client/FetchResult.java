@@ -1,11 +1,15 @@
 package net.avalara.avatax.rest.client;
 
+import com.google.gson.annotations.SerializedName;
+
 import java.util.ArrayList;
 import java.util.List;
 
 public class FetchResult<T> {
+    @SerializedName(value = "@recordsetCount", alternate = {"count"})
     private int count;
     private List<T> value;
+    @SerializedName(value = "@nextLink", alternate = {"nextLink"})
     private String nextLink;
 
     public FetchResult() {
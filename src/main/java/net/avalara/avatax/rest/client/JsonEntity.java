@@ -0,0 +1,193 @@
+package net.avalara.avatax.rest.client;
+
+import com.google.gson.JsonIOException;
+import net.avalara.avatax.rest.client.serializer.JsonSerializer;
+import org.apache.http.Consts;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A request body that serializes its model as JSON directly onto the connection's output stream.
+ *
+ * The JSON is never held in memory as a String; it is written in chunks as Gson produces it, and can be gzipped on
+ * the way out.  The entity is repeatable because the model is simply serialized again on each write.
+ */
+public class JsonEntity extends AbstractHttpEntity {
+    private static final ContentType JSON = ContentType.create("application/json", Consts.UTF_8);
+
+    private final Object model;
+    private volatile long bytesWritten = -1;
+    private volatile long writeNanos;
+    private boolean gzip;
+
+    public JsonEntity(Object model) {
+        this.model = model;
+        setContentType(JSON.toString());
+        setChunked(true);
+    }
+
+    public Object getModel() {
+        return this.model;
+    }
+
+    /**
+     * Gzip the body if its JSON is at least the given size.  Small bodies are sent as they are, since compressing
+     * them costs more time than it saves bandwidth.  To decide, the model is serialized until it reaches the
+     * threshold or ends, so this must be called once, before the request is sent.
+     *
+     * @param thresholdBytes The smallest JSON to compress
+     */
+    public void setGzipThreshold(int thresholdBytes) {
+        ThresholdOutputStream probe = new ThresholdOutputStream(thresholdBytes);
+
+        try {
+            Writer writer = new OutputStreamWriter(probe, Consts.UTF_8);
+            JsonSerializer.SerializeObject(model, writer);
+            writer.flush();
+        } catch (JsonIOException ex) {
+            // The probe stops the serializer once the threshold is reached
+        } catch (IOException ex) {
+            // As above, when the threshold is reached on the final flush
+        }
+
+        this.gzip = probe.reached;
+        setContentEncoding(gzip ? "gzip" : null);
+    }
+
+    /**
+     * @return The size of the body produced by the last write, after compression, or -1 if the entity has not been written
+     */
+    public long getBytesWritten() {
+        return this.bytesWritten;
+    }
+
+    /**
+     * @return How long the last write took to serialize the model and hand it to the output stream
+     */
+    public long getWriteNanos() {
+        return this.writeNanos;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    /**
+     * Serialize the model into memory; only used by transports that must pull the body as an InputStream.
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        writeTo(buffer);
+        return new ByteArrayInputStream(buffer.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream outstream) throws IOException {
+        if (outstream == null) {
+            throw new IllegalArgumentException("Output stream may not be null");
+        }
+
+        long start = System.nanoTime();
+        CountingOutputStream counter = new CountingOutputStream(outstream);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(gzip ? new GZIPOutputStream(counter, 8192) : counter, Consts.UTF_8));
+
+        try {
+            JsonSerializer.SerializeObject(model, writer);
+        } catch (JsonIOException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException)ex.getCause();
+            }
+
+            throw ex;
+        }
+
+        if (gzip) {
+            // Closing finishes the gzip stream and frees its deflater; the connection's stream is left open
+            writer.close();
+        } else {
+            writer.flush();
+        }
+
+        this.writeNanos = System.nanoTime() - start;
+        this.bytesWritten = counter.count;
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        /**
+         * Flushes but does not close; the transport owns the connection's stream.
+         */
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    /**
+     * Discards what is written, failing once the threshold is reached so that serialization stops early.
+     */
+    private static class ThresholdOutputStream extends OutputStream {
+        private final long threshold;
+        private long count;
+        private boolean reached;
+
+        ThresholdOutputStream(long threshold) {
+            this.threshold = threshold;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(null, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            count += len;
+
+            if (count >= threshold) {
+                reached = true;
+                throw new IOException("Threshold reached");
+            }
+        }
+    }
+}
@@ -0,0 +1,498 @@
+package net.avalara.avatax.rest.client;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import net.avalara.avatax.rest.client.serializer.JsonSerializer;
+import org.apache.http.Consts;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.FileContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A multipart/form-data request body whose file part is streamed from a file, a buffer or an input stream, so that
+ * an upload of any size is sent in constant memory.
+ *
+ * The blocking transport has the parts written to the connection's output stream.  The non-blocking transport asks
+ * for content as the connection can take it, and a file is transferred straight from its channel when the length of
+ * the body is known.  Anything else that reads the entity, such as a logging wrapper, gets a stream that reads the
+ * parts in turn.  A body read from an input stream has no known length, so it is sent chunked, and only once;
+ * bodies from files and buffers are repeatable.
+ */
+public class MultipartEntity extends AbstractHttpEntity implements HttpAsyncContentProducer {
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final List<Segment> segments = new ArrayList<Segment>();
+    private final long contentLength;
+    private final boolean repeatable;
+
+    // Progress of a non-blocking write, reset by close()
+    private int next;
+    private Segment current;
+    private ReadableByteChannel channel;
+    private ByteBuffer pending;
+    private ByteBuffer scratch;
+    private long position;
+
+    private MultipartEntity(Object fields, String partName, String fileName, Segment content) {
+        String boundary = "AvaTax" + Long.toHexString(ThreadLocalRandom.current().nextLong()) + Long.toHexString(ThreadLocalRandom.current().nextLong());
+        StringBuilder head = new StringBuilder();
+
+        for (Map.Entry<String, String> field : formFields(fields, partName).entrySet()) {
+            head.append("--").append(boundary).append("\r\n")
+                    .append("Content-Disposition: form-data; name=\"").append(quote(field.getKey())).append("\"\r\n\r\n")
+                    .append(field.getValue()).append("\r\n");
+        }
+
+        head.append("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"").append(quote(partName))
+                .append("\"; filename=\"").append(quote(fileName)).append("\"\r\n")
+                .append("Content-Type: ").append(contentType(fileName)).append("\r\n\r\n");
+
+        segments.add(new BytesSegment(head.toString().getBytes(Consts.UTF_8)));
+        segments.add(content);
+        segments.add(new BytesSegment(("\r\n--" + boundary + "--\r\n").getBytes(Consts.UTF_8)));
+
+        long length = 0;
+
+        for (Segment segment : segments) {
+            length = length < 0 || segment.length() < 0 ? -1 : length + segment.length();
+        }
+
+        this.contentLength = length;
+        this.repeatable = !(content instanceof StreamSegment);
+        setContentType("multipart/form-data; boundary=" + boundary);
+        setChunked(length < 0);
+    }
+
+    /**
+     * @param fields A model whose non-null properties are sent as form fields ahead of the file; may be null
+     * @param partName The name of the file's form field
+     * @param file The file to send, read as the body is written
+     * @return The request body
+     */
+    public static MultipartEntity of(Object fields, String partName, Path file) {
+        return new MultipartEntity(fields, partName, file.getFileName().toString(), new FileSegment(file));
+    }
+
+    /**
+     * @param fields A model whose non-null properties are sent as form fields ahead of the file; may be null
+     * @param partName The name of the file's form field
+     * @param file The content to send, from its position to its limit; the buffer's position is not changed
+     * @param fileName The name to send with the content, whose extension determines its type
+     * @return The request body
+     */
+    public static MultipartEntity of(Object fields, String partName, ByteBuffer file, String fileName) {
+        return new MultipartEntity(fields, partName, fileName, new BufferSegment(file));
+    }
+
+    /**
+     * @param fields A model whose non-null properties are sent as form fields ahead of the file; may be null
+     * @param partName The name of the file's form field
+     * @param file The content to send; it is read to its end but not closed
+     * @param fileName The name to send with the content, whose extension determines its type
+     * @return The request body, which can be sent only once
+     */
+    public static MultipartEntity of(Object fields, String partName, InputStream file, String fileName) {
+        return new MultipartEntity(fields, partName, fileName, new StreamSegment(file));
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return repeatable;
+    }
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return !repeatable;
+    }
+
+    /**
+     * @return The whole body, reading the file only as the stream is read; a body from an input stream can be read
+     * only once
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        List<InputStream> streams = new ArrayList<InputStream>(segments.size());
+
+        try {
+            for (Segment segment : segments) {
+                streams.add(segment.stream());
+            }
+        } catch (IOException ex) {
+            for (InputStream stream : streams) {
+                stream.close();
+            }
+
+            throw ex;
+        }
+
+        return new SequenceInputStream(Collections.enumeration(streams));
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        for (Segment segment : segments) {
+            segment.writeTo(out);
+        }
+
+        out.flush();
+    }
+
+    @Override
+    public void produceContent(ContentEncoder encoder, IOControl control) throws IOException {
+        while (true) {
+            if (current == null) {
+                if (next == segments.size()) {
+                    encoder.complete();
+                    return;
+                }
+
+                current = segments.get(next++);
+                pending = current.buffer();
+                channel = pending == null ? current.open() : null;
+                position = 0;
+            }
+
+            if (!produce(encoder)) {
+                return;
+            }
+
+            closeSegment();
+        }
+    }
+
+    /**
+     * @return True once the current segment has been written, false when the connection can take no more for now
+     */
+    private boolean produce(ContentEncoder encoder) throws IOException {
+        if (channel instanceof FileChannel && current.length() >= 0 && encoder instanceof FileContentEncoder) {
+            long size = current.length();
+
+            while (position < size) {
+                long n = ((FileContentEncoder)encoder).transfer((FileChannel)channel, position, size - position);
+
+                if (n <= 0) {
+                    return false;
+                }
+
+                position += n;
+            }
+
+            return true;
+        }
+
+        while (true) {
+            if (pending == null || !pending.hasRemaining()) {
+                if (channel == null) {
+                    return true;
+                }
+
+                if (scratch == null) {
+                    scratch = ByteBuffer.allocate(CHUNK_SIZE);
+                }
+
+                scratch.clear();
+
+                if (channel.read(scratch) < 0) {
+                    return true;
+                }
+
+                scratch.flip();
+                pending = scratch;
+            }
+
+            encoder.write(pending);
+
+            if (pending.hasRemaining()) {
+                return false;
+            }
+        }
+    }
+
+    private void closeSegment() throws IOException {
+        ReadableByteChannel channel = this.channel;
+        this.current = null;
+        this.channel = null;
+        this.pending = null;
+
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Release the segment being written and start again from the beginning on the next write.
+     */
+    @Override
+    public void close() throws IOException {
+        next = 0;
+        closeSegment();
+    }
+
+    private static Map<String, String> formFields(Object model, String partName) {
+        Map<String, String> fields = new LinkedHashMap<String, String>();
+
+        if (model != null) {
+            JsonElement tree = new JsonParser().parse(JsonSerializer.SerializeObject(model));
+
+            for (Map.Entry<String, JsonElement> entry : tree.getAsJsonObject().entrySet()) {
+                if (entry.getValue().isJsonPrimitive() && !entry.getKey().equals(partName)) {
+                    fields.put(entry.getKey(), entry.getValue().getAsString());
+                }
+            }
+        }
+
+        return fields;
+    }
+
+    private static String quote(String value) {
+        return value.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
+    }
+
+    private static String contentType(String fileName) {
+        String type = URLConnection.guessContentTypeFromName(fileName);
+        return type != null ? type : "application/octet-stream";
+    }
+
+    /**
+     * One run of the body's bytes: part headers, or the file itself.
+     */
+    private abstract static class Segment {
+        /**
+         * @return The size in bytes, or -1 if it is not known until the segment has been read
+         */
+        abstract long length();
+
+        /**
+         * @return The segment's bytes if they are already in memory, otherwise null
+         */
+        ByteBuffer buffer() {
+            return null;
+        }
+
+        /**
+         * @return The segment's bytes as a stream, which the caller closes
+         */
+        abstract InputStream stream() throws IOException;
+
+        /**
+         * Open the segment for a non-blocking write; only called when buffer() returns null.
+         */
+        ReadableByteChannel open() throws IOException {
+            return Channels.newChannel(stream());
+        }
+
+        abstract void writeTo(OutputStream out) throws IOException;
+    }
+
+    private static class BytesSegment extends Segment {
+        private final byte[] bytes;
+
+        BytesSegment(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        long length() {
+            return bytes.length;
+        }
+
+        @Override
+        ByteBuffer buffer() {
+            return ByteBuffer.wrap(bytes);
+        }
+
+        @Override
+        InputStream stream() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        void writeTo(OutputStream out) throws IOException {
+            out.write(bytes);
+        }
+    }
+
+    private static class BufferSegment extends Segment {
+        private final ByteBuffer content;
+
+        BufferSegment(ByteBuffer content) {
+            this.content = content;
+        }
+
+        @Override
+        long length() {
+            return content.remaining();
+        }
+
+        @Override
+        ByteBuffer buffer() {
+            return content.duplicate();
+        }
+
+        @Override
+        InputStream stream() {
+            final ByteBuffer source = content.duplicate();
+
+            if (source.hasArray()) {
+                return new ByteArrayInputStream(source.array(), source.arrayOffset() + source.position(), source.remaining());
+            }
+
+            return new InputStream() {
+                @Override
+                public int read() {
+                    return source.hasRemaining() ? source.get() & 0xFF : -1;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (len == 0) {
+                        return 0;
+                    }
+
+                    if (!source.hasRemaining()) {
+                        return -1;
+                    }
+
+                    int n = Math.min(len, source.remaining());
+                    source.get(b, off, n);
+                    return n;
+                }
+
+                @Override
+                public int available() {
+                    return source.remaining();
+                }
+            };
+        }
+
+        @Override
+        void writeTo(OutputStream out) throws IOException {
+            ByteBuffer source = content.duplicate();
+
+            if (source.hasArray()) {
+                out.write(source.array(), source.arrayOffset() + source.position(), source.remaining());
+                return;
+            }
+
+            WritableByteChannel target = Channels.newChannel(out);
+
+            while (source.hasRemaining()) {
+                target.write(source);
+            }
+        }
+    }
+
+    private static class FileSegment extends Segment {
+        private final Path file;
+        private final long length;
+
+        FileSegment(Path file) {
+            this.file = file;
+            long length;
+
+            try {
+                length = Files.size(file);
+            } catch (IOException ex) {
+                // Sent chunked; opening the file when the body is written reports the problem
+                length = -1;
+            }
+
+            this.length = length;
+        }
+
+        @Override
+        long length() {
+            return length;
+        }
+
+        @Override
+        InputStream stream() throws IOException {
+            return Files.newInputStream(file);
+        }
+
+        @Override
+        ReadableByteChannel open() throws IOException {
+            return FileChannel.open(file, StandardOpenOption.READ);
+        }
+
+        @Override
+        void writeTo(OutputStream out) throws IOException {
+            Files.copy(file, out);
+        }
+    }
+
+    private static class StreamSegment extends Segment {
+        private final InputStream content;
+        private boolean used;
+
+        StreamSegment(InputStream content) {
+            this.content = content;
+        }
+
+        @Override
+        long length() {
+            return -1;
+        }
+
+        @Override
+        InputStream stream() throws IOException {
+            use();
+
+            // The caller owns the stream, so closing the body must leave it open
+            return new FilterInputStream(content) {
+                @Override
+                public void close() {
+                }
+            };
+        }
+
+        @Override
+        void writeTo(OutputStream out) throws IOException {
+            use();
+            byte[] buffer = new byte[CHUNK_SIZE];
+            int n;
+
+            while ((n = content.read(buffer)) >= 0) {
+                out.write(buffer, 0, n);
+            }
+        }
+
+        private void use() throws IOException {
+            if (used) {
+                throw new IOException("The upload's input stream has already been sent");
+            }
+
+            used = true;
+        }
+    }
+}
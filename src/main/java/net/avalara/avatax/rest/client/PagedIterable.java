@@ -0,0 +1,296 @@
+package net.avalara.avatax.rest.client;
+
+import com.google.gson.reflect.TypeToken;
+import org.apache.http.concurrent.FutureCallback;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Every record of a list or query endpoint, fetched one page at a time by following each page's @nextLink.
+ *
+ * Nothing is fetched until iteration starts.  While the caller works through one page, the next is already being
+ * fetched in the background, so at most two pages are held in memory however many records the query matches.
+ * Each call to {@link #iterator()} starts again from the first page.  A failed fetch is thrown from
+ * hasNext() or next() as an {@link AvaTaxPagingException}.
+ *
+ * <pre>
+ * for (TransactionModel transaction : client.listTransactionsByCompanyPaged("DEFAULT", null, filter, 1000, null, null)) {
+ *     export(transaction);
+ * }
+ * </pre>
+ *
+ * @param <T> The type of record
+ */
+public class PagedIterable<T> implements Iterable<T> {
+    private final RestCallFactory restCallFactory;
+    private final ExecutorService threadPool;
+    private final AvaTaxPath firstPage;
+    private final TypeToken<FetchResult<T>> typeToken;
+
+    PagedIterable(RestCallFactory restCallFactory, ExecutorService threadPool, AvaTaxPath firstPage, TypeToken<FetchResult<T>> typeToken) {
+        this.restCallFactory = restCallFactory;
+        this.threadPool = threadPool;
+        this.firstPage = firstPage;
+        this.typeToken = typeToken;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return records(new PageIterator(fetch(firstPage)));
+    }
+
+    /**
+     * @return The pages themselves, for callers that want the record count or work a page at a time
+     */
+    public Iterable<FetchResult<T>> pages() {
+        return new Iterable<FetchResult<T>>() {
+            @Override
+            public Iterator<FetchResult<T>> iterator() {
+                return new PageIterator(fetch(firstPage));
+            }
+        };
+    }
+
+    /**
+     * Fetch pages concurrently instead of one after another.
+     *
+     * The first page is fetched alone to learn the page size and the total record count; the $skip offset of every
+     * remaining page is then known, and up to {@code parallelism} of them are fetched at once.  The transport limits
+     * real concurrency: use withNonBlockingTransport(), or a thread pool and connection pool at least this large.
+     * Offsets are fixed when the scan starts, so records added or removed during the scan can be missed or repeated;
+     * filter on a closed date range for a stable result.  If the API does not report a count, pages are followed
+     * one at a time as in {@link #iterator()}.
+     *
+     * @param parallelism The most pages to fetch or hold at once
+     * @param ordered True to return records in page order; false to return each page as soon as it arrives
+     * @return The records
+     */
+    public Iterable<T> parallel(final int parallelism, final boolean ordered) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+
+        return new Iterable<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return records(new FanOutIterator(parallelism, ordered));
+            }
+        };
+    }
+
+    private Iterator<T> records(final Iterator<FetchResult<T>> pages) {
+        return new Iterator<T>() {
+            private Iterator<T> records = Collections.<T>emptyList().iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!records.hasNext() && pages.hasNext()) {
+                    FetchResult<T> page = pages.next();
+                    records = page.getValue() != null ? page.getValue().iterator() : Collections.<T>emptyList().iterator();
+                }
+
+                return records.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return records.next();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private Future<FetchResult<T>> fetch(AvaTaxPath path) {
+        return restCallFactory.createRestCall("get", path, null, typeToken).submit(threadPool, null);
+    }
+
+    private class PageIterator implements Iterator<FetchResult<T>> {
+        private Future<FetchResult<T>> pending;
+
+        PageIterator(Future<FetchResult<T>> first) {
+            this.pending = first;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return pending != null;
+        }
+
+        @Override
+        public FetchResult<T> next() {
+            if (pending == null) {
+                throw new NoSuchElementException();
+            }
+
+            FetchResult<T> page = await(pending);
+            String nextLink = page != null ? page.getNextLink() : null;
+            boolean empty = page == null || page.getValue() == null || page.getValue().isEmpty();
+
+            // Start on the next page now so it downloads while the caller processes this one
+            pending = nextLink != null && !empty ? fetch(firstPage.followLink(nextLink)) : null;
+
+            return page != null ? page : new FetchResult<T>();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Fetches the first page, then every remaining page by offset, keeping up to parallelism fetched or in flight.
+     */
+    private class FanOutIterator implements Iterator<FetchResult<T>> {
+        private final int parallelism;
+        private final boolean ordered;
+        private final ArrayDeque<Future<FetchResult<T>>> inOrder = new ArrayDeque<Future<FetchResult<T>>>();
+        private final BlockingQueue<Object> arrived = new LinkedBlockingQueue<Object>();
+        private FetchResult<T> first;
+        private Iterator<FetchResult<T>> sequential;
+        private int outstanding;
+        private int pageSize;
+        private long nextOffset;
+        private long end;
+
+        FanOutIterator(int parallelism, boolean ordered) {
+            this.parallelism = parallelism;
+            this.ordered = ordered;
+            this.first = await(fetch(firstPage));
+
+            if (first == null) {
+                first = new FetchResult<T>();
+            }
+
+            this.pageSize = first.getValue() != null ? first.getValue().size() : 0;
+
+            if (first.getNextLink() == null || pageSize == 0) {
+                return;
+            }
+
+            if (first.getCount() <= 0) {
+                sequential = new PageIterator(fetch(firstPage.followLink(first.getNextLink())));
+                return;
+            }
+
+            String skip = firstPage.getQuery("$skip");
+            this.nextOffset = (skip != null ? Long.parseLong(skip) : 0) + pageSize;
+            this.end = first.getCount();
+            fill();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return first != null || (sequential != null && sequential.hasNext()) || outstanding > 0;
+        }
+
+        @Override
+        public FetchResult<T> next() {
+            if (first != null) {
+                FetchResult<T> page = first;
+                first = null;
+                return page;
+            }
+
+            if (sequential != null) {
+                return sequential.next();
+            }
+
+            if (outstanding == 0) {
+                throw new NoSuchElementException();
+            }
+
+            FetchResult<T> page;
+            outstanding--;
+
+            if (ordered) {
+                page = await(inOrder.poll());
+            } else {
+                page = PagedIterable.<FetchResult<T>>take(arrived);
+            }
+
+            fill();
+            return page != null ? page : new FetchResult<T>();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        private void fill() {
+            while (outstanding < parallelism && nextOffset < end) {
+                AvaTaxPath path = firstPage.withQuery("$top", pageSize).withQuery("$skip", nextOffset);
+                nextOffset += pageSize;
+                outstanding++;
+
+                if (ordered) {
+                    inOrder.add(fetch(path));
+                } else {
+                    restCallFactory.createRestCall("get", path, null, typeToken).submit(threadPool, new FutureCallback<FetchResult<T>>() {
+                        @Override
+                        public void completed(FetchResult<T> result) {
+                            arrived.add(result != null ? result : new FetchResult<T>());
+                        }
+
+                        @Override
+                        public void failed(Exception ex) {
+                            arrived.add(ex);
+                        }
+
+                        @Override
+                        public void cancelled() {
+                            arrived.add(new CancellationException());
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R take(BlockingQueue<Object> queue) {
+        Object result;
+
+        try {
+            result = queue.take();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new AvaTaxPagingException(ex);
+        }
+
+        if (result instanceof Throwable) {
+            throw new AvaTaxPagingException((Throwable)result);
+        }
+
+        return (R)result;
+    }
+
+    static <R> R await(Future<R> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            throw new AvaTaxPagingException(ex.getCause() != null ? ex.getCause() : ex);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new AvaTaxPagingException(ex);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package net.avalara.avatax.rest.client;
+
+/**
+ * Percent-encodes URL components straight into a StringBuilder, without the intermediate strings and
+ * charset lookups of java.net.URLEncoder.  Strings that need no encoding are appended as they are.
+ */
+final class PercentEncoder {
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final boolean[] QUERY_SAFE = new boolean[128];
+    private static final boolean[] PATH_SAFE = new boolean[128];
+    private static final boolean[] URI_SAFE = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            QUERY_SAFE[c] = PATH_SAFE[c] = true;
+        }
+
+        for (char c = 'A'; c <= 'Z'; c++) {
+            QUERY_SAFE[c] = PATH_SAFE[c] = true;
+        }
+
+        for (char c = '0'; c <= '9'; c++) {
+            QUERY_SAFE[c] = PATH_SAFE[c] = true;
+        }
+
+        // The characters URLEncoder leaves alone, so query strings are unchanged from earlier versions
+        QUERY_SAFE['-'] = QUERY_SAFE['_'] = QUERY_SAFE['.'] = QUERY_SAFE['*'] = true;
+
+        // RFC 3986 unreserved characters
+        PATH_SAFE['-'] = PATH_SAFE['_'] = PATH_SAFE['.'] = PATH_SAFE['~'] = true;
+
+        // Everything that may appear in a URI, including reserved characters and existing escapes
+        for (char c = 0x21; c < 0x7F; c++) {
+            URI_SAFE[c] = "\"<>\\^`{|}".indexOf(c) < 0;
+        }
+    }
+
+    private PercentEncoder() {
+    }
+
+    /**
+     * Append a query string key or value using application/x-www-form-urlencoded rules: UTF-8, spaces as '+'.
+     */
+    static void appendQueryComponent(StringBuilder builder, String value) {
+        append(builder, value, QUERY_SAFE, true);
+    }
+
+    /**
+     * Append a value as a single path segment: UTF-8, with everything but unreserved characters escaped, including '/'.
+     */
+    static void appendPathSegment(StringBuilder builder, String value) {
+        append(builder, value, PATH_SAFE, false);
+    }
+
+    /**
+     * Append a link that is already a URI, escaping only the characters a URI may not contain, such as spaces.
+     */
+    static void appendUri(StringBuilder builder, String value) {
+        append(builder, value, URI_SAFE, false);
+    }
+
+    private static void append(StringBuilder builder, String value, boolean[] safe, boolean plusForSpace) {
+        int length = value.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = value.charAt(i);
+
+            if (c >= 128 || !safe[c]) {
+                break;
+            }
+
+            i++;
+        }
+
+        if (i == length) {
+            builder.append(value);
+            return;
+        }
+
+        builder.append(value, 0, i);
+
+        while (i < length) {
+            char c = value.charAt(i++);
+
+            if (c < 128) {
+                if (safe[c]) {
+                    builder.append(c);
+                } else if (c == ' ' && plusForSpace) {
+                    builder.append('+');
+                } else {
+                    appendByte(builder, c);
+                }
+            } else if (c < 0x800) {
+                appendByte(builder, 0xC0 | (c >> 6));
+                appendByte(builder, 0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i < length && Character.isLowSurrogate(value.charAt(i))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(i++));
+                appendByte(builder, 0xF0 | (codePoint >> 18));
+                appendByte(builder, 0x80 | ((codePoint >> 12) & 0x3F));
+                appendByte(builder, 0x80 | ((codePoint >> 6) & 0x3F));
+                appendByte(builder, 0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // An unpaired surrogate cannot be encoded; URLEncoder writes '?' in its place
+                appendByte(builder, '?');
+            } else {
+                appendByte(builder, 0xE0 | (c >> 12));
+                appendByte(builder, 0x80 | ((c >> 6) & 0x3F));
+                appendByte(builder, 0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private static void appendByte(StringBuilder builder, int b) {
+        builder.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+    }
+}
@@ -0,0 +1,67 @@
+package net.avalara.avatax.rest.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket that admits a steady rate of calls with room for short bursts.
+ *
+ * The bucket is kept as the single time at which it will next be full, in the manner of the generic cell rate
+ * algorithm, so taking a permit is one compare-and-set and callers never wait: a call over the limit is refused at
+ * once rather than queued behind the others.
+ */
+public class RateLimiter {
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong nextFree = new AtomicLong(System.nanoTime());
+
+    /**
+     * @param permitsPerSecond The sustained rate to admit
+     * @param burst The most calls admitted at once after an idle period
+     */
+    public RateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive");
+        }
+
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1");
+        }
+
+        this.intervalNanos = Math.max(1, (long)(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.toleranceNanos = (burst - 1) * intervalNanos;
+    }
+
+    /**
+     * @return True if a permit was taken, false if the caller is over the limit
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+
+        while (true) {
+            long next = nextFree.get();
+            long start = next - now < 0 ? now : next;
+
+            if (start - now > toleranceNanos) {
+                return false;
+            }
+
+            if (nextFree.compareAndSet(next, start + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return The number of calls that would be admitted if they all arrived now
+     */
+    public int getAvailablePermits() {
+        long backlog = Math.max(0, nextFree.get() - System.nanoTime());
+        return backlog > toleranceNanos ? 0 : (int)((toleranceNanos - backlog) / intervalNanos) + 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RateLimiter rate=%.1f/s available=%d", 1e9 / intervalNanos, getAvailablePermits());
+    }
+}
@@ -1,30 +1,78 @@
 package net.avalara.avatax.rest.client;
 
 import com.google.gson.reflect.TypeToken;
+import net.avalara.avatax.rest.client.cache.CoalescingCache;
+import net.avalara.avatax.rest.client.metrics.AvaTaxMetrics;
+import net.avalara.avatax.rest.client.metrics.CallSample;
 import net.avalara.avatax.rest.client.models.CreateTransactionModel;
 import net.avalara.avatax.rest.client.models.ErrorResult;
 import net.avalara.avatax.rest.client.serializer.JsonSerializer;
+import org.apache.http.Consts;
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.entity.DeflateDecompressingEntity;
+import org.apache.http.client.entity.GzipDecompressingEntity;
 import org.apache.http.client.methods.*;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
+import org.apache.http.entity.HttpEntityWrapper;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.impl.conn.DefaultProxyRoutePlanner;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.client.HttpAsyncClient;
+import org.apache.http.nio.client.methods.AsyncByteConsumer;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.protocol.HttpContext;
 import org.apache.http.util.EntityUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 
 public class RestCall<T> implements Callable<T> {
     private CloseableHttpClient client;
+    private HttpAsyncClient asyncClient;
     private HttpRequestBase request;
     private String appName;
     private String appVersion;
     private String machineName;
     private Object model;
     private TypeToken<T> typeToken;
+    private String method;
+    private String pathTemplate;
+    private AvaTaxMetrics metrics;
+    private String url;
+    private CoalescingCache<String, Object> responseCache;
+    private RetryPolicy retryPolicy;
+    private CallLimits callLimits;
+    private boolean admitted;
+    private CallRejectedException rejection;
+    private Download download;
 
     private RestCall(String appName, String appVersion, String machineName, String environmentUrl, String method, AvaTaxPath path, Object model, TypeToken<T> typeToken, CloseableHttpClient client) {
         this.client = client;
@@ -33,22 +81,47 @@ public class RestCall<T> implements Callable<T> {
         this.machineName = machineName;
         this.typeToken = typeToken;
         this.model = model;
+        this.method = method.toUpperCase();
+        this.pathTemplate = path.getTemplate();
+        String url = path.toUrl(environmentUrl);
+        this.url = url;
 
         if (method == "post") {
-            this.request = new HttpPost(environmentUrl + path.toString());
-            ((HttpPost)this.request).setEntity(new StringEntity(JsonSerializer.SerializeObject(model), ContentType.create("application/json", "UTF-8")));
+            this.request = new HttpPost(url);
+            ((HttpPost)this.request).setEntity(new JsonEntity(model));
         } else if (method == "get") {
-            this.request = new HttpGet(environmentUrl + path.toString());
+            this.request = new HttpGet(url);
         } else if (method == "delete") {
-            this.request = new HttpDelete(environmentUrl + path.toString());
+            this.request = new HttpDelete(url);
         } else if (method == "put") {
-            this.request = new HttpPut(environmentUrl + path.toString());
-            ((HttpPut)this.request).setEntity(new StringEntity(JsonSerializer.SerializeObject(model), ContentType.create("application/json", "UTF-8")));
+            this.request = new HttpPut(url);
+            ((HttpPut)this.request).setEntity(new JsonEntity(model));
         }
 
         buildRequest(this.request);
     }
 
+    /**
+     * Creates a call that executes on a client owned by someone else, typically the pooled client of a RestCallFactory.
+     * The client is not closed by this call.
+     */
+    RestCall(String appName, String appVersion, String machineName, String environmentUrl, String header, String method, AvaTaxPath path, Object model, TypeToken<T> typeToken, CloseableHttpClient client) {
+        this(appName, appVersion, machineName, environmentUrl, method, path, model, typeToken, client);
+
+        if (header != null) {
+            this.request.setHeader("Authorization", "Basic " + header);
+        }
+    }
+
+    /**
+     * Creates a call that executes on a non-blocking client owned by someone else, typically a RestCallFactory.
+     * The client must already be started and is not closed by this call.
+     */
+    RestCall(String appName, String appVersion, String machineName, String environmentUrl, String header, String method, AvaTaxPath path, Object model, TypeToken<T> typeToken, HttpAsyncClient asyncClient) {
+        this(appName, appVersion, machineName, environmentUrl, header, method, path, model, typeToken, (CloseableHttpClient)null);
+        this.asyncClient = asyncClient;
+    }
+
     public RestCall(String appName, String appVersion, String machineName, String environmentUrl, String method, AvaTaxPath path, Object model, TypeToken<T> typeToken) {
         this(appName, appVersion, machineName, environmentUrl, method, path, model, typeToken, HttpClients.createDefault());
     }
@@ -82,35 +155,857 @@ public class RestCall<T> implements Callable<T> {
     }
 
 
+    /**
+     * Report the outcome and timings of this call to the given metrics; must be set before the call starts.
+     */
+    void setMetrics(AvaTaxMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Answer this call from the given cache when it holds a response for the same URL, and store the response
+     * there otherwise.  Only suitable for GET calls whose response is the same for every caller.
+     */
+    void setResponseCache(CoalescingCache<String, Object> responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Retry this call, and hedge it if it is a read, as the given policy allows; must be set before the call starts.
+     */
+    void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Ask for gzip or deflate encoded responses, and gzip the request body if its JSON is at least the given size;
+     * must be set before the call starts.
+     *
+     * @param requestThreshold The smallest request body to compress, or -1 to never compress requests
+     */
+    void setCompression(int requestThreshold) {
+        this.request.setHeader("Accept-Encoding", "gzip, deflate");
+
+        if (requestThreshold >= 0 && this.request instanceof HttpEntityEnclosingRequestBase) {
+            HttpEntity entity = ((HttpEntityEnclosingRequestBase)this.request).getEntity();
+
+            if (entity instanceof JsonEntity) {
+                ((JsonEntity)entity).setGzipThreshold(requestThreshold);
+            }
+        }
+    }
+
+    /**
+     * Send this call only if the given limits admit it, and report its outcome to them; must be set before the call starts.
+     */
+    void setCallLimits(CallLimits callLimits) {
+        this.callLimits = callLimits;
+    }
+
+    /**
+     * Write the response body to the given channel as it arrives, instead of reading it into a String, and return
+     * the number of bytes written; must be set before the call starts.  The call is never retried or cached, since
+     * part of the body may already have been written.
+     */
+    void setDownload(WritableByteChannel target, TransferListener listener) {
+        this.download = new Download(target, listener);
+        this.retryPolicy = null;
+        this.responseCache = null;
+
+        if (this.asyncClient != null) {
+            // The non-blocking client hands over the body as it arrives on the wire, so it must not be encoded
+            this.request.setHeader("Accept-Encoding", "identity");
+        }
+    }
+
+    /**
+     * Send the given multipart body in place of the model as JSON; must be set before the call starts.  A body read
+     * from an input stream can be sent only once, so such a call is never retried.
+     */
+    void setUpload(MultipartEntity entity) {
+        ((HttpEntityEnclosingRequestBase)this.request).setEntity(entity);
+
+        if (!entity.isRepeatable()) {
+            this.retryPolicy = null;
+        }
+    }
+
     @Override
     public T call() throws Exception {
-        CloseableHttpResponse response = this.client.execute(this.request);
+        try {
+            if (this.responseCache != null) {
+                // Only this endpoint's results are cached under its URL, so they are always of type T
+                @SuppressWarnings("unchecked")
+                T cached = (T)this.responseCache.get(this.url, new CoalescingCache.Loader<String, Object>() {
+                    @Override
+                    public Object load(String key) throws Exception {
+                        return send();
+                    }
+                });
+                return cached;
+            }
+
+            return send();
+        } catch (CallRejectedException ex) {
+            // Answered outside the response cache, so that a fallback result is never cached
+            CallLimits.Fallback fallback = this.callLimits != null ? this.callLimits.getFallback(this.pathTemplate) : null;
+
+            if (fallback == null) {
+                throw ex;
+            }
+
+            // The fallback is registered for this endpoint and answers with its result type
+            @SuppressWarnings("unchecked")
+            T result = (T)fallback.fallback(this.method, this.pathTemplate, this.model, ex);
+            return result;
+        }
+    }
+
+    /**
+     * Ask the call limits, once, whether this call may be sent.
+     *
+     * @return Null if it may, otherwise the reason it may not
+     */
+    private CallRejectedException admit() {
+        if (this.callLimits != null && !this.admitted) {
+            this.admitted = true;
+            this.rejection = this.callLimits.admit(this.method, this.pathTemplate);
+        }
+
+        return this.rejection;
+    }
+
+    /**
+     * Ask the call limits whether a retry or hedge of this call may be sent.  Each one is a request of its own, so it
+     * takes its own permits; one that is refused is simply not sent.
+     */
+    private boolean admitAgain() {
+        return this.callLimits == null || this.callLimits.admit(this.method, this.pathTemplate) == null;
+    }
+
+    private boolean isCircuitOpen() {
+        return this.callLimits != null && this.callLimits.isOpen(this.pathTemplate);
+    }
+
+    private void recordResult(long start, Exception error) {
+        if (this.callLimits != null) {
+            this.callLimits.recordResult(this.pathTemplate, System.nanoTime() - start, error);
+        }
+    }
+
+    private T send() throws Exception {
+        CallRejectedException rejection = admit();
+
+        if (rejection != null) {
+            throw rejection;
+        }
+
+        RetryPolicy policy = this.retryPolicy;
+
+        if (policy != null && (this.client == null || policy.isHedged(this.method))) {
+            return await(new ResilientExchange(policy, null).start());
+        }
+
+        if (this.client == null) {
+            return await(execute(this.request, null));
+        }
+
+        if (policy == null) {
+            return send(this.request);
+        }
+
+        boolean idempotent = policy.isIdempotent(this.method, this.pathTemplate);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return send(attempt == 1 ? this.request : copyRequest());
+            } catch (Exception ex) {
+                long delay = isCircuitOpen() ? -1 : policy.getRetryDelay(attempt, ex, idempotent);
+
+                if (delay < 0) {
+                    throw ex;
+                }
+
+                Thread.sleep(delay);
+
+                if (!admitAgain()) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    private T send(HttpRequestBase request) throws Exception {
+        Measurement measurement = this.metrics != null ? new Measurement() : null;
+        long start = System.nanoTime();
+
+        try {
+            CloseableHttpResponse response = this.client.execute(request);
+
+            try {
+                T result = handleResponse(response, measurement);
+
+                if (measurement != null) {
+                    measurement.finish(null);
+                }
+
+                recordResult(start, null);
+                return result;
+            } finally {
+                response.close();
+            }
+        } catch (Exception ex) {
+            if (measurement != null) {
+                measurement.finish(ex);
+            }
+
+            recordResult(start, ex);
+            throw ex;
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            throw cause instanceof Exception ? (Exception)cause : ex;
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            throw ex;
+        }
+    }
+
+    /**
+     * @return A fresh request for another attempt, since a request cannot be on the wire twice at once.  Its body is
+     * the original's, which must therefore be repeatable.
+     */
+    private HttpRequestBase copyRequest() {
+        HttpRequestBase copy;
+
+        if (this.request instanceof HttpEntityEnclosingRequestBase) {
+            HttpEntity entity = ((HttpEntityEnclosingRequestBase)this.request).getEntity();
+
+            if (entity != null && !entity.isRepeatable()) {
+                throw new IllegalStateException("The body of " + this.method + " " + this.pathTemplate + " can only be sent once");
+            }
+
+            HttpEntityEnclosingRequestBase enclosing = "PUT".equals(this.method) ? new HttpPut(this.request.getURI()) : new HttpPost(this.request.getURI());
+            enclosing.setEntity(entity);
+            copy = enclosing;
+        } else {
+            copy = "DELETE".equals(this.method) ? new HttpDelete(this.request.getURI()) : new HttpGet(this.request.getURI());
+        }
+
+        copy.setHeaders(this.request.getAllHeaders());
+        copy.setConfig(this.request.getConfig());
+        return copy;
+    }
+
+    /**
+     * Start this call without blocking the calling thread.
+     *
+     * Calls bound to a non-blocking client are multiplexed over its I/O threads; others run on the given thread pool.
+     * The callback, if any, is invoked once the call completes, fails or is cancelled, on whichever thread finished it.
+     *
+     * @param threadPool The thread pool used when this call is bound to a blocking client
+     * @param callback Notified of the outcome of the call; may be null
+     * @return A future for the result of the call
+     */
+    Future<T> submit(ExecutorService threadPool, final FutureCallback<T> callback) {
+        // Cached and refused calls are answered at once, without a thread
+        if ((this.responseCache != null && this.responseCache.getIfPresent(this.url) != null) || admit() != null) {
+            BasicFuture<T> immediate = new BasicFuture<T>(callback);
+
+            try {
+                immediate.completed(call());
+            } catch (Exception ex) {
+                immediate.failed(ex);
+            }
+
+            return immediate;
+        }
+
+        if (this.responseCache == null && this.asyncClient != null) {
+            return this.retryPolicy != null ? new ResilientExchange(this.retryPolicy, callback).start() : execute(this.request, callback);
+        }
+
+        if (callback == null) {
+            return threadPool.submit(this);
+        }
+
+        FutureTask<T> task = newTask(this, callback);
+        threadPool.execute(task);
+        return task;
+    }
+
+    /**
+     * @return A task that reports its outcome to the callback when it finishes
+     */
+    private static <T> FutureTask<T> newTask(Callable<T> callable, final FutureCallback<T> callback) {
+        return new FutureTask<T>(callable) {
+            @Override
+            protected void done() {
+                try {
+                    callback.completed(get());
+                } catch (CancellationException ex) {
+                    callback.cancelled();
+                } catch (ExecutionException ex) {
+                    Throwable cause = ex.getCause();
+                    callback.failed(cause instanceof Exception ? (Exception)cause : ex);
+                } catch (InterruptedException ex) {
+                    callback.failed(ex);
+                }
+            }
+        };
+    }
+
+    private Future<T> execute(HttpRequestBase request, FutureCallback<T> callback) {
+        final ExchangeFuture<T> result = new ExchangeFuture<T>(callback);
+        final Measurement measurement = this.metrics != null ? new Measurement() : null;
+        final long start = System.nanoTime();
+
+        FutureCallback<HttpResponse> handler = new FutureCallback<HttpResponse>() {
+            @Override
+            public void completed(HttpResponse response) {
+                T value;
+
+                try {
+                    value = handleResponse(response, measurement);
+                } catch (Exception ex) {
+                    failed(ex);
+                    return;
+                }
+
+                if (measurement != null) {
+                    measurement.finish(null);
+                }
+
+                recordResult(start, null);
+                result.completed(value);
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                if (measurement != null) {
+                    measurement.finish(ex);
+                }
+
+                recordResult(start, ex);
+                result.failed(ex);
+            }
+
+            @Override
+            public void cancelled() {
+                if (measurement != null) {
+                    measurement.finish(new CancellationException());
+                }
+
+                result.cancel();
+            }
+        };
+
+        result.exchange = this.download != null
+                ? this.asyncClient.execute(HttpAsyncMethods.create(request), this.download.new Consumer(), handler)
+                : this.asyncClient.execute(request, handler);
+
+        if (result.isCancelled()) {
+            result.exchange.cancel(true);
+        }
+
+        return result;
+    }
+
+    private T handleResponse(HttpResponse response, Measurement measurement) throws Exception {
         T obj = null;
+        HttpEntity entity = response.getEntity();
+
+        if (measurement != null) {
+            entity = measurement.responseReceived(response, entity);
+
+            if (entity == null && this.download != null) {
+                // Already written by the non-blocking client's consumer
+                measurement.responseBytes = this.download.bytesTransferred;
+            }
+        }
+
+        // Measured above before decoding, so that response bytes are the bytes on the wire
+        HttpEntity body = decode(entity);
 
         try {
-            HttpEntity entity = response.getEntity();
+            int statusCode = response.getStatusLine().getStatusCode();
 
-            if (response.getStatusLine().getStatusCode() != 200 && response.getStatusLine().getStatusCode() != 201) {
-                throw new AvaTaxClientException((ErrorResult) JsonSerializer.DeserializeObject(EntityUtils.toString(entity), ErrorResult.class), model);
+            if (statusCode != 200 && statusCode != 201) {
+                // A proxy or load balancer in front of the API may answer with an HTML or text page, which is
+                // reported by its status line, so that its status code and Retry-After still reach the retry policy
+                ErrorResult errorResult = body == null || !ContentType.getOrDefault(body).getMimeType().equals("application/json")
+                        ? null
+                        : (ErrorResult)readJson(body, ErrorResult.class);
+                AvaTaxClientException error = errorResult == null
+                        ? new AvaTaxClientException(response.getStatusLine().toString())
+                        : new AvaTaxClientException(errorResult, model);
+                Header retryAfter = response.getFirstHeader("Retry-After");
+                error.setResponse(statusCode, retryAfter != null ? retryAfter.getValue() : null);
+                throw error;
             }
 
-            if (entity != null) {
-                if(ContentType.getOrDefault(entity).getMimeType().equals("application/json")) {
-                    obj = (T)JsonSerializer.DeserializeObject(EntityUtils.toString(entity), typeToken.getType());
+            if (this.download != null) {
+                // Download calls are created as RestCall<Long>
+                @SuppressWarnings("unchecked")
+                T written = (T)Long.valueOf(body != null ? this.download.transfer(body) : this.download.bytesTransferred);
+                obj = written;
+            } else if (body != null) {
+                if(ContentType.getOrDefault(body).getMimeType().equals("application/json")) {
+                    obj = (T)readJson(body, typeToken.getType());
                 }
                 else {
-                    obj = (T)EntityUtils.toString(entity);
+                    obj = (T)EntityUtils.toString(body);
                 }
             }
         } finally {
-            response.close();
+            EntityUtils.consumeQuietly(entity);
+
+            if (measurement != null) {
+                measurement.responseRead();
+            }
         }
 
         return obj;
     }
 
+    /**
+     * Wrap a gzip or deflate encoded entity so that it is inflated as it is read.  The blocking client normally
+     * decodes responses itself and removes the header, but the non-blocking client and caller-supplied clients with
+     * content compression disabled do not.
+     */
+    private static HttpEntity decode(HttpEntity entity) {
+        Header encoding = entity != null ? entity.getContentEncoding() : null;
+
+        if (encoding == null) {
+            return entity;
+        }
+
+        String value = encoding.getValue().trim().toLowerCase(Locale.ROOT);
+
+        if (value.equals("gzip") || value.equals("x-gzip")) {
+            return new GzipDecompressingEntity(entity);
+        } else if (value.equals("deflate")) {
+            return new DeflateDecompressingEntity(entity);
+        }
+
+        return entity;
+    }
+
+    /**
+     * Parse a JSON entity straight from its content stream, decoding with the charset it declares (UTF-8 if none).
+     */
+    private static Object readJson(HttpEntity entity, Type type) throws IOException {
+        Charset charset = ContentType.getOrDefault(entity).getCharset();
+        Reader reader = new InputStreamReader(entity.getContent(), charset != null ? charset : Consts.UTF_8);
+
+        try {
+            return JsonSerializer.DeserializeObject(reader, type);
+        } finally {
+            reader.close();
+        }
+    }
+
     private void buildRequest(HttpRequestBase baseRequest) {
         String clientId = String.format("%s; %s; %s; %s; %s", appName, appVersion, "JavaRestClient", "18.10.2.245", machineName);
         baseRequest.setHeader(AvaTaxConstants.XClientHeader, clientId);
     }
+
+    /**
+     * Timings for one execution of this call, reported to the metrics when it finishes.
+     */
+    private class Measurement {
+        private final long start = System.nanoTime();
+        private long timeToFirstByteNanos;
+        private long readStart;
+        private long deserializationNanos;
+        private long responseBytes = -1;
+        private int statusCode;
+        private boolean finished;
+
+        HttpEntity responseReceived(HttpResponse response, HttpEntity entity) {
+            this.readStart = System.nanoTime();
+            this.timeToFirstByteNanos = readStart - start;
+            this.statusCode = response.getStatusLine().getStatusCode();
+
+            if (entity == null) {
+                return null;
+            }
+
+            this.responseBytes = 0;
+
+            return new HttpEntityWrapper(entity) {
+                @Override
+                public InputStream getContent() throws IOException {
+                    return new FilterInputStream(super.getContent()) {
+                        @Override
+                        public int read() throws IOException {
+                            int b = super.read();
+
+                            if (b >= 0) {
+                                responseBytes++;
+                            }
+
+                            return b;
+                        }
+
+                        @Override
+                        public int read(byte[] b, int off, int len) throws IOException {
+                            int n = super.read(b, off, len);
+
+                            if (n > 0) {
+                                responseBytes += n;
+                            }
+
+                            return n;
+                        }
+                    };
+                }
+            };
+        }
+
+        void responseRead() {
+            this.deserializationNanos = System.nanoTime() - readStart;
+        }
+
+        void finish(Throwable error) {
+            if (finished) {
+                return;
+            }
+
+            finished = true;
+            JsonEntity body = request instanceof HttpEntityEnclosingRequestBase && ((HttpEntityEnclosingRequestBase)request).getEntity() instanceof JsonEntity
+                    ? (JsonEntity)((HttpEntityEnclosingRequestBase)request).getEntity()
+                    : null;
+
+            try {
+                metrics.recordCall(new CallSample(method, pathTemplate, statusCode, error, System.nanoTime() - start,
+                        body != null ? body.getWriteNanos() : 0, timeToFirstByteNanos, deserializationNanos,
+                        body != null ? body.getBytesWritten() : -1, responseBytes));
+            } catch (RuntimeException ex) {
+                // A faulty metrics implementation must not fail the API call
+            }
+        }
+    }
+
+    /**
+     * Result of a call sent under a retry policy.  No thread waits on it: attempts run on the non-blocking client or
+     * the policy's hedge threads, and the delays between them on the policy's timer.  Cancelling it aborts every
+     * attempt in flight.
+     */
+    private class ResilientExchange extends BasicFuture<T> {
+        private final RetryPolicy policy;
+        private final boolean idempotent;
+        private final boolean hedged;
+        private final String endpoint;
+        private final List<Attempt> running = new ArrayList<Attempt>();
+        private int attempts;
+
+        ResilientExchange(RetryPolicy policy, FutureCallback<T> callback) {
+            super(callback);
+            this.policy = policy;
+            this.idempotent = policy.isIdempotent(method, pathTemplate);
+            this.hedged = policy.isHedged(method);
+            this.endpoint = method + " " + pathTemplate;
+        }
+
+        Future<T> start() {
+            launch(false);
+            return this;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            abortRunning(null);
+            return cancelled;
+        }
+
+        private void launch(boolean hedge) {
+            final Attempt attempt;
+            boolean first;
+
+            synchronized (this) {
+                if (isDone()) {
+                    return;
+                }
+
+                if (!hedge) {
+                    attempts++;
+                }
+
+                first = attempts == 1 && !hedge;
+                attempt = new Attempt(hedge);
+                running.add(attempt);
+            }
+
+            try {
+                attempt.request = first ? request : copyRequest();
+
+                if (asyncClient != null) {
+                    execute(attempt.request, attempt);
+                } else {
+                    policy.getHedgeExecutor().execute(newTask(new Callable<T>() {
+                        @Override
+                        public T call() throws Exception {
+                            return send(attempt.request);
+                        }
+                    }, attempt));
+                }
+            } catch (RuntimeException ex) {
+                attempt.failed(ex);
+                return;
+            }
+
+            long hedgeDelay = hedged && !hedge ? policy.getHedgeDelay(endpoint) : -1;
+
+            if (hedgeDelay >= 0) {
+                policy.getScheduler().schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        hedge(attempt);
+                    }
+                }, hedgeDelay, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void hedge(Attempt primary) {
+            synchronized (this) {
+                if (isDone() || running.size() != 1 || running.get(0) != primary) {
+                    return;
+                }
+            }
+
+            if (!admitAgain()) {
+                return;
+            }
+
+            policy.hedgeSent();
+            launch(true);
+        }
+
+        private void succeeded(Attempt attempt, T value) {
+            if (completed(value)) {
+                if (hedged) {
+                    policy.recordLatency(endpoint, System.nanoTime() - attempt.start);
+                }
+
+                if (attempt.hedge) {
+                    policy.hedgeWon();
+                }
+            }
+
+            abortRunning(attempt);
+        }
+
+        private void failed(Attempt attempt, final Exception error) {
+            long delay;
+
+            synchronized (this) {
+                running.remove(attempt);
+
+                // While another attempt is still in flight, its outcome decides the call
+                if (isDone() || !running.isEmpty()) {
+                    return;
+                }
+
+                delay = isCircuitOpen() ? -1 : policy.getRetryDelay(attempts, error, idempotent);
+            }
+
+            if (delay < 0) {
+                failed(error);
+                return;
+            }
+
+            try {
+                policy.getScheduler().schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (admitAgain()) {
+                            launch(false);
+                        } else {
+                            ResilientExchange.this.failed(error);
+                        }
+                    }
+                }, delay, TimeUnit.MILLISECONDS);
+            } catch (RuntimeException ex) {
+                failed(error);
+            }
+        }
+
+        /**
+         * Abort every attempt still in flight except the given one.
+         */
+        private void abortRunning(Attempt except) {
+            List<Attempt> aborted;
+
+            synchronized (this) {
+                aborted = new ArrayList<Attempt>(running);
+                running.clear();
+            }
+
+            for (Attempt attempt : aborted) {
+                if (attempt != except && attempt.request != null) {
+                    attempt.request.abort();
+                }
+            }
+        }
+
+        private class Attempt implements FutureCallback<T> {
+            private final boolean hedge;
+            private final long start = System.nanoTime();
+
+            // Set once the attempt has been started
+            private volatile HttpRequestBase request;
+
+            Attempt(boolean hedge) {
+                this.hedge = hedge;
+            }
+
+            @Override
+            public void completed(T value) {
+                succeeded(this, value);
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                ResilientExchange.this.failed(this, ex);
+            }
+
+            @Override
+            public void cancelled() {
+                ResilientExchange.this.failed(this, new CancellationException());
+            }
+        }
+    }
+
+    /**
+     * Writes a response body to a channel a chunk at a time, so that no more than one chunk is held in memory.
+     */
+    private static class Download {
+        private static final int CHUNK_SIZE = 64 * 1024;
+
+        private final WritableByteChannel target;
+        private final TransferListener listener;
+        private long contentLength = -1;
+        private long bytesTransferred;
+
+        Download(WritableByteChannel target, TransferListener listener) {
+            this.target = target;
+            this.listener = listener;
+        }
+
+        /**
+         * Copy a body read from the blocking client.
+         */
+        long transfer(HttpEntity body) throws IOException {
+            this.contentLength = body.getContentLength();
+            ReadableByteChannel source = Channels.newChannel(body.getContent());
+            ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+
+            try {
+                while (source.read(buffer) >= 0) {
+                    buffer.flip();
+                    write(buffer);
+                    buffer.clear();
+                }
+            } finally {
+                source.close();
+            }
+
+            return bytesTransferred;
+        }
+
+        private void write(ByteBuffer buffer) throws IOException {
+            if (!buffer.hasRemaining()) {
+                return;
+            }
+
+            while (buffer.hasRemaining()) {
+                bytesTransferred += target.write(buffer);
+            }
+
+            if (listener != null) {
+                listener.progress(bytesTransferred, contentLength);
+            }
+        }
+
+        /**
+         * Receives a body on the non-blocking client, writing each chunk from the I/O thread as it arrives.  An error
+         * response is kept in memory instead, to be read as an ErrorResult.
+         */
+        class Consumer extends AsyncByteConsumer<HttpResponse> {
+            private HttpResponse response;
+            private ByteArrayOutputStream error;
+
+            Consumer() {
+                super(CHUNK_SIZE);
+            }
+
+            @Override
+            protected void onResponseReceived(HttpResponse response) {
+                this.response = response;
+                int statusCode = response.getStatusLine().getStatusCode();
+
+                if (statusCode != 200 && statusCode != 201) {
+                    this.error = new ByteArrayOutputStream();
+                } else if (response.getEntity() != null) {
+                    contentLength = response.getEntity().getContentLength();
+                }
+            }
+
+            @Override
+            protected void onByteReceived(ByteBuffer buffer, IOControl control) throws IOException {
+                if (error != null) {
+                    byte[] chunk = new byte[buffer.remaining()];
+                    buffer.get(chunk);
+                    error.write(chunk, 0, chunk.length);
+                } else {
+                    write(buffer);
+                }
+            }
+
+            @Override
+            protected HttpResponse buildResult(HttpContext context) {
+                HttpEntity entity = response.getEntity();
+
+                if (error != null && entity != null) {
+                    ByteArrayEntity body = new ByteArrayEntity(error.toByteArray());
+                    body.setContentType(entity.getContentType());
+                    body.setContentEncoding(entity.getContentEncoding());
+                    response.setEntity(body);
+                } else {
+                    response.setEntity(null);
+                }
+
+                return response;
+            }
+        }
+    }
+
+    /**
+     * Result of a non-blocking call; cancelling it also aborts the underlying HTTP exchange.
+     */
+    private static class ExchangeFuture<T> extends BasicFuture<T> {
+        private volatile Future<HttpResponse> exchange;
+
+        ExchangeFuture(FutureCallback<T> callback) {
+            super(callback);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            Future<HttpResponse> exchange = this.exchange;
+
+            if (exchange != null) {
+                exchange.cancel(mayInterruptIfRunning);
+            }
+
+            return super.cancel(mayInterruptIfRunning);
+        }
+    }
 }
@@ -1,19 +1,64 @@
 package net.avalara.avatax.rest.client;
 
 import com.google.gson.reflect.TypeToken;
+import net.avalara.avatax.rest.client.cache.CoalescingCache;
+import net.avalara.avatax.rest.client.metrics.AvaTaxMetrics;
+import org.apache.http.HttpHost;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.DefaultProxyRoutePlanner;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.ManagedNHttpClientConnectionFactory;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.PoolStats;
 
-public class RestCallFactory {
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+public class RestCallFactory implements Closeable {
     private String appName;
     private String appVersion;
     private String machineName;
     private String environmentUrl;
+    private static final String DEFINITIONS_PREFIX = "/api/v2/definitions/";
+
     private String header;
     private String proxyHost;
     private int proxyPort;
     private String proxySchema;
     private HttpClientBuilder httpClientBuilder;
+    private ConnectionPoolSettings connectionPoolSettings = new ConnectionPoolSettings();
+    private volatile PoolingHttpClientConnectionManager connectionManager;
+    private volatile PoolingNHttpClientConnectionManager asyncConnectionManager;
+    private ScheduledExecutorService asyncConnectionEvictor;
+    private volatile CloseableHttpClient httpClient;
+    private volatile CloseableHttpAsyncClient httpAsyncClient;
+    private volatile boolean nonBlocking;
+    private volatile AvaTaxMetrics metrics;
+    private volatile CoalescingCache<String, Object> definitionsCache;
+    private volatile RetryPolicy retryPolicy;
+    private volatile CallLimits callLimits;
+    private volatile boolean compression;
+    private volatile int requestCompressionThreshold = -1;
+    private volatile boolean closed;
 
     public RestCallFactory(String appName, String appVersion, String machineName, String environmentUrl) {
         this.appName = appName;
@@ -38,30 +83,310 @@ public class RestCallFactory {
     }
 
     public <T> RestCall<T> createRestCall(String method, AvaTaxPath path, Object model, TypeToken<T> typeToken) {
-        if (header != null) {
-            if (proxyHost == null) {
-                if (httpClientBuilder == null) {
-                    return new RestCall<T>(appName, appVersion, machineName, environmentUrl, header, method, path, model, typeToken);
-                } else {
-                    return new RestCall<T>(appName, appVersion, machineName, environmentUrl, header, method, path, model, typeToken, httpClientBuilder);
+        RestCall<T> call;
+
+        if (nonBlocking) {
+            call = new RestCall<T>(appName, appVersion, machineName, environmentUrl, header, method, path, model, typeToken, getHttpAsyncClient());
+        } else {
+            call = new RestCall<T>(appName, appVersion, machineName, environmentUrl, header, method, path, model, typeToken, getHttpClient());
+        }
+
+        call.setMetrics(metrics);
+        call.setRetryPolicy(retryPolicy);
+        call.setCallLimits(callLimits);
+
+        if (compression) {
+            call.setCompression(requestCompressionThreshold);
+        }
+
+        CoalescingCache<String, Object> cache = this.definitionsCache;
+
+        if (cache != null && "get".equals(method) && path.getTemplate().startsWith(DEFINITIONS_PREFIX)) {
+            call.setResponseCache(cache);
+        }
+
+        return call;
+    }
+
+    /**
+     * Create a call that writes its response body to the given channel as it arrives, and returns the number of bytes
+     * written, for endpoints that return a file.  On the non-blocking transport the channel is written from an I/O
+     * thread, so it should not block for long.
+     *
+     * @param target Receives the response body; it is not closed
+     * @param listener Notified of progress after every chunk; may be null
+     */
+    public RestCall<Long> createDownloadCall(String method, AvaTaxPath path, Object model, WritableByteChannel target, TransferListener listener) {
+        RestCall<Long> call = createRestCall(method, path, model, new TypeToken<Long>(){});
+        call.setDownload(target, listener);
+        return call;
+    }
+
+    /**
+     * Create a call that sends a multipart body, such as a file upload, in place of a JSON model.
+     *
+     * @param model The request's model, reported with any error; its fields should already be in the entity
+     * @param entity The body to send
+     */
+    public <T> RestCall<T> createUploadCall(String method, AvaTaxPath path, Object model, MultipartEntity entity, TypeToken<T> typeToken) {
+        RestCall<T> call = createRestCall(method, path, model, typeToken);
+        call.setUpload(entity);
+        return call;
+    }
+
+    public void addSecurityHeader(String header) {
+        this.header = header;
+    }
+
+    /**
+     * Replace the connection pool settings.  The pool is created on the first call, so this must be done before then.
+     * Settings are ignored when the factory was given its own HttpClientBuilder.
+     *
+     * @param connectionPoolSettings The pool limits and eviction settings to use
+     */
+    public synchronized void setConnectionPoolSettings(ConnectionPoolSettings connectionPoolSettings) {
+        if (this.httpClient != null || this.httpAsyncClient != null) {
+            throw new IllegalStateException("The connection pool has already been created; configure it before making the first call.");
+        }
+
+        this.connectionPoolSettings = connectionPoolSettings;
+    }
+
+    /**
+     * Send every call created from now on over a non-blocking NIO client, so that any number of asynchronous
+     * calls can be in flight on a handful of I/O threads.  Blocking calls wait on the same client.
+     * The NIO client uses the connection pool settings but not a caller-supplied HttpClientBuilder.
+     *
+     * @param nonBlocking Whether to use the non-blocking client
+     */
+    public void setNonBlocking(boolean nonBlocking) {
+        this.nonBlocking = nonBlocking;
+    }
+
+    /**
+     * Report the timings and outcome of every call created from now on.
+     *
+     * @param metrics The metrics to record to, or null to stop recording
+     */
+    public void setMetrics(AvaTaxMetrics metrics) {
+        this.metrics = metrics;
+
+        CallLimits limits = this.callLimits;
+
+        if (limits != null) {
+            limits.setMetrics(metrics);
+        }
+    }
+
+    /**
+     * Answer GET calls to /api/v2/definitions/ from a cache of earlier responses, keyed by URL.  This reference
+     * data is the same for every account, so one cache may be shared by several factories.
+     *
+     * @param definitionsCache The cache to use, or null to stop caching
+     */
+    public void setDefinitionsCache(CoalescingCache<String, Object> definitionsCache) {
+        this.definitionsCache = definitionsCache;
+    }
+
+    /**
+     * Retry failed calls, and hedge slow reads, as the given policy allows.
+     *
+     * @param retryPolicy The policy for every call created from now on, or null to fail on the first error
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Refuse calls over the given rate limits or to endpoints whose circuit breaker is open, instead of sending them.
+     * Refusals and breaker changes are reported to this factory's metrics.
+     *
+     * @param callLimits The limits for every call created from now on, or null to send every call
+     */
+    public void setCallLimits(CallLimits callLimits) {
+        if (callLimits != null) {
+            callLimits.setMetrics(this.metrics);
+        }
+
+        this.callLimits = callLimits;
+    }
+
+    /**
+     * Ask for gzip or deflate encoded responses on every transport, decoding them as they are read, and gzip large
+     * request bodies.
+     *
+     * @param compression Whether to ask for compressed responses
+     * @param requestThreshold The smallest request body, in bytes of JSON, to gzip; -1 never compresses requests
+     */
+    public void setCompression(boolean compression, int requestThreshold) {
+        this.requestCompressionThreshold = requestThreshold;
+        this.compression = compression;
+    }
+
+    /**
+     * @return A snapshot of the connection pool, or null if the pool has not been created or is managed by a caller-supplied HttpClientBuilder
+     */
+    public PoolStats getConnectionPoolStats() {
+        PoolingHttpClientConnectionManager manager = this.connectionManager;
+
+        if (manager != null) {
+            return manager.getTotalStats();
+        }
+
+        PoolingNHttpClientConnectionManager asyncManager = this.asyncConnectionManager;
+        return asyncManager == null ? null : asyncManager.getTotalStats();
+    }
+
+    /**
+     * Close the shared HTTP client and every pooled connection.  Calls created afterwards will fail.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+
+        try {
+            if (httpClient != null) {
+                httpClient.close();
+            }
+        } finally {
+            if (asyncConnectionEvictor != null) {
+                asyncConnectionEvictor.shutdownNow();
+            }
+
+            if (httpAsyncClient != null) {
+                httpAsyncClient.close();
+            }
+        }
+    }
+
+    private CloseableHttpClient getHttpClient() {
+        CloseableHttpClient client = this.httpClient;
+
+        if (client == null) {
+            synchronized (this) {
+                client = this.httpClient;
+
+                if (client == null) {
+                    if (closed) {
+                        throw new IllegalStateException("This client has been closed.");
+                    }
+
+                    client = buildHttpClient();
+                    this.httpClient = client;
                 }
-            } else {
-                return new RestCall<T>(appName, appVersion, machineName, environmentUrl, header, method, path, model, typeToken, proxyHost, proxyPort, proxySchema);
             }
-        } else {
-            if (proxyHost == null) {
-                if (httpClientBuilder == null) {
-                    return new RestCall<T>(appName, appVersion, machineName, environmentUrl, method, path, model, typeToken);
-                } else {
-                    return new RestCall<T>(appName, appVersion, machineName, environmentUrl, method, path, model, typeToken, httpClientBuilder);
+        }
+
+        return client;
+    }
+
+    private CloseableHttpAsyncClient getHttpAsyncClient() {
+        CloseableHttpAsyncClient client = this.httpAsyncClient;
+
+        if (client == null) {
+            synchronized (this) {
+                client = this.httpAsyncClient;
+
+                if (client == null) {
+                    if (closed) {
+                        throw new IllegalStateException("This client has been closed.");
+                    }
+
+                    client = buildHttpAsyncClient();
+                    client.start();
+                    this.httpAsyncClient = client;
                 }
-            } else {
-                return new RestCall<T>(appName, appVersion, machineName, environmentUrl, method, path, model, typeToken, proxyHost, proxyPort, proxySchema);
             }
         }
+
+        return client;
     }
 
-    public void addSecurityHeader(String header) {
-        this.header = header;
+    private CloseableHttpClient buildHttpClient() {
+        if (httpClientBuilder != null) {
+            return httpClientBuilder.build();
+        }
+
+        ConnectionPoolSettings settings = this.connectionPoolSettings;
+        PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager(settings.getTimeToLiveMillis(), TimeUnit.MILLISECONDS);
+        manager.setMaxTotal(settings.getMaxTotal());
+        manager.setDefaultMaxPerRoute(settings.getMaxPerRoute());
+        manager.setValidateAfterInactivity(settings.getValidateAfterInactivityMillis());
+
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(manager)
+                .evictExpiredConnections();
+
+        if (settings.getIdleTimeoutMillis() > 0) {
+            builder.evictIdleConnections(settings.getIdleTimeoutMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        if (proxyHost != null) {
+            builder.setRoutePlanner(new DefaultProxyRoutePlanner(new HttpHost(proxyHost, proxyPort, proxySchema)));
+        }
+
+        this.connectionManager = manager;
+        return builder.build();
+    }
+
+    private CloseableHttpAsyncClient buildHttpAsyncClient() {
+        ConnectionPoolSettings settings = this.connectionPoolSettings;
+        final PoolingNHttpClientConnectionManager manager;
+
+        try {
+            // The same schemes, resolvers and connections the builder would use, but with the pool's time-to-live
+            manager = new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT),
+                    ManagedNHttpClientConnectionFactory.INSTANCE,
+                    RegistryBuilder.<SchemeIOSessionStrategy>create()
+                            .register("http", NoopIOSessionStrategy.INSTANCE)
+                            .register("https", SSLIOSessionStrategy.getDefaultStrategy())
+                            .build(),
+                    DefaultSchemePortResolver.INSTANCE, SystemDefaultDnsResolver.INSTANCE,
+                    settings.getTimeToLiveMillis(), TimeUnit.MILLISECONDS);
+        } catch (IOReactorException ex) {
+            throw new IllegalStateException("Could not start the non-blocking transport.", ex);
+        }
+
+        manager.setMaxTotal(settings.getMaxTotal());
+        manager.setDefaultMaxPerRoute(settings.getMaxPerRoute());
+
+        HttpAsyncClientBuilder builder = HttpAsyncClients.custom().setConnectionManager(manager);
+
+        if (proxyHost != null) {
+            builder.setProxy(new HttpHost(proxyHost, proxyPort, proxySchema));
+        }
+
+        this.asyncConnectionEvictor = evictConnections(manager, settings.getIdleTimeoutMillis());
+        this.asyncConnectionManager = manager;
+        return builder.build();
+    }
+
+    /**
+     * The non-blocking client has no evictor of its own, so expired and idle connections are closed on a daemon
+     * thread, as often as the blocking client's evictor would.
+     */
+    private static ScheduledExecutorService evictConnections(final PoolingNHttpClientConnectionManager manager, final long idleTimeoutMillis) {
+        ScheduledThreadPoolExecutor evictor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "avatax-connection-evictor");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        long period = idleTimeoutMillis > 0 ? idleTimeoutMillis : 10000;
+
+        evictor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                manager.closeExpiredConnections();
+
+                if (idleTimeoutMillis > 0) {
+                    manager.closeIdleConnections(idleTimeoutMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+
+        return evictor;
     }
 }
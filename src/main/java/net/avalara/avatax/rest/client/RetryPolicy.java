@@ -0,0 +1,347 @@
+package net.avalara.avatax.rest.client;
+
+import net.avalara.avatax.rest.client.metrics.AtomicHistogram;
+import org.apache.http.client.utils.DateUtils;
+import org.apache.http.conn.ConnectTimeoutException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides when a failed call is tried again, and when a slow read is raced against a second request.
+ *
+ * A call is retried after a 429 or 503 response, or an I/O error such as a reset connection, waiting an exponentially
+ * growing, randomly jittered delay between attempts.  A Retry-After header on the response is honored: the call waits
+ * at least that long, or fails at once if the server asks for a longer wait than the policy allows.  Only idempotent
+ * calls are retried after the request may have reached the server, so a transaction is never created twice; by
+ * default these are GET and DELETE calls and CreateOrAdjustTransaction.  A request that failed to connect was never
+ * sent and is retried whatever its method.
+ *
+ * With hedging enabled, a GET that has not answered within the given percentile of its endpoint's recent latency is
+ * sent a second time, and whichever response arrives first is used.  This trades a few percent more reads for a
+ * shorter tail.
+ *
+ * Configure the policy before giving it to a client; one policy may be shared by several clients.
+ *
+ * <pre>
+ * AvaTaxClient client = new AvaTaxClient(...).withRetryPolicy(new RetryPolicy().withMaxAttempts(4).withHedging(95, 50));
+ * </pre>
+ */
+public class RetryPolicy {
+    private static final int HEDGE_MIN_SAMPLES = 20;
+    private static final int HEDGE_WINDOW = 5000;
+
+    private int maxAttempts = 3;
+    private long initialBackoffMillis = 100;
+    private long maxBackoffMillis = 5000;
+    private double jitter = 0.5;
+    private long maxRetryAfterMillis = 30000;
+    private final Set<Integer> retryableStatusCodes = new HashSet<Integer>();
+    private final Set<String> idempotentEndpoints = new HashSet<String>();
+    private double hedgePercentile = -1;
+    private long minHedgeDelayMillis;
+
+    private final ConcurrentMap<String, AtomicHistogram> latencies = new ConcurrentHashMap<String, AtomicHistogram>();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong hedgeCount = new AtomicLong();
+    private final AtomicLong hedgeWinCount = new AtomicLong();
+    private final Random random = new Random();
+    private volatile ScheduledExecutorService scheduler;
+    private volatile ExecutorService hedgeExecutor;
+
+    public RetryPolicy() {
+        retryableStatusCodes.add(429);
+        retryableStatusCodes.add(503);
+        idempotentEndpoints.add("POST /api/v2/transactions/createoradjust");
+    }
+
+    /**
+     * @param maxAttempts The most times to send a call, including the first; 1 disables retries
+     * @return this
+     */
+    public RetryPolicy withMaxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * @param initialBackoffMillis The delay before the first retry; each later retry waits twice as long as the one before
+     * @param maxBackoffMillis The longest delay between attempts
+     * @return this
+     */
+    public RetryPolicy withBackoff(long initialBackoffMillis, long maxBackoffMillis) {
+        if (initialBackoffMillis < 0 || maxBackoffMillis < initialBackoffMillis) {
+            throw new IllegalArgumentException("Backoff must satisfy 0 <= initial <= max");
+        }
+
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        return this;
+    }
+
+    /**
+     * @param jitter The fraction, from 0 to 1, of each delay that is chosen at random, so that many clients failing
+     *               together do not retry together; 1 picks the whole delay at random
+     * @return this
+     */
+    public RetryPolicy withJitter(double jitter) {
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("jitter must be between 0 and 1");
+        }
+
+        this.jitter = jitter;
+        return this;
+    }
+
+    /**
+     * @param maxRetryAfterMillis The longest Retry-After the policy will wait for; a call asked to wait longer fails
+     * @return this
+     */
+    public RetryPolicy withMaxRetryAfter(long maxRetryAfterMillis) {
+        this.maxRetryAfterMillis = maxRetryAfterMillis;
+        return this;
+    }
+
+    /**
+     * @param statusCode An HTTP status, such as 502 or 504, after which idempotent calls are also retried
+     * @return this
+     */
+    public RetryPolicy withRetryableStatus(int statusCode) {
+        this.retryableStatusCodes.add(statusCode);
+        return this;
+    }
+
+    /**
+     * Treat a POST or PUT endpoint as safe to send more than once.
+     *
+     * @param method The HTTP method, e.g. POST
+     * @param pathTemplate The endpoint's path template, e.g. /api/v2/companies/{companyId}/transactions/{transactionCode}/refund
+     * @return this
+     */
+    public RetryPolicy withIdempotentEndpoint(String method, String pathTemplate) {
+        this.idempotentEndpoints.add(method.toUpperCase() + " " + pathTemplate);
+        return this;
+    }
+
+    /**
+     * Send a second request for a GET that is slower than most recent calls to the same endpoint.  Hedging starts
+     * once an endpoint has answered a few calls, and needs a thread per outstanding hedge unless the client uses the
+     * non-blocking transport.
+     *
+     * @param percentile The latency percentile, e.g. 95, after which to hedge
+     * @param minDelayMillis Never hedge a call sooner than this
+     * @return this
+     */
+    public RetryPolicy withHedging(double percentile, long minDelayMillis) {
+        if (percentile <= 0 || percentile >= 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+
+        this.hedgePercentile = percentile;
+        this.minHedgeDelayMillis = minDelayMillis;
+        return this;
+    }
+
+    public int getMaxAttempts() {
+        return this.maxAttempts;
+    }
+
+    /**
+     * @return Attempts made after the first, across every call
+     */
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * @return Second requests sent for slow reads
+     */
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    /**
+     * @return Second requests that answered before the first
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RetryPolicy retries=%d hedges=%d hedgeWins=%d", getRetryCount(), getHedgeCount(), getHedgeWinCount());
+    }
+
+    boolean isIdempotent(String method, String pathTemplate) {
+        return "GET".equals(method) || "DELETE".equals(method) || idempotentEndpoints.contains(method + " " + pathTemplate);
+    }
+
+    boolean isHedged(String method) {
+        return hedgePercentile > 0 && "GET".equals(method);
+    }
+
+    /**
+     * @param attempt The number of the attempt that failed, starting at 1
+     * @param error Why it failed
+     * @param idempotent Whether the call may safely be sent again
+     * @return How long to wait before the next attempt, or -1 if the call should fail with the error
+     */
+    long getRetryDelay(int attempt, Exception error, boolean idempotent) {
+        if (attempt >= maxAttempts) {
+            return -1;
+        }
+
+        long retryAfter = 0;
+
+        if (error instanceof AvaTaxClientException) {
+            AvaTaxClientException apiError = (AvaTaxClientException)error;
+
+            if (!idempotent || !retryableStatusCodes.contains(apiError.getStatusCode())) {
+                return -1;
+            }
+
+            retryAfter = parseRetryAfter(apiError.getRetryAfter());
+
+            if (retryAfter > maxRetryAfterMillis) {
+                return -1;
+            }
+        } else if (error instanceof ConnectException || error instanceof ConnectTimeoutException) {
+            // Nothing was sent, so even a create can be tried again
+        } else if (!(error instanceof IOException) || !idempotent) {
+            return -1;
+        }
+
+        long backoff = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 30));
+        backoff -= (long)(backoff * jitter * random.nextDouble());
+        retryCount.incrementAndGet();
+        return Math.max(backoff, retryAfter);
+    }
+
+    /**
+     * @return How long to wait for a read before hedging it, or -1 if the endpoint has too few samples yet
+     */
+    long getHedgeDelay(String endpoint) {
+        AtomicHistogram histogram = latencies.get(endpoint);
+
+        if (histogram == null || histogram.getCount() < HEDGE_MIN_SAMPLES) {
+            return -1;
+        }
+
+        return Math.max(minHedgeDelayMillis, TimeUnit.NANOSECONDS.toMillis(histogram.getValueAtPercentile(hedgePercentile)));
+    }
+
+    /**
+     * Record how long a successful read took.  Each endpoint's histogram is replaced after a few thousand samples
+     * so that the hedging threshold follows changes in latency.
+     */
+    void recordLatency(String endpoint, long nanos) {
+        AtomicHistogram histogram = latencies.get(endpoint);
+
+        if (histogram == null || histogram.getCount() >= HEDGE_WINDOW) {
+            AtomicHistogram created = new AtomicHistogram();
+            boolean installed = histogram == null
+                    ? latencies.putIfAbsent(endpoint, created) == null
+                    : latencies.replace(endpoint, histogram, created);
+            histogram = installed ? created : latencies.get(endpoint);
+        }
+
+        histogram.record(nanos);
+    }
+
+    void hedgeSent() {
+        hedgeCount.incrementAndGet();
+    }
+
+    void hedgeWon() {
+        hedgeWinCount.incrementAndGet();
+    }
+
+    /**
+     * @return A timer for delayed retries and hedges; its daemon thread exits when idle
+     */
+    ScheduledExecutorService getScheduler() {
+        ScheduledExecutorService scheduler = this.scheduler;
+
+        if (scheduler == null) {
+            synchronized (this) {
+                scheduler = this.scheduler;
+
+                if (scheduler == null) {
+                    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, daemonThreads("avatax-retry"));
+                    executor.setKeepAliveTime(30, TimeUnit.SECONDS);
+                    executor.allowCoreThreadTimeOut(true);
+                    executor.setRemoveOnCancelPolicy(true);
+                    scheduler = executor;
+                    this.scheduler = scheduler;
+                }
+            }
+        }
+
+        return scheduler;
+    }
+
+    /**
+     * @return Threads for the attempts of hedged calls on a blocking client; idle threads exit after a minute
+     */
+    ExecutorService getHedgeExecutor() {
+        ExecutorService executor = this.hedgeExecutor;
+
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.hedgeExecutor;
+
+                if (executor == null) {
+                    executor = Executors.newCachedThreadPool(daemonThreads("avatax-hedge"));
+                    this.hedgeExecutor = executor;
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    /**
+     * @param value A Retry-After header, either a number of seconds or an HTTP date
+     * @return The wait it asks for, or 0 if there is none
+     */
+    static long parseRetryAfter(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return 0;
+        }
+
+        try {
+            return Math.max(0, TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim())));
+        } catch (NumberFormatException ex) {
+            Date date = DateUtils.parseDate(value.trim());
+            return date == null ? 0 : Math.max(0, date.getTime() - System.currentTimeMillis());
+        }
+    }
+
+    private static ThreadFactory daemonThreads(final String name) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, name);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+}
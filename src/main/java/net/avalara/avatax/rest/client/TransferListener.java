@@ -0,0 +1,14 @@
+package net.avalara.avatax.rest.client;
+
+/**
+ * Notified as a streamed download is written to its target, such as to drive a progress bar.
+ *
+ * It is called after every chunk, on the thread doing the transfer, so it should return quickly.
+ */
+public interface TransferListener {
+    /**
+     * @param bytesTransferred The bytes written to the target so far
+     * @param contentLength The size of the whole body in bytes, or -1 if the server did not say
+     */
+    void progress(long bytesTransferred, long contentLength);
+}
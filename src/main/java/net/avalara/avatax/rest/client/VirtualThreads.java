@@ -0,0 +1,46 @@
+package net.avalara.avatax.rest.client;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Creates virtual-thread executors on Java 21 and later.  The SDK is built for Java 7, so the factory method is
+ * looked up by reflection and the SDK still loads on older runtimes.
+ */
+final class VirtualThreads {
+    private static final Method NEW_EXECUTOR = find();
+
+    private VirtualThreads() {
+    }
+
+    static boolean isAvailable() {
+        return NEW_EXECUTOR != null;
+    }
+
+    /**
+     * @return An executor that starts a new virtual thread for every task
+     * @throws UnsupportedOperationException If the runtime has no virtual threads
+     */
+    static ExecutorService newExecutor() {
+        if (NEW_EXECUTOR == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later; this is Java " + System.getProperty("java.version") + ".");
+        }
+
+        try {
+            return (ExecutorService)NEW_EXECUTOR.invoke(null);
+        } catch (Exception ex) {
+            throw new UnsupportedOperationException("Could not create a virtual thread executor.", ex);
+        }
+    }
+
+    private static Method find() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException ex) {
+            return null;
+        } catch (SecurityException ex) {
+            return null;
+        }
+    }
+}
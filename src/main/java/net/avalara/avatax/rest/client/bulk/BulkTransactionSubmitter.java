@@ -0,0 +1,216 @@
+package net.avalara.avatax.rest.client.bulk;
+
+import net.avalara.avatax.rest.client.AvaTaxClient;
+import net.avalara.avatax.rest.client.models.CreateTransactionModel;
+import net.avalara.avatax.rest.client.models.TransactionModel;
+import org.apache.http.concurrent.FutureCallback;
+
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates a large number of transactions with a fixed number of requests in flight.
+ *
+ * Each submission waits while the window is full, so a producer reading models from a file or database is held
+ * back to the speed of the API instead of queueing every model in memory.  The outcome of each transaction is
+ * reported to a listener.  To actually keep more than a few requests in flight, give the client a non-blocking
+ * transport (withNonBlockingTransport) or a thread pool at least as large as the window.
+ *
+ * <pre>
+ * BulkTransactionSubmitter submitter = new BulkTransactionSubmitter(client.withNonBlockingTransport(), 64);
+ * submitter.submitAll(models.iterator(), listener);
+ * System.out.println(submitter);
+ * </pre>
+ */
+public class BulkTransactionSubmitter {
+    /**
+     * Receives the outcome of each transaction.  Methods are called from the client's I/O or pool threads,
+     * possibly several at once, and should return quickly.  An exception thrown by a method is ignored.
+     */
+    public interface Listener {
+        void completed(CreateTransactionModel model, TransactionModel result);
+
+        /**
+         * @param model The transaction that was not created
+         * @param error Usually an AvaTaxClientException carrying the API's error; otherwise the I/O failure
+         */
+        void failed(CreateTransactionModel model, Exception error);
+    }
+
+    private final AvaTaxClient client;
+    private final int maxInFlight;
+    private final Semaphore window;
+    private volatile String include;
+
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong succeededCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong firstSubmitNanos = new AtomicLong();
+    private volatile long lastCompletionNanos;
+
+    /**
+     * @param client The client to create transactions with
+     * @param maxInFlight The most transactions to have in flight at once
+     */
+    public BulkTransactionSubmitter(AvaTaxClient client, int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1");
+        }
+
+        this.client = client;
+        this.maxInFlight = maxInFlight;
+        this.window = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * @param include The objects to include in each created transaction, as for createTransaction
+     * @return this
+     */
+    public BulkTransactionSubmitter withInclude(String include) {
+        this.include = include;
+
+        return this;
+    }
+
+    /**
+     * Submit every model and wait until all of them have completed.
+     *
+     * @param models The transactions to create
+     * @param listener Receives each outcome; may be null if only the counters are wanted
+     */
+    public void submitAll(Iterator<CreateTransactionModel> models, Listener listener) throws InterruptedException {
+        while (models.hasNext()) {
+            submit(models.next(), listener);
+        }
+
+        awaitCompletion();
+    }
+
+    /**
+     * Submit one model, first waiting for room in the window if it is full.
+     *
+     * @param model The transaction to create
+     * @param listener Receives the outcome; may be null
+     */
+    public void submit(final CreateTransactionModel model, final Listener listener) throws InterruptedException {
+        window.acquire();
+        firstSubmitNanos.compareAndSet(0, System.nanoTime());
+        submittedCount.incrementAndGet();
+
+        try {
+            client.createTransactionAsync(include, model, new FutureCallback<TransactionModel>() {
+                @Override
+                public void completed(TransactionModel result) {
+                    succeededCount.incrementAndGet();
+
+                    try {
+                        if (listener != null) {
+                            listener.completed(model, result);
+                        }
+                    } catch (RuntimeException ex) {
+                        // A faulty listener must not reach the client, which would report the call as failed too
+                    } finally {
+                        release();
+                    }
+                }
+
+                @Override
+                public void failed(Exception ex) {
+                    fail(model, ex, listener);
+                }
+
+                @Override
+                public void cancelled() {
+                    fail(model, new CancellationException(), listener);
+                }
+            });
+        } catch (RuntimeException ex) {
+            // The client refused the call, for example because it has been closed
+            fail(model, ex, listener);
+        }
+    }
+
+    /**
+     * Wait until every submitted transaction has completed.
+     */
+    public void awaitCompletion() throws InterruptedException {
+        window.acquire(maxInFlight);
+        window.release(maxInFlight);
+    }
+
+    /**
+     * Wait until every submitted transaction has completed, or the timeout passes.
+     *
+     * @return True if everything completed
+     */
+    public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!window.tryAcquire(maxInFlight, timeout, unit)) {
+            return false;
+        }
+
+        window.release(maxInFlight);
+        return true;
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount.get();
+    }
+
+    public long getSucceededCount() {
+        return succeededCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * @return Transactions submitted but not yet completed
+     */
+    public int getInFlightCount() {
+        return maxInFlight - window.availablePermits();
+    }
+
+    /**
+     * @return Transactions completed per second, from the first submission to the latest completion
+     */
+    public double getThroughput() {
+        long start = firstSubmitNanos.get();
+        long completed = succeededCount.get() + failedCount.get();
+        long elapsed = lastCompletionNanos - start;
+
+        if (start == 0 || completed == 0 || elapsed <= 0) {
+            return 0;
+        }
+
+        return completed * 1e9 / elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BulkTransactionSubmitter submitted=%d succeeded=%d failed=%d inFlight=%d throughput=%.1f/s",
+                getSubmittedCount(), getSucceededCount(), getFailedCount(), getInFlightCount(), getThroughput());
+    }
+
+    private void fail(CreateTransactionModel model, Exception error, Listener listener) {
+        failedCount.incrementAndGet();
+
+        try {
+            if (listener != null) {
+                listener.failed(model, error);
+            }
+        } catch (RuntimeException ex) {
+            // A faulty listener must not stop the window slot being given back
+        } finally {
+            release();
+        }
+    }
+
+    private void release() {
+        lastCompletionNanos = System.nanoTime();
+        window.release();
+    }
+}
@@ -0,0 +1,522 @@
+package net.avalara.avatax.rest.client.bulk;
+
+import net.avalara.avatax.rest.client.AvaTaxClient;
+import net.avalara.avatax.rest.client.AvaTaxClientException;
+import net.avalara.avatax.rest.client.enums.BatchStatus;
+import net.avalara.avatax.rest.client.enums.BatchType;
+import net.avalara.avatax.rest.client.enums.DocumentType;
+import net.avalara.avatax.rest.client.enums.TaxOverrideType;
+import net.avalara.avatax.rest.client.models.AddressLocationInfo;
+import net.avalara.avatax.rest.client.models.AddressesModel;
+import net.avalara.avatax.rest.client.models.BatchFileModel;
+import net.avalara.avatax.rest.client.models.BatchModel;
+import net.avalara.avatax.rest.client.models.CreateTransactionModel;
+import net.avalara.avatax.rest.client.models.LineItemModel;
+import net.avalara.avatax.rest.client.models.TaxOverrideModel;
+import org.apache.commons.codec.binary.Base64;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Imports transactions through the batch service instead of creating them one call at a time.
+ *
+ * Each added transaction is written straight away as rows of a TransactionImport file, one row per line item.
+ * When the file reaches the record or size limit, or the oldest row has waited for the time limit, it is uploaded
+ * with createBatches.  The batch is then polled with getBatch, waiting longer between polls each time, and once it
+ * has finished its result files are downloaded with downloadBatch and given to the listener.  A poll that fails
+ * with a 429, a 5xx or a connection error is tried again at the next interval, up to five times in a row.  Uploads
+ * and polls run on background threads, so adding transactions never waits for the API.
+ *
+ * Transactions with commit set are imported as committed; others are imported uncommitted.  A tax date override,
+ * on the document or a line, is imported as the line's TaxDate.  Document-level discounts and other kinds of tax
+ * override cannot be expressed in the import file, and transactions that use them are rejected by add, as are
+ * transactions without lines.
+ *
+ * <pre>
+ * TransactionBatcher batcher = new TransactionBatcher(client, companyId, listener);
+ * for (CreateTransactionModel model : history) {
+ *     batcher.add(model);
+ * }
+ * batcher.close();
+ * </pre>
+ */
+public class TransactionBatcher implements Closeable {
+    /**
+     * Receives the outcome of each batch.  Methods are called from the batcher's background threads.
+     */
+    public interface Listener {
+        /**
+         * @param batch The batch as last reported by getBatch; its status may be Errors if some rows were rejected
+         * @param results The content of each result file, by file name
+         */
+        void completed(BatchModel batch, Map<String, String> results);
+
+        /**
+         * @param batch The batch as last reported by getBatch, or as createBatches returned it if its status could
+         *              never be read; as it was sent, without an ID, if it could not be created
+         * @param error The failure
+         */
+        void failed(BatchModel batch, Exception error);
+    }
+
+    static final String[] COLUMNS = {
+            "ProcessCode", "DocCode", "DocType", "DocDate", "CompanyCode", "CustomerCode", "EntityUseCode", "LineNo",
+            "TaxCode", "TaxDate", "ItemCode", "Description", "Qty", "Amount", "Discount", "Ref1", "Ref2", "ExemptionNo",
+            "RevAcct", "DestAddress", "DestCity", "DestRegion", "DestPostalCode", "DestCountry", "OrigAddress", "OrigCity",
+            "OrigRegion", "OrigPostalCode", "OrigCountry", "LocationCode", "SalesPersonCode", "PurchaseOrderNo",
+            "CurrencyCode", "ExchangeRate", "ExchangeRateEffDate", "PaymentDate", "TaxIncluded"
+    };
+
+    private static final int PROCESS_UNCOMMITTED = 0;
+    private static final int PROCESS_COMMITTED = 3;
+    private static final String FILE_NAME = "transactions.csv";
+    private static final int MAX_POLL_FAILURES = 5;
+
+    private final AvaTaxClient client;
+    private final Integer companyId;
+    private final Listener listener;
+    private final ScheduledExecutorService scheduler;
+
+    private int maxRecords = 5000;
+    private int maxChars = 5 * 1024 * 1024;
+    private long maxDelayMillis = TimeUnit.MINUTES.toMillis(1);
+    private long initialPollMillis = TimeUnit.SECONDS.toMillis(5);
+    private long maxPollMillis = TimeUnit.MINUTES.toMillis(5);
+
+    private StringBuilder content;
+    private int records;
+    private int batchNumber;
+    private int pending;
+    private ScheduledFuture<?> timer;
+    private boolean closed;
+
+    /**
+     * @param client The client to import with
+     * @param companyId The ID of the company to import into
+     * @param listener Receives the outcome of each batch
+     */
+    public TransactionBatcher(AvaTaxClient client, Integer companyId, Listener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("listener is required");
+        }
+
+        this.client = client;
+        this.companyId = companyId;
+        this.listener = listener;
+
+        // Two threads, so that a slow upload or poll does not hold up the time limit of the next file
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(2, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "avatax-transaction-batcher");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(true);
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @param maxRecords The most rows in one batch file
+     * @param maxChars The largest batch file, in characters
+     * @return this
+     */
+    public TransactionBatcher withBatchSize(int maxRecords, int maxChars) {
+        this.maxRecords = maxRecords;
+        this.maxChars = maxChars;
+
+        return this;
+    }
+
+    /**
+     * @param maxDelay How long a row may wait before its file is uploaded, however small it is
+     * @param unit The unit of maxDelay
+     * @return this
+     */
+    public TransactionBatcher withMaxDelay(long maxDelay, TimeUnit unit) {
+        this.maxDelayMillis = unit.toMillis(maxDelay);
+
+        return this;
+    }
+
+    /**
+     * @param initialInterval The wait before the first status poll; each later wait is twice as long
+     * @param maxInterval The longest wait between polls
+     * @param unit The unit of both intervals
+     * @return this
+     */
+    public TransactionBatcher withPollInterval(long initialInterval, long maxInterval, TimeUnit unit) {
+        this.initialPollMillis = unit.toMillis(initialInterval);
+        this.maxPollMillis = unit.toMillis(maxInterval);
+
+        return this;
+    }
+
+    /**
+     * Write a transaction into the current batch file, uploading the file if it is now full.
+     *
+     * @param model The transaction to import
+     * @throws IllegalArgumentException If the transaction cannot be expressed in a TransactionImport file
+     */
+    public synchronized void add(CreateTransactionModel model) {
+        if (closed) {
+            throw new IllegalStateException("The batcher has been closed.");
+        }
+
+        // Checked before a file is started, so that a rejected transaction never leaves an empty file behind
+        validate(model);
+
+        if (content == null) {
+            final StringBuilder started = new StringBuilder(64 * 1024);
+            appendRow(started, COLUMNS);
+            content = started;
+            timer = scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    synchronized (TransactionBatcher.this) {
+                        // The file may already have been uploaded because it filled up
+                        if (content == started) {
+                            flush();
+                        }
+                    }
+                }
+            }, maxDelayMillis, TimeUnit.MILLISECONDS);
+        }
+
+        records += appendTransaction(content, model);
+
+        if (records >= maxRecords || content.length() >= maxChars) {
+            flush();
+        }
+    }
+
+    /**
+     * Upload the current batch file now, if it has any rows.
+     */
+    public synchronized void flush() {
+        if (content == null) {
+            return;
+        }
+
+        timer.cancel(false);
+
+        if (records == 0) {
+            content = null;
+            return;
+        }
+
+        // The API defines content as bytes, which are carried in JSON as base64
+        byte[] bytes = content.toString().getBytes(StandardCharsets.UTF_8);
+        final BatchFileModel file = new BatchFileModel();
+        file.setName(FILE_NAME);
+        file.setContent(Base64.encodeBase64String(bytes));
+        file.setContentLength(bytes.length);
+        file.setContentType("text/csv");
+        file.setFileExtension("csv");
+
+        final BatchModel batch = new BatchModel();
+        batch.setName("TransactionImport " + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + "-" + (++batchNumber));
+        batch.setType(BatchType.TransactionImport);
+        batch.setFiles(new ArrayList<BatchFileModel>());
+        batch.getFiles().add(file);
+
+        content = null;
+        records = 0;
+        pending++;
+
+        scheduler.execute(new Runnable() {
+            @Override
+            public void run() {
+                upload(batch);
+            }
+        });
+    }
+
+    /**
+     * Upload any remaining rows and wait until every batch has finished and been reported.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            flush();
+            closed = true;
+
+            try {
+                while (pending > 0) {
+                    wait();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for batches to finish.", ex);
+            } finally {
+                scheduler.shutdownNow();
+            }
+        }
+    }
+
+    private void upload(BatchModel batch) {
+        BatchModel created;
+
+        try {
+            ArrayList<BatchModel> request = new ArrayList<BatchModel>();
+            request.add(batch);
+            ArrayList<BatchModel> response = client.createBatches(companyId, request);
+            created = response != null && !response.isEmpty() ? response.get(0) : null;
+
+            if (created == null || created.getId() == null) {
+                throw new IllegalStateException("createBatches did not return the new batch.");
+            }
+        } catch (Exception ex) {
+            finish(batch, null, ex);
+            return;
+        }
+
+        schedulePoll(created, initialPollMillis, 0);
+    }
+
+    private void schedulePoll(final BatchModel batch, final long delayMillis, final int failures) {
+        scheduler.schedule(new Runnable() {
+            @Override
+            public void run() {
+                poll(batch, delayMillis, failures);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param known The batch as last read, which is reported if this poll fails for good
+     * @param failures The number of polls in a row that have failed
+     */
+    private void poll(BatchModel known, long delayMillis, int failures) {
+        Integer batchId = known.getId();
+        long nextDelayMillis = Math.min(delayMillis * 2, maxPollMillis);
+        BatchModel batch = known;
+
+        try {
+            batch = client.getBatch(companyId, batchId);
+
+            if (!isFinished(batch.getStatus())) {
+                schedulePoll(batch, nextDelayMillis, 0);
+                return;
+            }
+
+            if (batch.getStatus() == BatchStatus.Cancelled || batch.getStatus() == BatchStatus.Deleted || batch.getStatus() == BatchStatus.SystemErrors) {
+                throw new IllegalStateException("Batch " + batchId + " ended with status " + batch.getStatus() + ".");
+            }
+
+            Map<String, String> results = new LinkedHashMap<String, String>();
+
+            if (batch.getFiles() != null) {
+                for (BatchFileModel file : batch.getFiles()) {
+                    if (file.getId() != null && !FILE_NAME.equals(file.getName())) {
+                        results.put(file.getName(), client.downloadBatch(companyId, batchId, file.getId()));
+                    }
+                }
+            }
+
+            finish(batch, results, null);
+        } catch (Exception ex) {
+            if (isTransient(ex) && failures + 1 < MAX_POLL_FAILURES) {
+                // The batch itself is unaffected, so read it again later rather than lose track of it
+                schedulePoll(batch, nextDelayMillis, failures + 1);
+            } else {
+                finish(batch, null, ex);
+            }
+        }
+    }
+
+    private static boolean isTransient(Exception error) {
+        if (error instanceof AvaTaxClientException) {
+            int statusCode = ((AvaTaxClientException)error).getStatusCode();
+            return statusCode >= 500 || statusCode == 429;
+        }
+
+        return error instanceof IOException;
+    }
+
+    private void finish(BatchModel batch, Map<String, String> results, Exception error) {
+        try {
+            if (error == null) {
+                listener.completed(batch, results);
+            } else {
+                listener.failed(batch, error);
+            }
+        } finally {
+            synchronized (this) {
+                pending--;
+                notifyAll();
+            }
+        }
+    }
+
+    private static boolean isFinished(BatchStatus status) {
+        return status == BatchStatus.Completed || status == BatchStatus.Errors || status == BatchStatus.SystemErrors
+                || status == BatchStatus.Cancelled || status == BatchStatus.Deleted;
+    }
+
+    /**
+     * Reject a transaction that cannot be written as TransactionImport rows.
+     */
+    static void validate(CreateTransactionModel model) {
+        if (model.getLines() == null || model.getLines().isEmpty()) {
+            throw new IllegalArgumentException("Transaction " + model.getCode() + " has no lines.");
+        }
+
+        DocumentType type = model.getType() != null ? model.getType() : DocumentType.SalesOrder;
+
+        if (type.ordinal() > DocumentType.ReturnInvoice.ordinal()) {
+            throw new IllegalArgumentException("Transaction " + model.getCode() + " is a " + type + ", which a TransactionImport batch cannot import.");
+        }
+
+        if (model.getDiscount() != null && model.getDiscount().signum() != 0) {
+            throw new IllegalArgumentException("Transaction " + model.getCode() + " has a document discount, which a TransactionImport batch cannot express.");
+        }
+
+        validate(model, model.getTaxOverride());
+
+        for (LineItemModel line : model.getLines()) {
+            validate(model, line.getTaxOverride());
+        }
+    }
+
+    private static void validate(CreateTransactionModel model, TaxOverrideModel override) {
+        if (override == null || override.getType() == null || override.getType() == TaxOverrideType.None) {
+            return;
+        }
+
+        if (override.getType() != TaxOverrideType.TaxDate) {
+            throw new IllegalArgumentException("Transaction " + model.getCode() + " has a " + override.getType() + " tax override, which a TransactionImport batch cannot express.");
+        }
+
+        if (override.getTaxDate() == null) {
+            throw new IllegalArgumentException("Transaction " + model.getCode() + " has a TaxDate tax override without a tax date.");
+        }
+    }
+
+    /**
+     * Append one row per line item of a transaction that has passed validate.
+     *
+     * @return The number of rows written
+     */
+    static int appendTransaction(StringBuilder content, CreateTransactionModel model) {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        DocumentType type = model.getType() != null ? model.getType() : DocumentType.SalesOrder;
+        String[] row = new String[COLUMNS.length];
+        int number = 0;
+
+        for (LineItemModel line : model.getLines()) {
+            number++;
+            AddressLocationInfo destination = address(line.getAddresses(), model.getAddresses(), true);
+            AddressLocationInfo origin = address(line.getAddresses(), model.getAddresses(), false);
+
+            int i = 0;
+            row[i++] = String.valueOf(Boolean.TRUE.equals(model.getCommit()) ? PROCESS_COMMITTED : PROCESS_UNCOMMITTED);
+            row[i++] = model.getCode();
+            row[i++] = String.valueOf(type.ordinal());
+            row[i++] = model.getDate() != null ? dateFormat.format(model.getDate()) : null;
+            row[i++] = model.getCompanyCode();
+            row[i++] = model.getCustomerCode();
+            row[i++] = line.getEntityUseCode() != null ? line.getEntityUseCode() : model.getEntityUseCode();
+            row[i++] = line.getNumber() != null ? line.getNumber() : String.valueOf(number);
+            row[i++] = line.getTaxCode();
+            row[i++] = taxDate(line.getTaxOverride() != null ? line.getTaxOverride() : model.getTaxOverride(), dateFormat);
+            row[i++] = line.getItemCode();
+            row[i++] = line.getDescription();
+            row[i++] = plain(line.getQuantity());
+            row[i++] = plain(line.getAmount());
+            row[i++] = null;
+            row[i++] = line.getRef1();
+            row[i++] = line.getRef2();
+            row[i++] = line.getExemptionCode() != null ? line.getExemptionCode() : model.getExemptionNo();
+            row[i++] = line.getRevenueAccount();
+            i = appendAddress(row, i, destination);
+            i = appendAddress(row, i, origin);
+            row[i++] = origin != null ? origin.getLocationCode() : null;
+            row[i++] = model.getSalespersonCode();
+            row[i++] = model.getPurchaseOrderNo();
+            row[i++] = model.getCurrencyCode();
+            row[i++] = plain(model.getExchangeRate());
+            row[i++] = model.getExchangeRateEffectiveDate() != null ? dateFormat.format(model.getExchangeRateEffectiveDate()) : null;
+            // CreateTransactionModel has no payment date, so PaymentDate is always left empty
+            row[i++] = null;
+            row[i] = Boolean.TRUE.equals(line.getTaxIncluded()) ? "1" : null;
+            appendRow(content, row);
+        }
+
+        return number;
+    }
+
+    private static String taxDate(TaxOverrideModel override, SimpleDateFormat dateFormat) {
+        return override != null && override.getType() == TaxOverrideType.TaxDate ? dateFormat.format(override.getTaxDate()) : null;
+    }
+
+    private static int appendAddress(String[] row, int i, AddressLocationInfo address) {
+        row[i++] = address != null ? address.getLine1() : null;
+        row[i++] = address != null ? address.getCity() : null;
+        row[i++] = address != null ? address.getRegion() : null;
+        row[i++] = address != null ? address.getPostalCode() : null;
+        row[i++] = address != null ? address.getCountry() : null;
+        return i;
+    }
+
+    /**
+     * The line's ship-to (or ship-from) address, else the line's single location, else the same from the document.
+     */
+    private static AddressLocationInfo address(AddressesModel line, AddressesModel document, boolean destination) {
+        AddressLocationInfo address = address(line, destination);
+        return address != null ? address : address(document, destination);
+    }
+
+    private static AddressLocationInfo address(AddressesModel addresses, boolean destination) {
+        if (addresses == null) {
+            return null;
+        }
+
+        AddressLocationInfo address = destination ? addresses.getShipTo() : addresses.getShipFrom();
+        return address != null ? address : addresses.getSingleLocation();
+    }
+
+    private static String plain(BigDecimal value) {
+        return value != null ? value.toPlainString() : null;
+    }
+
+    private static void appendRow(StringBuilder content, String[] fields) {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                content.append(',');
+            }
+
+            String field = fields[i];
+
+            if (field == null) {
+                continue;
+            }
+
+            if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0 || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+                content.append('"').append(field.replace("\"", "\"\"")).append('"');
+            } else {
+                content.append(field);
+            }
+        }
+
+        content.append("\r\n");
+    }
+}
@@ -0,0 +1,51 @@
+package net.avalara.avatax.rest.client.cache;
+
+/**
+ * Builds cache keys from address fields, so that addresses differing only in case or spacing share an entry.
+ */
+final class AddressKey {
+    static final char SEPARATOR = '\u001f';
+
+    private final StringBuilder key = new StringBuilder(64);
+
+    AddressKey(char kind) {
+        key.append(kind);
+    }
+
+    /**
+     * Append a field in upper case, with leading and trailing whitespace removed and inner runs reduced to one space.
+     */
+    AddressKey add(Object field) {
+        key.append(SEPARATOR);
+
+        if (field == null) {
+            return this;
+        }
+
+        String value = field.toString();
+        boolean space = false;
+        int start = key.length();
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                space = key.length() > start;
+            } else {
+                if (space) {
+                    key.append(' ');
+                    space = false;
+                }
+
+                key.append(Character.toUpperCase(c));
+            }
+        }
+
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return key.toString();
+    }
+}
@@ -0,0 +1,214 @@
+package net.avalara.avatax.rest.client.cache;
+
+import net.avalara.avatax.rest.client.AvaTaxClient;
+import net.avalara.avatax.rest.client.enums.TextCase;
+import net.avalara.avatax.rest.client.models.AddressResolutionModel;
+import net.avalara.avatax.rest.client.models.AddressValidationInfo;
+import net.avalara.avatax.rest.client.serializer.JsonSerializer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers the results of {@link AvaTaxClient#resolveAddress} and {@link AvaTaxClient#resolveAddressPost}.
+ *
+ * Addresses are compared after folding case and collapsing whitespace, and both methods share one set of entries.
+ * Concurrent lookups of the same address wait for a single API call.  The number of entries is bounded, the least
+ * recently used being evicted first, and entries expire after a fixed time.  Failed lookups are not cached.
+ * Cached models are shared between callers and must not be modified.
+ *
+ * The entries can be saved to a file and loaded into a new cache, so that a restarted process does not begin cold.
+ *
+ * <pre>
+ * AddressResolutionCache addresses = new AddressResolutionCache(client, 50000, 7, TimeUnit.DAYS);
+ * addresses.loadSnapshot(Paths.get("addresses.snapshot"));
+ * ...
+ * addresses.saveSnapshot(Paths.get("addresses.snapshot"));
+ * </pre>
+ */
+public class AddressResolutionCache {
+    private static final String SNAPSHOT_HEADER = "#avatax-address-resolution-cache 2";
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private final AvaTaxClient client;
+    private final CoalescingCache<String, AddressResolutionModel> cache;
+
+    /**
+     * @param client The client to resolve addresses with
+     * @param maximumSize The most addresses to remember
+     * @param ttl How long a result is kept
+     * @param unit The unit of ttl
+     */
+    public AddressResolutionCache(AvaTaxClient client, int maximumSize, long ttl, TimeUnit unit) {
+        this.client = client;
+        this.cache = new CoalescingCache<String, AddressResolutionModel>(maximumSize, ttl, 0, unit);
+    }
+
+    /**
+     * The cached equivalent of {@link AvaTaxClient#resolveAddress}.
+     *
+     * @param line1 Line 1
+     * @param line2 Line 2
+     * @param line3 Line 3
+     * @param city City
+     * @param region State / Province / Region
+     * @param postalCode Postal Code / Zip Code
+     * @param country Two character ISO 3166 Country Code
+     * @param textCase selectable text case for address validation
+     * @return The resolved address
+     */
+    public AddressResolutionModel resolveAddress(final String line1, final String line2, final String line3, final String city,
+                                                 final String region, final String postalCode, final String country,
+                                                 final TextCase textCase) throws Exception {
+        String key = key(line1, line2, line3, city, region, postalCode, country, textCase, null, null);
+
+        return cache.get(key, new CoalescingCache.Loader<String, AddressResolutionModel>() {
+            @Override
+            public AddressResolutionModel load(String key) throws Exception {
+                return client.resolveAddress(line1, line2, line3, city, region, postalCode, country, textCase);
+            }
+        });
+    }
+
+    /**
+     * The cached equivalent of {@link AvaTaxClient#resolveAddressPost}.
+     *
+     * @param model The address to resolve
+     * @return The resolved address
+     */
+    public AddressResolutionModel resolveAddressPost(final AddressValidationInfo model) throws Exception {
+        String key = key(model.getLine1(), model.getLine2(), model.getLine3(), model.getCity(), model.getRegion(),
+                model.getPostalCode(), model.getCountry(), model.getTextCase(), model.getLatitude(), model.getLongitude());
+
+        return cache.get(key, new CoalescingCache.Loader<String, AddressResolutionModel>() {
+            @Override
+            public AddressResolutionModel load(String key) throws Exception {
+                return client.resolveAddressPost(model);
+            }
+        });
+    }
+
+    /**
+     * Write every unexpired entry to a file, with the time it was loaded, replacing the file.  The file is written
+     * beside the target and then moved into place, so a reader never sees a partial snapshot.
+     *
+     * @param file The file to write
+     * @return The number of entries written
+     */
+    public int saveSnapshot(Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        int count = 0;
+        BufferedWriter writer = Files.newBufferedWriter(temporary, UTF8);
+
+        try {
+            writer.write(SNAPSHOT_HEADER);
+            writer.newLine();
+
+            Map<String, Long> loadTimes = cache.loadTimes();
+
+            for (Map.Entry<String, AddressResolutionModel> entry : cache.asMap().entrySet()) {
+                Long loadedAt = loadTimes.get(entry.getKey());
+
+                // Loaded since the load times were read; the next snapshot will include it
+                if (loadedAt == null) {
+                    continue;
+                }
+
+                writer.write(entry.getKey());
+                writer.write('\t');
+                writer.write(loadedAt.toString());
+                writer.write('\t');
+                JsonSerializer.SerializeObject(entry.getValue(), writer);
+                writer.newLine();
+                count++;
+            }
+        } finally {
+            writer.close();
+        }
+
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        return count;
+    }
+
+    /**
+     * Add the entries of a snapshot to this cache.  Each entry keeps the time it was first loaded, so it expires when
+     * it would have in the process that saved it, and entries that have expired since are skipped; otherwise a
+     * process that restarts more often than the time-to-live would keep the same results forever.  A missing file,
+     * or one saved by an earlier version without load times, is not an error, and unreadable lines are skipped, since
+     * a snapshot only saves API calls.
+     *
+     * @param file The file written by {@link #saveSnapshot(Path)}
+     * @return The number of entries loaded
+     */
+    public int loadSnapshot(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+
+        int count = 0;
+        BufferedReader reader = Files.newBufferedReader(file, UTF8);
+
+        try {
+            if (!SNAPSHOT_HEADER.equals(reader.readLine())) {
+                return 0;
+            }
+
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                int tab = line.indexOf('\t');
+                int secondTab = tab > 0 ? line.indexOf('\t', tab + 1) : -1;
+
+                if (secondTab < 0) {
+                    continue;
+                }
+
+                try {
+                    long loadedAt = Long.parseLong(line.substring(tab + 1, secondTab));
+                    AddressResolutionModel model = (AddressResolutionModel)JsonSerializer.DeserializeObject(line.substring(secondTab + 1), AddressResolutionModel.class);
+
+                    if (model != null && cache.put(line.substring(0, tab), model, loadedAt)) {
+                        count++;
+                    }
+                } catch (RuntimeException ex) {
+                    // Skip entries that no longer parse, such as those written by an incompatible model version
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        return count;
+    }
+
+    /**
+     * @return The underlying cache, for its statistics or to invalidate it
+     */
+    public CoalescingCache<String, AddressResolutionModel> getCache() {
+        return this.cache;
+    }
+
+    @Override
+    public String toString() {
+        return "AddressResolutionCache " + cache;
+    }
+
+    private static String key(String line1, String line2, String line3, String city, String region, String postalCode,
+                              String country, TextCase textCase, Object latitude, Object longitude) {
+        return new AddressKey('R').add(line1).add(line2).add(line3).add(city).add(region).add(postalCode).add(country)
+                .add(textCase).add(latitude).add(longitude).toString();
+    }
+}
@@ -0,0 +1,457 @@
+package net.avalara.avatax.rest.client.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A size-bounded, least-recently-used cache whose entries expire after a fixed time, and which loads each missing
+ * key at most once no matter how many threads ask for it at the same moment.
+ *
+ * An entry is fresh for {@code ttl} after it was loaded.  For a further {@code staleWindow} it is still returned
+ * straight away, but the first read in that window also starts a single background reload; readers keep getting
+ * the old value until the reload succeeds.  After that the entry has expired and the next read waits for a load.
+ * Failed loads are not cached: every caller waiting on the load receives the exception, and a failed background
+ * reload leaves the stale value in place.
+ *
+ * Entries are spread over up to 16 independently locked segments, each with its own least-recently-used order, so
+ * that concurrent reads of different keys rarely wait for each other.  A cache of fewer than 128 entries has a
+ * single segment and so an exact LRU order; a larger one evicts the least recently used entry of the segment that
+ * grew too large, which approximates LRU across the whole cache.
+ *
+ * Cached values are shared between all callers, so they must be treated as read-only.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public class CoalescingCache<K, V> {
+    /**
+     * Loads the value for a key on a cache miss.
+     */
+    public interface Loader<K, V> {
+        V load(K key) throws Exception;
+    }
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 64;
+    private static final int REFRESH_THREADS = 2;
+    private static final int REFRESH_QUEUE_SIZE = 1000;
+
+    private static volatile Executor sharedRefreshExecutor;
+
+    private final long ttlNanos;
+    private final long staleNanos;
+    private final Executor refreshExecutor;
+    private final Segment<K, V>[] segments;
+    private final ConcurrentMap<K, FutureTask<V>> loading = new ConcurrentHashMap<K, FutureTask<V>>();
+    private final ConcurrentMap<K, Boolean> refreshing = new ConcurrentHashMap<K, Boolean>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong staleHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong loadFailureCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * @param maximumSize The most entries to keep; the least recently used entry is evicted beyond this
+     * @param ttl How long a loaded value is fresh
+     * @param staleWindow How long after that a value may still be served while it is reloaded in the background; zero disables
+     * @param unit The unit of ttl and staleWindow
+     */
+    public CoalescingCache(int maximumSize, long ttl, long staleWindow, TimeUnit unit) {
+        this(maximumSize, ttl, staleWindow, unit, null);
+    }
+
+    /**
+     * @param maximumSize The most entries to keep; the least recently used entry is evicted beyond this
+     * @param ttl How long a loaded value is fresh
+     * @param staleWindow How long after that a value may still be served while it is reloaded in the background; zero disables
+     * @param unit The unit of ttl and staleWindow
+     * @param refreshExecutor Runs background reloads; if null, they run on two daemon threads shared by every cache
+     */
+    @SuppressWarnings("unchecked")
+    public CoalescingCache(int maximumSize, long ttl, long staleWindow, TimeUnit unit, Executor refreshExecutor) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1");
+        }
+
+        if (ttl <= 0 || staleWindow < 0) {
+            throw new IllegalArgumentException("ttl must be positive and staleWindow must not be negative");
+        }
+
+        this.ttlNanos = unit.toNanos(ttl);
+        this.staleNanos = unit.toNanos(staleWindow);
+        this.refreshExecutor = refreshExecutor != null ? refreshExecutor : sharedRefreshExecutor();
+
+        // A power of two, so that a key's segment is picked with a mask
+        int segmentCount = 1;
+
+        while (segmentCount * 2 <= MAX_SEGMENTS && segmentCount * 2 * MIN_SEGMENT_SIZE <= maximumSize) {
+            segmentCount *= 2;
+        }
+
+        this.segments = (Segment<K, V>[])new Segment<?, ?>[segmentCount];
+
+        for (int i = 0; i < segmentCount; i++) {
+            // Spread the remainder so that the segments add up to exactly maximumSize
+            this.segments[i] = new Segment<K, V>(maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0));
+        }
+    }
+
+    /**
+     * Return the cached value for a key, loading it if it is missing or expired.
+     *
+     * @param key The key
+     * @param loader Loads the value on a miss; only one load per key runs at a time
+     * @return The value
+     * @throws Exception Whatever the loader threw
+     */
+    public V get(K key, Loader<K, V> loader) throws Exception {
+        long now = System.nanoTime();
+        Entry<V> entry = lookup(key);
+
+        if (entry != null) {
+            long age = now - entry.loadedAt;
+
+            if (age < ttlNanos) {
+                hitCount.incrementAndGet();
+                return entry.value;
+            }
+
+            if (age < ttlNanos + staleNanos) {
+                staleHitCount.incrementAndGet();
+                refresh(key, loader);
+                return entry.value;
+            }
+        }
+
+        missCount.incrementAndGet();
+        return await(load(key, loader));
+    }
+
+    /**
+     * @param key The key
+     * @return The cached value if it is fresh or within its stale window, otherwise null; never loads
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = lookup(key);
+
+        if (entry == null || System.nanoTime() - entry.loadedAt >= ttlNanos + staleNanos) {
+            return null;
+        }
+
+        return entry.value;
+    }
+
+    public void put(K key, V value) {
+        store(key, new Entry<V>(value, System.nanoTime()));
+    }
+
+    /**
+     * Add a value that was loaded earlier, such as one restored from a file, so that it expires when it would have.
+     *
+     * @param loadedAt When the value was loaded, in milliseconds since the epoch
+     * @return False if the value has already expired, in which case it is not added
+     */
+    boolean put(K key, V value, long loadedAt) {
+        long age = TimeUnit.MILLISECONDS.toNanos(Math.max(0, System.currentTimeMillis() - loadedAt));
+
+        if (age >= ttlNanos + staleNanos) {
+            return false;
+        }
+
+        store(key, new Entry<V>(value, System.nanoTime() - age));
+        return true;
+    }
+
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentFor(key);
+
+        synchronized (segment) {
+            segment.entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * @return A copy of every entry that has not expired, most recently used last within each segment
+     */
+    public Map<K, V> asMap() {
+        long now = System.nanoTime();
+        Map<K, V> copy = new LinkedHashMap<K, V>();
+
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                for (Map.Entry<K, Entry<V>> entry : segment.entries.entrySet()) {
+                    if (now - entry.getValue().loadedAt < ttlNanos + staleNanos) {
+                        copy.put(entry.getKey(), entry.getValue().value);
+                    }
+                }
+            }
+        }
+
+        return copy;
+    }
+
+    /**
+     * @return When each entry that has not expired was loaded, in milliseconds since the epoch
+     */
+    Map<K, Long> loadTimes() {
+        long now = System.nanoTime();
+        long wallNow = System.currentTimeMillis();
+        Map<K, Long> times = new LinkedHashMap<K, Long>();
+
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                for (Map.Entry<K, Entry<V>> entry : segment.entries.entrySet()) {
+                    long age = now - entry.getValue().loadedAt;
+
+                    if (age < ttlNanos + staleNanos) {
+                        times.put(entry.getKey(), wallNow - TimeUnit.NANOSECONDS.toMillis(age));
+                    }
+                }
+            }
+        }
+
+        return times;
+    }
+
+    /**
+     * @return Reads answered with a fresh value
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return Reads answered with a stale value while it was reloaded
+     */
+    public long getStaleHitCount() {
+        return staleHitCount.get();
+    }
+
+    /**
+     * @return Reads that had to wait for a load, including those that shared another caller's load
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return Loads actually started, in the foreground or background
+     */
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    public long getLoadFailureCount() {
+        return loadFailureCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CoalescingCache size=%d hits=%d staleHits=%d misses=%d loads=%d failures=%d evictions=%d",
+                size(), getHitCount(), getStaleHitCount(), getMissCount(), getLoadCount(), getLoadFailureCount(), getEvictionCount());
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    private Entry<V> lookup(K key) {
+        Segment<K, V> segment = segmentFor(key);
+
+        synchronized (segment) {
+            return segment.entries.get(key);
+        }
+    }
+
+    private void store(K key, Entry<V> entry) {
+        Segment<K, V> segment = segmentFor(key);
+        int evicted = 0;
+
+        synchronized (segment) {
+            segment.entries.put(key, entry);
+
+            while (segment.entries.size() > segment.maximumSize) {
+                segment.entries.remove(segment.entries.keySet().iterator().next());
+                evicted++;
+            }
+        }
+
+        if (evicted > 0) {
+            evictionCount.addAndGet(evicted);
+        }
+    }
+
+    /**
+     * Start loading a key unless a load is already running, and return the running load.
+     */
+    private FutureTask<V> load(final K key, final Loader<K, V> loader) {
+        FutureTask<V> task = loading.get(key);
+
+        if (task != null) {
+            return task;
+        }
+
+        FutureTask<V> created = new FutureTask<V>(new Callable<V>() {
+            @Override
+            public V call() throws Exception {
+                loadCount.incrementAndGet();
+
+                try {
+                    V value = loader.load(key);
+                    store(key, new Entry<V>(value, System.nanoTime()));
+                    return value;
+                } catch (Exception ex) {
+                    loadFailureCount.incrementAndGet();
+                    throw ex;
+                }
+            }
+        }) {
+            @Override
+            protected void done() {
+                loading.remove(key, this);
+            }
+        };
+
+        task = loading.putIfAbsent(key, created);
+
+        if (task != null) {
+            return task;
+        }
+
+        // The thread that registered the load runs it; everyone else waits on the same task
+        created.run();
+        return created;
+    }
+
+    private void refresh(final K key, final Loader<K, V> loader) {
+        // At most one reload of a key is queued or running, however many readers see it stale
+        if (loading.containsKey(key) || refreshing.putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+
+        Runnable reload = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    load(key, loader);
+                } finally {
+                    refreshing.remove(key);
+                }
+            }
+        };
+
+        try {
+            refreshExecutor.execute(reload);
+        } catch (RejectedExecutionException ex) {
+            // The refresh threads are saturated; the stale value is served and a later read tries again
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * @return The executor for background reloads of caches not given one: two daemon threads, which exit when idle,
+     * and a bounded queue
+     */
+    private static Executor sharedRefreshExecutor() {
+        Executor executor = sharedRefreshExecutor;
+
+        if (executor == null) {
+            synchronized (CoalescingCache.class) {
+                executor = sharedRefreshExecutor;
+
+                if (executor == null) {
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS, 30, TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<Runnable>(REFRESH_QUEUE_SIZE), new ThreadFactory() {
+                                @Override
+                                public Thread newThread(Runnable r) {
+                                    Thread thread = new Thread(r, "avatax-cache-refresh");
+                                    thread.setDaemon(true);
+                                    return thread;
+                                }
+                            });
+                    pool.allowCoreThreadTimeOut(true);
+                    executor = pool;
+                    sharedRefreshExecutor = executor;
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    private static <V> V await(FutureTask<V> task) throws Exception {
+        try {
+            return task.get();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+
+            if (cause instanceof Exception) {
+                throw (Exception)cause;
+            }
+
+            throw ex;
+        }
+    }
+
+    /**
+     * A share of the entries, in least recently used order, guarded by its own monitor.
+     */
+    private static class Segment<K, V> {
+        private final int maximumSize;
+        private final LinkedHashMap<K, Entry<V>> entries;
+
+        Segment(int maximumSize) {
+            this.maximumSize = maximumSize;
+            this.entries = new LinkedHashMap<K, Entry<V>>(Math.min(maximumSize, 1024) * 4 / 3 + 1, 0.75f, true);
+        }
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+
+        Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package net.avalara.avatax.rest.client.cache;
+
+import net.avalara.avatax.rest.client.AvaTaxClient;
+import net.avalara.avatax.rest.client.models.TaxRateModel;
+
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers the results of {@link AvaTaxClient#taxRatesByAddress} and {@link AvaTaxClient#taxRatesByPostalCode}
+ * for storefronts that look up the same addresses again and again.
+ *
+ * Addresses are compared after folding case and collapsing whitespace, so "123 Main St" and " 123  MAIN ST" share
+ * an entry.  Entries expire after a fixed time and also at midnight in the given time zone, when new rates may take
+ * effect.  Concurrent lookups of the same address share one API call, and the number of entries is bounded.
+ * Failed lookups are not cached.  Cached models are shared between callers and must not be modified.
+ *
+ * <pre>
+ * TaxRateCache rates = new TaxRateCache(client, 10000, 1, TimeUnit.HOURS);
+ * TaxRateModel model = rates.taxRatesByAddress("100 Ravine Lane", null, null, "Bainbridge Island", "WA", "98110", "US");
+ * </pre>
+ */
+public class TaxRateCache {
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private final AvaTaxClient client;
+    private final CoalescingCache<String, TaxRateModel> cache;
+    private final TimeZone boundaryZone;
+
+    /**
+     * Create a cache whose entries also expire at midnight in the JVM's default time zone.
+     *
+     * @param client The client to look rates up with
+     * @param maximumSize The most addresses to remember
+     * @param ttl How long a result is kept
+     * @param unit The unit of ttl
+     */
+    public TaxRateCache(AvaTaxClient client, int maximumSize, long ttl, TimeUnit unit) {
+        this(client, maximumSize, ttl, unit, TimeZone.getDefault());
+    }
+
+    /**
+     * @param client The client to look rates up with
+     * @param maximumSize The most addresses to remember
+     * @param ttl How long a result is kept
+     * @param unit The unit of ttl
+     * @param boundaryZone The time zone whose midnight starts a new effective date
+     */
+    public TaxRateCache(AvaTaxClient client, int maximumSize, long ttl, TimeUnit unit, TimeZone boundaryZone) {
+        this.client = client;
+        this.cache = new CoalescingCache<String, TaxRateModel>(maximumSize, ttl, 0, unit);
+        this.boundaryZone = boundaryZone;
+    }
+
+    /**
+     * The cached equivalent of {@link AvaTaxClient#taxRatesByAddress}.
+     *
+     * @param line1 The street address of the location
+     * @param line2 The street address of the location
+     * @param line3 The street address of the location
+     * @param city The city name of the location
+     * @param region Name or ISO 3166 code identifying the region within the country
+     * @param postalCode The postal code of the location
+     * @param country Name or ISO 3166 code identifying the country
+     * @return The rates
+     */
+    public TaxRateModel taxRatesByAddress(final String line1, final String line2, final String line3, final String city,
+                                          final String region, final String postalCode, final String country) throws Exception {
+        String key = key('A').add(line1).add(line2).add(line3).add(city).add(region).add(postalCode).add(country).toString();
+
+        return cache.get(key, new CoalescingCache.Loader<String, TaxRateModel>() {
+            @Override
+            public TaxRateModel load(String key) throws Exception {
+                return client.taxRatesByAddress(line1, line2, line3, city, region, postalCode, country);
+            }
+        });
+    }
+
+    /**
+     * The cached equivalent of {@link AvaTaxClient#taxRatesByPostalCode}.
+     *
+     * @param country Name or ISO 3166 code identifying the country
+     * @param postalCode The postal code of the location
+     * @return The rates
+     */
+    public TaxRateModel taxRatesByPostalCode(final String country, final String postalCode) throws Exception {
+        String key = key('P').add(country).add(postalCode).toString();
+
+        return cache.get(key, new CoalescingCache.Loader<String, TaxRateModel>() {
+            @Override
+            public TaxRateModel load(String key) throws Exception {
+                return client.taxRatesByPostalCode(country, postalCode);
+            }
+        });
+    }
+
+    /**
+     * @return The underlying cache, for its statistics or to invalidate it
+     */
+    public CoalescingCache<String, TaxRateModel> getCache() {
+        return this.cache;
+    }
+
+    @Override
+    public String toString() {
+        return "TaxRateCache " + cache;
+    }
+
+    /**
+     * Start the key of a lookup with its kind and today's date in the boundary time zone.  Including the date means
+     * an entry is never used after the day it was loaded on; old entries are evicted as the cache fills.
+     */
+    private AddressKey key(char kind) {
+        return key(kind, System.currentTimeMillis());
+    }
+
+    AddressKey key(char kind, long now) {
+        long day = (now + boundaryZone.getOffset(now)) / DAY_MILLIS;
+        return new AddressKey(kind).add(day);
+    }
+}
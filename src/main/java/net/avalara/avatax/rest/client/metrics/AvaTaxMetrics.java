@@ -0,0 +1,40 @@
+package net.avalara.avatax.rest.client.metrics;
+
+/**
+ * Receives a measurement for every API call made through an AvaTaxClient.
+ *
+ * This is an abstract class rather than an interface so that hooks added in later versions can come with a no-op
+ * default; override only what you need.  Implementations are called on the thread that finished the call, which
+ * may be an I/O thread, so they must be thread-safe and must not block.
+ *
+ * @see HistogramMetrics
+ * @see DropwizardMetrics
+ */
+public abstract class AvaTaxMetrics {
+    /**
+     * Called once per call, after the response has been read or the call has failed.
+     *
+     * @param sample The measurements for the call
+     */
+    public void recordCall(CallSample sample) {
+    }
+
+    /**
+     * Called when the client's CallLimits refuse a call, which is then not sent.
+     *
+     * @param method The HTTP method, e.g. POST
+     * @param pathTemplate The endpoint's path template
+     * @param reason RateLimited or CircuitOpen
+     */
+    public void recordRejection(String method, String pathTemplate, String reason) {
+    }
+
+    /**
+     * Called when an endpoint's circuit breaker changes state.
+     *
+     * @param pathTemplate The endpoint's path template
+     * @param state The new state: Closed, Open or HalfOpen
+     */
+    public void recordCircuitStateChange(String pathTemplate, String state) {
+    }
+}
@@ -0,0 +1,112 @@
+package net.avalara.avatax.rest.client.metrics;
+
+/**
+ * The measurements taken for one API call.  All durations are in nanoseconds, measured from the start of the call.
+ */
+public class CallSample {
+    private final String method;
+    private final String pathTemplate;
+    private final int statusCode;
+    private final Throwable error;
+    private final long totalNanos;
+    private final long serializationNanos;
+    private final long timeToFirstByteNanos;
+    private final long deserializationNanos;
+    private final long requestBytes;
+    private final long responseBytes;
+
+    public CallSample(String method, String pathTemplate, int statusCode, Throwable error, long totalNanos, long serializationNanos,
+                      long timeToFirstByteNanos, long deserializationNanos, long requestBytes, long responseBytes) {
+        this.method = method;
+        this.pathTemplate = pathTemplate;
+        this.statusCode = statusCode;
+        this.error = error;
+        this.totalNanos = totalNanos;
+        this.serializationNanos = serializationNanos;
+        this.timeToFirstByteNanos = timeToFirstByteNanos;
+        this.deserializationNanos = deserializationNanos;
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+    }
+
+    /**
+     * @return The HTTP method in upper case, e.g. POST
+     */
+    public String getMethod() {
+        return this.method;
+    }
+
+    /**
+     * @return The endpoint's path before fields were applied, e.g. /api/v2/companies/{companyId}/transactions
+     */
+    public String getPathTemplate() {
+        return this.pathTemplate;
+    }
+
+    /**
+     * @return A key identifying the endpoint, e.g. "POST /api/v2/transactions/create"
+     */
+    public String getEndpoint() {
+        return this.method + " " + this.pathTemplate;
+    }
+
+    /**
+     * @return The HTTP status code, or 0 if no response was received
+     */
+    public int getStatusCode() {
+        return this.statusCode;
+    }
+
+    /**
+     * @return The exception the call failed with, or null if it succeeded
+     */
+    public Throwable getError() {
+        return this.error;
+    }
+
+    public boolean isSuccess() {
+        return this.error == null;
+    }
+
+    /**
+     * @return The time from the start of the call until its result or error was available
+     */
+    public long getTotalNanos() {
+        return this.totalNanos;
+    }
+
+    /**
+     * @return The time spent serializing the request body and writing it to the connection, or 0 if there was none
+     */
+    public long getSerializationNanos() {
+        return this.serializationNanos;
+    }
+
+    /**
+     * @return The time until the response status and headers arrived; on the non-blocking transport, until the whole response arrived
+     */
+    public long getTimeToFirstByteNanos() {
+        return this.timeToFirstByteNanos;
+    }
+
+    /**
+     * @return The time spent reading and parsing the response body
+     */
+    public long getDeserializationNanos() {
+        return this.deserializationNanos;
+    }
+
+    /**
+     * @return The size of the request body, or -1 if there was none
+     */
+    public long getRequestBytes() {
+        return this.requestBytes;
+    }
+
+    /**
+     * @return The number of response body bytes read, or -1 if no body was read
+     */
+    public long getResponseBytes() {
+        return this.responseBytes;
+    }
+}
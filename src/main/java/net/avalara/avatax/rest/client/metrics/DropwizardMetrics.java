@@ -0,0 +1,64 @@
+package net.avalara.avatax.rest.client.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes call measurements to a Dropwizard Metrics registry.
+ *
+ * For each endpoint, named prefix.METHOD./path/template, this maintains the timers total, serialization,
+ * timeToFirstByte and deserialization, the histograms requestBytes and responseBytes, the meter errors and one
+ * meter per status code, status.NNN, and one meter per reason calls were refused by CallLimits, rejected.REASON.
+ * Each circuit breaker change marks the meter prefix.circuit./path/template.STATE.  metrics-core is an optional
+ * dependency of the SDK; add it to your own build to use this class.
+ */
+public class DropwizardMetrics extends AvaTaxMetrics {
+    private final MetricRegistry registry;
+    private final String prefix;
+
+    public DropwizardMetrics(MetricRegistry registry) {
+        this(registry, "avatax");
+    }
+
+    public DropwizardMetrics(MetricRegistry registry, String prefix) {
+        this.registry = registry;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public void recordCall(CallSample sample) {
+        String base = MetricRegistry.name(prefix, sample.getMethod(), sample.getPathTemplate());
+
+        registry.timer(MetricRegistry.name(base, "total")).update(sample.getTotalNanos(), TimeUnit.NANOSECONDS);
+        registry.meter(MetricRegistry.name(base, "status", Integer.toString(sample.getStatusCode()))).mark();
+
+        if (!sample.isSuccess()) {
+            registry.meter(MetricRegistry.name(base, "errors")).mark();
+        }
+
+        if (sample.getTimeToFirstByteNanos() > 0) {
+            registry.timer(MetricRegistry.name(base, "timeToFirstByte")).update(sample.getTimeToFirstByteNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        if (sample.getRequestBytes() >= 0) {
+            registry.timer(MetricRegistry.name(base, "serialization")).update(sample.getSerializationNanos(), TimeUnit.NANOSECONDS);
+            registry.histogram(MetricRegistry.name(base, "requestBytes")).update(sample.getRequestBytes());
+        }
+
+        if (sample.getResponseBytes() >= 0) {
+            registry.timer(MetricRegistry.name(base, "deserialization")).update(sample.getDeserializationNanos(), TimeUnit.NANOSECONDS);
+            registry.histogram(MetricRegistry.name(base, "responseBytes")).update(sample.getResponseBytes());
+        }
+    }
+
+    @Override
+    public void recordRejection(String method, String pathTemplate, String reason) {
+        registry.meter(MetricRegistry.name(prefix, method.toUpperCase(), pathTemplate, "rejected", reason)).mark();
+    }
+
+    @Override
+    public void recordCircuitStateChange(String pathTemplate, String state) {
+        registry.meter(MetricRegistry.name(prefix, "circuit", pathTemplate, state)).mark();
+    }
+}
@@ -0,0 +1,138 @@
+package net.avalara.avatax.rest.client.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters and histograms for one endpoint, keyed by HTTP method and path template.  Durations are in nanoseconds.
+ */
+public class EndpointMetrics {
+    private final String endpoint;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final ConcurrentMap<Integer, AtomicLong> statusCounts = new ConcurrentHashMap<Integer, AtomicLong>();
+    private final AtomicHistogram total = new AtomicHistogram();
+    private final AtomicHistogram serialization = new AtomicHistogram();
+    private final AtomicHistogram timeToFirstByte = new AtomicHistogram();
+    private final AtomicHistogram deserialization = new AtomicHistogram();
+    private final AtomicHistogram requestBytes = new AtomicHistogram();
+    private final AtomicHistogram responseBytes = new AtomicHistogram();
+
+    public EndpointMetrics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void record(CallSample sample) {
+        requestCount.incrementAndGet();
+
+        if (!sample.isSuccess()) {
+            errorCount.incrementAndGet();
+        }
+
+        AtomicLong status = statusCounts.get(sample.getStatusCode());
+
+        if (status == null) {
+            AtomicLong created = new AtomicLong();
+            status = statusCounts.putIfAbsent(sample.getStatusCode(), created);
+
+            if (status == null) {
+                status = created;
+            }
+        }
+
+        status.incrementAndGet();
+        total.record(sample.getTotalNanos());
+
+        if (sample.getTimeToFirstByteNanos() > 0) {
+            timeToFirstByte.record(sample.getTimeToFirstByteNanos());
+        }
+
+        if (sample.getRequestBytes() >= 0) {
+            serialization.record(sample.getSerializationNanos());
+            requestBytes.record(sample.getRequestBytes());
+        }
+
+        if (sample.getResponseBytes() >= 0) {
+            deserialization.record(sample.getDeserializationNanos());
+            responseBytes.record(sample.getResponseBytes());
+        }
+    }
+
+    void recordRejection() {
+        rejectedCount.incrementAndGet();
+    }
+
+    /**
+     * @return The method and path template, e.g. "POST /api/v2/transactions/create"
+     */
+    public String getEndpoint() {
+        return this.endpoint;
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    /**
+     * @return Calls refused by the client's CallLimits and never sent; these are not counted as requests
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * @return The number of calls per HTTP status code; 0 counts calls that got no response
+     */
+    public Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> counts = new TreeMap<Integer, Long>();
+
+        for (Map.Entry<Integer, AtomicLong> entry : statusCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().get());
+        }
+
+        return counts;
+    }
+
+    public AtomicHistogram getTotal() {
+        return this.total;
+    }
+
+    public AtomicHistogram getSerialization() {
+        return this.serialization;
+    }
+
+    public AtomicHistogram getTimeToFirstByte() {
+        return this.timeToFirstByte;
+    }
+
+    public AtomicHistogram getDeserialization() {
+        return this.deserialization;
+    }
+
+    public AtomicHistogram getRequestBytes() {
+        return this.requestBytes;
+    }
+
+    public AtomicHistogram getResponseBytes() {
+        return this.responseBytes;
+    }
+
+    @Override
+    public String toString() {
+        return endpoint + " requests=" + getRequestCount() + " errors=" + getErrorCount() + " rejected=" + getRejectedCount() + " status=" + getStatusCounts()
+                + "\n  total           " + total
+                + "\n  serialization   " + serialization
+                + "\n  timeToFirstByte " + timeToFirstByte
+                + "\n  deserialization " + deserialization
+                + "\n  requestBytes    " + requestBytes
+                + "\n  responseBytes   " + responseBytes;
+    }
+}
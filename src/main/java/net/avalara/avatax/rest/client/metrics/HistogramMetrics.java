@@ -0,0 +1,90 @@
+package net.avalara.avatax.rest.client.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps per-endpoint counters and lock-free histograms in memory, with no dependencies.
+ *
+ * <pre>
+ * HistogramMetrics metrics = new HistogramMetrics();
+ * AvaTaxClient client = new AvaTaxClient(...).withMetrics(metrics);
+ * ...
+ * System.out.println(metrics.getEndpoint("POST", "/api/v2/transactions/create").getTimeToFirstByte());
+ * </pre>
+ */
+public class HistogramMetrics extends AvaTaxMetrics {
+    private final ConcurrentMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<String, EndpointMetrics>();
+    private final ConcurrentMap<String, String> circuitStates = new ConcurrentHashMap<String, String>();
+
+    @Override
+    public void recordCall(CallSample sample) {
+        endpoint(sample.getEndpoint()).record(sample);
+    }
+
+    @Override
+    public void recordRejection(String method, String pathTemplate, String reason) {
+        endpoint(method.toUpperCase() + " " + pathTemplate).recordRejection();
+    }
+
+    @Override
+    public void recordCircuitStateChange(String pathTemplate, String state) {
+        circuitStates.put(pathTemplate, state);
+    }
+
+    private EndpointMetrics endpoint(String key) {
+        EndpointMetrics metrics = endpoints.get(key);
+
+        if (metrics == null) {
+            EndpointMetrics created = new EndpointMetrics(key);
+            metrics = endpoints.putIfAbsent(key, created);
+
+            if (metrics == null) {
+                metrics = created;
+            }
+        }
+
+        return metrics;
+    }
+
+    /**
+     * @param method The HTTP method, e.g. POST
+     * @param pathTemplate The endpoint's path template, e.g. /api/v2/transactions/create
+     * @return The metrics for the endpoint, or null if it has not been called
+     */
+    public EndpointMetrics getEndpoint(String method, String pathTemplate) {
+        return endpoints.get(method.toUpperCase() + " " + pathTemplate);
+    }
+
+    /**
+     * @return Every endpoint called so far, sorted by key
+     */
+    public Map<String, EndpointMetrics> getEndpoints() {
+        return new TreeMap<String, EndpointMetrics>(endpoints);
+    }
+
+    /**
+     * @return The latest state of every circuit breaker that has changed state, by path template
+     */
+    public Map<String, String> getCircuitStates() {
+        return new TreeMap<String, String>(circuitStates);
+    }
+
+    public void reset() {
+        endpoints.clear();
+        circuitStates.clear();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+
+        for (EndpointMetrics metrics : getEndpoints().values()) {
+            builder.append(metrics).append('\n');
+        }
+
+        return builder.toString();
+    }
+}
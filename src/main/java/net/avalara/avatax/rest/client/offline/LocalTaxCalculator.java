@@ -0,0 +1,253 @@
+package net.avalara.avatax.rest.client.offline;
+
+import net.avalara.avatax.rest.client.AvaTaxClientException;
+import net.avalara.avatax.rest.client.enums.DocumentStatus;
+import net.avalara.avatax.rest.client.enums.DocumentType;
+import net.avalara.avatax.rest.client.enums.TaxType;
+import net.avalara.avatax.rest.client.models.AddressLocationInfo;
+import net.avalara.avatax.rest.client.models.AddressesModel;
+import net.avalara.avatax.rest.client.models.CreateTransactionModel;
+import net.avalara.avatax.rest.client.models.LineItemModel;
+import net.avalara.avatax.rest.client.models.TransactionLineDetailModel;
+import net.avalara.avatax.rest.client.models.TransactionLineModel;
+import net.avalara.avatax.rest.client.models.TransactionModel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Calculates the tax of a {@link CreateTransactionModel} from point-of-sale tax content, without calling AvaTax.
+ *
+ * Each line is taxed at the rates the content gives for its location code and tax code.  The location code is
+ * taken from the line's addresses, then the document's addresses, then the document's reporting location code; lines
+ * without a tax code use P0000000, tangible personal property.  The document discount is spread over the lines
+ * marked as discounted in proportion to their amounts.  A line or document with an exemption number, entity use
+ * code or customer usage type is treated as fully exempt.  Purchase documents are taxed at the content's use tax
+ * rates, all others at its sales tax rates.  A line for which the content has no such rate in effect on the document
+ * date fails the calculation rather than being taxed at zero.
+ *
+ * The result is a TransactionModel with the document and line totals and one detail per jurisdiction.  Nothing is
+ * recorded in AvaTax, so report the sale with CreateTransaction once the service can be reached.
+ */
+public class LocalTaxCalculator {
+    /**
+     * The tax code used for lines that do not name one.
+     */
+    public static final String DEFAULT_TAX_CODE = "P0000000";
+
+    private final TaxContentIndex content;
+
+    /**
+     * @param content The tax content to calculate with
+     */
+    public LocalTaxCalculator(TaxContentIndex content) {
+        this.content = content;
+    }
+
+    /**
+     * Calculate the tax of a transaction.
+     *
+     * @param model The transaction, as it would be sent to CreateTransaction
+     * @return The calculated transaction, with status Temporary
+     * @throws AvaTaxClientException If a line has no location code, or the content has no rate in effect on the
+     * document date for its location, tax code and kind of tax
+     */
+    public TransactionModel calculate(CreateTransactionModel model) throws AvaTaxClientException {
+        Date date = model.getDate() != null ? model.getDate() : new Date();
+        String day = TaxContentIndex.formatDate(date);
+        boolean useTax = model.getType() == DocumentType.PurchaseOrder || model.getType() == DocumentType.PurchaseInvoice;
+        boolean documentExempt = isExempt(model.getExemptionNo(), model.getEntityUseCode(), model.getCustomerUsageType());
+        List<LineItemModel> lines = model.getLines() != null ? model.getLines() : new ArrayList<LineItemModel>();
+        BigDecimal[] discounts = allocateDiscount(model.getDiscount(), lines);
+
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        BigDecimal totalDiscount = BigDecimal.ZERO;
+        BigDecimal totalExempt = BigDecimal.ZERO;
+        BigDecimal totalTaxable = BigDecimal.ZERO;
+        BigDecimal totalTax = BigDecimal.ZERO;
+        ArrayList<TransactionLineModel> results = new ArrayList<TransactionLineModel>(lines.size());
+
+        for (int i = 0; i < lines.size(); i++) {
+            LineItemModel line = lines.get(i);
+            String locationCode = locationCode(line.getAddresses(), model);
+            String taxCode = line.getTaxCode() != null && !line.getTaxCode().isEmpty() ? line.getTaxCode() : DEFAULT_TAX_CODE;
+            String lineNumber = line.getNumber() != null ? line.getNumber() : String.valueOf(i + 1);
+
+            if (locationCode == null) {
+                throw new AvaTaxClientException("Line " + lineNumber + " has no location code to look up tax content for.");
+            }
+
+            List<TaxContentIndex.Component> components = content.find(locationCode, taxCode, day, useTax);
+
+            if (components == null) {
+                throw new AvaTaxClientException(content.contains(locationCode, taxCode)
+                        ? "The tax content has no " + (useTax ? "use" : "sales") + " tax rates for location " + locationCode + " and tax code " + taxCode + " in effect on " + day + "."
+                        : "The tax content has no rates for location " + locationCode + " and tax code " + taxCode + ".");
+            }
+
+            boolean exempt = documentExempt || isExempt(line.getExemptionCode(), line.getEntityUseCode(), line.getCustomerUsageType());
+            TransactionLineModel result = calculateLine(line, lineNumber, taxCode, discounts[i], exempt, components, useTax);
+            results.add(result);
+
+            totalAmount = totalAmount.add(result.getLineAmount());
+            totalDiscount = totalDiscount.add(result.getDiscountAmount());
+            totalExempt = totalExempt.add(result.getExemptAmount());
+            totalTaxable = totalTaxable.add(result.getTaxableAmount());
+            totalTax = totalTax.add(result.getTax());
+        }
+
+        TransactionModel transaction = new TransactionModel();
+        transaction.setCode(model.getCode());
+        transaction.setType(model.getType() != null ? model.getType() : DocumentType.SalesOrder);
+        transaction.setStatus(DocumentStatus.Temporary);
+        transaction.setDate(date);
+        transaction.setTaxDate(date);
+        transaction.setCustomerCode(model.getCustomerCode());
+        transaction.setCurrencyCode(model.getCurrencyCode());
+        transaction.setReportingLocationCode(model.getReportingLocationCode());
+        transaction.setPurchaseOrderNo(model.getPurchaseOrderNo());
+        transaction.setReferenceCode(model.getReferenceCode());
+        transaction.setTotalAmount(totalAmount);
+        transaction.setTotalDiscount(totalDiscount);
+        transaction.setTotalExempt(totalExempt);
+        transaction.setTotalTaxable(totalTaxable);
+        transaction.setTotalTax(totalTax);
+        transaction.setTotalTaxCalculated(totalTax);
+        transaction.setLines(results);
+        return transaction;
+    }
+
+    private TransactionLineModel calculateLine(LineItemModel line, String lineNumber, String taxCode, BigDecimal discount,
+                                               boolean exempt, List<TaxContentIndex.Component> components, boolean useTax) {
+        BigDecimal amount = line.getAmount() != null ? line.getAmount() : BigDecimal.ZERO;
+        BigDecimal base = amount.subtract(discount);
+
+        if (Boolean.TRUE.equals(line.getTaxIncluded()) && !exempt) {
+            // The amount includes tax, so the taxable amount is what remains after removing it at the combined rate
+            BigDecimal totalRate = BigDecimal.ZERO;
+
+            for (TaxContentIndex.Component component : components) {
+                totalRate = totalRate.add(component.rate);
+            }
+
+            base = base.divide(BigDecimal.ONE.add(totalRate), 2, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal taxable = exempt ? BigDecimal.ZERO : base;
+        BigDecimal exemptAmount = exempt ? base : BigDecimal.ZERO;
+        BigDecimal lineTax = BigDecimal.ZERO;
+        ArrayList<TransactionLineDetailModel> details = new ArrayList<TransactionLineDetailModel>(components.size());
+
+        for (TaxContentIndex.Component component : components) {
+            BigDecimal tax = taxable.multiply(component.rate).setScale(2, RoundingMode.HALF_UP);
+
+            TransactionLineDetailModel detail = new TransactionLineDetailModel();
+            detail.setJurisCode(component.jurisCode);
+            detail.setJurisName(component.jurisName);
+            detail.setJurisdictionType(component.jurisdictionType);
+            detail.setRegion(component.region);
+            detail.setTaxName(component.taxName);
+            detail.setTaxType(component.taxType != null ? component.taxType : (useTax ? TaxType.Use : TaxType.Sales));
+            detail.setRate(component.rate);
+            detail.setTaxableAmount(taxable);
+            detail.setExemptAmount(exemptAmount);
+            detail.setNonTaxableAmount(BigDecimal.ZERO);
+            detail.setTax(tax);
+            detail.setTaxCalculated(tax);
+            details.add(detail);
+
+            lineTax = lineTax.add(tax);
+        }
+
+        TransactionLineModel result = new TransactionLineModel();
+        result.setLineNumber(lineNumber);
+        result.setItemCode(line.getItemCode());
+        result.setDescription(line.getDescription());
+        result.setQuantity(line.getQuantity());
+        result.setLineAmount(amount);
+        result.setDiscountAmount(discount);
+        result.setTaxCode(taxCode);
+        result.setTaxIncluded(line.getTaxIncluded());
+        result.setIsItemTaxable(!exempt);
+        result.setExemptAmount(exemptAmount);
+        result.setTaxableAmount(taxable);
+        result.setTax(lineTax);
+        result.setTaxCalculated(lineTax);
+        result.setDetails(details);
+        return result;
+    }
+
+    /**
+     * Spread the document discount over the discounted lines in proportion to their amounts, giving any rounding
+     * remainder to the last of them.
+     */
+    private static BigDecimal[] allocateDiscount(BigDecimal discount, List<LineItemModel> lines) {
+        BigDecimal[] allocated = new BigDecimal[lines.size()];
+        BigDecimal discountable = BigDecimal.ZERO;
+        int last = -1;
+
+        for (int i = 0; i < lines.size(); i++) {
+            allocated[i] = BigDecimal.ZERO;
+            LineItemModel line = lines.get(i);
+
+            if (Boolean.TRUE.equals(line.getDiscounted()) && line.getAmount() != null) {
+                discountable = discountable.add(line.getAmount());
+                last = i;
+            }
+        }
+
+        if (discount == null || discount.signum() == 0 || discountable.signum() == 0) {
+            return allocated;
+        }
+
+        BigDecimal remaining = discount;
+
+        for (int i = 0; i < last; i++) {
+            LineItemModel line = lines.get(i);
+
+            if (Boolean.TRUE.equals(line.getDiscounted()) && line.getAmount() != null) {
+                allocated[i] = discount.multiply(line.getAmount()).divide(discountable, 2, RoundingMode.HALF_UP);
+                remaining = remaining.subtract(allocated[i]);
+            }
+        }
+
+        allocated[last] = remaining.setScale(2, RoundingMode.HALF_UP);
+        return allocated;
+    }
+
+    private static String locationCode(AddressesModel lineAddresses, CreateTransactionModel model) {
+        String code = locationCode(lineAddresses);
+
+        if (code == null) {
+            code = locationCode(model.getAddresses());
+        }
+
+        return code != null ? code : model.getReportingLocationCode();
+    }
+
+    private static String locationCode(AddressesModel addresses) {
+        if (addresses == null) {
+            return null;
+        }
+
+        String code = locationCode(addresses.getSingleLocation());
+        return code != null ? code : locationCode(addresses.getShipFrom());
+    }
+
+    private static String locationCode(AddressLocationInfo location) {
+        return location != null && location.getLocationCode() != null && !location.getLocationCode().isEmpty() ? location.getLocationCode() : null;
+    }
+
+    private static boolean isExempt(String... codes) {
+        for (String code : codes) {
+            if (code != null && !code.trim().isEmpty()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
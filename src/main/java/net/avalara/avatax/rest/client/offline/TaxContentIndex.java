@@ -0,0 +1,516 @@
+package net.avalara.avatax.rest.client.offline;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import net.avalara.avatax.rest.client.AvaTaxClient;
+import net.avalara.avatax.rest.client.enums.JurisdictionType;
+import net.avalara.avatax.rest.client.enums.PointOfSaleFileType;
+import net.avalara.avatax.rest.client.enums.TaxType;
+import net.avalara.avatax.rest.client.models.PointOfSaleDataRequestModel;
+import net.avalara.avatax.rest.client.models.RateModel;
+import net.avalara.avatax.rest.client.models.TaxRateModel;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * The point-of-sale tax content returned by {@link AvaTaxClient#buildTaxContentFile(PointOfSaleDataRequestModel)}
+ * and buildTaxContentFileForLocation, indexed by location code and tax code.
+ *
+ * Each row of the file is one jurisdiction's rate for a location and tax code.  The content is read as a stream,
+ * one row at a time, and only the fields needed to calculate tax are kept.  Columns are matched by name, ignoring
+ * case and underscores, so both the JSON and CSV layouts are understood; XML is not supported.  Once loaded the
+ * index is read-only and safe to share between threads.
+ *
+ * @see LocalTaxCalculator
+ */
+public final class TaxContentIndex {
+    private static final int LOCATION_CODE = 0;
+    private static final int TAX_CODE = 1;
+    private static final int TAX_RATE = 2;
+    private static final int JURIS_TYPE = 3;
+    private static final int JURIS_NAME = 4;
+    private static final int JURIS_CODE = 5;
+    private static final int TAX_NAME = 6;
+    private static final int TAX_TYPE = 7;
+    private static final int EFFECTIVE_DATE = 8;
+    private static final int END_DATE = 9;
+    private static final int REGION = 10;
+    private static final int COLUMN_COUNT = 11;
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private static final Map<String, Integer> COLUMNS = new HashMap<String, Integer>();
+
+    static {
+        COLUMNS.put("locationcode", LOCATION_CODE);
+        COLUMNS.put("taxcode", TAX_CODE);
+        COLUMNS.put("taxrate", TAX_RATE);
+        COLUMNS.put("rate", TAX_RATE);
+        COLUMNS.put("juristype", JURIS_TYPE);
+        COLUMNS.put("jurisdictiontype", JURIS_TYPE);
+        COLUMNS.put("jurisname", JURIS_NAME);
+        COLUMNS.put("jurisdictionname", JURIS_NAME);
+        COLUMNS.put("juriscode", JURIS_CODE);
+        COLUMNS.put("taxdescription", TAX_NAME);
+        COLUMNS.put("taxname", TAX_NAME);
+        COLUMNS.put("taxtype", TAX_TYPE);
+        COLUMNS.put("effdate", EFFECTIVE_DATE);
+        COLUMNS.put("effectivedate", EFFECTIVE_DATE);
+        COLUMNS.put("enddate", END_DATE);
+        COLUMNS.put("shiptostate", REGION);
+        COLUMNS.put("region", REGION);
+    }
+
+    private final Map<String, Component[]> components;
+    private final int rowCount;
+
+    private TaxContentIndex(Map<String, Component[]> components, int rowCount) {
+        this.components = components;
+        this.rowCount = rowCount;
+    }
+
+    /**
+     * Build a tax content file and index it.  The file is requested as JSON unless the model asks for CSV.  It is
+     * streamed to a temporary file and read back a row at a time, so only the index is held in memory.
+     *
+     * @param client The client to download with
+     * @param model The company, locations and tax codes to include
+     * @return The index
+     */
+    public static TaxContentIndex download(AvaTaxClient client, PointOfSaleDataRequestModel model) throws Exception {
+        if (model.getResponseType() != PointOfSaleFileType.Csv) {
+            model.setResponseType(PointOfSaleFileType.Json);
+        }
+
+        Path file = Files.createTempFile("taxcontent", "." + model.getResponseType().name().toLowerCase(Locale.ROOT));
+
+        try {
+            client.buildTaxContentFile(model, file, null);
+            return load(file, model.getResponseType());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Build the tax content file of a single location and index it, streaming it through a temporary file.
+     *
+     * @param client The client to download with
+     * @param companyId The ID of the company that owns the location
+     * @param locationId The ID of the location
+     * @param date The date the rates should apply on, or null for today
+     * @return The index
+     */
+    public static TaxContentIndex downloadForLocation(AvaTaxClient client, Integer companyId, Integer locationId, Date date) throws Exception {
+        Path file = Files.createTempFile("taxcontent", ".json");
+
+        try {
+            client.buildTaxContentFileForLocation(companyId, locationId, date, PointOfSaleFileType.Json, null, true, file, null);
+            return load(file, PointOfSaleFileType.Json);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * @param file A tax content file, in UTF-8
+     * @param format The format of the content; JSON if null
+     * @return The index
+     */
+    public static TaxContentIndex load(Path file, PointOfSaleFileType format) throws IOException {
+        Reader reader = Files.newBufferedReader(file, UTF8);
+
+        try {
+            return load(reader, format);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * @param content The content of a tax content file
+     * @param format The format of the content; JSON if null
+     * @return The index
+     */
+    public static TaxContentIndex load(String content, PointOfSaleFileType format) throws IOException {
+        return load(new StringReader(content), format);
+    }
+
+    /**
+     * Index a tax content file read from a stream.
+     *
+     * @param content The content; the caller closes it
+     * @param format The format of the content; JSON if null
+     * @return The index
+     */
+    public static TaxContentIndex load(Reader content, PointOfSaleFileType format) throws IOException {
+        Builder builder = new Builder();
+
+        if (format == PointOfSaleFileType.Csv) {
+            readCsv(content, builder);
+        } else if (format == null || format == PointOfSaleFileType.Json) {
+            readJson(content, builder);
+        } else {
+            throw new IllegalArgumentException("Tax content in " + format + " format cannot be loaded; request JSON or CSV.");
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * @return The number of rows indexed
+     */
+    public int size() {
+        return this.rowCount;
+    }
+
+    /**
+     * @param locationCode The location code
+     * @param taxCode The tax code
+     * @return Whether the content has any rate for the location and tax code
+     */
+    public boolean contains(String locationCode, String taxCode) {
+        return find(locationCode, taxCode) != null;
+    }
+
+    /**
+     * Look up the rates that apply to an item sold at a location.
+     *
+     * @param locationCode The location code
+     * @param taxCode The tax code
+     * @param date The date of the sale, or null to ignore effective dates
+     * @return The sales tax rates, or null if the content has no sales tax rate for the location and tax code in
+     * effect on the date
+     */
+    public TaxRateModel getRates(String locationCode, String taxCode, Date date) {
+        List<Component> applicable = find(locationCode, taxCode, date != null ? formatDate(date) : null, false);
+
+        if (applicable == null) {
+            return null;
+        }
+
+        BigDecimal total = BigDecimal.ZERO;
+        ArrayList<RateModel> rates = new ArrayList<RateModel>(applicable.size());
+
+        for (Component component : applicable) {
+            RateModel rate = new RateModel();
+            rate.setRate(component.rate);
+            rate.setName(component.jurisName);
+            rate.setType(component.jurisdictionType);
+            rates.add(rate);
+            total = total.add(component.rate);
+        }
+
+        TaxRateModel model = new TaxRateModel();
+        model.setTotalRate(total);
+        model.setRates(rates);
+        return model;
+    }
+
+    @Override
+    public String toString() {
+        return "TaxContentIndex rows=" + rowCount + " keys=" + components.size();
+    }
+
+    Component[] find(String locationCode, String taxCode) {
+        return components.get(key(locationCode, taxCode));
+    }
+
+    /**
+     * @param day The date as yyyy-MM-dd, or null to ignore effective dates
+     * @return The components in effect on the date for sales (or use) tax, or null if there are none, whether
+     * because the location and tax code are unknown or because none of their rates applies
+     */
+    List<Component> find(String locationCode, String taxCode, String day, boolean useTax) {
+        Component[] all = find(locationCode, taxCode);
+
+        if (all == null) {
+            return null;
+        }
+
+        ArrayList<Component> applicable = new ArrayList<Component>(all.length);
+
+        for (Component component : all) {
+            if (component.isUseTax() == useTax && component.appliesOn(day)) {
+                applicable.add(component);
+            }
+        }
+
+        // No applicable rate is missing content, not a zero rate
+        return applicable.isEmpty() ? null : applicable;
+    }
+
+    private static String key(String locationCode, String taxCode) {
+        return (locationCode != null ? locationCode.trim().toUpperCase(Locale.ROOT) : "") + '\u0000'
+                + (taxCode != null ? taxCode.trim().toUpperCase(Locale.ROOT) : "");
+    }
+
+    static String formatDate(Date date) {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return format.format(date);
+    }
+
+    private static int column(String name) {
+        Integer column = COLUMNS.get(name.replace("_", "").replace(" ", "").trim().toLowerCase(Locale.ROOT));
+        return column != null ? column : -1;
+    }
+
+    private static void readCsv(Reader content, Builder builder) throws IOException {
+        BufferedReader reader = content instanceof BufferedReader ? (BufferedReader)content : new BufferedReader(content, 65536);
+        String header = reader.readLine();
+
+        if (header == null) {
+            return;
+        }
+
+        ArrayList<String> fields = ZipRateTable.splitCsv(header.startsWith("\uFEFF") ? header.substring(1) : header, new ArrayList<String>());
+        int[] columns = new int[fields.size()];
+
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = column(fields.get(i));
+        }
+
+        String[] row = new String[COLUMN_COUNT];
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            ZipRateTable.splitCsv(line, fields);
+            Arrays.fill(row, null);
+
+            for (int i = 0; i < columns.length && i < fields.size(); i++) {
+                if (columns[i] >= 0) {
+                    row[columns[i]] = fields.get(i);
+                }
+            }
+
+            builder.add(row);
+        }
+    }
+
+    private static void readJson(Reader content, Builder builder) throws IOException {
+        JsonReader reader = new JsonReader(content);
+        reader.setLenient(true);
+
+        if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+            // Rows wrapped in an object: use the first array property
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                reader.nextName();
+
+                if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    readJsonRows(reader, builder);
+                    return;
+                }
+
+                reader.skipValue();
+            }
+
+            return;
+        }
+
+        readJsonRows(reader, builder);
+    }
+
+    private static void readJsonRows(JsonReader reader, Builder builder) throws IOException {
+        String[] row = new String[COLUMN_COUNT];
+        reader.beginArray();
+
+        while (reader.hasNext()) {
+            Arrays.fill(row, null);
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                int column = column(reader.nextName());
+                JsonToken token = reader.peek();
+
+                if (column < 0 || token == JsonToken.NULL || token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY) {
+                    reader.skipValue();
+                } else if (token == JsonToken.BOOLEAN) {
+                    row[column] = String.valueOf(reader.nextBoolean());
+                } else {
+                    row[column] = reader.nextString();
+                }
+            }
+
+            reader.endObject();
+            builder.add(row);
+        }
+
+        reader.endArray();
+    }
+
+    /**
+     * Groups rows by location code and tax code while the content is read.
+     */
+    private static class Builder {
+        private final Map<String, ArrayList<Component>> rows = new HashMap<String, ArrayList<Component>>();
+        private final Map<String, String> strings = new HashMap<String, String>();
+        private int rowCount;
+
+        void add(String[] row) {
+            String rate = row[TAX_RATE];
+
+            if (row[LOCATION_CODE] == null || rate == null || rate.trim().isEmpty()) {
+                return;
+            }
+
+            String key = key(row[LOCATION_CODE], row[TAX_CODE]);
+            ArrayList<Component> components = rows.get(key);
+
+            if (components == null) {
+                components = new ArrayList<Component>(4);
+                rows.put(key, components);
+            }
+
+            components.add(new Component(new BigDecimal(rate.trim()), jurisdictionType(row[JURIS_TYPE]), share(row[JURIS_NAME]),
+                    share(row[JURIS_CODE]), share(row[TAX_NAME]), taxType(row[TAX_TYPE]), day(row[EFFECTIVE_DATE]), day(row[END_DATE]),
+                    share(row[REGION])));
+            rowCount++;
+        }
+
+        TaxContentIndex build() {
+            Map<String, Component[]> index = new HashMap<String, Component[]>(rows.size() * 4 / 3 + 1);
+
+            for (Map.Entry<String, ArrayList<Component>> entry : rows.entrySet()) {
+                index.put(entry.getKey(), entry.getValue().toArray(new Component[entry.getValue().size()]));
+            }
+
+            return new TaxContentIndex(index, rowCount);
+        }
+
+        /**
+         * Jurisdiction names and dates repeat on almost every row, so keep one copy of each.
+         */
+        private String share(String value) {
+            if (value == null) {
+                return null;
+            }
+
+            String trimmed = value.trim();
+            String shared = strings.get(trimmed);
+
+            if (shared == null) {
+                strings.put(trimmed, trimmed);
+                shared = trimmed;
+            }
+
+            return shared;
+        }
+
+        private String day(String value) {
+            // Dates are compared as yyyy-MM-dd text; anything else is treated as open-ended
+            if (value == null || value.length() < 10 || value.charAt(4) != '-' || value.charAt(7) != '-') {
+                return null;
+            }
+
+            return share(value.substring(0, 10));
+        }
+
+        private static JurisdictionType jurisdictionType(String value) {
+            if (value == null) {
+                return null;
+            }
+
+            String trimmed = value.trim();
+
+            if ("STA".equalsIgnoreCase(trimmed)) {
+                return JurisdictionType.State;
+            } else if ("CTY".equalsIgnoreCase(trimmed)) {
+                return JurisdictionType.County;
+            } else if ("CIT".equalsIgnoreCase(trimmed)) {
+                return JurisdictionType.City;
+            } else if ("STJ".equalsIgnoreCase(trimmed)) {
+                return JurisdictionType.Special;
+            } else if ("CNT".equalsIgnoreCase(trimmed)) {
+                return JurisdictionType.Country;
+            }
+
+            for (JurisdictionType type : JurisdictionType.values()) {
+                if (type.name().equalsIgnoreCase(trimmed)) {
+                    return type;
+                }
+            }
+
+            return null;
+        }
+
+        private static TaxType taxType(String value) {
+            if (value == null) {
+                return null;
+            }
+
+            String trimmed = value.trim();
+
+            if ("S".equalsIgnoreCase(trimmed)) {
+                return TaxType.Sales;
+            } else if ("U".equalsIgnoreCase(trimmed)) {
+                return TaxType.Use;
+            }
+
+            for (TaxType type : TaxType.values()) {
+                if (type.name().equalsIgnoreCase(trimmed)) {
+                    return type;
+                }
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * One jurisdiction's rate for a location and tax code.
+     */
+    static final class Component {
+        final BigDecimal rate;
+        final JurisdictionType jurisdictionType;
+        final String jurisName;
+        final String jurisCode;
+        final String taxName;
+        final TaxType taxType;
+        final String effectiveDate;
+        final String endDate;
+        final String region;
+
+        Component(BigDecimal rate, JurisdictionType jurisdictionType, String jurisName, String jurisCode, String taxName,
+                  TaxType taxType, String effectiveDate, String endDate, String region) {
+            this.rate = rate;
+            this.jurisdictionType = jurisdictionType;
+            this.jurisName = jurisName;
+            this.jurisCode = jurisCode;
+            this.taxName = taxName;
+            this.taxType = taxType;
+            this.effectiveDate = effectiveDate;
+            this.endDate = endDate;
+            this.region = region;
+        }
+
+        boolean isUseTax() {
+            return taxType == TaxType.Use || taxType == TaxType.ConsumerUse;
+        }
+
+        boolean appliesOn(String day) {
+            return day == null || ((effectiveDate == null || effectiveDate.compareTo(day) <= 0) && (endDate == null || endDate.compareTo(day) >= 0));
+        }
+    }
+}
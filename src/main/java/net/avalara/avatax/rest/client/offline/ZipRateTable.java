@@ -0,0 +1,616 @@
+package net.avalara.avatax.rest.client.offline;
+
+import net.avalara.avatax.rest.client.AvaTaxClient;
+import net.avalara.avatax.rest.client.enums.JurisdictionType;
+import net.avalara.avatax.rest.client.models.RateModel;
+import net.avalara.avatax.rest.client.models.TaxRateModel;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The general sales and use tax rates of every five digit ZIP code, as returned by
+ * {@link AvaTaxClient#downloadTaxRatesByZipCode(Date, String)}, held in a compact sorted index for fast local lookups.
+ *
+ * The CSV is parsed once into fixed-width binary records sorted by ZIP code; rows are not kept as objects, and only
+ * the distinct county and city names are held as strings.  A table can be saved to a file and later opened by
+ * memory-mapping it, so a process can start answering lookups without downloading or parsing anything.
+ * Lookups are a binary search and are safe from any number of threads.
+ *
+ * The rates are the same estimates the API documents for the download: tangible personal property only, five digit
+ * ZIP codes only, and no sourcing, threshold or nexus rules.  Use them as a fallback or pre-check, and reconcile
+ * with CreateTransaction.
+ *
+ * <pre>
+ * ZipRateTable table = ZipRateTable.download(client, new Date(), null);
+ * table.save(Paths.get("rates.bin"));
+ * ...
+ * TaxRateModel rates = ZipRateTable.open(Paths.get("rates.bin")).getSalesTaxRates("98101", null);
+ * </pre>
+ */
+public final class ZipRateTable {
+    private static final int MAGIC = 0x41565a52;
+    private static final int VERSION = 1;
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    // Rates are stored as integers with eight decimal places
+    private static final int RATE_SCALE = 8;
+
+    // Record layout: zip, state (two ASCII bytes), county name, city name, eight rates, shipping flags, padding
+    private static final int ZIP = 0;
+    private static final int STATE = 4;
+    private static final int COUNTY = 6;
+    private static final int CITY = 10;
+    private static final int RATES = 14;
+    private static final int FLAGS = 46;
+    private static final int RECORD_SIZE = 48;
+
+    private static final int STATE_SALES = 0;
+    private static final int STATE_USE = 1;
+    private static final int COUNTY_SALES = 2;
+    private static final int COUNTY_USE = 3;
+    private static final int CITY_SALES = 4;
+    private static final int CITY_USE = 5;
+    private static final int TOTAL_SALES = 6;
+    private static final int TOTAL_USE = 7;
+    private static final String[] RATE_COLUMNS = {
+            "STATE_SALES_TAX", "STATE_USE_TAX", "COUNTY_SALES_TAX", "COUNTY_USE_TAX",
+            "CITY_SALES_TAX", "CITY_USE_TAX", "TOTAL_SALES_TAX", "TOTAL_USE_TAX"
+    };
+
+    private static final int SHIPPING_ALONE = 1;
+    private static final int SHIPPING_AND_HANDLING = 2;
+
+    private final ByteBuffer records;
+    private final int rowCount;
+    private final String[] names;
+    private final Date effectiveDate;
+
+    private ZipRateTable(ByteBuffer records, int rowCount, String[] names, Date effectiveDate) {
+        this.records = records;
+        this.rowCount = rowCount;
+        this.names = names;
+        this.effectiveDate = effectiveDate;
+    }
+
+    /**
+     * Download the rate file for a date and index it.
+     *
+     * @param client The client to download with
+     * @param date The date the rates should apply on, or null for today
+     * @param region A state to limit the file to, or null for every state
+     * @return The table
+     */
+    public static ZipRateTable download(AvaTaxClient client, Date date, String region) throws Exception {
+        return parse(client.downloadTaxRatesByZipCode(date, region), date != null ? date : new Date());
+    }
+
+    /**
+     * @param csv The content returned by downloadTaxRatesByZipCode
+     * @param effectiveDate The date the rates apply on, or null if unknown
+     * @return The table
+     */
+    public static ZipRateTable parse(String csv, Date effectiveDate) throws IOException {
+        return parse(new StringReader(csv), effectiveDate);
+    }
+
+    /**
+     * Index a rate file read from a stream.  Columns are found by their header names, so their order does not
+     * matter and unknown columns are ignored; ZIP_CODE, STATE_ABBREV and TOTAL_SALES_TAX are required.
+     *
+     * @param csv The CSV content; the caller closes it
+     * @param effectiveDate The date the rates apply on, or null if unknown
+     * @return The table
+     */
+    public static ZipRateTable parse(Reader csv, Date effectiveDate) throws IOException {
+        BufferedReader reader = csv instanceof BufferedReader ? (BufferedReader)csv : new BufferedReader(csv, 65536);
+        String header = reader.readLine();
+
+        if (header == null) {
+            throw new IllegalArgumentException("The rate file is empty.");
+        }
+
+        Map<String, Integer> columns = new HashMap<String, Integer>();
+        ArrayList<String> headings = splitCsv(header.startsWith("\uFEFF") ? header.substring(1) : header, new ArrayList<String>());
+
+        for (int i = 0; i < headings.size(); i++) {
+            columns.put(headings.get(i).trim().toUpperCase(), i);
+        }
+
+        int zipColumn = requireColumn(columns, "ZIP_CODE");
+        int stateColumn = requireColumn(columns, "STATE_ABBREV");
+        int countyColumn = optionalColumn(columns, "COUNTY_NAME");
+        int cityColumn = optionalColumn(columns, "CITY_NAME");
+        int shippingColumn = optionalColumn(columns, "TAX_SHIPPING_ALONE");
+        int handlingColumn = optionalColumn(columns, "TAX_SHIPPING_AND_HANDLING_TOGETHER");
+        int[] rateColumns = new int[RATE_COLUMNS.length];
+        requireColumn(columns, "TOTAL_SALES_TAX");
+
+        for (int i = 0; i < RATE_COLUMNS.length; i++) {
+            rateColumns[i] = optionalColumn(columns, RATE_COLUMNS[i]);
+        }
+
+        NameTable nameTable = new NameTable();
+        ByteBuffer rows = ByteBuffer.allocate(RECORD_SIZE * 1024);
+        long[] keys = new long[1024];
+        int count = 0;
+        int lineNumber = 1;
+        ArrayList<String> fields = new ArrayList<String>();
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            splitCsv(line, fields);
+
+            if (count == keys.length) {
+                keys = Arrays.copyOf(keys, count * 2);
+                rows = grow(rows, count * 2 * RECORD_SIZE);
+            }
+
+            try {
+                int zip = parseZip(field(fields, zipColumn));
+                String state = field(fields, stateColumn).trim();
+                int offset = count * RECORD_SIZE;
+
+                rows.putInt(offset + ZIP, zip);
+                rows.put(offset + STATE, state.length() > 0 ? (byte)state.charAt(0) : (byte)' ');
+                rows.put(offset + STATE + 1, state.length() > 1 ? (byte)state.charAt(1) : (byte)' ');
+                rows.putInt(offset + COUNTY, nameTable.indexOf(field(fields, countyColumn).trim()));
+                rows.putInt(offset + CITY, nameTable.indexOf(field(fields, cityColumn).trim()));
+
+                for (int i = 0; i < rateColumns.length; i++) {
+                    rows.putInt(offset + RATES + i * 4, parseRate(field(fields, rateColumns[i])));
+                }
+
+                int flags = 0;
+
+                if ("Y".equalsIgnoreCase(field(fields, shippingColumn).trim())) {
+                    flags |= SHIPPING_ALONE;
+                }
+
+                if ("Y".equalsIgnoreCase(field(fields, handlingColumn).trim())) {
+                    flags |= SHIPPING_AND_HANDLING;
+                }
+
+                rows.put(offset + FLAGS, (byte)flags);
+
+                // Sorting on zip then file position keeps the file's order among rows for the same zip
+                keys[count] = ((long)zip << 32) | count;
+                count++;
+            } catch (RuntimeException ex) {
+                throw new IllegalArgumentException("Line " + lineNumber + " of the rate file is not valid: " + ex.getMessage(), ex);
+            }
+        }
+
+        Arrays.sort(keys, 0, count);
+
+        ByteBuffer sorted = ByteBuffer.allocate(count * RECORD_SIZE);
+        byte[] record = new byte[RECORD_SIZE];
+
+        for (int i = 0; i < count; i++) {
+            rows.position((int)keys[i] * RECORD_SIZE);
+            rows.get(record);
+            sorted.put(record);
+        }
+
+        sorted.clear();
+        return new ZipRateTable(sorted, count, nameTable.toArray(), effectiveDate);
+    }
+
+    /**
+     * Open a table written by {@link #save(Path)}.  The records are memory-mapped rather than read, so opening is
+     * fast and the operating system shares the pages between processes.
+     *
+     * @param file The file to open
+     * @return The table
+     */
+    public static ZipRateTable open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+
+        try {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if (mapped.remaining() < 24 || mapped.getInt() != MAGIC) {
+                throw new IOException(file + " is not a ZIP rate table.");
+            }
+
+            if (mapped.getInt() != VERSION) {
+                throw new IOException(file + " was written by an incompatible version of the SDK.");
+            }
+
+            long effective = mapped.getLong();
+            int rowCount = mapped.getInt();
+            String[] names = new String[mapped.getInt()];
+
+            for (int i = 0; i < names.length; i++) {
+                byte[] bytes = new byte[mapped.getShort() & 0xFFFF];
+                mapped.get(bytes);
+                names[i] = new String(bytes, UTF8);
+            }
+
+            if (mapped.remaining() != rowCount * RECORD_SIZE) {
+                throw new IOException(file + " is truncated.");
+            }
+
+            return new ZipRateTable(mapped.slice(), rowCount, names, effective >= 0 ? new Date(effective) : null);
+        } finally {
+            // The mapping stays valid after the channel is closed
+            channel.close();
+        }
+    }
+
+    /**
+     * Write this table to a file that {@link #open(Path)} can map.
+     *
+     * @param file The file to write; it is replaced if it exists
+     */
+    public void save(Path file) throws IOException {
+        int namesSize = 0;
+        byte[][] encoded = new byte[names.length][];
+
+        for (int i = 0; i < names.length; i++) {
+            encoded[i] = names[i].getBytes(UTF8);
+            namesSize += 2 + encoded[i].length;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(24 + namesSize);
+        header.putInt(MAGIC).putInt(VERSION).putLong(effectiveDate != null ? effectiveDate.getTime() : -1L);
+        header.putInt(rowCount).putInt(names.length);
+
+        for (byte[] name : encoded) {
+            header.putShort((short)name.length).put(name);
+        }
+
+        header.flip();
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+        try {
+            ByteBuffer body = records.duplicate();
+            body.clear();
+
+            while (header.hasRemaining() || body.hasRemaining()) {
+                channel.write(new ByteBuffer[] { header, body });
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * @return The number of rows; a ZIP code that spans several counties or cities has one row for each
+     */
+    public int size() {
+        return this.rowCount;
+    }
+
+    /**
+     * @return The date the rates apply on, or null if it was not given
+     */
+    public Date getEffectiveDate() {
+        return this.effectiveDate;
+    }
+
+    /**
+     * @param postalCode A five digit ZIP code; ZIP+4 codes are looked up by their first five digits
+     * @return Whether the table has any rate for the ZIP code
+     */
+    public boolean contains(String postalCode) {
+        return find(postalCode, null) >= 0;
+    }
+
+    /**
+     * Look up the sales tax rate for a ZIP code, in the same shape as
+     * {@link AvaTaxClient#taxRatesByPostalCode(String, String)}: the total rate and its state, county, city and
+     * special district parts.
+     *
+     * @param postalCode A five digit ZIP code; ZIP+4 codes are looked up by their first five digits
+     * @param city For a ZIP code that spans several cities, the city to choose; null or unmatched chooses the first row
+     * @return The rates, or null if the ZIP code is not in the table
+     */
+    public TaxRateModel getSalesTaxRates(String postalCode, String city) {
+        int row = find(postalCode, city);
+        return row >= 0 ? toModel(row, STATE_SALES, COUNTY_SALES, CITY_SALES, TOTAL_SALES) : null;
+    }
+
+    /**
+     * Look up the use tax rate for a ZIP code.
+     *
+     * @param postalCode A five digit ZIP code; ZIP+4 codes are looked up by their first five digits
+     * @param city For a ZIP code that spans several cities, the city to choose; null or unmatched chooses the first row
+     * @return The rates, or null if the ZIP code is not in the table
+     */
+    public TaxRateModel getUseTaxRates(String postalCode, String city) {
+        int row = find(postalCode, city);
+        return row >= 0 ? toModel(row, STATE_USE, COUNTY_USE, CITY_USE, TOTAL_USE) : null;
+    }
+
+    /**
+     * @param postalCode A five digit ZIP code
+     * @param city The city to choose, or null
+     * @return The total sales tax rate, without building a model, or null if the ZIP code is not in the table
+     */
+    public BigDecimal getTotalSalesTaxRate(String postalCode, String city) {
+        int row = find(postalCode, city);
+        return row >= 0 ? rate(row, TOTAL_SALES) : null;
+    }
+
+    /**
+     * @param postalCode A five digit ZIP code
+     * @param city The city to choose, or null
+     * @return Whether shipping charged on its own is taxable; false if the ZIP code is not in the table
+     */
+    public boolean isShippingTaxable(String postalCode, String city) {
+        int row = find(postalCode, city);
+        return row >= 0 && (records.get(row * RECORD_SIZE + FLAGS) & SHIPPING_ALONE) != 0;
+    }
+
+    /**
+     * @param postalCode A five digit ZIP code
+     * @param city The city to choose, or null
+     * @return Whether shipping and handling charged together are taxable; false if the ZIP code is not in the table
+     */
+    public boolean isShippingAndHandlingTaxable(String postalCode, String city) {
+        int row = find(postalCode, city);
+        return row >= 0 && (records.get(row * RECORD_SIZE + FLAGS) & SHIPPING_AND_HANDLING) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return "ZipRateTable rows=" + rowCount + " names=" + names.length + " effectiveDate=" + effectiveDate;
+    }
+
+    /**
+     * @return The row for the ZIP code and city, or -1
+     */
+    private int find(String postalCode, String city) {
+        int zip = zipOf(postalCode);
+
+        if (zip < 0) {
+            return -1;
+        }
+
+        // Find the first row for the zip
+        int low = 0;
+        int high = rowCount;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (records.getInt(middle * RECORD_SIZE + ZIP) < zip) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        if (low == rowCount || records.getInt(low * RECORD_SIZE + ZIP) != zip) {
+            return -1;
+        }
+
+        if (city != null) {
+            String wanted = city.trim();
+
+            for (int row = low; row < rowCount && records.getInt(row * RECORD_SIZE + ZIP) == zip; row++) {
+                if (names[records.getInt(row * RECORD_SIZE + CITY)].equalsIgnoreCase(wanted)) {
+                    return row;
+                }
+            }
+        }
+
+        return low;
+    }
+
+    private TaxRateModel toModel(int row, int state, int county, int city, int total) {
+        int offset = row * RECORD_SIZE;
+        int special = rateValue(row, total) - rateValue(row, state) - rateValue(row, county) - rateValue(row, city);
+        ArrayList<RateModel> rates = new ArrayList<RateModel>(4);
+
+        rates.add(rateModel(rateValue(row, state), new String(new char[] { (char)records.get(offset + STATE), (char)records.get(offset + STATE + 1) }).trim(), JurisdictionType.State));
+        rates.add(rateModel(rateValue(row, county), names[records.getInt(offset + COUNTY)], JurisdictionType.County));
+        rates.add(rateModel(rateValue(row, city), names[records.getInt(offset + CITY)], JurisdictionType.City));
+
+        // The total can differ from the sum of its parts because of special tax jurisdictions
+        if (special != 0) {
+            rates.add(rateModel(special, "SPECIAL", JurisdictionType.Special));
+        }
+
+        TaxRateModel model = new TaxRateModel();
+        model.setTotalRate(rate(row, total));
+        model.setRates(rates);
+        return model;
+    }
+
+    private int rateValue(int row, int rate) {
+        return records.getInt(row * RECORD_SIZE + RATES + rate * 4);
+    }
+
+    private BigDecimal rate(int row, int rate) {
+        return decimal(rateValue(row, rate));
+    }
+
+    private static RateModel rateModel(int value, String name, JurisdictionType type) {
+        RateModel model = new RateModel();
+        model.setRate(decimal(value));
+        model.setName(name);
+        model.setType(type);
+        return model;
+    }
+
+    private static BigDecimal decimal(int value) {
+        // BigDecimal.stripTrailingZeros does not normalize zero before Java 8
+        return value == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(value, RATE_SCALE).stripTrailingZeros();
+    }
+
+    private static int zipOf(String postalCode) {
+        if (postalCode == null) {
+            return -1;
+        }
+
+        String trimmed = postalCode.trim();
+
+        if (trimmed.length() < 5) {
+            return -1;
+        }
+
+        int zip = 0;
+
+        for (int i = 0; i < 5; i++) {
+            char c = trimmed.charAt(i);
+
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+
+            zip = zip * 10 + (c - '0');
+        }
+
+        return zip;
+    }
+
+    private static int parseZip(String value) {
+        String trimmed = value.trim();
+
+        // Spreadsheets often drop the leading zeros of New England zip codes
+        while (trimmed.length() < 5 && !trimmed.isEmpty()) {
+            trimmed = "0" + trimmed;
+        }
+
+        int zip = zipOf(trimmed);
+
+        if (zip < 0) {
+            throw new IllegalArgumentException("'" + value + "' is not a ZIP code");
+        }
+
+        return zip;
+    }
+
+    private static int parseRate(String value) {
+        String trimmed = value.trim();
+
+        if (trimmed.isEmpty()) {
+            return 0;
+        }
+
+        return new BigDecimal(trimmed).movePointRight(RATE_SCALE).setScale(0, RoundingMode.HALF_UP).intValueExact();
+    }
+
+    private static int requireColumn(Map<String, Integer> columns, String name) {
+        Integer column = columns.get(name);
+
+        if (column == null) {
+            throw new IllegalArgumentException("The rate file has no " + name + " column.");
+        }
+
+        return column;
+    }
+
+    private static int optionalColumn(Map<String, Integer> columns, String name) {
+        Integer column = columns.get(name);
+        return column != null ? column : -1;
+    }
+
+    private static String field(ArrayList<String> fields, int column) {
+        return column >= 0 && column < fields.size() ? fields.get(column) : "";
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer, int capacity) {
+        ByteBuffer grown = ByteBuffer.allocate(capacity);
+        buffer.clear();
+        grown.put(buffer);
+        grown.clear();
+        return grown;
+    }
+
+    /**
+     * Split one CSV line into fields, removing the quotes around quoted fields.
+     */
+    static ArrayList<String> splitCsv(String line, ArrayList<String> fields) {
+        fields.clear();
+        int length = line.length();
+        int i = 0;
+
+        while (true) {
+            if (i < length && line.charAt(i) == '"') {
+                StringBuilder field = new StringBuilder();
+                i++;
+
+                while (i < length) {
+                    char c = line.charAt(i++);
+
+                    if (c == '"') {
+                        if (i < length && line.charAt(i) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                }
+
+                fields.add(field.toString());
+
+                while (i < length && line.charAt(i) != ',') {
+                    i++;
+                }
+            } else {
+                int comma = line.indexOf(',', i);
+                int end = comma < 0 ? length : comma;
+                fields.add(line.substring(i, end));
+                i = end;
+            }
+
+            if (i >= length) {
+                return fields;
+            }
+
+            // Skip the comma
+            i++;
+        }
+    }
+
+    /**
+     * Assigns each distinct county or city name a number, so rows can refer to names without holding strings.
+     */
+    private static class NameTable {
+        private final Map<String, Integer> indexes = new HashMap<String, Integer>();
+        private final ArrayList<String> names = new ArrayList<String>();
+
+        int indexOf(String name) {
+            Integer index = indexes.get(name);
+
+            if (index == null) {
+                index = names.size();
+                indexes.put(name, index);
+                names.add(name);
+            }
+
+            return index;
+        }
+
+        String[] toArray() {
+            return names.toArray(new String[names.size()]);
+        }
+    }
+}
@@ -1,17 +1,38 @@
 package net.avalara.avatax.rest.client.serializer;
 
 import com.google.gson.*;
+import net.avalara.avatax.rest.client.serializer.adapters.ModelTypeAdapterFactory;
 
+import java.io.Reader;
 import java.lang.reflect.Type;
 
 public class JsonSerializer<T> {
-    private static Gson gson = new GsonBuilder().setDateFormat("yyyy-MM-dd'T'HH:mm:ss").create();
+    private static Gson gson = new GsonBuilder()
+            .setDateFormat("yyyy-MM-dd'T'HH:mm:ss")
+            .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+            .create();
 
     public static String SerializeObject(Object obj) {
         return gson.toJson(obj);
     }
 
+    /**
+     * Write the JSON for an object directly to a writer, without building it as a String first.
+     * The writer is neither flushed nor closed.
+     */
+    public static void SerializeObject(Object obj, Appendable writer) {
+        gson.toJson(obj, writer);
+    }
+
     public static Object DeserializeObject(String json, Type type) {
         return gson.fromJson(json, type);
     }
+
+    /**
+     * Parse JSON incrementally from a reader, without first buffering the whole document as a String.
+     * The reader is not closed.
+     */
+    public static Object DeserializeObject(Reader json, Type type) {
+        return gson.fromJson(json, type);
+    }
 }
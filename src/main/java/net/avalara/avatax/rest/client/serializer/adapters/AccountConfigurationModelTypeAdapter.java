@@ -0,0 +1,104 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes AccountConfigurationModel without reflection.
+ */
+public class AccountConfigurationModelTypeAdapter extends TypeAdapter<AccountConfigurationModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public AccountConfigurationModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, AccountConfigurationModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("category");
+        stringAdapter.write(out, value.getCategory());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("value");
+        stringAdapter.write(out, value.getValue());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.endObject();
+    }
+
+    @Override
+    public AccountConfigurationModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AccountConfigurationModel value = new AccountConfigurationModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "category":
+                    value.setCategory(stringAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "value":
+                    value.setValue(stringAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
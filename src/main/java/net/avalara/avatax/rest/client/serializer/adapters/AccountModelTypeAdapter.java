@@ -0,0 +1,130 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes AccountModel without reflection.
+ */
+public class AccountModelTypeAdapter extends TypeAdapter<AccountModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<AccountStatusId> accountStatusIdAdapter;
+    private final TypeAdapter<ArrayList<SubscriptionModel>> subscriptionModelListAdapter;
+    private final TypeAdapter<ArrayList<UserModel>> userModelListAdapter;
+
+    public AccountModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.accountStatusIdAdapter = gson.getAdapter(AccountStatusId.class);
+        this.subscriptionModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<SubscriptionModel>>(){});
+        this.userModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<UserModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, AccountModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("crmid");
+        stringAdapter.write(out, value.getCrmid());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("effectiveDate");
+        dateAdapter.write(out, value.getEffectiveDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("accountStatusId");
+        accountStatusIdAdapter.write(out, value.getAccountStatusId());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.name("subscriptions");
+        subscriptionModelListAdapter.write(out, value.getSubscriptions());
+        out.name("users");
+        userModelListAdapter.write(out, value.getUsers());
+        out.endObject();
+    }
+
+    @Override
+    public AccountModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AccountModel value = new AccountModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "crmid":
+                    value.setCrmid(stringAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "effectiveDate":
+                    value.setEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "accountStatusId":
+                    value.setAccountStatusId(accountStatusIdAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                case "subscriptions":
+                    value.setSubscriptions(subscriptionModelListAdapter.read(in));
+                    break;
+                case "users":
+                    value.setUsers(userModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,70 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ActivateAccountModel without reflection.
+ */
+public class ActivateAccountModelTypeAdapter extends TypeAdapter<ActivateAccountModel> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public ActivateAccountModelTypeAdapter(Gson gson) {
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ActivateAccountModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("acceptAvalaraTermsAndConditions");
+        booleanAdapter.write(out, value.getAcceptAvalaraTermsAndConditions());
+        out.name("haveReadAvalaraTermsAndConditions");
+        booleanAdapter.write(out, value.getHaveReadAvalaraTermsAndConditions());
+        out.endObject();
+    }
+
+    @Override
+    public ActivateAccountModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ActivateAccountModel value = new ActivateAccountModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "acceptAvalaraTermsAndConditions":
+                    value.setAcceptAvalaraTermsAndConditions(booleanAdapter.read(in));
+                    break;
+                case "haveReadAvalaraTermsAndConditions":
+                    value.setHaveReadAvalaraTermsAndConditions(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,91 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes AddTransactionLineModel without reflection.
+ */
+public class AddTransactionLineModelTypeAdapter extends TypeAdapter<AddTransactionLineModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<DocumentType> documentTypeAdapter;
+    private final TypeAdapter<ArrayList<LineItemModel>> lineItemModelListAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public AddTransactionLineModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.documentTypeAdapter = gson.getAdapter(DocumentType.class);
+        this.lineItemModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<LineItemModel>>(){});
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, AddTransactionLineModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("companyCode");
+        stringAdapter.write(out, value.getCompanyCode());
+        out.name("transactionCode");
+        stringAdapter.write(out, value.getTransactionCode());
+        out.name("documentType");
+        documentTypeAdapter.write(out, value.getDocumentType());
+        out.name("lines");
+        lineItemModelListAdapter.write(out, value.getLines());
+        out.name("renumber");
+        booleanAdapter.write(out, value.getRenumber());
+        out.endObject();
+    }
+
+    @Override
+    public AddTransactionLineModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AddTransactionLineModel value = new AddTransactionLineModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "companyCode":
+                    value.setCompanyCode(stringAdapter.read(in));
+                    break;
+                case "transactionCode":
+                    value.setTransactionCode(stringAdapter.read(in));
+                    break;
+                case "documentType":
+                    value.setDocumentType(documentTypeAdapter.read(in));
+                    break;
+                case "lines":
+                    value.setLines(lineItemModelListAdapter.read(in));
+                    break;
+                case "renumber":
+                    value.setRenumber(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
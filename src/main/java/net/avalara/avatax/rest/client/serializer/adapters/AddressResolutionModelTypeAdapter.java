@@ -0,0 +1,100 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes AddressResolutionModel without reflection.
+ */
+public class AddressResolutionModelTypeAdapter extends TypeAdapter<AddressResolutionModel> {
+    private final TypeAdapter<AddressInfo> addressInfoAdapter;
+    private final TypeAdapter<ArrayList<ValidatedAddressInfo>> validatedAddressInfoListAdapter;
+    private final TypeAdapter<CoordinateInfo> coordinateInfoAdapter;
+    private final TypeAdapter<ResolutionQuality> resolutionQualityAdapter;
+    private final TypeAdapter<ArrayList<TaxAuthorityInfo>> taxAuthorityInfoListAdapter;
+    private final TypeAdapter<ArrayList<AvaTaxMessage>> avaTaxMessageListAdapter;
+
+    public AddressResolutionModelTypeAdapter(Gson gson) {
+        this.addressInfoAdapter = gson.getAdapter(AddressInfo.class);
+        this.validatedAddressInfoListAdapter = gson.getAdapter(new TypeToken<ArrayList<ValidatedAddressInfo>>(){});
+        this.coordinateInfoAdapter = gson.getAdapter(CoordinateInfo.class);
+        this.resolutionQualityAdapter = gson.getAdapter(ResolutionQuality.class);
+        this.taxAuthorityInfoListAdapter = gson.getAdapter(new TypeToken<ArrayList<TaxAuthorityInfo>>(){});
+        this.avaTaxMessageListAdapter = gson.getAdapter(new TypeToken<ArrayList<AvaTaxMessage>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, AddressResolutionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("address");
+        addressInfoAdapter.write(out, value.getAddress());
+        out.name("validatedAddresses");
+        validatedAddressInfoListAdapter.write(out, value.getValidatedAddresses());
+        out.name("coordinates");
+        coordinateInfoAdapter.write(out, value.getCoordinates());
+        out.name("resolutionQuality");
+        resolutionQualityAdapter.write(out, value.getResolutionQuality());
+        out.name("taxAuthorities");
+        taxAuthorityInfoListAdapter.write(out, value.getTaxAuthorities());
+        out.name("messages");
+        avaTaxMessageListAdapter.write(out, value.getMessages());
+        out.endObject();
+    }
+
+    @Override
+    public AddressResolutionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AddressResolutionModel value = new AddressResolutionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "address":
+                    value.setAddress(addressInfoAdapter.read(in));
+                    break;
+                case "validatedAddresses":
+                    value.setValidatedAddresses(validatedAddressInfoListAdapter.read(in));
+                    break;
+                case "coordinates":
+                    value.setCoordinates(coordinateInfoAdapter.read(in));
+                    break;
+                case "resolutionQuality":
+                    value.setResolutionQuality(resolutionQualityAdapter.read(in));
+                    break;
+                case "taxAuthorities":
+                    value.setTaxAuthorities(taxAuthorityInfoListAdapter.read(in));
+                    break;
+                case "messages":
+                    value.setMessages(avaTaxMessageListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,114 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes AddressValidationInfo without reflection.
+ */
+public class AddressValidationInfoTypeAdapter extends TypeAdapter<AddressValidationInfo> {
+    private final TypeAdapter<TextCase> textCaseAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+
+    public AddressValidationInfoTypeAdapter(Gson gson) {
+        this.textCaseAdapter = gson.getAdapter(TextCase.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, AddressValidationInfo value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("textCase");
+        textCaseAdapter.write(out, value.getTextCase());
+        out.name("line1");
+        stringAdapter.write(out, value.getLine1());
+        out.name("line2");
+        stringAdapter.write(out, value.getLine2());
+        out.name("line3");
+        stringAdapter.write(out, value.getLine3());
+        out.name("city");
+        stringAdapter.write(out, value.getCity());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("postalCode");
+        stringAdapter.write(out, value.getPostalCode());
+        out.name("latitude");
+        bigDecimalAdapter.write(out, value.getLatitude());
+        out.name("longitude");
+        bigDecimalAdapter.write(out, value.getLongitude());
+        out.endObject();
+    }
+
+    @Override
+    public AddressValidationInfo read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AddressValidationInfo value = new AddressValidationInfo();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "textCase":
+                    value.setTextCase(textCaseAdapter.read(in));
+                    break;
+                case "line1":
+                    value.setLine1(stringAdapter.read(in));
+                    break;
+                case "line2":
+                    value.setLine2(stringAdapter.read(in));
+                    break;
+                case "line3":
+                    value.setLine3(stringAdapter.read(in));
+                    break;
+                case "city":
+                    value.setCity(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "postalCode":
+                    value.setPostalCode(stringAdapter.read(in));
+                    break;
+                case "latitude":
+                    value.setLatitude(bigDecimalAdapter.read(in));
+                    break;
+                case "longitude":
+                    value.setLongitude(bigDecimalAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
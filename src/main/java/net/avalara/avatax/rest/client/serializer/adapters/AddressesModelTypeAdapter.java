@@ -0,0 +1,85 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes AddressesModel without reflection.
+ */
+public class AddressesModelTypeAdapter extends TypeAdapter<AddressesModel> {
+    private final TypeAdapter<AddressLocationInfo> addressLocationInfoAdapter;
+
+    public AddressesModelTypeAdapter(Gson gson) {
+        this.addressLocationInfoAdapter = gson.getAdapter(AddressLocationInfo.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, AddressesModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("singleLocation");
+        addressLocationInfoAdapter.write(out, value.getSingleLocation());
+        out.name("shipFrom");
+        addressLocationInfoAdapter.write(out, value.getShipFrom());
+        out.name("shipTo");
+        addressLocationInfoAdapter.write(out, value.getShipTo());
+        out.name("pointOfOrderOrigin");
+        addressLocationInfoAdapter.write(out, value.getPointOfOrderOrigin());
+        out.name("pointOfOrderAcceptance");
+        addressLocationInfoAdapter.write(out, value.getPointOfOrderAcceptance());
+        out.endObject();
+    }
+
+    @Override
+    public AddressesModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AddressesModel value = new AddressesModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "singleLocation":
+                    value.setSingleLocation(addressLocationInfoAdapter.read(in));
+                    break;
+                case "shipFrom":
+                    value.setShipFrom(addressLocationInfoAdapter.read(in));
+                    break;
+                case "shipTo":
+                    value.setShipTo(addressLocationInfoAdapter.read(in));
+                    break;
+                case "pointOfOrderOrigin":
+                    value.setPointOfOrderOrigin(addressLocationInfoAdapter.read(in));
+                    break;
+                case "pointOfOrderAcceptance":
+                    value.setPointOfOrderAcceptance(addressLocationInfoAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
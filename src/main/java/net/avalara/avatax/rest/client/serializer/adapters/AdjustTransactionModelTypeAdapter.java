@@ -0,0 +1,79 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes AdjustTransactionModel without reflection.
+ */
+public class AdjustTransactionModelTypeAdapter extends TypeAdapter<AdjustTransactionModel> {
+    private final TypeAdapter<AdjustmentReason> adjustmentReasonAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<CreateTransactionModel> createTransactionModelAdapter;
+
+    public AdjustTransactionModelTypeAdapter(Gson gson) {
+        this.adjustmentReasonAdapter = gson.getAdapter(AdjustmentReason.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.createTransactionModelAdapter = gson.getAdapter(CreateTransactionModel.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, AdjustTransactionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("adjustmentReason");
+        adjustmentReasonAdapter.write(out, value.getAdjustmentReason());
+        out.name("adjustmentDescription");
+        stringAdapter.write(out, value.getAdjustmentDescription());
+        out.name("newTransaction");
+        createTransactionModelAdapter.write(out, value.getNewTransaction());
+        out.endObject();
+    }
+
+    @Override
+    public AdjustTransactionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AdjustTransactionModel value = new AdjustTransactionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "adjustmentReason":
+                    value.setAdjustmentReason(adjustmentReasonAdapter.read(in));
+                    break;
+                case "adjustmentDescription":
+                    value.setAdjustmentDescription(stringAdapter.read(in));
+                    break;
+                case "newTransaction":
+                    value.setNewTransaction(createTransactionModelAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,105 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes AdvancedRuleScriptModel without reflection.
+ */
+public class AdvancedRuleScriptModelTypeAdapter extends TypeAdapter<AdvancedRuleScriptModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<AdvancedRuleCrashBehavior> advancedRuleCrashBehaviorAdapter;
+    private final TypeAdapter<AdvancedRuleScriptType> advancedRuleScriptTypeAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public AdvancedRuleScriptModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.advancedRuleCrashBehaviorAdapter = gson.getAdapter(AdvancedRuleCrashBehavior.class);
+        this.advancedRuleScriptTypeAdapter = gson.getAdapter(AdvancedRuleScriptType.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, AdvancedRuleScriptModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("crashBehavior");
+        advancedRuleCrashBehaviorAdapter.write(out, value.getCrashBehavior());
+        out.name("scriptType");
+        advancedRuleScriptTypeAdapter.write(out, value.getScriptType());
+        out.name("script");
+        stringAdapter.write(out, value.getScript());
+        out.name("isApproved");
+        booleanAdapter.write(out, value.getIsApproved());
+        out.name("isDisabled");
+        booleanAdapter.write(out, value.getIsDisabled());
+        out.endObject();
+    }
+
+    @Override
+    public AdvancedRuleScriptModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AdvancedRuleScriptModel value = new AdvancedRuleScriptModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "crashBehavior":
+                    value.setCrashBehavior(advancedRuleCrashBehaviorAdapter.read(in));
+                    break;
+                case "scriptType":
+                    value.setScriptType(advancedRuleScriptTypeAdapter.read(in));
+                    break;
+                case "script":
+                    value.setScript(stringAdapter.read(in));
+                    break;
+                case "isApproved":
+                    value.setIsApproved(booleanAdapter.read(in));
+                    break;
+                case "isDisabled":
+                    value.setIsDisabled(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
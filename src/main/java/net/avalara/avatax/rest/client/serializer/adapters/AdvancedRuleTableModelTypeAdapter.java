@@ -0,0 +1,84 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes AdvancedRuleTableModel without reflection.
+ */
+public class AdvancedRuleTableModelTypeAdapter extends TypeAdapter<AdvancedRuleTableModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    public AdvancedRuleTableModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, AdvancedRuleTableModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("csvTableName");
+        stringAdapter.write(out, value.getCsvTableName());
+        out.name("csvTable");
+        stringAdapter.write(out, value.getCsvTable());
+        out.endObject();
+    }
+
+    @Override
+    public AdvancedRuleTableModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AdvancedRuleTableModel value = new AdvancedRuleTableModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "csvTableName":
+                    value.setCsvTableName(stringAdapter.read(in));
+                    break;
+                case "csvTable":
+                    value.setCsvTable(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
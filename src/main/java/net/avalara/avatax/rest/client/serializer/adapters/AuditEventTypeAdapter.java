@@ -0,0 +1,101 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes AuditEvent without reflection.
+ */
+public class AuditEventTypeAdapter extends TypeAdapter<AuditEvent> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    public AuditEventTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, AuditEvent value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("auditEventId");
+        longAdapter.write(out, value.getAuditEventId());
+        out.name("transactionId");
+        longAdapter.write(out, value.getTransactionId());
+        out.name("auditEventLevelId");
+        integerAdapter.write(out, value.getAuditEventLevelId());
+        out.name("eventTimestamp");
+        dateAdapter.write(out, value.getEventTimestamp());
+        out.name("source");
+        stringAdapter.write(out, value.getSource());
+        out.name("summary");
+        stringAdapter.write(out, value.getSummary());
+        out.name("details");
+        stringAdapter.write(out, value.getDetails());
+        out.endObject();
+    }
+
+    @Override
+    public AuditEvent read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AuditEvent value = new AuditEvent();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "auditEventId":
+                    value.setAuditEventId(longAdapter.read(in));
+                    break;
+                case "transactionId":
+                    value.setTransactionId(longAdapter.read(in));
+                    break;
+                case "auditEventLevelId":
+                    value.setAuditEventLevelId(integerAdapter.read(in));
+                    break;
+                case "eventTimestamp":
+                    value.setEventTimestamp(dateAdapter.read(in));
+                    break;
+                case "source":
+                    value.setSource(stringAdapter.read(in));
+                    break;
+                case "summary":
+                    value.setSummary(stringAdapter.read(in));
+                    break;
+                case "details":
+                    value.setDetails(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,237 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes AuditModel without reflection.
+ */
+public class AuditModelTypeAdapter extends TypeAdapter<AuditModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<ArrayList<AuditEvent>> auditEventListAdapter;
+    private final TypeAdapter<ArrayList<AuditModel>> auditModelListAdapter;
+
+    public AuditModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.auditEventListAdapter = gson.getAdapter(new TypeToken<ArrayList<AuditEvent>>(){});
+        this.auditModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<AuditModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, AuditModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("transactionId");
+        longAdapter.write(out, value.getTransactionId());
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("userId");
+        integerAdapter.write(out, value.getUserId());
+        out.name("ipAddress");
+        stringAdapter.write(out, value.getIpAddress());
+        out.name("machineName");
+        stringAdapter.write(out, value.getMachineName());
+        out.name("clientName");
+        stringAdapter.write(out, value.getClientName());
+        out.name("clientVersion");
+        stringAdapter.write(out, value.getClientVersion());
+        out.name("adapterName");
+        stringAdapter.write(out, value.getAdapterName());
+        out.name("adapterVersion");
+        stringAdapter.write(out, value.getAdapterVersion());
+        out.name("serverName");
+        stringAdapter.write(out, value.getServerName());
+        out.name("serverVersion");
+        stringAdapter.write(out, value.getServerVersion());
+        out.name("referenceId");
+        longAdapter.write(out, value.getReferenceId());
+        out.name("severityLevelId");
+        integerAdapter.write(out, value.getSeverityLevelId());
+        out.name("serverTimestamp");
+        dateAdapter.write(out, value.getServerTimestamp());
+        out.name("serverDuration");
+        integerAdapter.write(out, value.getServerDuration());
+        out.name("serviceName");
+        stringAdapter.write(out, value.getServiceName());
+        out.name("operation");
+        stringAdapter.write(out, value.getOperation());
+        out.name("referenceCode");
+        stringAdapter.write(out, value.getReferenceCode());
+        out.name("errorMessage");
+        stringAdapter.write(out, value.getErrorMessage());
+        out.name("auditMessage");
+        stringAdapter.write(out, value.getAuditMessage());
+        out.name("loadBalancerDuration");
+        integerAdapter.write(out, value.getLoadBalancerDuration());
+        out.name("recordCount");
+        integerAdapter.write(out, value.getRecordCount());
+        out.name("referenceAuthorization");
+        stringAdapter.write(out, value.getReferenceAuthorization());
+        out.name("isQueued");
+        booleanAdapter.write(out, value.getIsQueued());
+        out.name("databaseCallCount");
+        integerAdapter.write(out, value.getDatabaseCallCount());
+        out.name("databaseCallDuration");
+        stringAdapter.write(out, value.getDatabaseCallDuration());
+        out.name("remoteCallDuration");
+        stringAdapter.write(out, value.getRemoteCallDuration());
+        out.name("events");
+        auditEventListAdapter.write(out, value.getEvents());
+        out.name("requestUrl");
+        stringAdapter.write(out, value.getRequestUrl());
+        out.name("requestBody");
+        stringAdapter.write(out, value.getRequestBody());
+        out.name("responseStatus");
+        integerAdapter.write(out, value.getResponseStatus());
+        out.name("responseBody");
+        stringAdapter.write(out, value.getResponseBody());
+        out.name("remoteCalls");
+        auditModelListAdapter.write(out, value.getRemoteCalls());
+        out.endObject();
+    }
+
+    @Override
+    public AuditModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AuditModel value = new AuditModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "transactionId":
+                    value.setTransactionId(longAdapter.read(in));
+                    break;
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "userId":
+                    value.setUserId(integerAdapter.read(in));
+                    break;
+                case "ipAddress":
+                    value.setIpAddress(stringAdapter.read(in));
+                    break;
+                case "machineName":
+                    value.setMachineName(stringAdapter.read(in));
+                    break;
+                case "clientName":
+                    value.setClientName(stringAdapter.read(in));
+                    break;
+                case "clientVersion":
+                    value.setClientVersion(stringAdapter.read(in));
+                    break;
+                case "adapterName":
+                    value.setAdapterName(stringAdapter.read(in));
+                    break;
+                case "adapterVersion":
+                    value.setAdapterVersion(stringAdapter.read(in));
+                    break;
+                case "serverName":
+                    value.setServerName(stringAdapter.read(in));
+                    break;
+                case "serverVersion":
+                    value.setServerVersion(stringAdapter.read(in));
+                    break;
+                case "referenceId":
+                    value.setReferenceId(longAdapter.read(in));
+                    break;
+                case "severityLevelId":
+                    value.setSeverityLevelId(integerAdapter.read(in));
+                    break;
+                case "serverTimestamp":
+                    value.setServerTimestamp(dateAdapter.read(in));
+                    break;
+                case "serverDuration":
+                    value.setServerDuration(integerAdapter.read(in));
+                    break;
+                case "serviceName":
+                    value.setServiceName(stringAdapter.read(in));
+                    break;
+                case "operation":
+                    value.setOperation(stringAdapter.read(in));
+                    break;
+                case "referenceCode":
+                    value.setReferenceCode(stringAdapter.read(in));
+                    break;
+                case "errorMessage":
+                    value.setErrorMessage(stringAdapter.read(in));
+                    break;
+                case "auditMessage":
+                    value.setAuditMessage(stringAdapter.read(in));
+                    break;
+                case "loadBalancerDuration":
+                    value.setLoadBalancerDuration(integerAdapter.read(in));
+                    break;
+                case "recordCount":
+                    value.setRecordCount(integerAdapter.read(in));
+                    break;
+                case "referenceAuthorization":
+                    value.setReferenceAuthorization(stringAdapter.read(in));
+                    break;
+                case "isQueued":
+                    value.setIsQueued(booleanAdapter.read(in));
+                    break;
+                case "databaseCallCount":
+                    value.setDatabaseCallCount(integerAdapter.read(in));
+                    break;
+                case "databaseCallDuration":
+                    value.setDatabaseCallDuration(stringAdapter.read(in));
+                    break;
+                case "remoteCallDuration":
+                    value.setRemoteCallDuration(stringAdapter.read(in));
+                    break;
+                case "events":
+                    value.setEvents(auditEventListAdapter.read(in));
+                    break;
+                case "requestUrl":
+                    value.setRequestUrl(stringAdapter.read(in));
+                    break;
+                case "requestBody":
+                    value.setRequestBody(stringAdapter.read(in));
+                    break;
+                case "responseStatus":
+                    value.setResponseStatus(integerAdapter.read(in));
+                    break;
+                case "responseBody":
+                    value.setResponseBody(stringAdapter.read(in));
+                    break;
+                case "remoteCalls":
+                    value.setRemoteCalls(auditModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
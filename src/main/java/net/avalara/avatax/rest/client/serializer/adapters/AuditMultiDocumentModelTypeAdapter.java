@@ -0,0 +1,105 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes AuditMultiDocumentModel without reflection.
+ */
+public class AuditMultiDocumentModelTypeAdapter extends TypeAdapter<AuditMultiDocumentModel> {
+    private final TypeAdapter<ReconstructedMultiDocumentModel> reconstructedMultiDocumentModelAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<DocumentType> documentTypeAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<ApiCallStatus> apiCallStatusAdapter;
+    private final TypeAdapter<OriginalApiRequestResponseModel> originalApiRequestResponseModelAdapter;
+
+    public AuditMultiDocumentModelTypeAdapter(Gson gson) {
+        this.reconstructedMultiDocumentModelAdapter = gson.getAdapter(ReconstructedMultiDocumentModel.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.documentTypeAdapter = gson.getAdapter(DocumentType.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.apiCallStatusAdapter = gson.getAdapter(ApiCallStatus.class);
+        this.originalApiRequestResponseModelAdapter = gson.getAdapter(OriginalApiRequestResponseModel.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, AuditMultiDocumentModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("reconstructed");
+        reconstructedMultiDocumentModelAdapter.write(out, value.getReconstructed());
+        out.name("code");
+        stringAdapter.write(out, value.getCode());
+        out.name("type");
+        documentTypeAdapter.write(out, value.getType());
+        out.name("serverTimestamp");
+        dateAdapter.write(out, value.getServerTimestamp());
+        out.name("serverDuration");
+        dateAdapter.write(out, value.getServerDuration());
+        out.name("apiCallStatus");
+        apiCallStatusAdapter.write(out, value.getApiCallStatus());
+        out.name("original");
+        originalApiRequestResponseModelAdapter.write(out, value.getOriginal());
+        out.endObject();
+    }
+
+    @Override
+    public AuditMultiDocumentModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AuditMultiDocumentModel value = new AuditMultiDocumentModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "reconstructed":
+                    value.setReconstructed(reconstructedMultiDocumentModelAdapter.read(in));
+                    break;
+                case "code":
+                    value.setCode(stringAdapter.read(in));
+                    break;
+                case "type":
+                    value.setType(documentTypeAdapter.read(in));
+                    break;
+                case "serverTimestamp":
+                    value.setServerTimestamp(dateAdapter.read(in));
+                    break;
+                case "serverDuration":
+                    value.setServerDuration(dateAdapter.read(in));
+                    break;
+                case "apiCallStatus":
+                    value.setApiCallStatus(apiCallStatusAdapter.read(in));
+                    break;
+                case "original":
+                    value.setOriginal(originalApiRequestResponseModelAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
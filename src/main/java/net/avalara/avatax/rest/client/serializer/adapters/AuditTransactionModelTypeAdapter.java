@@ -0,0 +1,98 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes AuditTransactionModel without reflection.
+ */
+public class AuditTransactionModelTypeAdapter extends TypeAdapter<AuditTransactionModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<ReconstructedApiRequestResponseModel> reconstructedApiRequestResponseModelAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<ApiCallStatus> apiCallStatusAdapter;
+    private final TypeAdapter<OriginalApiRequestResponseModel> originalApiRequestResponseModelAdapter;
+
+    public AuditTransactionModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.reconstructedApiRequestResponseModelAdapter = gson.getAdapter(ReconstructedApiRequestResponseModel.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.apiCallStatusAdapter = gson.getAdapter(ApiCallStatus.class);
+        this.originalApiRequestResponseModelAdapter = gson.getAdapter(OriginalApiRequestResponseModel.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, AuditTransactionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("reconstructed");
+        reconstructedApiRequestResponseModelAdapter.write(out, value.getReconstructed());
+        out.name("serverTimestamp");
+        dateAdapter.write(out, value.getServerTimestamp());
+        out.name("serverDuration");
+        dateAdapter.write(out, value.getServerDuration());
+        out.name("apiCallStatus");
+        apiCallStatusAdapter.write(out, value.getApiCallStatus());
+        out.name("original");
+        originalApiRequestResponseModelAdapter.write(out, value.getOriginal());
+        out.endObject();
+    }
+
+    @Override
+    public AuditTransactionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AuditTransactionModel value = new AuditTransactionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "reconstructed":
+                    value.setReconstructed(reconstructedApiRequestResponseModelAdapter.read(in));
+                    break;
+                case "serverTimestamp":
+                    value.setServerTimestamp(dateAdapter.read(in));
+                    break;
+                case "serverDuration":
+                    value.setServerDuration(dateAdapter.read(in));
+                    break;
+                case "apiCallStatus":
+                    value.setApiCallStatus(apiCallStatusAdapter.read(in));
+                    break;
+                case "original":
+                    value.setOriginal(originalApiRequestResponseModelAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
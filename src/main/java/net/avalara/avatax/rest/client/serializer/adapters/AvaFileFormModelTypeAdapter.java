@@ -0,0 +1,166 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes AvaFileFormModel without reflection.
+ */
+public class AvaFileFormModelTypeAdapter extends TypeAdapter<AvaFileFormModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<FormTypeId> formTypeIdAdapter;
+    private final TypeAdapter<FilingOptionTypeId> filingOptionTypeIdAdapter;
+    private final TypeAdapter<DueDateTypeId> dueDateTypeIdAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<RoundingTypeId> roundingTypeIdAdapter;
+    private final TypeAdapter<OutletTypeId> outletTypeIdAdapter;
+
+    public AvaFileFormModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.formTypeIdAdapter = gson.getAdapter(FormTypeId.class);
+        this.filingOptionTypeIdAdapter = gson.getAdapter(FilingOptionTypeId.class);
+        this.dueDateTypeIdAdapter = gson.getAdapter(DueDateTypeId.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.roundingTypeIdAdapter = gson.getAdapter(RoundingTypeId.class);
+        this.outletTypeIdAdapter = gson.getAdapter(OutletTypeId.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, AvaFileFormModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("returnName");
+        stringAdapter.write(out, value.getReturnName());
+        out.name("formName");
+        stringAdapter.write(out, value.getFormName());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("effDate");
+        dateAdapter.write(out, value.getEffDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("formTypeId");
+        formTypeIdAdapter.write(out, value.getFormTypeId());
+        out.name("filingOptionTypeId");
+        filingOptionTypeIdAdapter.write(out, value.getFilingOptionTypeId());
+        out.name("dueDateTypeId");
+        dueDateTypeIdAdapter.write(out, value.getDueDateTypeId());
+        out.name("dueDay");
+        integerAdapter.write(out, value.getDueDay());
+        out.name("efileDueDateTypeId");
+        dueDateTypeIdAdapter.write(out, value.getEfileDueDateTypeId());
+        out.name("efileDueDay");
+        integerAdapter.write(out, value.getEfileDueDay());
+        out.name("efileDueTime");
+        dateAdapter.write(out, value.getEfileDueTime());
+        out.name("hasVendorDiscount");
+        booleanAdapter.write(out, value.getHasVendorDiscount());
+        out.name("roundingTypeId");
+        roundingTypeIdAdapter.write(out, value.getRoundingTypeId());
+        out.name("outletTypeId");
+        outletTypeIdAdapter.write(out, value.getOutletTypeId());
+        out.endObject();
+    }
+
+    @Override
+    public AvaFileFormModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AvaFileFormModel value = new AvaFileFormModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "returnName":
+                    value.setReturnName(stringAdapter.read(in));
+                    break;
+                case "formName":
+                    value.setFormName(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "effDate":
+                    value.setEffDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "formTypeId":
+                    value.setFormTypeId(formTypeIdAdapter.read(in));
+                    break;
+                case "filingOptionTypeId":
+                    value.setFilingOptionTypeId(filingOptionTypeIdAdapter.read(in));
+                    break;
+                case "dueDateTypeId":
+                    value.setDueDateTypeId(dueDateTypeIdAdapter.read(in));
+                    break;
+                case "dueDay":
+                    value.setDueDay(integerAdapter.read(in));
+                    break;
+                case "efileDueDateTypeId":
+                    value.setEfileDueDateTypeId(dueDateTypeIdAdapter.read(in));
+                    break;
+                case "efileDueDay":
+                    value.setEfileDueDay(integerAdapter.read(in));
+                    break;
+                case "efileDueTime":
+                    value.setEfileDueTime(dateAdapter.read(in));
+                    break;
+                case "hasVendorDiscount":
+                    value.setHasVendorDiscount(booleanAdapter.read(in));
+                    break;
+                case "roundingTypeId":
+                    value.setRoundingTypeId(roundingTypeIdAdapter.read(in));
+                    break;
+                case "outletTypeId":
+                    value.setOutletTypeId(outletTypeIdAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
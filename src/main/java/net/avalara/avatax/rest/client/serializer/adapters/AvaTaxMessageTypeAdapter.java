@@ -0,0 +1,85 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes AvaTaxMessage without reflection.
+ */
+public class AvaTaxMessageTypeAdapter extends TypeAdapter<AvaTaxMessage> {
+    private final TypeAdapter<String> stringAdapter;
+
+    public AvaTaxMessageTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, AvaTaxMessage value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("summary");
+        stringAdapter.write(out, value.getSummary());
+        out.name("details");
+        stringAdapter.write(out, value.getDetails());
+        out.name("refersTo");
+        stringAdapter.write(out, value.getRefersTo());
+        out.name("severity");
+        stringAdapter.write(out, value.getSeverity());
+        out.name("source");
+        stringAdapter.write(out, value.getSource());
+        out.endObject();
+    }
+
+    @Override
+    public AvaTaxMessage read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        AvaTaxMessage value = new AvaTaxMessage();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "summary":
+                    value.setSummary(stringAdapter.read(in));
+                    break;
+                case "details":
+                    value.setDetails(stringAdapter.read(in));
+                    break;
+                case "refersTo":
+                    value.setRefersTo(stringAdapter.read(in));
+                    break;
+                case "severity":
+                    value.setSeverity(stringAdapter.read(in));
+                    break;
+                case "source":
+                    value.setSource(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,107 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes BatchFileModel without reflection.
+ */
+public class BatchFileModelTypeAdapter extends TypeAdapter<BatchFileModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    public BatchFileModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, BatchFileModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("batchId");
+        integerAdapter.write(out, value.getBatchId());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("content");
+        stringAdapter.write(out, value.getContent());
+        out.name("contentLength");
+        integerAdapter.write(out, value.getContentLength());
+        out.name("contentType");
+        stringAdapter.write(out, value.getContentType());
+        out.name("fileExtension");
+        stringAdapter.write(out, value.getFileExtension());
+        out.name("filePath");
+        stringAdapter.write(out, value.getFilePath());
+        out.name("errorCount");
+        integerAdapter.write(out, value.getErrorCount());
+        out.endObject();
+    }
+
+    @Override
+    public BatchFileModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        BatchFileModel value = new BatchFileModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "batchId":
+                    value.setBatchId(integerAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "content":
+                    value.setContent(stringAdapter.read(in));
+                    break;
+                case "contentLength":
+                    value.setContentLength(integerAdapter.read(in));
+                    break;
+                case "contentType":
+                    value.setContentType(stringAdapter.read(in));
+                    break;
+                case "fileExtension":
+                    value.setFileExtension(stringAdapter.read(in));
+                    break;
+                case "filePath":
+                    value.setFilePath(stringAdapter.read(in));
+                    break;
+                case "errorCount":
+                    value.setErrorCount(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,155 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes BatchModel without reflection.
+ */
+public class BatchModelTypeAdapter extends TypeAdapter<BatchModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<BatchType> batchTypeAdapter;
+    private final TypeAdapter<BatchStatus> batchStatusAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<ArrayList<BatchFileModel>> batchFileModelListAdapter;
+
+    public BatchModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.batchTypeAdapter = gson.getAdapter(BatchType.class);
+        this.batchStatusAdapter = gson.getAdapter(BatchStatus.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.batchFileModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<BatchFileModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, BatchModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("type");
+        batchTypeAdapter.write(out, value.getType());
+        out.name("status");
+        batchStatusAdapter.write(out, value.getStatus());
+        out.name("options");
+        stringAdapter.write(out, value.getOptions());
+        out.name("batchAgent");
+        stringAdapter.write(out, value.getBatchAgent());
+        out.name("startedDate");
+        dateAdapter.write(out, value.getStartedDate());
+        out.name("recordCount");
+        integerAdapter.write(out, value.getRecordCount());
+        out.name("currentRecord");
+        integerAdapter.write(out, value.getCurrentRecord());
+        out.name("completedDate");
+        dateAdapter.write(out, value.getCompletedDate());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.name("files");
+        batchFileModelListAdapter.write(out, value.getFiles());
+        out.endObject();
+    }
+
+    @Override
+    public BatchModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        BatchModel value = new BatchModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "type":
+                    value.setType(batchTypeAdapter.read(in));
+                    break;
+                case "status":
+                    value.setStatus(batchStatusAdapter.read(in));
+                    break;
+                case "options":
+                    value.setOptions(stringAdapter.read(in));
+                    break;
+                case "batchAgent":
+                    value.setBatchAgent(stringAdapter.read(in));
+                    break;
+                case "startedDate":
+                    value.setStartedDate(dateAdapter.read(in));
+                    break;
+                case "recordCount":
+                    value.setRecordCount(integerAdapter.read(in));
+                    break;
+                case "currentRecord":
+                    value.setCurrentRecord(integerAdapter.read(in));
+                    break;
+                case "completedDate":
+                    value.setCompletedDate(dateAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                case "files":
+                    value.setFiles(batchFileModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,72 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes BulkLockTransactionModel without reflection.
+ */
+public class BulkLockTransactionModelTypeAdapter extends TypeAdapter<BulkLockTransactionModel> {
+    private final TypeAdapter<ArrayList<Long>> longListAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public BulkLockTransactionModelTypeAdapter(Gson gson) {
+        this.longListAdapter = gson.getAdapter(new TypeToken<ArrayList<Long>>(){});
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, BulkLockTransactionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("documentIds");
+        longListAdapter.write(out, value.getDocumentIds());
+        out.name("isLocked");
+        booleanAdapter.write(out, value.getIsLocked());
+        out.endObject();
+    }
+
+    @Override
+    public BulkLockTransactionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        BulkLockTransactionModel value = new BulkLockTransactionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "documentIds":
+                    value.setDocumentIds(longListAdapter.read(in));
+                    break;
+                case "isLocked":
+                    value.setIsLocked(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,65 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes BulkLockTransactionResult without reflection.
+ */
+public class BulkLockTransactionResultTypeAdapter extends TypeAdapter<BulkLockTransactionResult> {
+    private final TypeAdapter<Integer> integerAdapter;
+
+    public BulkLockTransactionResultTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, BulkLockTransactionResult value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("numberOfRecords");
+        integerAdapter.write(out, value.getNumberOfRecords());
+        out.endObject();
+    }
+
+    @Override
+    public BulkLockTransactionResult read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        BulkLockTransactionResult value = new BulkLockTransactionResult();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "numberOfRecords":
+                    value.setNumberOfRecords(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,144 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CertExpressInvitationModel without reflection.
+ */
+public class CertExpressInvitationModelTypeAdapter extends TypeAdapter<CertExpressInvitationModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<CustomerModel> customerModelAdapter;
+    private final TypeAdapter<CoverLetterModel> coverLetterModelAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<ArrayList<Integer>> integerListAdapter;
+    private final TypeAdapter<CertificateRequestDeliveryMethod> certificateRequestDeliveryMethodAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public CertExpressInvitationModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.customerModelAdapter = gson.getAdapter(CustomerModel.class);
+        this.coverLetterModelAdapter = gson.getAdapter(CoverLetterModel.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.integerListAdapter = gson.getAdapter(new TypeToken<ArrayList<Integer>>(){});
+        this.certificateRequestDeliveryMethodAdapter = gson.getAdapter(CertificateRequestDeliveryMethod.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CertExpressInvitationModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("recipient");
+        stringAdapter.write(out, value.getRecipient());
+        out.name("customerCode");
+        stringAdapter.write(out, value.getCustomerCode());
+        out.name("customer");
+        customerModelAdapter.write(out, value.getCustomer());
+        out.name("coverLetter");
+        coverLetterModelAdapter.write(out, value.getCoverLetter());
+        out.name("emailStatus");
+        stringAdapter.write(out, value.getEmailStatus());
+        out.name("coverLettersOnly");
+        booleanAdapter.write(out, value.getCoverLettersOnly());
+        out.name("exposureZones");
+        integerListAdapter.write(out, value.getExposureZones());
+        out.name("exemptReasons");
+        integerListAdapter.write(out, value.getExemptReasons());
+        out.name("deliveryMethod");
+        certificateRequestDeliveryMethodAdapter.write(out, value.getDeliveryMethod());
+        out.name("message");
+        stringAdapter.write(out, value.getMessage());
+        out.name("date");
+        dateAdapter.write(out, value.getDate());
+        out.name("requestLink");
+        stringAdapter.write(out, value.getRequestLink());
+        out.endObject();
+    }
+
+    @Override
+    public CertExpressInvitationModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CertExpressInvitationModel value = new CertExpressInvitationModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "recipient":
+                    value.setRecipient(stringAdapter.read(in));
+                    break;
+                case "customerCode":
+                    value.setCustomerCode(stringAdapter.read(in));
+                    break;
+                case "customer":
+                    value.setCustomer(customerModelAdapter.read(in));
+                    break;
+                case "coverLetter":
+                    value.setCoverLetter(coverLetterModelAdapter.read(in));
+                    break;
+                case "emailStatus":
+                    value.setEmailStatus(stringAdapter.read(in));
+                    break;
+                case "coverLettersOnly":
+                    value.setCoverLettersOnly(booleanAdapter.read(in));
+                    break;
+                case "exposureZones":
+                    value.setExposureZones(integerListAdapter.read(in));
+                    break;
+                case "exemptReasons":
+                    value.setExemptReasons(integerListAdapter.read(in));
+                    break;
+                case "deliveryMethod":
+                    value.setDeliveryMethod(certificateRequestDeliveryMethodAdapter.read(in));
+                    break;
+                case "message":
+                    value.setMessage(stringAdapter.read(in));
+                    break;
+                case "date":
+                    value.setDate(dateAdapter.read(in));
+                    break;
+                case "requestLink":
+                    value.setRequestLink(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
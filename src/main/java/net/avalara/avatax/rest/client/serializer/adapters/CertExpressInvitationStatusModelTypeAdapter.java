@@ -0,0 +1,72 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CertExpressInvitationStatusModel without reflection.
+ */
+public class CertExpressInvitationStatusModelTypeAdapter extends TypeAdapter<CertExpressInvitationStatusModel> {
+    private final TypeAdapter<CertExpressInvitationStatus> certExpressInvitationStatusAdapter;
+    private final TypeAdapter<CertExpressInvitationModel> certExpressInvitationModelAdapter;
+
+    public CertExpressInvitationStatusModelTypeAdapter(Gson gson) {
+        this.certExpressInvitationStatusAdapter = gson.getAdapter(CertExpressInvitationStatus.class);
+        this.certExpressInvitationModelAdapter = gson.getAdapter(CertExpressInvitationModel.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CertExpressInvitationStatusModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("status");
+        certExpressInvitationStatusAdapter.write(out, value.getStatus());
+        out.name("invitation");
+        certExpressInvitationModelAdapter.write(out, value.getInvitation());
+        out.endObject();
+    }
+
+    @Override
+    public CertExpressInvitationStatusModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CertExpressInvitationStatusModel value = new CertExpressInvitationStatusModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "status":
+                    value.setStatus(certExpressInvitationStatusAdapter.read(in));
+                    break;
+                case "invitation":
+                    value.setInvitation(certExpressInvitationModelAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
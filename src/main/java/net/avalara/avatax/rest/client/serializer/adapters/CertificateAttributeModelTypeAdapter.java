@@ -0,0 +1,84 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CertificateAttributeModel without reflection.
+ */
+public class CertificateAttributeModelTypeAdapter extends TypeAdapter<CertificateAttributeModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public CertificateAttributeModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CertificateAttributeModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("isSystemCode");
+        booleanAdapter.write(out, value.getIsSystemCode());
+        out.endObject();
+    }
+
+    @Override
+    public CertificateAttributeModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CertificateAttributeModel value = new CertificateAttributeModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "isSystemCode":
+                    value.setIsSystemCode(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
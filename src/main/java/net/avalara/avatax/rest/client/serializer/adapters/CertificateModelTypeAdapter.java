@@ -0,0 +1,180 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CertificateModel without reflection.
+ */
+public class CertificateModelTypeAdapter extends TypeAdapter<CertificateModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<ExemptionReasonModel> exemptionReasonModelAdapter;
+    private final TypeAdapter<ArrayList<CustomerModel>> customerModelListAdapter;
+    private final TypeAdapter<ArrayList<PoNumberModel>> poNumberModelListAdapter;
+    private final TypeAdapter<ExposureZoneModel> exposureZoneModelAdapter;
+    private final TypeAdapter<ArrayList<CertificateAttributeModel>> certificateAttributeModelListAdapter;
+    private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+    public CertificateModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.exemptionReasonModelAdapter = gson.getAdapter(ExemptionReasonModel.class);
+        this.customerModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<CustomerModel>>(){});
+        this.poNumberModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<PoNumberModel>>(){});
+        this.exposureZoneModelAdapter = gson.getAdapter(ExposureZoneModel.class);
+        this.certificateAttributeModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<CertificateAttributeModel>>(){});
+        this.stringListAdapter = gson.getAdapter(new TypeToken<ArrayList<String>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, CertificateModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("signedDate");
+        dateAdapter.write(out, value.getSignedDate());
+        out.name("expirationDate");
+        dateAdapter.write(out, value.getExpirationDate());
+        out.name("filename");
+        stringAdapter.write(out, value.getFilename());
+        out.name("valid");
+        booleanAdapter.write(out, value.getValid());
+        out.name("verified");
+        booleanAdapter.write(out, value.getVerified());
+        out.name("exemptPercentage");
+        bigDecimalAdapter.write(out, value.getExemptPercentage());
+        out.name("isSingleCertificate");
+        booleanAdapter.write(out, value.getIsSingleCertificate());
+        out.name("validatedExemptionReason");
+        exemptionReasonModelAdapter.write(out, value.getValidatedExemptionReason());
+        out.name("exemptionReason");
+        exemptionReasonModelAdapter.write(out, value.getExemptionReason());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("pageCount");
+        integerAdapter.write(out, value.getPageCount());
+        out.name("customers");
+        customerModelListAdapter.write(out, value.getCustomers());
+        out.name("poNumbers");
+        poNumberModelListAdapter.write(out, value.getPoNumbers());
+        out.name("exposureZone");
+        exposureZoneModelAdapter.write(out, value.getExposureZone());
+        out.name("attributes");
+        certificateAttributeModelListAdapter.write(out, value.getAttributes());
+        out.name("pdf");
+        stringAdapter.write(out, value.getPdf());
+        out.name("pages");
+        stringListAdapter.write(out, value.getPages());
+        out.endObject();
+    }
+
+    @Override
+    public CertificateModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CertificateModel value = new CertificateModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "signedDate":
+                    value.setSignedDate(dateAdapter.read(in));
+                    break;
+                case "expirationDate":
+                    value.setExpirationDate(dateAdapter.read(in));
+                    break;
+                case "filename":
+                    value.setFilename(stringAdapter.read(in));
+                    break;
+                case "valid":
+                    value.setValid(booleanAdapter.read(in));
+                    break;
+                case "verified":
+                    value.setVerified(booleanAdapter.read(in));
+                    break;
+                case "exemptPercentage":
+                    value.setExemptPercentage(bigDecimalAdapter.read(in));
+                    break;
+                case "isSingleCertificate":
+                    value.setIsSingleCertificate(booleanAdapter.read(in));
+                    break;
+                case "validatedExemptionReason":
+                    value.setValidatedExemptionReason(exemptionReasonModelAdapter.read(in));
+                    break;
+                case "exemptionReason":
+                    value.setExemptionReason(exemptionReasonModelAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "pageCount":
+                    value.setPageCount(integerAdapter.read(in));
+                    break;
+                case "customers":
+                    value.setCustomers(customerModelListAdapter.read(in));
+                    break;
+                case "poNumbers":
+                    value.setPoNumbers(poNumberModelListAdapter.read(in));
+                    break;
+                case "exposureZone":
+                    value.setExposureZone(exposureZoneModelAdapter.read(in));
+                    break;
+                case "attributes":
+                    value.setAttributes(certificateAttributeModelListAdapter.read(in));
+                    break;
+                case "pdf":
+                    value.setPdf(stringAdapter.read(in));
+                    break;
+                case "pages":
+                    value.setPages(stringListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,65 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ChangeTransactionCodeModel without reflection.
+ */
+public class ChangeTransactionCodeModelTypeAdapter extends TypeAdapter<ChangeTransactionCodeModel> {
+    private final TypeAdapter<String> stringAdapter;
+
+    public ChangeTransactionCodeModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ChangeTransactionCodeModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("newCode");
+        stringAdapter.write(out, value.getNewCode());
+        out.endObject();
+    }
+
+    @Override
+    public ChangeTransactionCodeModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ChangeTransactionCodeModel value = new ChangeTransactionCodeModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "newCode":
+                    value.setNewCode(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
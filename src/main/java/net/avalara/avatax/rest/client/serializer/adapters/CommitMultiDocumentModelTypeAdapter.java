@@ -0,0 +1,79 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CommitMultiDocumentModel without reflection.
+ */
+public class CommitMultiDocumentModelTypeAdapter extends TypeAdapter<CommitMultiDocumentModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<DocumentType> documentTypeAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public CommitMultiDocumentModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.documentTypeAdapter = gson.getAdapter(DocumentType.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CommitMultiDocumentModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("code");
+        stringAdapter.write(out, value.getCode());
+        out.name("type");
+        documentTypeAdapter.write(out, value.getType());
+        out.name("commit");
+        booleanAdapter.write(out, value.getCommit());
+        out.endObject();
+    }
+
+    @Override
+    public CommitMultiDocumentModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CommitMultiDocumentModel value = new CommitMultiDocumentModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "code":
+                    value.setCode(stringAdapter.read(in));
+                    break;
+                case "type":
+                    value.setType(documentTypeAdapter.read(in));
+                    break;
+                case "commit":
+                    value.setCommit(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,94 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CommunicationsTSPairModel without reflection.
+ */
+public class CommunicationsTSPairModelTypeAdapter extends TypeAdapter<CommunicationsTSPairModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+    public CommunicationsTSPairModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.stringListAdapter = gson.getAdapter(new TypeToken<ArrayList<String>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, CommunicationsTSPairModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("transactionTypeId");
+        integerAdapter.write(out, value.getTransactionTypeId());
+        out.name("serviceTypeId");
+        integerAdapter.write(out, value.getServiceTypeId());
+        out.name("transactionType");
+        stringAdapter.write(out, value.getTransactionType());
+        out.name("serviceType");
+        stringAdapter.write(out, value.getServiceType());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("requiredParameters");
+        stringListAdapter.write(out, value.getRequiredParameters());
+        out.endObject();
+    }
+
+    @Override
+    public CommunicationsTSPairModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CommunicationsTSPairModel value = new CommunicationsTSPairModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "transactionTypeId":
+                    value.setTransactionTypeId(integerAdapter.read(in));
+                    break;
+                case "serviceTypeId":
+                    value.setServiceTypeId(integerAdapter.read(in));
+                    break;
+                case "transactionType":
+                    value.setTransactionType(stringAdapter.read(in));
+                    break;
+                case "serviceType":
+                    value.setServiceType(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "requiredParameters":
+                    value.setRequiredParameters(stringListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
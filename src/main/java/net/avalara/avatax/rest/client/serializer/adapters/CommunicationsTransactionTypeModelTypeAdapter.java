@@ -0,0 +1,72 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CommunicationsTransactionTypeModel without reflection.
+ */
+public class CommunicationsTransactionTypeModelTypeAdapter extends TypeAdapter<CommunicationsTransactionTypeModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    public CommunicationsTransactionTypeModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CommunicationsTransactionTypeModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("transactionTypeId");
+        integerAdapter.write(out, value.getTransactionTypeId());
+        out.name("transactionType");
+        stringAdapter.write(out, value.getTransactionType());
+        out.endObject();
+    }
+
+    @Override
+    public CommunicationsTransactionTypeModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CommunicationsTransactionTypeModel value = new CommunicationsTransactionTypeModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "transactionTypeId":
+                    value.setTransactionTypeId(integerAdapter.read(in));
+                    break;
+                case "transactionType":
+                    value.setTransactionType(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
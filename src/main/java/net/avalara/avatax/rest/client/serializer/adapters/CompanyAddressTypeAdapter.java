@@ -0,0 +1,85 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CompanyAddress without reflection.
+ */
+public class CompanyAddressTypeAdapter extends TypeAdapter<CompanyAddress> {
+    private final TypeAdapter<String> stringAdapter;
+
+    public CompanyAddressTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CompanyAddress value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("line");
+        stringAdapter.write(out, value.getLine());
+        out.name("city");
+        stringAdapter.write(out, value.getCity());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("postalCode");
+        stringAdapter.write(out, value.getPostalCode());
+        out.endObject();
+    }
+
+    @Override
+    public CompanyAddress read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CompanyAddress value = new CompanyAddress();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "line":
+                    value.setLine(stringAdapter.read(in));
+                    break;
+                case "city":
+                    value.setCity(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "postalCode":
+                    value.setPostalCode(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
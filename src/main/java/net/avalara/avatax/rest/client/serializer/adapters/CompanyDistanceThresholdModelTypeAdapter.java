@@ -0,0 +1,108 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CompanyDistanceThresholdModel without reflection.
+ */
+public class CompanyDistanceThresholdModelTypeAdapter extends TypeAdapter<CompanyDistanceThresholdModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public CompanyDistanceThresholdModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CompanyDistanceThresholdModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("originCountry");
+        stringAdapter.write(out, value.getOriginCountry());
+        out.name("destinationCountry");
+        stringAdapter.write(out, value.getDestinationCountry());
+        out.name("effDate");
+        dateAdapter.write(out, value.getEffDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("thresholdExceeded");
+        booleanAdapter.write(out, value.getThresholdExceeded());
+        out.name("type");
+        stringAdapter.write(out, value.getType());
+        out.endObject();
+    }
+
+    @Override
+    public CompanyDistanceThresholdModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CompanyDistanceThresholdModel value = new CompanyDistanceThresholdModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "originCountry":
+                    value.setOriginCountry(stringAdapter.read(in));
+                    break;
+                case "destinationCountry":
+                    value.setDestinationCountry(stringAdapter.read(in));
+                    break;
+                case "effDate":
+                    value.setEffDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "thresholdExceeded":
+                    value.setThresholdExceeded(booleanAdapter.read(in));
+                    break;
+                case "type":
+                    value.setType(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
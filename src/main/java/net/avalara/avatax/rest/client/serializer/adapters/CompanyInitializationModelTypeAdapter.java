@@ -0,0 +1,157 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CompanyInitializationModel without reflection.
+ */
+public class CompanyInitializationModelTypeAdapter extends TypeAdapter<CompanyInitializationModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+
+    public CompanyInitializationModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CompanyInitializationModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("companyCode");
+        stringAdapter.write(out, value.getCompanyCode());
+        out.name("vatRegistrationId");
+        stringAdapter.write(out, value.getVatRegistrationId());
+        out.name("taxpayerIdNumber");
+        stringAdapter.write(out, value.getTaxpayerIdNumber());
+        out.name("line1");
+        stringAdapter.write(out, value.getLine1());
+        out.name("line2");
+        stringAdapter.write(out, value.getLine2());
+        out.name("line3");
+        stringAdapter.write(out, value.getLine3());
+        out.name("city");
+        stringAdapter.write(out, value.getCity());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("postalCode");
+        stringAdapter.write(out, value.getPostalCode());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("firstName");
+        stringAdapter.write(out, value.getFirstName());
+        out.name("lastName");
+        stringAdapter.write(out, value.getLastName());
+        out.name("title");
+        stringAdapter.write(out, value.getTitle());
+        out.name("email");
+        stringAdapter.write(out, value.getEmail());
+        out.name("phoneNumber");
+        stringAdapter.write(out, value.getPhoneNumber());
+        out.name("mobileNumber");
+        stringAdapter.write(out, value.getMobileNumber());
+        out.name("faxNumber");
+        stringAdapter.write(out, value.getFaxNumber());
+        out.name("parentCompanyId");
+        integerAdapter.write(out, value.getParentCompanyId());
+        out.endObject();
+    }
+
+    @Override
+    public CompanyInitializationModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CompanyInitializationModel value = new CompanyInitializationModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "companyCode":
+                    value.setCompanyCode(stringAdapter.read(in));
+                    break;
+                case "vatRegistrationId":
+                    value.setVatRegistrationId(stringAdapter.read(in));
+                    break;
+                case "taxpayerIdNumber":
+                    value.setTaxpayerIdNumber(stringAdapter.read(in));
+                    break;
+                case "line1":
+                    value.setLine1(stringAdapter.read(in));
+                    break;
+                case "line2":
+                    value.setLine2(stringAdapter.read(in));
+                    break;
+                case "line3":
+                    value.setLine3(stringAdapter.read(in));
+                    break;
+                case "city":
+                    value.setCity(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "postalCode":
+                    value.setPostalCode(stringAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "firstName":
+                    value.setFirstName(stringAdapter.read(in));
+                    break;
+                case "lastName":
+                    value.setLastName(stringAdapter.read(in));
+                    break;
+                case "title":
+                    value.setTitle(stringAdapter.read(in));
+                    break;
+                case "email":
+                    value.setEmail(stringAdapter.read(in));
+                    break;
+                case "phoneNumber":
+                    value.setPhoneNumber(stringAdapter.read(in));
+                    break;
+                case "mobileNumber":
+                    value.setMobileNumber(stringAdapter.read(in));
+                    break;
+                case "faxNumber":
+                    value.setFaxNumber(stringAdapter.read(in));
+                    break;
+                case "parentCompanyId":
+                    value.setParentCompanyId(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,268 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CompanyModel without reflection.
+ */
+public class CompanyModelTypeAdapter extends TypeAdapter<CompanyModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<RoundingLevelId> roundingLevelIdAdapter;
+    private final TypeAdapter<TaxDependencyLevelId> taxDependencyLevelIdAdapter;
+    private final TypeAdapter<ArrayList<ContactModel>> contactModelListAdapter;
+    private final TypeAdapter<ArrayList<ItemModel>> itemModelListAdapter;
+    private final TypeAdapter<ArrayList<LocationModel>> locationModelListAdapter;
+    private final TypeAdapter<ArrayList<NexusModel>> nexusModelListAdapter;
+    private final TypeAdapter<ArrayList<SettingModel>> settingModelListAdapter;
+    private final TypeAdapter<ArrayList<TaxCodeModel>> taxCodeModelListAdapter;
+    private final TypeAdapter<ArrayList<TaxRuleModel>> taxRuleModelListAdapter;
+    private final TypeAdapter<ArrayList<UPCModel>> uPCModelListAdapter;
+    private final TypeAdapter<ArrayList<EcmsModel>> ecmsModelListAdapter;
+
+    public CompanyModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.roundingLevelIdAdapter = gson.getAdapter(RoundingLevelId.class);
+        this.taxDependencyLevelIdAdapter = gson.getAdapter(TaxDependencyLevelId.class);
+        this.contactModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<ContactModel>>(){});
+        this.itemModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<ItemModel>>(){});
+        this.locationModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<LocationModel>>(){});
+        this.nexusModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<NexusModel>>(){});
+        this.settingModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<SettingModel>>(){});
+        this.taxCodeModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<TaxCodeModel>>(){});
+        this.taxRuleModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<TaxRuleModel>>(){});
+        this.uPCModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<UPCModel>>(){});
+        this.ecmsModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<EcmsModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, CompanyModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("parentCompanyId");
+        integerAdapter.write(out, value.getParentCompanyId());
+        out.name("sstPid");
+        stringAdapter.write(out, value.getSstPid());
+        out.name("companyCode");
+        stringAdapter.write(out, value.getCompanyCode());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("isDefault");
+        booleanAdapter.write(out, value.getIsDefault());
+        out.name("defaultLocationId");
+        integerAdapter.write(out, value.getDefaultLocationId());
+        out.name("isActive");
+        booleanAdapter.write(out, value.getIsActive());
+        out.name("taxpayerIdNumber");
+        stringAdapter.write(out, value.getTaxpayerIdNumber());
+        out.name("hasProfile");
+        booleanAdapter.write(out, value.getHasProfile());
+        out.name("isReportingEntity");
+        booleanAdapter.write(out, value.getIsReportingEntity());
+        out.name("sstEffectiveDate");
+        dateAdapter.write(out, value.getSstEffectiveDate());
+        out.name("defaultCountry");
+        stringAdapter.write(out, value.getDefaultCountry());
+        out.name("baseCurrencyCode");
+        stringAdapter.write(out, value.getBaseCurrencyCode());
+        out.name("roundingLevelId");
+        roundingLevelIdAdapter.write(out, value.getRoundingLevelId());
+        out.name("warningsEnabled");
+        booleanAdapter.write(out, value.getWarningsEnabled());
+        out.name("isTest");
+        booleanAdapter.write(out, value.getIsTest());
+        out.name("taxDependencyLevelId");
+        taxDependencyLevelIdAdapter.write(out, value.getTaxDependencyLevelId());
+        out.name("inProgress");
+        booleanAdapter.write(out, value.getInProgress());
+        out.name("businessIdentificationNo");
+        stringAdapter.write(out, value.getBusinessIdentificationNo());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.name("contacts");
+        contactModelListAdapter.write(out, value.getContacts());
+        out.name("items");
+        itemModelListAdapter.write(out, value.getItems());
+        out.name("locations");
+        locationModelListAdapter.write(out, value.getLocations());
+        out.name("nexus");
+        nexusModelListAdapter.write(out, value.getNexus());
+        out.name("settings");
+        settingModelListAdapter.write(out, value.getSettings());
+        out.name("taxCodes");
+        taxCodeModelListAdapter.write(out, value.getTaxCodes());
+        out.name("taxRules");
+        taxRuleModelListAdapter.write(out, value.getTaxRules());
+        out.name("upcs");
+        uPCModelListAdapter.write(out, value.getUpcs());
+        out.name("exemptCerts");
+        ecmsModelListAdapter.write(out, value.getExemptCerts());
+        out.name("mossId");
+        stringAdapter.write(out, value.getMossId());
+        out.name("mossCountry");
+        stringAdapter.write(out, value.getMossCountry());
+        out.endObject();
+    }
+
+    @Override
+    public CompanyModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CompanyModel value = new CompanyModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "parentCompanyId":
+                    value.setParentCompanyId(integerAdapter.read(in));
+                    break;
+                case "sstPid":
+                    value.setSstPid(stringAdapter.read(in));
+                    break;
+                case "companyCode":
+                    value.setCompanyCode(stringAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "isDefault":
+                    value.setIsDefault(booleanAdapter.read(in));
+                    break;
+                case "defaultLocationId":
+                    value.setDefaultLocationId(integerAdapter.read(in));
+                    break;
+                case "isActive":
+                    value.setIsActive(booleanAdapter.read(in));
+                    break;
+                case "taxpayerIdNumber":
+                    value.setTaxpayerIdNumber(stringAdapter.read(in));
+                    break;
+                case "hasProfile":
+                    value.setHasProfile(booleanAdapter.read(in));
+                    break;
+                case "isReportingEntity":
+                    value.setIsReportingEntity(booleanAdapter.read(in));
+                    break;
+                case "sstEffectiveDate":
+                    value.setSstEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "defaultCountry":
+                    value.setDefaultCountry(stringAdapter.read(in));
+                    break;
+                case "baseCurrencyCode":
+                    value.setBaseCurrencyCode(stringAdapter.read(in));
+                    break;
+                case "roundingLevelId":
+                    value.setRoundingLevelId(roundingLevelIdAdapter.read(in));
+                    break;
+                case "warningsEnabled":
+                    value.setWarningsEnabled(booleanAdapter.read(in));
+                    break;
+                case "isTest":
+                    value.setIsTest(booleanAdapter.read(in));
+                    break;
+                case "taxDependencyLevelId":
+                    value.setTaxDependencyLevelId(taxDependencyLevelIdAdapter.read(in));
+                    break;
+                case "inProgress":
+                    value.setInProgress(booleanAdapter.read(in));
+                    break;
+                case "businessIdentificationNo":
+                    value.setBusinessIdentificationNo(stringAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                case "contacts":
+                    value.setContacts(contactModelListAdapter.read(in));
+                    break;
+                case "items":
+                    value.setItems(itemModelListAdapter.read(in));
+                    break;
+                case "locations":
+                    value.setLocations(locationModelListAdapter.read(in));
+                    break;
+                case "nexus":
+                    value.setNexus(nexusModelListAdapter.read(in));
+                    break;
+                case "settings":
+                    value.setSettings(settingModelListAdapter.read(in));
+                    break;
+                case "taxCodes":
+                    value.setTaxCodes(taxCodeModelListAdapter.read(in));
+                    break;
+                case "taxRules":
+                    value.setTaxRules(taxRuleModelListAdapter.read(in));
+                    break;
+                case "upcs":
+                    value.setUpcs(uPCModelListAdapter.read(in));
+                    break;
+                case "exemptCerts":
+                    value.setExemptCerts(ecmsModelListAdapter.read(in));
+                    break;
+                case "mossId":
+                    value.setMossId(stringAdapter.read(in));
+                    break;
+                case "mossCountry":
+                    value.setMossCountry(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,111 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CompanyReturnSettingModel without reflection.
+ */
+public class CompanyReturnSettingModelTypeAdapter extends TypeAdapter<CompanyReturnSettingModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+
+    public CompanyReturnSettingModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CompanyReturnSettingModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("companyReturnId");
+        longAdapter.write(out, value.getCompanyReturnId());
+        out.name("filingQuestionId");
+        longAdapter.write(out, value.getFilingQuestionId());
+        out.name("filingQuestionCode");
+        stringAdapter.write(out, value.getFilingQuestionCode());
+        out.name("value");
+        stringAdapter.write(out, value.getValue());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.endObject();
+    }
+
+    @Override
+    public CompanyReturnSettingModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CompanyReturnSettingModel value = new CompanyReturnSettingModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "companyReturnId":
+                    value.setCompanyReturnId(longAdapter.read(in));
+                    break;
+                case "filingQuestionId":
+                    value.setFilingQuestionId(longAdapter.read(in));
+                    break;
+                case "filingQuestionCode":
+                    value.setFilingQuestionCode(stringAdapter.read(in));
+                    break;
+                case "value":
+                    value.setValue(stringAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,94 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ComplianceAggregatedTaxRateModel without reflection.
+ */
+public class ComplianceAggregatedTaxRateModelTypeAdapter extends TypeAdapter<ComplianceAggregatedTaxRateModel> {
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    public ComplianceAggregatedTaxRateModelTypeAdapter(Gson gson) {
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ComplianceAggregatedTaxRateModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("rate");
+        bigDecimalAdapter.write(out, value.getRate());
+        out.name("stackRate");
+        bigDecimalAdapter.write(out, value.getStackRate());
+        out.name("effectiveDate");
+        dateAdapter.write(out, value.getEffectiveDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("taxTypeId");
+        stringAdapter.write(out, value.getTaxTypeId());
+        out.name("rateTypeId");
+        stringAdapter.write(out, value.getRateTypeId());
+        out.endObject();
+    }
+
+    @Override
+    public ComplianceAggregatedTaxRateModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ComplianceAggregatedTaxRateModel value = new ComplianceAggregatedTaxRateModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "rate":
+                    value.setRate(bigDecimalAdapter.read(in));
+                    break;
+                case "stackRate":
+                    value.setStackRate(bigDecimalAdapter.read(in));
+                    break;
+                case "effectiveDate":
+                    value.setEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "taxTypeId":
+                    value.setTaxTypeId(stringAdapter.read(in));
+                    break;
+                case "rateTypeId":
+                    value.setRateTypeId(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,119 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ComplianceJurisdictionModel without reflection.
+ */
+public class ComplianceJurisdictionModelTypeAdapter extends TypeAdapter<ComplianceJurisdictionModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<ArrayList<ComplianceAggregatedTaxRateModel>> complianceAggregatedTaxRateModelListAdapter;
+
+    public ComplianceJurisdictionModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.complianceAggregatedTaxRateModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<ComplianceAggregatedTaxRateModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, ComplianceJurisdictionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("taxRegionId");
+        integerAdapter.write(out, value.getTaxRegionId());
+        out.name("stateAssignedCode");
+        stringAdapter.write(out, value.getStateAssignedCode());
+        out.name("jurisdictionTypeId");
+        stringAdapter.write(out, value.getJurisdictionTypeId());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("county");
+        stringAdapter.write(out, value.getCounty());
+        out.name("city");
+        stringAdapter.write(out, value.getCity());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("taxRegionName");
+        stringAdapter.write(out, value.getTaxRegionName());
+        out.name("taxAuthorityId");
+        integerAdapter.write(out, value.getTaxAuthorityId());
+        out.name("rates");
+        complianceAggregatedTaxRateModelListAdapter.write(out, value.getRates());
+        out.endObject();
+    }
+
+    @Override
+    public ComplianceJurisdictionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ComplianceJurisdictionModel value = new ComplianceJurisdictionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "taxRegionId":
+                    value.setTaxRegionId(integerAdapter.read(in));
+                    break;
+                case "stateAssignedCode":
+                    value.setStateAssignedCode(stringAdapter.read(in));
+                    break;
+                case "jurisdictionTypeId":
+                    value.setJurisdictionTypeId(stringAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "county":
+                    value.setCounty(stringAdapter.read(in));
+                    break;
+                case "city":
+                    value.setCity(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "taxRegionName":
+                    value.setTaxRegionName(stringAdapter.read(in));
+                    break;
+                case "taxAuthorityId":
+                    value.setTaxAuthorityId(integerAdapter.read(in));
+                    break;
+                case "rates":
+                    value.setRates(complianceAggregatedTaxRateModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,126 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ComplianceJurisdictionRateModel without reflection.
+ */
+public class ComplianceJurisdictionRateModelTypeAdapter extends TypeAdapter<ComplianceJurisdictionRateModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public ComplianceJurisdictionRateModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ComplianceJurisdictionRateModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("jurisdictionId");
+        integerAdapter.write(out, value.getJurisdictionId());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("jurisdictionTypeId");
+        stringAdapter.write(out, value.getJurisdictionTypeId());
+        out.name("rate");
+        bigDecimalAdapter.write(out, value.getRate());
+        out.name("rateTypeId");
+        stringAdapter.write(out, value.getRateTypeId());
+        out.name("taxTypeId");
+        stringAdapter.write(out, value.getTaxTypeId());
+        out.name("effectiveDate");
+        dateAdapter.write(out, value.getEffectiveDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("stateAssignedCode");
+        stringAdapter.write(out, value.getStateAssignedCode());
+        out.name("taxAuthorityId");
+        integerAdapter.write(out, value.getTaxAuthorityId());
+        out.endObject();
+    }
+
+    @Override
+    public ComplianceJurisdictionRateModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ComplianceJurisdictionRateModel value = new ComplianceJurisdictionRateModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "jurisdictionId":
+                    value.setJurisdictionId(integerAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "jurisdictionTypeId":
+                    value.setJurisdictionTypeId(stringAdapter.read(in));
+                    break;
+                case "rate":
+                    value.setRate(bigDecimalAdapter.read(in));
+                    break;
+                case "rateTypeId":
+                    value.setRateTypeId(stringAdapter.read(in));
+                    break;
+                case "taxTypeId":
+                    value.setTaxTypeId(stringAdapter.read(in));
+                    break;
+                case "effectiveDate":
+                    value.setEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "stateAssignedCode":
+                    value.setStateAssignedCode(stringAdapter.read(in));
+                    break;
+                case "taxAuthorityId":
+                    value.setTaxAuthorityId(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,123 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ComplianceTaxRateModel without reflection.
+ */
+public class ComplianceTaxRateModelTypeAdapter extends TypeAdapter<ComplianceTaxRateModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Long> longAdapter;
+
+    public ComplianceTaxRateModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.longAdapter = gson.getAdapter(Long.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ComplianceTaxRateModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("rate");
+        bigDecimalAdapter.write(out, value.getRate());
+        out.name("jurisdictionId");
+        integerAdapter.write(out, value.getJurisdictionId());
+        out.name("taxRegionId");
+        integerAdapter.write(out, value.getTaxRegionId());
+        out.name("effectiveDate");
+        dateAdapter.write(out, value.getEffectiveDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("rateTypeId");
+        stringAdapter.write(out, value.getRateTypeId());
+        out.name("taxTypeId");
+        stringAdapter.write(out, value.getTaxTypeId());
+        out.name("taxName");
+        stringAdapter.write(out, value.getTaxName());
+        out.name("unitOfBasisId");
+        longAdapter.write(out, value.getUnitOfBasisId());
+        out.name("rateTypeTaxTypeMappingId");
+        integerAdapter.write(out, value.getRateTypeTaxTypeMappingId());
+        out.endObject();
+    }
+
+    @Override
+    public ComplianceTaxRateModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ComplianceTaxRateModel value = new ComplianceTaxRateModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "rate":
+                    value.setRate(bigDecimalAdapter.read(in));
+                    break;
+                case "jurisdictionId":
+                    value.setJurisdictionId(integerAdapter.read(in));
+                    break;
+                case "taxRegionId":
+                    value.setTaxRegionId(integerAdapter.read(in));
+                    break;
+                case "effectiveDate":
+                    value.setEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "rateTypeId":
+                    value.setRateTypeId(stringAdapter.read(in));
+                    break;
+                case "taxTypeId":
+                    value.setTaxTypeId(stringAdapter.read(in));
+                    break;
+                case "taxName":
+                    value.setTaxName(stringAdapter.read(in));
+                    break;
+                case "unitOfBasisId":
+                    value.setUnitOfBasisId(longAdapter.read(in));
+                    break;
+                case "rateTypeTaxTypeMappingId":
+                    value.setRateTypeTaxTypeMappingId(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,174 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ContactModel without reflection.
+ */
+public class ContactModelTypeAdapter extends TypeAdapter<ContactModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public ContactModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ContactModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("contactCode");
+        stringAdapter.write(out, value.getContactCode());
+        out.name("firstName");
+        stringAdapter.write(out, value.getFirstName());
+        out.name("middleName");
+        stringAdapter.write(out, value.getMiddleName());
+        out.name("lastName");
+        stringAdapter.write(out, value.getLastName());
+        out.name("title");
+        stringAdapter.write(out, value.getTitle());
+        out.name("line1");
+        stringAdapter.write(out, value.getLine1());
+        out.name("line2");
+        stringAdapter.write(out, value.getLine2());
+        out.name("line3");
+        stringAdapter.write(out, value.getLine3());
+        out.name("city");
+        stringAdapter.write(out, value.getCity());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("postalCode");
+        stringAdapter.write(out, value.getPostalCode());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("email");
+        stringAdapter.write(out, value.getEmail());
+        out.name("phone");
+        stringAdapter.write(out, value.getPhone());
+        out.name("mobile");
+        stringAdapter.write(out, value.getMobile());
+        out.name("fax");
+        stringAdapter.write(out, value.getFax());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.endObject();
+    }
+
+    @Override
+    public ContactModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ContactModel value = new ContactModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "contactCode":
+                    value.setContactCode(stringAdapter.read(in));
+                    break;
+                case "firstName":
+                    value.setFirstName(stringAdapter.read(in));
+                    break;
+                case "middleName":
+                    value.setMiddleName(stringAdapter.read(in));
+                    break;
+                case "lastName":
+                    value.setLastName(stringAdapter.read(in));
+                    break;
+                case "title":
+                    value.setTitle(stringAdapter.read(in));
+                    break;
+                case "line1":
+                    value.setLine1(stringAdapter.read(in));
+                    break;
+                case "line2":
+                    value.setLine2(stringAdapter.read(in));
+                    break;
+                case "line3":
+                    value.setLine3(stringAdapter.read(in));
+                    break;
+                case "city":
+                    value.setCity(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "postalCode":
+                    value.setPostalCode(stringAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "email":
+                    value.setEmail(stringAdapter.read(in));
+                    break;
+                case "phone":
+                    value.setPhone(stringAdapter.read(in));
+                    break;
+                case "mobile":
+                    value.setMobile(stringAdapter.read(in));
+                    break;
+                case "fax":
+                    value.setFax(stringAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
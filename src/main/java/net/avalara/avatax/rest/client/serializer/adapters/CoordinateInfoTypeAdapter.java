@@ -0,0 +1,70 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CoordinateInfo without reflection.
+ */
+public class CoordinateInfoTypeAdapter extends TypeAdapter<CoordinateInfo> {
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+
+    public CoordinateInfoTypeAdapter(Gson gson) {
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CoordinateInfo value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("latitude");
+        bigDecimalAdapter.write(out, value.getLatitude());
+        out.name("longitude");
+        bigDecimalAdapter.write(out, value.getLongitude());
+        out.endObject();
+    }
+
+    @Override
+    public CoordinateInfo read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CoordinateInfo value = new CoordinateInfo();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "latitude":
+                    value.setLatitude(bigDecimalAdapter.read(in));
+                    break;
+                case "longitude":
+                    value.setLongitude(bigDecimalAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,121 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CoverLetterModel without reflection.
+ */
+public class CoverLetterModelTypeAdapter extends TypeAdapter<CoverLetterModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public CoverLetterModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CoverLetterModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("title");
+        stringAdapter.write(out, value.getTitle());
+        out.name("subject");
+        stringAdapter.write(out, value.getSubject());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("active");
+        booleanAdapter.write(out, value.getActive());
+        out.name("pageCount");
+        integerAdapter.write(out, value.getPageCount());
+        out.name("templateFilename");
+        stringAdapter.write(out, value.getTemplateFilename());
+        out.name("version");
+        integerAdapter.write(out, value.getVersion());
+        out.endObject();
+    }
+
+    @Override
+    public CoverLetterModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CoverLetterModel value = new CoverLetterModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "title":
+                    value.setTitle(stringAdapter.read(in));
+                    break;
+                case "subject":
+                    value.setSubject(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "active":
+                    value.setActive(booleanAdapter.read(in));
+                    break;
+                case "pageCount":
+                    value.setPageCount(integerAdapter.read(in));
+                    break;
+                case "templateFilename":
+                    value.setTemplateFilename(stringAdapter.read(in));
+                    break;
+                case "version":
+                    value.setVersion(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,89 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CreateCertExpressInvitationModel without reflection.
+ */
+public class CreateCertExpressInvitationModelTypeAdapter extends TypeAdapter<CreateCertExpressInvitationModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<ArrayList<Integer>> integerListAdapter;
+    private final TypeAdapter<CertificateRequestDeliveryMethod> certificateRequestDeliveryMethodAdapter;
+
+    public CreateCertExpressInvitationModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.integerListAdapter = gson.getAdapter(new TypeToken<ArrayList<Integer>>(){});
+        this.certificateRequestDeliveryMethodAdapter = gson.getAdapter(CertificateRequestDeliveryMethod.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CreateCertExpressInvitationModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("recipient");
+        stringAdapter.write(out, value.getRecipient());
+        out.name("coverLetterTitle");
+        stringAdapter.write(out, value.getCoverLetterTitle());
+        out.name("exposureZones");
+        integerListAdapter.write(out, value.getExposureZones());
+        out.name("exemptReasons");
+        integerListAdapter.write(out, value.getExemptReasons());
+        out.name("deliveryMethod");
+        certificateRequestDeliveryMethodAdapter.write(out, value.getDeliveryMethod());
+        out.endObject();
+    }
+
+    @Override
+    public CreateCertExpressInvitationModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CreateCertExpressInvitationModel value = new CreateCertExpressInvitationModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "recipient":
+                    value.setRecipient(stringAdapter.read(in));
+                    break;
+                case "coverLetterTitle":
+                    value.setCoverLetterTitle(stringAdapter.read(in));
+                    break;
+                case "exposureZones":
+                    value.setExposureZones(integerListAdapter.read(in));
+                    break;
+                case "exemptReasons":
+                    value.setExemptReasons(integerListAdapter.read(in));
+                    break;
+                case "deliveryMethod":
+                    value.setDeliveryMethod(certificateRequestDeliveryMethodAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
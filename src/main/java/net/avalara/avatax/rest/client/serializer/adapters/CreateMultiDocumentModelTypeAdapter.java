@@ -0,0 +1,230 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CreateMultiDocumentModel without reflection.
+ */
+public class CreateMultiDocumentModelTypeAdapter extends TypeAdapter<CreateMultiDocumentModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<ArrayList<MultiDocumentLineItemModel>> multiDocumentLineItemModelListAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<DocumentType> documentTypeAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<AddressesModel> addressesModelAdapter;
+    private final TypeAdapter<HashMap<String, String>> stringStringMapAdapter;
+    private final TypeAdapter<TaxOverrideModel> taxOverrideModelAdapter;
+    private final TypeAdapter<ServiceMode> serviceModeAdapter;
+    private final TypeAdapter<TaxDebugLevel> taxDebugLevelAdapter;
+
+    public CreateMultiDocumentModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.multiDocumentLineItemModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<MultiDocumentLineItemModel>>(){});
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.documentTypeAdapter = gson.getAdapter(DocumentType.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.addressesModelAdapter = gson.getAdapter(AddressesModel.class);
+        this.stringStringMapAdapter = gson.getAdapter(new TypeToken<HashMap<String, String>>(){});
+        this.taxOverrideModelAdapter = gson.getAdapter(TaxOverrideModel.class);
+        this.serviceModeAdapter = gson.getAdapter(ServiceMode.class);
+        this.taxDebugLevelAdapter = gson.getAdapter(TaxDebugLevel.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CreateMultiDocumentModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("code");
+        stringAdapter.write(out, value.getCode());
+        out.name("lines");
+        multiDocumentLineItemModelListAdapter.write(out, value.getLines());
+        out.name("allowAdjust");
+        booleanAdapter.write(out, value.getAllowAdjust());
+        out.name("type");
+        documentTypeAdapter.write(out, value.getType());
+        out.name("companyCode");
+        stringAdapter.write(out, value.getCompanyCode());
+        out.name("date");
+        dateAdapter.write(out, value.getDate());
+        out.name("salespersonCode");
+        stringAdapter.write(out, value.getSalespersonCode());
+        out.name("customerCode");
+        stringAdapter.write(out, value.getCustomerCode());
+        out.name("customerUsageType");
+        stringAdapter.write(out, value.getCustomerUsageType());
+        out.name("entityUseCode");
+        stringAdapter.write(out, value.getEntityUseCode());
+        out.name("discount");
+        bigDecimalAdapter.write(out, value.getDiscount());
+        out.name("purchaseOrderNo");
+        stringAdapter.write(out, value.getPurchaseOrderNo());
+        out.name("exemptionNo");
+        stringAdapter.write(out, value.getExemptionNo());
+        out.name("addresses");
+        addressesModelAdapter.write(out, value.getAddresses());
+        out.name("parameters");
+        stringStringMapAdapter.write(out, value.getParameters());
+        out.name("referenceCode");
+        stringAdapter.write(out, value.getReferenceCode());
+        out.name("reportingLocationCode");
+        stringAdapter.write(out, value.getReportingLocationCode());
+        out.name("commit");
+        booleanAdapter.write(out, value.getCommit());
+        out.name("batchCode");
+        stringAdapter.write(out, value.getBatchCode());
+        out.name("taxOverride");
+        taxOverrideModelAdapter.write(out, value.getTaxOverride());
+        out.name("currencyCode");
+        stringAdapter.write(out, value.getCurrencyCode());
+        out.name("serviceMode");
+        serviceModeAdapter.write(out, value.getServiceMode());
+        out.name("exchangeRate");
+        bigDecimalAdapter.write(out, value.getExchangeRate());
+        out.name("exchangeRateEffectiveDate");
+        dateAdapter.write(out, value.getExchangeRateEffectiveDate());
+        out.name("posLaneCode");
+        stringAdapter.write(out, value.getPosLaneCode());
+        out.name("businessIdentificationNo");
+        stringAdapter.write(out, value.getBusinessIdentificationNo());
+        out.name("isSellerImporterOfRecord");
+        booleanAdapter.write(out, value.getIsSellerImporterOfRecord());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("email");
+        stringAdapter.write(out, value.getEmail());
+        out.name("debugLevel");
+        taxDebugLevelAdapter.write(out, value.getDebugLevel());
+        out.endObject();
+    }
+
+    @Override
+    public CreateMultiDocumentModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CreateMultiDocumentModel value = new CreateMultiDocumentModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "code":
+                    value.setCode(stringAdapter.read(in));
+                    break;
+                case "lines":
+                    value.setLines(multiDocumentLineItemModelListAdapter.read(in));
+                    break;
+                case "allowAdjust":
+                    value.setAllowAdjust(booleanAdapter.read(in));
+                    break;
+                case "type":
+                    value.setType(documentTypeAdapter.read(in));
+                    break;
+                case "companyCode":
+                    value.setCompanyCode(stringAdapter.read(in));
+                    break;
+                case "date":
+                    value.setDate(dateAdapter.read(in));
+                    break;
+                case "salespersonCode":
+                    value.setSalespersonCode(stringAdapter.read(in));
+                    break;
+                case "customerCode":
+                    value.setCustomerCode(stringAdapter.read(in));
+                    break;
+                case "customerUsageType":
+                    value.setCustomerUsageType(stringAdapter.read(in));
+                    break;
+                case "entityUseCode":
+                    value.setEntityUseCode(stringAdapter.read(in));
+                    break;
+                case "discount":
+                    value.setDiscount(bigDecimalAdapter.read(in));
+                    break;
+                case "purchaseOrderNo":
+                    value.setPurchaseOrderNo(stringAdapter.read(in));
+                    break;
+                case "exemptionNo":
+                    value.setExemptionNo(stringAdapter.read(in));
+                    break;
+                case "addresses":
+                    value.setAddresses(addressesModelAdapter.read(in));
+                    break;
+                case "parameters":
+                    value.setParameters(stringStringMapAdapter.read(in));
+                    break;
+                case "referenceCode":
+                    value.setReferenceCode(stringAdapter.read(in));
+                    break;
+                case "reportingLocationCode":
+                    value.setReportingLocationCode(stringAdapter.read(in));
+                    break;
+                case "commit":
+                    value.setCommit(booleanAdapter.read(in));
+                    break;
+                case "batchCode":
+                    value.setBatchCode(stringAdapter.read(in));
+                    break;
+                case "taxOverride":
+                    value.setTaxOverride(taxOverrideModelAdapter.read(in));
+                    break;
+                case "currencyCode":
+                    value.setCurrencyCode(stringAdapter.read(in));
+                    break;
+                case "serviceMode":
+                    value.setServiceMode(serviceModeAdapter.read(in));
+                    break;
+                case "exchangeRate":
+                    value.setExchangeRate(bigDecimalAdapter.read(in));
+                    break;
+                case "exchangeRateEffectiveDate":
+                    value.setExchangeRateEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "posLaneCode":
+                    value.setPosLaneCode(stringAdapter.read(in));
+                    break;
+                case "businessIdentificationNo":
+                    value.setBusinessIdentificationNo(stringAdapter.read(in));
+                    break;
+                case "isSellerImporterOfRecord":
+                    value.setIsSellerImporterOfRecord(booleanAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "email":
+                    value.setEmail(stringAdapter.read(in));
+                    break;
+                case "debugLevel":
+                    value.setDebugLevel(taxDebugLevelAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
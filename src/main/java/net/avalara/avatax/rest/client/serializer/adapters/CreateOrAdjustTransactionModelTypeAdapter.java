@@ -0,0 +1,65 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CreateOrAdjustTransactionModel without reflection.
+ */
+public class CreateOrAdjustTransactionModelTypeAdapter extends TypeAdapter<CreateOrAdjustTransactionModel> {
+    private final TypeAdapter<CreateTransactionModel> createTransactionModelAdapter;
+
+    public CreateOrAdjustTransactionModelTypeAdapter(Gson gson) {
+        this.createTransactionModelAdapter = gson.getAdapter(CreateTransactionModel.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CreateOrAdjustTransactionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("createTransactionModel");
+        createTransactionModelAdapter.write(out, value.getCreateTransactionModel());
+        out.endObject();
+    }
+
+    @Override
+    public CreateOrAdjustTransactionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CreateOrAdjustTransactionModel value = new CreateOrAdjustTransactionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "createTransactionModel":
+                    value.setCreateTransactionModel(createTransactionModelAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
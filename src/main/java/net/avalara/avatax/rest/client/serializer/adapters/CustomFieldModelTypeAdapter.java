@@ -0,0 +1,70 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CustomFieldModel without reflection.
+ */
+public class CustomFieldModelTypeAdapter extends TypeAdapter<CustomFieldModel> {
+    private final TypeAdapter<String> stringAdapter;
+
+    public CustomFieldModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CustomFieldModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("value");
+        stringAdapter.write(out, value.getValue());
+        out.endObject();
+    }
+
+    @Override
+    public CustomFieldModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CustomFieldModel value = new CustomFieldModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "value":
+                    value.setValue(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
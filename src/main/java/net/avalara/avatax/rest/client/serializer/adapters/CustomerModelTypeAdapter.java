@@ -0,0 +1,204 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CustomerModel without reflection.
+ */
+public class CustomerModelTypeAdapter extends TypeAdapter<CustomerModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<ArrayList<CertificateModel>> certificateModelListAdapter;
+    private final TypeAdapter<ArrayList<CustomFieldModel>> customFieldModelListAdapter;
+    private final TypeAdapter<ArrayList<ExposureZoneModel>> exposureZoneModelListAdapter;
+    private final TypeAdapter<ArrayList<CustomerModel>> customerModelListAdapter;
+
+    public CustomerModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.certificateModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<CertificateModel>>(){});
+        this.customFieldModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<CustomFieldModel>>(){});
+        this.exposureZoneModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<ExposureZoneModel>>(){});
+        this.customerModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<CustomerModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, CustomerModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("customerCode");
+        stringAdapter.write(out, value.getCustomerCode());
+        out.name("alternateId");
+        stringAdapter.write(out, value.getAlternateId());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("attnName");
+        stringAdapter.write(out, value.getAttnName());
+        out.name("line1");
+        stringAdapter.write(out, value.getLine1());
+        out.name("line2");
+        stringAdapter.write(out, value.getLine2());
+        out.name("city");
+        stringAdapter.write(out, value.getCity());
+        out.name("postalCode");
+        stringAdapter.write(out, value.getPostalCode());
+        out.name("phoneNumber");
+        stringAdapter.write(out, value.getPhoneNumber());
+        out.name("faxNumber");
+        stringAdapter.write(out, value.getFaxNumber());
+        out.name("emailAddress");
+        stringAdapter.write(out, value.getEmailAddress());
+        out.name("contactName");
+        stringAdapter.write(out, value.getContactName());
+        out.name("lastTransaction");
+        dateAdapter.write(out, value.getLastTransaction());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("isBill");
+        booleanAdapter.write(out, value.getIsBill());
+        out.name("isShip");
+        booleanAdapter.write(out, value.getIsShip());
+        out.name("taxpayerIdNumber");
+        stringAdapter.write(out, value.getTaxpayerIdNumber());
+        out.name("certificates");
+        certificateModelListAdapter.write(out, value.getCertificates());
+        out.name("customFields");
+        customFieldModelListAdapter.write(out, value.getCustomFields());
+        out.name("exposureZones");
+        exposureZoneModelListAdapter.write(out, value.getExposureZones());
+        out.name("shipTos");
+        customerModelListAdapter.write(out, value.getShipTos());
+        out.endObject();
+    }
+
+    @Override
+    public CustomerModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CustomerModel value = new CustomerModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "customerCode":
+                    value.setCustomerCode(stringAdapter.read(in));
+                    break;
+                case "alternateId":
+                    value.setAlternateId(stringAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "attnName":
+                    value.setAttnName(stringAdapter.read(in));
+                    break;
+                case "line1":
+                    value.setLine1(stringAdapter.read(in));
+                    break;
+                case "line2":
+                    value.setLine2(stringAdapter.read(in));
+                    break;
+                case "city":
+                    value.setCity(stringAdapter.read(in));
+                    break;
+                case "postalCode":
+                    value.setPostalCode(stringAdapter.read(in));
+                    break;
+                case "phoneNumber":
+                    value.setPhoneNumber(stringAdapter.read(in));
+                    break;
+                case "faxNumber":
+                    value.setFaxNumber(stringAdapter.read(in));
+                    break;
+                case "emailAddress":
+                    value.setEmailAddress(stringAdapter.read(in));
+                    break;
+                case "contactName":
+                    value.setContactName(stringAdapter.read(in));
+                    break;
+                case "lastTransaction":
+                    value.setLastTransaction(dateAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "isBill":
+                    value.setIsBill(booleanAdapter.read(in));
+                    break;
+                case "isShip":
+                    value.setIsShip(booleanAdapter.read(in));
+                    break;
+                case "taxpayerIdNumber":
+                    value.setTaxpayerIdNumber(stringAdapter.read(in));
+                    break;
+                case "certificates":
+                    value.setCertificates(certificateModelListAdapter.read(in));
+                    break;
+                case "customFields":
+                    value.setCustomFields(customFieldModelListAdapter.read(in));
+                    break;
+                case "exposureZones":
+                    value.setExposureZones(exposureZoneModelListAdapter.read(in));
+                    break;
+                case "shipTos":
+                    value.setShipTos(customerModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,118 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CycleAddOptionModel without reflection.
+ */
+public class CycleAddOptionModelTypeAdapter extends TypeAdapter<CycleAddOptionModel> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<FilingFrequencyId> filingFrequencyIdAdapter;
+    private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+    public CycleAddOptionModelTypeAdapter(Gson gson) {
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.filingFrequencyIdAdapter = gson.getAdapter(FilingFrequencyId.class);
+        this.stringListAdapter = gson.getAdapter(new TypeToken<ArrayList<String>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, CycleAddOptionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("available");
+        booleanAdapter.write(out, value.getAvailable());
+        out.name("transactionalPeriodStart");
+        dateAdapter.write(out, value.getTransactionalPeriodStart());
+        out.name("transactionalPeriodEnd");
+        dateAdapter.write(out, value.getTransactionalPeriodEnd());
+        out.name("filingDueDate");
+        dateAdapter.write(out, value.getFilingDueDate());
+        out.name("cycleName");
+        stringAdapter.write(out, value.getCycleName());
+        out.name("frequencyName");
+        stringAdapter.write(out, value.getFrequencyName());
+        out.name("filingFrequencyCode");
+        stringAdapter.write(out, value.getFilingFrequencyCode());
+        out.name("filingFrequencyId");
+        filingFrequencyIdAdapter.write(out, value.getFilingFrequencyId());
+        out.name("cycleUnavailableReason");
+        stringAdapter.write(out, value.getCycleUnavailableReason());
+        out.name("availableLocationCodes");
+        stringListAdapter.write(out, value.getAvailableLocationCodes());
+        out.endObject();
+    }
+
+    @Override
+    public CycleAddOptionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CycleAddOptionModel value = new CycleAddOptionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "available":
+                    value.setAvailable(booleanAdapter.read(in));
+                    break;
+                case "transactionalPeriodStart":
+                    value.setTransactionalPeriodStart(dateAdapter.read(in));
+                    break;
+                case "transactionalPeriodEnd":
+                    value.setTransactionalPeriodEnd(dateAdapter.read(in));
+                    break;
+                case "filingDueDate":
+                    value.setFilingDueDate(dateAdapter.read(in));
+                    break;
+                case "cycleName":
+                    value.setCycleName(stringAdapter.read(in));
+                    break;
+                case "frequencyName":
+                    value.setFrequencyName(stringAdapter.read(in));
+                    break;
+                case "filingFrequencyCode":
+                    value.setFilingFrequencyCode(stringAdapter.read(in));
+                    break;
+                case "filingFrequencyId":
+                    value.setFilingFrequencyId(filingFrequencyIdAdapter.read(in));
+                    break;
+                case "cycleUnavailableReason":
+                    value.setCycleUnavailableReason(stringAdapter.read(in));
+                    break;
+                case "availableLocationCodes":
+                    value.setAvailableLocationCodes(stringListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,94 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CycleEditOptionModel without reflection.
+ */
+public class CycleEditOptionModelTypeAdapter extends TypeAdapter<CycleEditOptionModel> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public CycleEditOptionModelTypeAdapter(Gson gson) {
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CycleEditOptionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("success");
+        booleanAdapter.write(out, value.getSuccess());
+        out.name("message");
+        stringAdapter.write(out, value.getMessage());
+        out.name("customerMustApprove");
+        booleanAdapter.write(out, value.getCustomerMustApprove());
+        out.name("mustCloneFilingCalendar");
+        booleanAdapter.write(out, value.getMustCloneFilingCalendar());
+        out.name("clonedCalendarEffDate");
+        dateAdapter.write(out, value.getClonedCalendarEffDate());
+        out.name("expiredCalendarEndDate");
+        dateAdapter.write(out, value.getExpiredCalendarEndDate());
+        out.endObject();
+    }
+
+    @Override
+    public CycleEditOptionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CycleEditOptionModel value = new CycleEditOptionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "success":
+                    value.setSuccess(booleanAdapter.read(in));
+                    break;
+                case "message":
+                    value.setMessage(stringAdapter.read(in));
+                    break;
+                case "customerMustApprove":
+                    value.setCustomerMustApprove(booleanAdapter.read(in));
+                    break;
+                case "mustCloneFilingCalendar":
+                    value.setMustCloneFilingCalendar(booleanAdapter.read(in));
+                    break;
+                case "clonedCalendarEffDate":
+                    value.setClonedCalendarEffDate(dateAdapter.read(in));
+                    break;
+                case "expiredCalendarEndDate":
+                    value.setExpiredCalendarEndDate(dateAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,79 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CycleExpireModel without reflection.
+ */
+public class CycleExpireModelTypeAdapter extends TypeAdapter<CycleExpireModel> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<ArrayList<CycleExpireOptionModel>> cycleExpireOptionModelListAdapter;
+
+    public CycleExpireModelTypeAdapter(Gson gson) {
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.cycleExpireOptionModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<CycleExpireOptionModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, CycleExpireModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("success");
+        booleanAdapter.write(out, value.getSuccess());
+        out.name("message");
+        stringAdapter.write(out, value.getMessage());
+        out.name("cycleExpirationOptions");
+        cycleExpireOptionModelListAdapter.write(out, value.getCycleExpirationOptions());
+        out.endObject();
+    }
+
+    @Override
+    public CycleExpireModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CycleExpireModel value = new CycleExpireModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "success":
+                    value.setSuccess(booleanAdapter.read(in));
+                    break;
+                case "message":
+                    value.setMessage(stringAdapter.read(in));
+                    break;
+                case "cycleExpirationOptions":
+                    value.setCycleExpirationOptions(cycleExpireOptionModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
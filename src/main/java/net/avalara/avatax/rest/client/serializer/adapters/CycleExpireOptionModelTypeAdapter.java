@@ -0,0 +1,82 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes CycleExpireOptionModel without reflection.
+ */
+public class CycleExpireOptionModelTypeAdapter extends TypeAdapter<CycleExpireOptionModel> {
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    public CycleExpireOptionModelTypeAdapter(Gson gson) {
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, CycleExpireOptionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("transactionalPeriodStart");
+        dateAdapter.write(out, value.getTransactionalPeriodStart());
+        out.name("transactionalPeriodEnd");
+        dateAdapter.write(out, value.getTransactionalPeriodEnd());
+        out.name("filingDueDate");
+        dateAdapter.write(out, value.getFilingDueDate());
+        out.name("cycleName");
+        stringAdapter.write(out, value.getCycleName());
+        out.endObject();
+    }
+
+    @Override
+    public CycleExpireOptionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        CycleExpireOptionModel value = new CycleExpireOptionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "transactionalPeriodStart":
+                    value.setTransactionalPeriodStart(dateAdapter.read(in));
+                    break;
+                case "transactionalPeriodEnd":
+                    value.setTransactionalPeriodEnd(dateAdapter.read(in));
+                    break;
+                case "filingDueDate":
+                    value.setFilingDueDate(dateAdapter.read(in));
+                    break;
+                case "cycleName":
+                    value.setCycleName(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,136 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes DataSourceModel without reflection.
+ */
+public class DataSourceModelTypeAdapter extends TypeAdapter<DataSourceModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public DataSourceModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, DataSourceModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("source");
+        stringAdapter.write(out, value.getSource());
+        out.name("instance");
+        stringAdapter.write(out, value.getInstance());
+        out.name("isEnabled");
+        booleanAdapter.write(out, value.getIsEnabled());
+        out.name("isSynced");
+        booleanAdapter.write(out, value.getIsSynced());
+        out.name("isAuthorized");
+        booleanAdapter.write(out, value.getIsAuthorized());
+        out.name("lastSyncedDate");
+        dateAdapter.write(out, value.getLastSyncedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("deletedDate");
+        dateAdapter.write(out, value.getDeletedDate());
+        out.name("recalculate");
+        booleanAdapter.write(out, value.getRecalculate());
+        out.endObject();
+    }
+
+    @Override
+    public DataSourceModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        DataSourceModel value = new DataSourceModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "source":
+                    value.setSource(stringAdapter.read(in));
+                    break;
+                case "instance":
+                    value.setInstance(stringAdapter.read(in));
+                    break;
+                case "isEnabled":
+                    value.setIsEnabled(booleanAdapter.read(in));
+                    break;
+                case "isSynced":
+                    value.setIsSynced(booleanAdapter.read(in));
+                    break;
+                case "isAuthorized":
+                    value.setIsAuthorized(booleanAdapter.read(in));
+                    break;
+                case "lastSyncedDate":
+                    value.setLastSyncedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "deletedDate":
+                    value.setDeletedDate(dateAdapter.read(in));
+                    break;
+                case "recalculate":
+                    value.setRecalculate(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
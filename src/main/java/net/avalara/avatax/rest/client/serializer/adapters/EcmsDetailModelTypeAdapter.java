@@ -0,0 +1,116 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes EcmsDetailModel without reflection.
+ */
+public class EcmsDetailModelTypeAdapter extends TypeAdapter<EcmsDetailModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<ArrayList<EcmsDetailTaxCodeModel>> ecmsDetailTaxCodeModelListAdapter;
+
+    public EcmsDetailModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.ecmsDetailTaxCodeModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<EcmsDetailTaxCodeModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, EcmsDetailModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("exemptCertDetailId");
+        integerAdapter.write(out, value.getExemptCertDetailId());
+        out.name("exemptCertId");
+        integerAdapter.write(out, value.getExemptCertId());
+        out.name("stateFips");
+        stringAdapter.write(out, value.getStateFips());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("idNo");
+        stringAdapter.write(out, value.getIdNo());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("idType");
+        stringAdapter.write(out, value.getIdType());
+        out.name("isTaxCodeListExclusionList");
+        integerAdapter.write(out, value.getIsTaxCodeListExclusionList());
+        out.name("taxCodes");
+        ecmsDetailTaxCodeModelListAdapter.write(out, value.getTaxCodes());
+        out.endObject();
+    }
+
+    @Override
+    public EcmsDetailModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        EcmsDetailModel value = new EcmsDetailModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "exemptCertDetailId":
+                    value.setExemptCertDetailId(integerAdapter.read(in));
+                    break;
+                case "exemptCertId":
+                    value.setExemptCertId(integerAdapter.read(in));
+                    break;
+                case "stateFips":
+                    value.setStateFips(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "idNo":
+                    value.setIdNo(stringAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "idType":
+                    value.setIdType(stringAdapter.read(in));
+                    break;
+                case "isTaxCodeListExclusionList":
+                    value.setIsTaxCodeListExclusionList(integerAdapter.read(in));
+                    break;
+                case "taxCodes":
+                    value.setTaxCodes(ecmsDetailTaxCodeModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
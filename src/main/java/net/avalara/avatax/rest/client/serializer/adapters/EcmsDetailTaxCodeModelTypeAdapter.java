@@ -0,0 +1,75 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes EcmsDetailTaxCodeModel without reflection.
+ */
+public class EcmsDetailTaxCodeModelTypeAdapter extends TypeAdapter<EcmsDetailTaxCodeModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+
+    public EcmsDetailTaxCodeModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, EcmsDetailTaxCodeModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("exemptCertDetailTaxCodeId");
+        integerAdapter.write(out, value.getExemptCertDetailTaxCodeId());
+        out.name("exemptCertDetailId");
+        integerAdapter.write(out, value.getExemptCertDetailId());
+        out.name("taxCodeId");
+        integerAdapter.write(out, value.getTaxCodeId());
+        out.endObject();
+    }
+
+    @Override
+    public EcmsDetailTaxCodeModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        EcmsDetailTaxCodeModel value = new EcmsDetailTaxCodeModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "exemptCertDetailTaxCodeId":
+                    value.setExemptCertDetailTaxCodeId(integerAdapter.read(in));
+                    break;
+                case "exemptCertDetailId":
+                    value.setExemptCertDetailId(integerAdapter.read(in));
+                    break;
+                case "taxCodeId":
+                    value.setTaxCodeId(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,222 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes EcmsModel without reflection.
+ */
+public class EcmsModelTypeAdapter extends TypeAdapter<EcmsModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<ExemptCertTypeId> exemptCertTypeIdAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<ExemptCertStatusId> exemptCertStatusIdAdapter;
+    private final TypeAdapter<ExemptCertReviewStatusId> exemptCertReviewStatusIdAdapter;
+    private final TypeAdapter<ArrayList<EcmsDetailModel>> ecmsDetailModelListAdapter;
+
+    public EcmsModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.exemptCertTypeIdAdapter = gson.getAdapter(ExemptCertTypeId.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.exemptCertStatusIdAdapter = gson.getAdapter(ExemptCertStatusId.class);
+        this.exemptCertReviewStatusIdAdapter = gson.getAdapter(ExemptCertReviewStatusId.class);
+        this.ecmsDetailModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<EcmsDetailModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, EcmsModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("exemptCertId");
+        integerAdapter.write(out, value.getExemptCertId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("customerCode");
+        stringAdapter.write(out, value.getCustomerCode());
+        out.name("customerName");
+        stringAdapter.write(out, value.getCustomerName());
+        out.name("address1");
+        stringAdapter.write(out, value.getAddress1());
+        out.name("address2");
+        stringAdapter.write(out, value.getAddress2());
+        out.name("address3");
+        stringAdapter.write(out, value.getAddress3());
+        out.name("city");
+        stringAdapter.write(out, value.getCity());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("postalCode");
+        stringAdapter.write(out, value.getPostalCode());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("exemptCertTypeId");
+        exemptCertTypeIdAdapter.write(out, value.getExemptCertTypeId());
+        out.name("documentRefNo");
+        stringAdapter.write(out, value.getDocumentRefNo());
+        out.name("businessTypeId");
+        integerAdapter.write(out, value.getBusinessTypeId());
+        out.name("businessTypeOtherDescription");
+        stringAdapter.write(out, value.getBusinessTypeOtherDescription());
+        out.name("exemptReasonId");
+        stringAdapter.write(out, value.getExemptReasonId());
+        out.name("exemptReasonOtherDescription");
+        stringAdapter.write(out, value.getExemptReasonOtherDescription());
+        out.name("effectiveDate");
+        dateAdapter.write(out, value.getEffectiveDate());
+        out.name("regionsApplicable");
+        stringAdapter.write(out, value.getRegionsApplicable());
+        out.name("exemptCertStatusId");
+        exemptCertStatusIdAdapter.write(out, value.getExemptCertStatusId());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("lastTransactionDate");
+        dateAdapter.write(out, value.getLastTransactionDate());
+        out.name("expiryDate");
+        dateAdapter.write(out, value.getExpiryDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.name("countryIssued");
+        stringAdapter.write(out, value.getCountryIssued());
+        out.name("avaCertId");
+        stringAdapter.write(out, value.getAvaCertId());
+        out.name("exemptCertReviewStatusId");
+        exemptCertReviewStatusIdAdapter.write(out, value.getExemptCertReviewStatusId());
+        out.name("details");
+        ecmsDetailModelListAdapter.write(out, value.getDetails());
+        out.endObject();
+    }
+
+    @Override
+    public EcmsModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        EcmsModel value = new EcmsModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "exemptCertId":
+                    value.setExemptCertId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "customerCode":
+                    value.setCustomerCode(stringAdapter.read(in));
+                    break;
+                case "customerName":
+                    value.setCustomerName(stringAdapter.read(in));
+                    break;
+                case "address1":
+                    value.setAddress1(stringAdapter.read(in));
+                    break;
+                case "address2":
+                    value.setAddress2(stringAdapter.read(in));
+                    break;
+                case "address3":
+                    value.setAddress3(stringAdapter.read(in));
+                    break;
+                case "city":
+                    value.setCity(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "postalCode":
+                    value.setPostalCode(stringAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "exemptCertTypeId":
+                    value.setExemptCertTypeId(exemptCertTypeIdAdapter.read(in));
+                    break;
+                case "documentRefNo":
+                    value.setDocumentRefNo(stringAdapter.read(in));
+                    break;
+                case "businessTypeId":
+                    value.setBusinessTypeId(integerAdapter.read(in));
+                    break;
+                case "businessTypeOtherDescription":
+                    value.setBusinessTypeOtherDescription(stringAdapter.read(in));
+                    break;
+                case "exemptReasonId":
+                    value.setExemptReasonId(stringAdapter.read(in));
+                    break;
+                case "exemptReasonOtherDescription":
+                    value.setExemptReasonOtherDescription(stringAdapter.read(in));
+                    break;
+                case "effectiveDate":
+                    value.setEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "regionsApplicable":
+                    value.setRegionsApplicable(stringAdapter.read(in));
+                    break;
+                case "exemptCertStatusId":
+                    value.setExemptCertStatusId(exemptCertStatusIdAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "lastTransactionDate":
+                    value.setLastTransactionDate(dateAdapter.read(in));
+                    break;
+                case "expiryDate":
+                    value.setExpiryDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                case "countryIssued":
+                    value.setCountryIssued(stringAdapter.read(in));
+                    break;
+                case "avaCertId":
+                    value.setAvaCertId(stringAdapter.read(in));
+                    break;
+                case "exemptCertReviewStatusId":
+                    value.setExemptCertReviewStatusId(exemptCertReviewStatusIdAdapter.read(in));
+                    break;
+                case "details":
+                    value.setDetails(ecmsDetailModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
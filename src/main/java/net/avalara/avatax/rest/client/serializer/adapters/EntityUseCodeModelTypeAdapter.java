@@ -0,0 +1,82 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes EntityUseCodeModel without reflection.
+ */
+public class EntityUseCodeModelTypeAdapter extends TypeAdapter<EntityUseCodeModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+    public EntityUseCodeModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.stringListAdapter = gson.getAdapter(new TypeToken<ArrayList<String>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, EntityUseCodeModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("code");
+        stringAdapter.write(out, value.getCode());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("validCountries");
+        stringListAdapter.write(out, value.getValidCountries());
+        out.endObject();
+    }
+
+    @Override
+    public EntityUseCodeModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        EntityUseCodeModel value = new EntityUseCodeModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "code":
+                    value.setCode(stringAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "validCountries":
+                    value.setValidCountries(stringListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,40 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.HashMap;
+
+/**
+ * Reads and writes an enum by constant name, built from the enum's values() rather than by reflection.
+ * Unknown names read as null, as they do with Gson's own enum adapter.
+ */
+public class EnumTypeAdapter<E extends Enum<E>> extends TypeAdapter<E> {
+    private final HashMap<String, E> constants;
+
+    public EnumTypeAdapter(E[] values) {
+        this.constants = new HashMap<String, E>(values.length * 2);
+
+        for (E value : values) {
+            this.constants.put(value.name(), value);
+        }
+    }
+
+    @Override
+    public void write(JsonWriter out, E value) throws IOException {
+        out.value(value == null ? null : value.name());
+    }
+
+    @Override
+    public E read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        return constants.get(in.nextString());
+    }
+}
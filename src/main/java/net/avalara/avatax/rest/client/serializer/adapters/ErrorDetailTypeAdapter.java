@@ -0,0 +1,106 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ErrorDetail without reflection.
+ */
+public class ErrorDetailTypeAdapter extends TypeAdapter<ErrorDetail> {
+    private final TypeAdapter<ErrorCodeId> errorCodeIdAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<SeverityLevel> severityLevelAdapter;
+
+    public ErrorDetailTypeAdapter(Gson gson) {
+        this.errorCodeIdAdapter = gson.getAdapter(ErrorCodeId.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.severityLevelAdapter = gson.getAdapter(SeverityLevel.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ErrorDetail value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("code");
+        errorCodeIdAdapter.write(out, value.getCode());
+        out.name("number");
+        integerAdapter.write(out, value.getNumber());
+        out.name("message");
+        stringAdapter.write(out, value.getMessage());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("faultCode");
+        stringAdapter.write(out, value.getFaultCode());
+        out.name("helpLink");
+        stringAdapter.write(out, value.getHelpLink());
+        out.name("refersTo");
+        stringAdapter.write(out, value.getRefersTo());
+        out.name("severity");
+        severityLevelAdapter.write(out, value.getSeverity());
+        out.endObject();
+    }
+
+    @Override
+    public ErrorDetail read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ErrorDetail value = new ErrorDetail();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "code":
+                    value.setCode(errorCodeIdAdapter.read(in));
+                    break;
+                case "number":
+                    value.setNumber(integerAdapter.read(in));
+                    break;
+                case "message":
+                    value.setMessage(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "faultCode":
+                    value.setFaultCode(stringAdapter.read(in));
+                    break;
+                case "helpLink":
+                    value.setHelpLink(stringAdapter.read(in));
+                    break;
+                case "refersTo":
+                    value.setRefersTo(stringAdapter.read(in));
+                    break;
+                case "severity":
+                    value.setSeverity(severityLevelAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,86 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ErrorInfo without reflection.
+ */
+public class ErrorInfoTypeAdapter extends TypeAdapter<ErrorInfo> {
+    private final TypeAdapter<ErrorCodeId> errorCodeIdAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<ErrorTargetCode> errorTargetCodeAdapter;
+    private final TypeAdapter<ArrayList<ErrorDetail>> errorDetailListAdapter;
+
+    public ErrorInfoTypeAdapter(Gson gson) {
+        this.errorCodeIdAdapter = gson.getAdapter(ErrorCodeId.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.errorTargetCodeAdapter = gson.getAdapter(ErrorTargetCode.class);
+        this.errorDetailListAdapter = gson.getAdapter(new TypeToken<ArrayList<ErrorDetail>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, ErrorInfo value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("code");
+        errorCodeIdAdapter.write(out, value.getCode());
+        out.name("message");
+        stringAdapter.write(out, value.getMessage());
+        out.name("target");
+        errorTargetCodeAdapter.write(out, value.getTarget());
+        out.name("details");
+        errorDetailListAdapter.write(out, value.getDetails());
+        out.endObject();
+    }
+
+    @Override
+    public ErrorInfo read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ErrorInfo value = new ErrorInfo();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "code":
+                    value.setCode(errorCodeIdAdapter.read(in));
+                    break;
+                case "message":
+                    value.setMessage(stringAdapter.read(in));
+                    break;
+                case "target":
+                    value.setTarget(errorTargetCodeAdapter.read(in));
+                    break;
+                case "details":
+                    value.setDetails(errorDetailListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,65 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ErrorResult without reflection.
+ */
+public class ErrorResultTypeAdapter extends TypeAdapter<ErrorResult> {
+    private final TypeAdapter<ErrorInfo> errorInfoAdapter;
+
+    public ErrorResultTypeAdapter(Gson gson) {
+        this.errorInfoAdapter = gson.getAdapter(ErrorInfo.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ErrorResult value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("error");
+        errorInfoAdapter.write(out, value.getError());
+        out.endObject();
+    }
+
+    @Override
+    public ErrorResult read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ErrorResult value = new ErrorResult();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "error":
+                    value.setError(errorInfoAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
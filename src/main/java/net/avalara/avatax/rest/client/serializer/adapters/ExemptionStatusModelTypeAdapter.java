@@ -0,0 +1,72 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ExemptionStatusModel without reflection.
+ */
+public class ExemptionStatusModelTypeAdapter extends TypeAdapter<ExemptionStatusModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<CertificateModel> certificateModelAdapter;
+
+    public ExemptionStatusModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.certificateModelAdapter = gson.getAdapter(CertificateModel.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ExemptionStatusModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("status");
+        stringAdapter.write(out, value.getStatus());
+        out.name("certificate");
+        certificateModelAdapter.write(out, value.getCertificate());
+        out.endObject();
+    }
+
+    @Override
+    public ExemptionStatusModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ExemptionStatusModel value = new ExemptionStatusModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "status":
+                    value.setStatus(stringAdapter.read(in));
+                    break;
+                case "certificate":
+                    value.setCertificate(certificateModelAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
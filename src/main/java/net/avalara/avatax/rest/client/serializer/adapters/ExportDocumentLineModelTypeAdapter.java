@@ -0,0 +1,118 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ExportDocumentLineModel without reflection.
+ */
+public class ExportDocumentLineModelTypeAdapter extends TypeAdapter<ExportDocumentLineModel> {
+    private final TypeAdapter<ReportFormat> reportFormatAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<ReportDateFilter> reportDateFilterAdapter;
+    private final TypeAdapter<ReportDocType> reportDocTypeAdapter;
+
+    public ExportDocumentLineModelTypeAdapter(Gson gson) {
+        this.reportFormatAdapter = gson.getAdapter(ReportFormat.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.reportDateFilterAdapter = gson.getAdapter(ReportDateFilter.class);
+        this.reportDocTypeAdapter = gson.getAdapter(ReportDocType.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ExportDocumentLineModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("format");
+        reportFormatAdapter.write(out, value.getFormat());
+        out.name("startDate");
+        dateAdapter.write(out, value.getStartDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("state");
+        stringAdapter.write(out, value.getState());
+        out.name("dateFilter");
+        reportDateFilterAdapter.write(out, value.getDateFilter());
+        out.name("docType");
+        reportDocTypeAdapter.write(out, value.getDocType());
+        out.name("dateFormat");
+        stringAdapter.write(out, value.getDateFormat());
+        out.name("culture");
+        stringAdapter.write(out, value.getCulture());
+        out.name("currencyCode");
+        stringAdapter.write(out, value.getCurrencyCode());
+        out.endObject();
+    }
+
+    @Override
+    public ExportDocumentLineModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ExportDocumentLineModel value = new ExportDocumentLineModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "format":
+                    value.setFormat(reportFormatAdapter.read(in));
+                    break;
+                case "startDate":
+                    value.setStartDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "state":
+                    value.setState(stringAdapter.read(in));
+                    break;
+                case "dateFilter":
+                    value.setDateFilter(reportDateFilterAdapter.read(in));
+                    break;
+                case "docType":
+                    value.setDocType(reportDocTypeAdapter.read(in));
+                    break;
+                case "dateFormat":
+                    value.setDateFormat(stringAdapter.read(in));
+                    break;
+                case "culture":
+                    value.setCulture(stringAdapter.read(in));
+                    break;
+                case "currencyCode":
+                    value.setCurrencyCode(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,75 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FileContentResult without reflection.
+ */
+public class FileContentResultTypeAdapter extends TypeAdapter<FileContentResult> {
+    private final TypeAdapter<String> stringAdapter;
+
+    public FileContentResultTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, FileContentResult value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("fileContents");
+        stringAdapter.write(out, value.getFileContents());
+        out.name("contentType");
+        stringAdapter.write(out, value.getContentType());
+        out.name("fileDownloadName");
+        stringAdapter.write(out, value.getFileDownloadName());
+        out.endObject();
+    }
+
+    @Override
+    public FileContentResult read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FileContentResult value = new FileContentResult();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "fileContents":
+                    value.setFileContents(stringAdapter.read(in));
+                    break;
+                case "contentType":
+                    value.setContentType(stringAdapter.read(in));
+                    break;
+                case "fileDownloadName":
+                    value.setFileDownloadName(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
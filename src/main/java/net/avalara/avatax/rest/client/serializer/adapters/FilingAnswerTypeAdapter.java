@@ -0,0 +1,72 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FilingAnswer without reflection.
+ */
+public class FilingAnswerTypeAdapter extends TypeAdapter<FilingAnswer> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<HashMap<String, String>> stringStringMapAdapter;
+
+    public FilingAnswerTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.stringStringMapAdapter = gson.getAdapter(new TypeToken<HashMap<String, String>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, FilingAnswer value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("filingQuestionId");
+        longAdapter.write(out, value.getFilingQuestionId());
+        out.name("answer");
+        stringStringMapAdapter.write(out, value.getAnswer());
+        out.endObject();
+    }
+
+    @Override
+    public FilingAnswer read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FilingAnswer value = new FilingAnswer();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "filingQuestionId":
+                    value.setFilingQuestionId(longAdapter.read(in));
+                    break;
+                case "answer":
+                    value.setAnswer(stringStringMapAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
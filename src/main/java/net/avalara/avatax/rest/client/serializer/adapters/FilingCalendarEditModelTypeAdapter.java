@@ -0,0 +1,84 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FilingCalendarEditModel without reflection.
+ */
+public class FilingCalendarEditModelTypeAdapter extends TypeAdapter<FilingCalendarEditModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<HashMap<String, String>> stringStringMapAdapter;
+
+    public FilingCalendarEditModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringStringMapAdapter = gson.getAdapter(new TypeToken<HashMap<String, String>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, FilingCalendarEditModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("fieldName");
+        stringAdapter.write(out, value.getFieldName());
+        out.name("questionId");
+        integerAdapter.write(out, value.getQuestionId());
+        out.name("oldValue");
+        stringStringMapAdapter.write(out, value.getOldValue());
+        out.name("newValue");
+        stringStringMapAdapter.write(out, value.getNewValue());
+        out.endObject();
+    }
+
+    @Override
+    public FilingCalendarEditModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FilingCalendarEditModel value = new FilingCalendarEditModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "fieldName":
+                    value.setFieldName(stringAdapter.read(in));
+                    break;
+                case "questionId":
+                    value.setQuestionId(integerAdapter.read(in));
+                    break;
+                case "oldValue":
+                    value.setOldValue(stringStringMapAdapter.read(in));
+                    break;
+                case "newValue":
+                    value.setNewValue(stringStringMapAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
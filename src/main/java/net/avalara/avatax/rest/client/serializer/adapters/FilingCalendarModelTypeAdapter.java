@@ -0,0 +1,365 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FilingCalendarModel without reflection.
+ */
+public class FilingCalendarModelTypeAdapter extends TypeAdapter<FilingCalendarModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<OutletTypeId> outletTypeIdAdapter;
+    private final TypeAdapter<FilingFrequencyId> filingFrequencyIdAdapter;
+    private final TypeAdapter<Short> shortAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<FilingTypeId> filingTypeIdAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<MatchingTaxType> matchingTaxTypeAdapter;
+    private final TypeAdapter<ArrayList<CompanyReturnSettingModel>> companyReturnSettingModelListAdapter;
+
+    public FilingCalendarModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.outletTypeIdAdapter = gson.getAdapter(OutletTypeId.class);
+        this.filingFrequencyIdAdapter = gson.getAdapter(FilingFrequencyId.class);
+        this.shortAdapter = gson.getAdapter(Short.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.filingTypeIdAdapter = gson.getAdapter(FilingTypeId.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.matchingTaxTypeAdapter = gson.getAdapter(MatchingTaxType.class);
+        this.companyReturnSettingModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<CompanyReturnSettingModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, FilingCalendarModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("returnName");
+        stringAdapter.write(out, value.getReturnName());
+        out.name("formCountry");
+        stringAdapter.write(out, value.getFormCountry());
+        out.name("formRegion");
+        stringAdapter.write(out, value.getFormRegion());
+        out.name("taxFormCode");
+        stringAdapter.write(out, value.getTaxFormCode());
+        out.name("locationCode");
+        stringAdapter.write(out, value.getLocationCode());
+        out.name("outletTypeId");
+        outletTypeIdAdapter.write(out, value.getOutletTypeId());
+        out.name("paymentCurrency");
+        stringAdapter.write(out, value.getPaymentCurrency());
+        out.name("filingFrequencyId");
+        filingFrequencyIdAdapter.write(out, value.getFilingFrequencyId());
+        out.name("months");
+        shortAdapter.write(out, value.getMonths());
+        out.name("stateRegistrationId");
+        stringAdapter.write(out, value.getStateRegistrationId());
+        out.name("localRegistrationId");
+        stringAdapter.write(out, value.getLocalRegistrationId());
+        out.name("employerIdentificationNumber");
+        stringAdapter.write(out, value.getEmployerIdentificationNumber());
+        out.name("line1");
+        stringAdapter.write(out, value.getLine1());
+        out.name("line2");
+        stringAdapter.write(out, value.getLine2());
+        out.name("city");
+        stringAdapter.write(out, value.getCity());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("postalCode");
+        stringAdapter.write(out, value.getPostalCode());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("mailingAddressLine1");
+        stringAdapter.write(out, value.getMailingAddressLine1());
+        out.name("mailingAddressLine2");
+        stringAdapter.write(out, value.getMailingAddressLine2());
+        out.name("mailingAddressCity");
+        stringAdapter.write(out, value.getMailingAddressCity());
+        out.name("mailingAddressRegion");
+        stringAdapter.write(out, value.getMailingAddressRegion());
+        out.name("mailingAddressPostalCode");
+        stringAdapter.write(out, value.getMailingAddressPostalCode());
+        out.name("mailingAddressCountry");
+        stringAdapter.write(out, value.getMailingAddressCountry());
+        out.name("phone");
+        stringAdapter.write(out, value.getPhone());
+        out.name("customerFilingInstructions");
+        stringAdapter.write(out, value.getCustomerFilingInstructions());
+        out.name("legalEntityName");
+        stringAdapter.write(out, value.getLegalEntityName());
+        out.name("effectiveDate");
+        dateAdapter.write(out, value.getEffectiveDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("filingTypeId");
+        filingTypeIdAdapter.write(out, value.getFilingTypeId());
+        out.name("eFileUsername");
+        stringAdapter.write(out, value.getEFileUsername());
+        out.name("eFilePassword");
+        stringAdapter.write(out, value.getEFilePassword());
+        out.name("prepayPercentage");
+        integerAdapter.write(out, value.getPrepayPercentage());
+        out.name("fixedPrepaymentAmount");
+        bigDecimalAdapter.write(out, value.getFixedPrepaymentAmount());
+        out.name("taxTypeId");
+        matchingTaxTypeAdapter.write(out, value.getTaxTypeId());
+        out.name("internalNotes");
+        stringAdapter.write(out, value.getInternalNotes());
+        out.name("alSignOn");
+        stringAdapter.write(out, value.getAlSignOn());
+        out.name("alAccessCode");
+        stringAdapter.write(out, value.getAlAccessCode());
+        out.name("meBusinessCode");
+        stringAdapter.write(out, value.getMeBusinessCode());
+        out.name("iaBen");
+        stringAdapter.write(out, value.getIaBen());
+        out.name("ctReg");
+        stringAdapter.write(out, value.getCtReg());
+        out.name("other1Name");
+        stringAdapter.write(out, value.getOther1Name());
+        out.name("other1Value");
+        stringAdapter.write(out, value.getOther1Value());
+        out.name("other2Name");
+        stringAdapter.write(out, value.getOther2Name());
+        out.name("other2Value");
+        stringAdapter.write(out, value.getOther2Value());
+        out.name("other3Name");
+        stringAdapter.write(out, value.getOther3Name());
+        out.name("other3Value");
+        stringAdapter.write(out, value.getOther3Value());
+        out.name("taxAuthorityId");
+        integerAdapter.write(out, value.getTaxAuthorityId());
+        out.name("taxAuthorityName");
+        stringAdapter.write(out, value.getTaxAuthorityName());
+        out.name("taxAuthorityType");
+        stringAdapter.write(out, value.getTaxAuthorityType());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.name("settings");
+        companyReturnSettingModelListAdapter.write(out, value.getSettings());
+        out.endObject();
+    }
+
+    @Override
+    public FilingCalendarModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FilingCalendarModel value = new FilingCalendarModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "returnName":
+                    value.setReturnName(stringAdapter.read(in));
+                    break;
+                case "formCountry":
+                    value.setFormCountry(stringAdapter.read(in));
+                    break;
+                case "formRegion":
+                    value.setFormRegion(stringAdapter.read(in));
+                    break;
+                case "taxFormCode":
+                    value.setTaxFormCode(stringAdapter.read(in));
+                    break;
+                case "locationCode":
+                    value.setLocationCode(stringAdapter.read(in));
+                    break;
+                case "outletTypeId":
+                    value.setOutletTypeId(outletTypeIdAdapter.read(in));
+                    break;
+                case "paymentCurrency":
+                    value.setPaymentCurrency(stringAdapter.read(in));
+                    break;
+                case "filingFrequencyId":
+                    value.setFilingFrequencyId(filingFrequencyIdAdapter.read(in));
+                    break;
+                case "months":
+                    value.setMonths(shortAdapter.read(in));
+                    break;
+                case "stateRegistrationId":
+                    value.setStateRegistrationId(stringAdapter.read(in));
+                    break;
+                case "localRegistrationId":
+                    value.setLocalRegistrationId(stringAdapter.read(in));
+                    break;
+                case "employerIdentificationNumber":
+                    value.setEmployerIdentificationNumber(stringAdapter.read(in));
+                    break;
+                case "line1":
+                    value.setLine1(stringAdapter.read(in));
+                    break;
+                case "line2":
+                    value.setLine2(stringAdapter.read(in));
+                    break;
+                case "city":
+                    value.setCity(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "postalCode":
+                    value.setPostalCode(stringAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "mailingAddressLine1":
+                    value.setMailingAddressLine1(stringAdapter.read(in));
+                    break;
+                case "mailingAddressLine2":
+                    value.setMailingAddressLine2(stringAdapter.read(in));
+                    break;
+                case "mailingAddressCity":
+                    value.setMailingAddressCity(stringAdapter.read(in));
+                    break;
+                case "mailingAddressRegion":
+                    value.setMailingAddressRegion(stringAdapter.read(in));
+                    break;
+                case "mailingAddressPostalCode":
+                    value.setMailingAddressPostalCode(stringAdapter.read(in));
+                    break;
+                case "mailingAddressCountry":
+                    value.setMailingAddressCountry(stringAdapter.read(in));
+                    break;
+                case "phone":
+                    value.setPhone(stringAdapter.read(in));
+                    break;
+                case "customerFilingInstructions":
+                    value.setCustomerFilingInstructions(stringAdapter.read(in));
+                    break;
+                case "legalEntityName":
+                    value.setLegalEntityName(stringAdapter.read(in));
+                    break;
+                case "effectiveDate":
+                    value.setEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "filingTypeId":
+                    value.setFilingTypeId(filingTypeIdAdapter.read(in));
+                    break;
+                case "eFileUsername":
+                    value.setEFileUsername(stringAdapter.read(in));
+                    break;
+                case "eFilePassword":
+                    value.setEFilePassword(stringAdapter.read(in));
+                    break;
+                case "prepayPercentage":
+                    value.setPrepayPercentage(integerAdapter.read(in));
+                    break;
+                case "fixedPrepaymentAmount":
+                    value.setFixedPrepaymentAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxTypeId":
+                    value.setTaxTypeId(matchingTaxTypeAdapter.read(in));
+                    break;
+                case "internalNotes":
+                    value.setInternalNotes(stringAdapter.read(in));
+                    break;
+                case "alSignOn":
+                    value.setAlSignOn(stringAdapter.read(in));
+                    break;
+                case "alAccessCode":
+                    value.setAlAccessCode(stringAdapter.read(in));
+                    break;
+                case "meBusinessCode":
+                    value.setMeBusinessCode(stringAdapter.read(in));
+                    break;
+                case "iaBen":
+                    value.setIaBen(stringAdapter.read(in));
+                    break;
+                case "ctReg":
+                    value.setCtReg(stringAdapter.read(in));
+                    break;
+                case "other1Name":
+                    value.setOther1Name(stringAdapter.read(in));
+                    break;
+                case "other1Value":
+                    value.setOther1Value(stringAdapter.read(in));
+                    break;
+                case "other2Name":
+                    value.setOther2Name(stringAdapter.read(in));
+                    break;
+                case "other2Value":
+                    value.setOther2Value(stringAdapter.read(in));
+                    break;
+                case "other3Name":
+                    value.setOther3Name(stringAdapter.read(in));
+                    break;
+                case "other3Value":
+                    value.setOther3Value(stringAdapter.read(in));
+                    break;
+                case "taxAuthorityId":
+                    value.setTaxAuthorityId(integerAdapter.read(in));
+                    break;
+                case "taxAuthorityName":
+                    value.setTaxAuthorityName(stringAdapter.read(in));
+                    break;
+                case "taxAuthorityType":
+                    value.setTaxAuthorityType(stringAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                case "settings":
+                    value.setSettings(companyReturnSettingModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
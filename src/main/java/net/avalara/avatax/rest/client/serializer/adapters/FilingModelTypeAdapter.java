@@ -0,0 +1,120 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FilingModel without reflection.
+ */
+public class FilingModelTypeAdapter extends TypeAdapter<FilingModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Short> shortAdapter;
+    private final TypeAdapter<WorksheetTypeId> worksheetTypeIdAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<ArrayList<FilingRegionModel>> filingRegionModelListAdapter;
+
+    public FilingModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.shortAdapter = gson.getAdapter(Short.class);
+        this.worksheetTypeIdAdapter = gson.getAdapter(WorksheetTypeId.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.filingRegionModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<FilingRegionModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, FilingModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("month");
+        integerAdapter.write(out, value.getMonth());
+        out.name("year");
+        shortAdapter.write(out, value.getYear());
+        out.name("type");
+        worksheetTypeIdAdapter.write(out, value.getType());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.name("filingRegions");
+        filingRegionModelListAdapter.write(out, value.getFilingRegions());
+        out.endObject();
+    }
+
+    @Override
+    public FilingModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FilingModel value = new FilingModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "month":
+                    value.setMonth(integerAdapter.read(in));
+                    break;
+                case "year":
+                    value.setYear(shortAdapter.read(in));
+                    break;
+                case "type":
+                    value.setType(worksheetTypeIdAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                case "filingRegions":
+                    value.setFilingRegions(filingRegionModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
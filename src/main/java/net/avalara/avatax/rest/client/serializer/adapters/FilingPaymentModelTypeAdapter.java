@@ -0,0 +1,115 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FilingPaymentModel without reflection.
+ */
+public class FilingPaymentModelTypeAdapter extends TypeAdapter<FilingPaymentModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<PaymentType> paymentTypeAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+
+    public FilingPaymentModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.paymentTypeAdapter = gson.getAdapter(PaymentType.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, FilingPaymentModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("filingId");
+        longAdapter.write(out, value.getFilingId());
+        out.name("paymentAmount");
+        bigDecimalAdapter.write(out, value.getPaymentAmount());
+        out.name("type");
+        paymentTypeAdapter.write(out, value.getType());
+        out.name("isCalculated");
+        booleanAdapter.write(out, value.getIsCalculated());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.endObject();
+    }
+
+    @Override
+    public FilingPaymentModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FilingPaymentModel value = new FilingPaymentModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "filingId":
+                    value.setFilingId(longAdapter.read(in));
+                    break;
+                case "paymentAmount":
+                    value.setPaymentAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "type":
+                    value.setType(paymentTypeAdapter.read(in));
+                    break;
+                case "isCalculated":
+                    value.setIsCalculated(booleanAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
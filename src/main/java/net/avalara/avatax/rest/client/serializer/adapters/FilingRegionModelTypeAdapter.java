@@ -0,0 +1,201 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FilingRegionModel without reflection.
+ */
+public class FilingRegionModelTypeAdapter extends TypeAdapter<FilingRegionModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<FilingStatusId> filingStatusIdAdapter;
+    private final TypeAdapter<ArrayList<FilingReturnModel>> filingReturnModelListAdapter;
+    private final TypeAdapter<ArrayList<FilingsCheckupSuggestedFormModel>> filingsCheckupSuggestedFormModelListAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+
+    public FilingRegionModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.filingStatusIdAdapter = gson.getAdapter(FilingStatusId.class);
+        this.filingReturnModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<FilingReturnModel>>(){});
+        this.filingsCheckupSuggestedFormModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<FilingsCheckupSuggestedFormModel>>(){});
+        this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, FilingRegionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("filingId");
+        longAdapter.write(out, value.getFilingId());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("salesAmount");
+        bigDecimalAdapter.write(out, value.getSalesAmount());
+        out.name("taxableAmount");
+        bigDecimalAdapter.write(out, value.getTaxableAmount());
+        out.name("taxAmount");
+        bigDecimalAdapter.write(out, value.getTaxAmount());
+        out.name("taxDueAmount");
+        bigDecimalAdapter.write(out, value.getTaxDueAmount());
+        out.name("collectAmount");
+        bigDecimalAdapter.write(out, value.getCollectAmount());
+        out.name("totalRemittanceAmount");
+        bigDecimalAdapter.write(out, value.getTotalRemittanceAmount());
+        out.name("nonTaxableAmount");
+        bigDecimalAdapter.write(out, value.getNonTaxableAmount());
+        out.name("consumerUseTaxAmount");
+        bigDecimalAdapter.write(out, value.getConsumerUseTaxAmount());
+        out.name("consumerUseNonTaxableAmount");
+        bigDecimalAdapter.write(out, value.getConsumerUseNonTaxableAmount());
+        out.name("consumerUseTaxableAmount");
+        bigDecimalAdapter.write(out, value.getConsumerUseTaxableAmount());
+        out.name("approveDate");
+        dateAdapter.write(out, value.getApproveDate());
+        out.name("startDate");
+        dateAdapter.write(out, value.getStartDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("hasNexus");
+        booleanAdapter.write(out, value.getHasNexus());
+        out.name("status");
+        filingStatusIdAdapter.write(out, value.getStatus());
+        out.name("returns");
+        filingReturnModelListAdapter.write(out, value.getReturns());
+        out.name("suggestReturns");
+        filingsCheckupSuggestedFormModelListAdapter.write(out, value.getSuggestReturns());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.endObject();
+    }
+
+    @Override
+    public FilingRegionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FilingRegionModel value = new FilingRegionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "filingId":
+                    value.setFilingId(longAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "salesAmount":
+                    value.setSalesAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxableAmount":
+                    value.setTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxAmount":
+                    value.setTaxAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxDueAmount":
+                    value.setTaxDueAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "collectAmount":
+                    value.setCollectAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "totalRemittanceAmount":
+                    value.setTotalRemittanceAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "nonTaxableAmount":
+                    value.setNonTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "consumerUseTaxAmount":
+                    value.setConsumerUseTaxAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "consumerUseNonTaxableAmount":
+                    value.setConsumerUseNonTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "consumerUseTaxableAmount":
+                    value.setConsumerUseTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "approveDate":
+                    value.setApproveDate(dateAdapter.read(in));
+                    break;
+                case "startDate":
+                    value.setStartDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "hasNexus":
+                    value.setHasNexus(booleanAdapter.read(in));
+                    break;
+                case "status":
+                    value.setStatus(filingStatusIdAdapter.read(in));
+                    break;
+                case "returns":
+                    value.setReturns(filingReturnModelListAdapter.read(in));
+                    break;
+                case "suggestReturns":
+                    value.setSuggestReturns(filingsCheckupSuggestedFormModelListAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
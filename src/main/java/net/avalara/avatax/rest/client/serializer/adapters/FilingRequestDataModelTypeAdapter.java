@@ -0,0 +1,156 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FilingRequestDataModel without reflection.
+ */
+public class FilingRequestDataModelTypeAdapter extends TypeAdapter<FilingRequestDataModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<FilingFrequencyId> filingFrequencyIdAdapter;
+    private final TypeAdapter<Short> shortAdapter;
+    private final TypeAdapter<MatchingTaxType> matchingTaxTypeAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<ArrayList<FilingAnswerModel>> filingAnswerModelListAdapter;
+
+    public FilingRequestDataModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.filingFrequencyIdAdapter = gson.getAdapter(FilingFrequencyId.class);
+        this.shortAdapter = gson.getAdapter(Short.class);
+        this.matchingTaxTypeAdapter = gson.getAdapter(MatchingTaxType.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.filingAnswerModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<FilingAnswerModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, FilingRequestDataModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("companyReturnId");
+        longAdapter.write(out, value.getCompanyReturnId());
+        out.name("returnName");
+        stringAdapter.write(out, value.getReturnName());
+        out.name("taxFormCode");
+        stringAdapter.write(out, value.getTaxFormCode());
+        out.name("filingFrequencyId");
+        filingFrequencyIdAdapter.write(out, value.getFilingFrequencyId());
+        out.name("registrationId");
+        stringAdapter.write(out, value.getRegistrationId());
+        out.name("months");
+        shortAdapter.write(out, value.getMonths());
+        out.name("taxTypeId");
+        matchingTaxTypeAdapter.write(out, value.getTaxTypeId());
+        out.name("locationCode");
+        stringAdapter.write(out, value.getLocationCode());
+        out.name("effDate");
+        dateAdapter.write(out, value.getEffDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("isClone");
+        booleanAdapter.write(out, value.getIsClone());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("taxAuthorityId");
+        integerAdapter.write(out, value.getTaxAuthorityId());
+        out.name("taxAuthorityName");
+        stringAdapter.write(out, value.getTaxAuthorityName());
+        out.name("answers");
+        filingAnswerModelListAdapter.write(out, value.getAnswers());
+        out.endObject();
+    }
+
+    @Override
+    public FilingRequestDataModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FilingRequestDataModel value = new FilingRequestDataModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "companyReturnId":
+                    value.setCompanyReturnId(longAdapter.read(in));
+                    break;
+                case "returnName":
+                    value.setReturnName(stringAdapter.read(in));
+                    break;
+                case "taxFormCode":
+                    value.setTaxFormCode(stringAdapter.read(in));
+                    break;
+                case "filingFrequencyId":
+                    value.setFilingFrequencyId(filingFrequencyIdAdapter.read(in));
+                    break;
+                case "registrationId":
+                    value.setRegistrationId(stringAdapter.read(in));
+                    break;
+                case "months":
+                    value.setMonths(shortAdapter.read(in));
+                    break;
+                case "taxTypeId":
+                    value.setTaxTypeId(matchingTaxTypeAdapter.read(in));
+                    break;
+                case "locationCode":
+                    value.setLocationCode(stringAdapter.read(in));
+                    break;
+                case "effDate":
+                    value.setEffDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "isClone":
+                    value.setIsClone(booleanAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "taxAuthorityId":
+                    value.setTaxAuthorityId(integerAdapter.read(in));
+                    break;
+                case "taxAuthorityName":
+                    value.setTaxAuthorityName(stringAdapter.read(in));
+                    break;
+                case "answers":
+                    value.setAnswers(filingAnswerModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,87 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FilingReturnCreditModel without reflection.
+ */
+public class FilingReturnCreditModelTypeAdapter extends TypeAdapter<FilingReturnCreditModel> {
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<ArrayList<WorksheetDocument>> worksheetDocumentListAdapter;
+
+    public FilingReturnCreditModelTypeAdapter(Gson gson) {
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.worksheetDocumentListAdapter = gson.getAdapter(new TypeToken<ArrayList<WorksheetDocument>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, FilingReturnCreditModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("totalSales");
+        bigDecimalAdapter.write(out, value.getTotalSales());
+        out.name("totalExempt");
+        bigDecimalAdapter.write(out, value.getTotalExempt());
+        out.name("totalTaxable");
+        bigDecimalAdapter.write(out, value.getTotalTaxable());
+        out.name("totalTax");
+        bigDecimalAdapter.write(out, value.getTotalTax());
+        out.name("transactionDetails");
+        worksheetDocumentListAdapter.write(out, value.getTransactionDetails());
+        out.endObject();
+    }
+
+    @Override
+    public FilingReturnCreditModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FilingReturnCreditModel value = new FilingReturnCreditModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "totalSales":
+                    value.setTotalSales(bigDecimalAdapter.read(in));
+                    break;
+                case "totalExempt":
+                    value.setTotalExempt(bigDecimalAdapter.read(in));
+                    break;
+                case "totalTaxable":
+                    value.setTotalTaxable(bigDecimalAdapter.read(in));
+                    break;
+                case "totalTax":
+                    value.setTotalTax(bigDecimalAdapter.read(in));
+                    break;
+                case "transactionDetails":
+                    value.setTransactionDetails(worksheetDocumentListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
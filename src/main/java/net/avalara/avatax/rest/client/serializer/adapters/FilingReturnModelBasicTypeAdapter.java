@@ -0,0 +1,260 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FilingReturnModelBasic without reflection.
+ */
+public class FilingReturnModelBasicTypeAdapter extends TypeAdapter<FilingReturnModelBasic> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Short> shortAdapter;
+    private final TypeAdapter<FilingStatusId> filingStatusIdAdapter;
+    private final TypeAdapter<FilingFrequencyId> filingFrequencyIdAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<FilingTypeId> filingTypeIdAdapter;
+    private final TypeAdapter<AccrualType> accrualTypeAdapter;
+    private final TypeAdapter<ArrayList<FilingAttachmentModel>> filingAttachmentModelListAdapter;
+
+    public FilingReturnModelBasicTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.shortAdapter = gson.getAdapter(Short.class);
+        this.filingStatusIdAdapter = gson.getAdapter(FilingStatusId.class);
+        this.filingFrequencyIdAdapter = gson.getAdapter(FilingFrequencyId.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.filingTypeIdAdapter = gson.getAdapter(FilingTypeId.class);
+        this.accrualTypeAdapter = gson.getAdapter(AccrualType.class);
+        this.filingAttachmentModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<FilingAttachmentModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, FilingReturnModelBasic value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("companyId");
+        longAdapter.write(out, value.getCompanyId());
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("filingId");
+        longAdapter.write(out, value.getFilingId());
+        out.name("resourceFileId");
+        longAdapter.write(out, value.getResourceFileId());
+        out.name("filingRegionId");
+        longAdapter.write(out, value.getFilingRegionId());
+        out.name("filingCalendarId");
+        longAdapter.write(out, value.getFilingCalendarId());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("endPeriodMonth");
+        integerAdapter.write(out, value.getEndPeriodMonth());
+        out.name("endPeriodYear");
+        shortAdapter.write(out, value.getEndPeriodYear());
+        out.name("status");
+        filingStatusIdAdapter.write(out, value.getStatus());
+        out.name("filingFrequency");
+        filingFrequencyIdAdapter.write(out, value.getFilingFrequency());
+        out.name("filedDate");
+        dateAdapter.write(out, value.getFiledDate());
+        out.name("salesAmount");
+        bigDecimalAdapter.write(out, value.getSalesAmount());
+        out.name("filingType");
+        filingTypeIdAdapter.write(out, value.getFilingType());
+        out.name("formName");
+        stringAdapter.write(out, value.getFormName());
+        out.name("remitAmount");
+        bigDecimalAdapter.write(out, value.getRemitAmount());
+        out.name("formCode");
+        stringAdapter.write(out, value.getFormCode());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("taxableAmount");
+        bigDecimalAdapter.write(out, value.getTaxableAmount());
+        out.name("taxAmount");
+        bigDecimalAdapter.write(out, value.getTaxAmount());
+        out.name("collectAmount");
+        bigDecimalAdapter.write(out, value.getCollectAmount());
+        out.name("taxDueAmount");
+        bigDecimalAdapter.write(out, value.getTaxDueAmount());
+        out.name("nonTaxableAmount");
+        bigDecimalAdapter.write(out, value.getNonTaxableAmount());
+        out.name("nonTaxableDueAmount");
+        bigDecimalAdapter.write(out, value.getNonTaxableDueAmount());
+        out.name("consumerUseTaxAmount");
+        bigDecimalAdapter.write(out, value.getConsumerUseTaxAmount());
+        out.name("consumerUseNonTaxableAmount");
+        bigDecimalAdapter.write(out, value.getConsumerUseNonTaxableAmount());
+        out.name("consumerUseTaxableAmount");
+        bigDecimalAdapter.write(out, value.getConsumerUseTaxableAmount());
+        out.name("excludedSalesAmount");
+        bigDecimalAdapter.write(out, value.getExcludedSalesAmount());
+        out.name("excludedNonTaxableAmount");
+        bigDecimalAdapter.write(out, value.getExcludedNonTaxableAmount());
+        out.name("excludedTaxAmount");
+        bigDecimalAdapter.write(out, value.getExcludedTaxAmount());
+        out.name("accrualType");
+        accrualTypeAdapter.write(out, value.getAccrualType());
+        out.name("attachments");
+        filingAttachmentModelListAdapter.write(out, value.getAttachments());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.endObject();
+    }
+
+    @Override
+    public FilingReturnModelBasic read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FilingReturnModelBasic value = new FilingReturnModelBasic();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "companyId":
+                    value.setCompanyId(longAdapter.read(in));
+                    break;
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "filingId":
+                    value.setFilingId(longAdapter.read(in));
+                    break;
+                case "resourceFileId":
+                    value.setResourceFileId(longAdapter.read(in));
+                    break;
+                case "filingRegionId":
+                    value.setFilingRegionId(longAdapter.read(in));
+                    break;
+                case "filingCalendarId":
+                    value.setFilingCalendarId(longAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "endPeriodMonth":
+                    value.setEndPeriodMonth(integerAdapter.read(in));
+                    break;
+                case "endPeriodYear":
+                    value.setEndPeriodYear(shortAdapter.read(in));
+                    break;
+                case "status":
+                    value.setStatus(filingStatusIdAdapter.read(in));
+                    break;
+                case "filingFrequency":
+                    value.setFilingFrequency(filingFrequencyIdAdapter.read(in));
+                    break;
+                case "filedDate":
+                    value.setFiledDate(dateAdapter.read(in));
+                    break;
+                case "salesAmount":
+                    value.setSalesAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "filingType":
+                    value.setFilingType(filingTypeIdAdapter.read(in));
+                    break;
+                case "formName":
+                    value.setFormName(stringAdapter.read(in));
+                    break;
+                case "remitAmount":
+                    value.setRemitAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "formCode":
+                    value.setFormCode(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "taxableAmount":
+                    value.setTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxAmount":
+                    value.setTaxAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "collectAmount":
+                    value.setCollectAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxDueAmount":
+                    value.setTaxDueAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "nonTaxableAmount":
+                    value.setNonTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "nonTaxableDueAmount":
+                    value.setNonTaxableDueAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "consumerUseTaxAmount":
+                    value.setConsumerUseTaxAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "consumerUseNonTaxableAmount":
+                    value.setConsumerUseNonTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "consumerUseTaxableAmount":
+                    value.setConsumerUseTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "excludedSalesAmount":
+                    value.setExcludedSalesAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "excludedNonTaxableAmount":
+                    value.setExcludedNonTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "excludedTaxAmount":
+                    value.setExcludedTaxAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "accrualType":
+                    value.setAccrualType(accrualTypeAdapter.read(in));
+                    break;
+                case "attachments":
+                    value.setAttachments(filingAttachmentModelListAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,371 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FilingReturnModel without reflection.
+ */
+public class FilingReturnModelTypeAdapter extends TypeAdapter<FilingReturnModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<FilingStatusId> filingStatusIdAdapter;
+    private final TypeAdapter<FilingFrequencyId> filingFrequencyIdAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<FilingTypeId> filingTypeIdAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<ArrayList<FilingAdjustmentModel>> filingAdjustmentModelListAdapter;
+    private final TypeAdapter<ArrayList<FilingAugmentationModel>> filingAugmentationModelListAdapter;
+    private final TypeAdapter<ArrayList<FilingPaymentModel>> filingPaymentModelListAdapter;
+    private final TypeAdapter<AccrualType> accrualTypeAdapter;
+    private final TypeAdapter<ArrayList<FilingAttachmentModel>> filingAttachmentModelListAdapter;
+    private final TypeAdapter<FilingReturnCreditModel> filingReturnCreditModelAdapter;
+
+    public FilingReturnModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.filingStatusIdAdapter = gson.getAdapter(FilingStatusId.class);
+        this.filingFrequencyIdAdapter = gson.getAdapter(FilingFrequencyId.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.filingTypeIdAdapter = gson.getAdapter(FilingTypeId.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.filingAdjustmentModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<FilingAdjustmentModel>>(){});
+        this.filingAugmentationModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<FilingAugmentationModel>>(){});
+        this.filingPaymentModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<FilingPaymentModel>>(){});
+        this.accrualTypeAdapter = gson.getAdapter(AccrualType.class);
+        this.filingAttachmentModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<FilingAttachmentModel>>(){});
+        this.filingReturnCreditModelAdapter = gson.getAdapter(FilingReturnCreditModel.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, FilingReturnModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("filingRegionId");
+        longAdapter.write(out, value.getFilingRegionId());
+        out.name("filingCalendarId");
+        longAdapter.write(out, value.getFilingCalendarId());
+        out.name("resourceFileId");
+        longAdapter.write(out, value.getResourceFileId());
+        out.name("taxAuthorityId");
+        integerAdapter.write(out, value.getTaxAuthorityId());
+        out.name("status");
+        filingStatusIdAdapter.write(out, value.getStatus());
+        out.name("filingFrequency");
+        filingFrequencyIdAdapter.write(out, value.getFilingFrequency());
+        out.name("filedDate");
+        dateAdapter.write(out, value.getFiledDate());
+        out.name("startPeriod");
+        dateAdapter.write(out, value.getStartPeriod());
+        out.name("endPeriod");
+        dateAdapter.write(out, value.getEndPeriod());
+        out.name("salesAmount");
+        bigDecimalAdapter.write(out, value.getSalesAmount());
+        out.name("filingType");
+        filingTypeIdAdapter.write(out, value.getFilingType());
+        out.name("formName");
+        stringAdapter.write(out, value.getFormName());
+        out.name("remitAmount");
+        bigDecimalAdapter.write(out, value.getRemitAmount());
+        out.name("formCode");
+        stringAdapter.write(out, value.getFormCode());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("taxableAmount");
+        bigDecimalAdapter.write(out, value.getTaxableAmount());
+        out.name("taxAmount");
+        bigDecimalAdapter.write(out, value.getTaxAmount());
+        out.name("collectAmount");
+        bigDecimalAdapter.write(out, value.getCollectAmount());
+        out.name("taxDueAmount");
+        bigDecimalAdapter.write(out, value.getTaxDueAmount());
+        out.name("nonTaxableAmount");
+        bigDecimalAdapter.write(out, value.getNonTaxableAmount());
+        out.name("nonTaxableDueAmount");
+        bigDecimalAdapter.write(out, value.getNonTaxableDueAmount());
+        out.name("consumerUseTaxAmount");
+        bigDecimalAdapter.write(out, value.getConsumerUseTaxAmount());
+        out.name("consumerUseTaxDueAmount");
+        bigDecimalAdapter.write(out, value.getConsumerUseTaxDueAmount());
+        out.name("consumerUseNonTaxableAmount");
+        bigDecimalAdapter.write(out, value.getConsumerUseNonTaxableAmount());
+        out.name("consumerUseTaxableAmount");
+        bigDecimalAdapter.write(out, value.getConsumerUseTaxableAmount());
+        out.name("totalAdjustments");
+        bigDecimalAdapter.write(out, value.getTotalAdjustments());
+        out.name("excludedSalesAmount");
+        bigDecimalAdapter.write(out, value.getExcludedSalesAmount());
+        out.name("excludedNonTaxableAmount");
+        bigDecimalAdapter.write(out, value.getExcludedNonTaxableAmount());
+        out.name("excludedTaxAmount");
+        bigDecimalAdapter.write(out, value.getExcludedTaxAmount());
+        out.name("carryOverSalesAmount");
+        bigDecimalAdapter.write(out, value.getCarryOverSalesAmount());
+        out.name("carryOverNonTaxableAmount");
+        bigDecimalAdapter.write(out, value.getCarryOverNonTaxableAmount());
+        out.name("carryOverTaxAmount");
+        bigDecimalAdapter.write(out, value.getCarryOverTaxAmount());
+        out.name("carryOverConsumerUseTaxAmount");
+        bigDecimalAdapter.write(out, value.getCarryOverConsumerUseTaxAmount());
+        out.name("taxAccrualAmount");
+        bigDecimalAdapter.write(out, value.getTaxAccrualAmount());
+        out.name("salesAccrualAmount");
+        bigDecimalAdapter.write(out, value.getSalesAccrualAmount());
+        out.name("nonTaxableAccrualAmount");
+        bigDecimalAdapter.write(out, value.getNonTaxableAccrualAmount());
+        out.name("taxableAccrualAmount");
+        bigDecimalAdapter.write(out, value.getTaxableAccrualAmount());
+        out.name("salesTaxAccrualAmount");
+        bigDecimalAdapter.write(out, value.getSalesTaxAccrualAmount());
+        out.name("sellersUseTaxAccrualAmount");
+        bigDecimalAdapter.write(out, value.getSellersUseTaxAccrualAmount());
+        out.name("consumerUseTaxAccrualAmount");
+        bigDecimalAdapter.write(out, value.getConsumerUseTaxAccrualAmount());
+        out.name("consumerUseTaxableAccrualAmount");
+        bigDecimalAdapter.write(out, value.getConsumerUseTaxableAccrualAmount());
+        out.name("consumerUseNonTaxableAccrualAmount");
+        bigDecimalAdapter.write(out, value.getConsumerUseNonTaxableAccrualAmount());
+        out.name("adjustments");
+        filingAdjustmentModelListAdapter.write(out, value.getAdjustments());
+        out.name("totalAugmentations");
+        bigDecimalAdapter.write(out, value.getTotalAugmentations());
+        out.name("augmentations");
+        filingAugmentationModelListAdapter.write(out, value.getAugmentations());
+        out.name("totalPayments");
+        bigDecimalAdapter.write(out, value.getTotalPayments());
+        out.name("payments");
+        filingPaymentModelListAdapter.write(out, value.getPayments());
+        out.name("accrualType");
+        accrualTypeAdapter.write(out, value.getAccrualType());
+        out.name("month");
+        integerAdapter.write(out, value.getMonth());
+        out.name("year");
+        integerAdapter.write(out, value.getYear());
+        out.name("attachments");
+        filingAttachmentModelListAdapter.write(out, value.getAttachments());
+        out.name("excludedCarryOverCredits");
+        filingReturnCreditModelAdapter.write(out, value.getExcludedCarryOverCredits());
+        out.name("appliedCarryOverCredits");
+        filingReturnCreditModelAdapter.write(out, value.getAppliedCarryOverCredits());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.endObject();
+    }
+
+    @Override
+    public FilingReturnModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FilingReturnModel value = new FilingReturnModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "filingRegionId":
+                    value.setFilingRegionId(longAdapter.read(in));
+                    break;
+                case "filingCalendarId":
+                    value.setFilingCalendarId(longAdapter.read(in));
+                    break;
+                case "resourceFileId":
+                    value.setResourceFileId(longAdapter.read(in));
+                    break;
+                case "taxAuthorityId":
+                    value.setTaxAuthorityId(integerAdapter.read(in));
+                    break;
+                case "status":
+                    value.setStatus(filingStatusIdAdapter.read(in));
+                    break;
+                case "filingFrequency":
+                    value.setFilingFrequency(filingFrequencyIdAdapter.read(in));
+                    break;
+                case "filedDate":
+                    value.setFiledDate(dateAdapter.read(in));
+                    break;
+                case "startPeriod":
+                    value.setStartPeriod(dateAdapter.read(in));
+                    break;
+                case "endPeriod":
+                    value.setEndPeriod(dateAdapter.read(in));
+                    break;
+                case "salesAmount":
+                    value.setSalesAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "filingType":
+                    value.setFilingType(filingTypeIdAdapter.read(in));
+                    break;
+                case "formName":
+                    value.setFormName(stringAdapter.read(in));
+                    break;
+                case "remitAmount":
+                    value.setRemitAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "formCode":
+                    value.setFormCode(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "taxableAmount":
+                    value.setTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxAmount":
+                    value.setTaxAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "collectAmount":
+                    value.setCollectAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxDueAmount":
+                    value.setTaxDueAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "nonTaxableAmount":
+                    value.setNonTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "nonTaxableDueAmount":
+                    value.setNonTaxableDueAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "consumerUseTaxAmount":
+                    value.setConsumerUseTaxAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "consumerUseTaxDueAmount":
+                    value.setConsumerUseTaxDueAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "consumerUseNonTaxableAmount":
+                    value.setConsumerUseNonTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "consumerUseTaxableAmount":
+                    value.setConsumerUseTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "totalAdjustments":
+                    value.setTotalAdjustments(bigDecimalAdapter.read(in));
+                    break;
+                case "excludedSalesAmount":
+                    value.setExcludedSalesAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "excludedNonTaxableAmount":
+                    value.setExcludedNonTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "excludedTaxAmount":
+                    value.setExcludedTaxAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "carryOverSalesAmount":
+                    value.setCarryOverSalesAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "carryOverNonTaxableAmount":
+                    value.setCarryOverNonTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "carryOverTaxAmount":
+                    value.setCarryOverTaxAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "carryOverConsumerUseTaxAmount":
+                    value.setCarryOverConsumerUseTaxAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxAccrualAmount":
+                    value.setTaxAccrualAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "salesAccrualAmount":
+                    value.setSalesAccrualAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "nonTaxableAccrualAmount":
+                    value.setNonTaxableAccrualAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxableAccrualAmount":
+                    value.setTaxableAccrualAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "salesTaxAccrualAmount":
+                    value.setSalesTaxAccrualAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "sellersUseTaxAccrualAmount":
+                    value.setSellersUseTaxAccrualAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "consumerUseTaxAccrualAmount":
+                    value.setConsumerUseTaxAccrualAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "consumerUseTaxableAccrualAmount":
+                    value.setConsumerUseTaxableAccrualAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "consumerUseNonTaxableAccrualAmount":
+                    value.setConsumerUseNonTaxableAccrualAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "adjustments":
+                    value.setAdjustments(filingAdjustmentModelListAdapter.read(in));
+                    break;
+                case "totalAugmentations":
+                    value.setTotalAugmentations(bigDecimalAdapter.read(in));
+                    break;
+                case "augmentations":
+                    value.setAugmentations(filingAugmentationModelListAdapter.read(in));
+                    break;
+                case "totalPayments":
+                    value.setTotalPayments(bigDecimalAdapter.read(in));
+                    break;
+                case "payments":
+                    value.setPayments(filingPaymentModelListAdapter.read(in));
+                    break;
+                case "accrualType":
+                    value.setAccrualType(accrualTypeAdapter.read(in));
+                    break;
+                case "month":
+                    value.setMonth(integerAdapter.read(in));
+                    break;
+                case "year":
+                    value.setYear(integerAdapter.read(in));
+                    break;
+                case "attachments":
+                    value.setAttachments(filingAttachmentModelListAdapter.read(in));
+                    break;
+                case "excludedCarryOverCredits":
+                    value.setExcludedCarryOverCredits(filingReturnCreditModelAdapter.read(in));
+                    break;
+                case "appliedCarryOverCredits":
+                    value.setAppliedCarryOverCredits(filingReturnCreditModelAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,65 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FilingStatusChangeModel without reflection.
+ */
+public class FilingStatusChangeModelTypeAdapter extends TypeAdapter<FilingStatusChangeModel> {
+    private final TypeAdapter<CompanyFilingStatus> companyFilingStatusAdapter;
+
+    public FilingStatusChangeModelTypeAdapter(Gson gson) {
+        this.companyFilingStatusAdapter = gson.getAdapter(CompanyFilingStatus.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, FilingStatusChangeModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("requestedStatus");
+        companyFilingStatusAdapter.write(out, value.getRequestedStatus());
+        out.endObject();
+    }
+
+    @Override
+    public FilingStatusChangeModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FilingStatusChangeModel value = new FilingStatusChangeModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "requestedStatus":
+                    value.setRequestedStatus(companyFilingStatusAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,106 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FilingsCheckupAuthorityModel without reflection.
+ */
+public class FilingsCheckupAuthorityModelTypeAdapter extends TypeAdapter<FilingsCheckupAuthorityModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<ArrayList<FilingsCheckupSuggestedFormModel>> filingsCheckupSuggestedFormModelListAdapter;
+
+    public FilingsCheckupAuthorityModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.filingsCheckupSuggestedFormModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<FilingsCheckupSuggestedFormModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, FilingsCheckupAuthorityModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("taxAuthorityId");
+        integerAdapter.write(out, value.getTaxAuthorityId());
+        out.name("locationCode");
+        stringAdapter.write(out, value.getLocationCode());
+        out.name("taxAuthorityName");
+        stringAdapter.write(out, value.getTaxAuthorityName());
+        out.name("taxAuthorityTypeId");
+        integerAdapter.write(out, value.getTaxAuthorityTypeId());
+        out.name("jurisdictionId");
+        integerAdapter.write(out, value.getJurisdictionId());
+        out.name("tax");
+        bigDecimalAdapter.write(out, value.getTax());
+        out.name("taxTypeId");
+        stringAdapter.write(out, value.getTaxTypeId());
+        out.name("suggestedForms");
+        filingsCheckupSuggestedFormModelListAdapter.write(out, value.getSuggestedForms());
+        out.endObject();
+    }
+
+    @Override
+    public FilingsCheckupAuthorityModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FilingsCheckupAuthorityModel value = new FilingsCheckupAuthorityModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "taxAuthorityId":
+                    value.setTaxAuthorityId(integerAdapter.read(in));
+                    break;
+                case "locationCode":
+                    value.setLocationCode(stringAdapter.read(in));
+                    break;
+                case "taxAuthorityName":
+                    value.setTaxAuthorityName(stringAdapter.read(in));
+                    break;
+                case "taxAuthorityTypeId":
+                    value.setTaxAuthorityTypeId(integerAdapter.read(in));
+                    break;
+                case "jurisdictionId":
+                    value.setJurisdictionId(integerAdapter.read(in));
+                    break;
+                case "tax":
+                    value.setTax(bigDecimalAdapter.read(in));
+                    break;
+                case "taxTypeId":
+                    value.setTaxTypeId(stringAdapter.read(in));
+                    break;
+                case "suggestedForms":
+                    value.setSuggestedForms(filingsCheckupSuggestedFormModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
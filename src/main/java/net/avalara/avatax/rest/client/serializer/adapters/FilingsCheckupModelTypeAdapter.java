@@ -0,0 +1,65 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FilingsCheckupModel without reflection.
+ */
+public class FilingsCheckupModelTypeAdapter extends TypeAdapter<FilingsCheckupModel> {
+    private final TypeAdapter<ArrayList<FilingsCheckupAuthorityModel>> filingsCheckupAuthorityModelListAdapter;
+
+    public FilingsCheckupModelTypeAdapter(Gson gson) {
+        this.filingsCheckupAuthorityModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<FilingsCheckupAuthorityModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, FilingsCheckupModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("authorities");
+        filingsCheckupAuthorityModelListAdapter.write(out, value.getAuthorities());
+        out.endObject();
+    }
+
+    @Override
+    public FilingsCheckupModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FilingsCheckupModel value = new FilingsCheckupModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "authorities":
+                    value.setAuthorities(filingsCheckupAuthorityModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
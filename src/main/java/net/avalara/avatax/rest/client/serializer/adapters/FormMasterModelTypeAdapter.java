@@ -0,0 +1,578 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FormMasterModel without reflection.
+ */
+public class FormMasterModelTypeAdapter extends TypeAdapter<FormMasterModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public FormMasterModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, FormMasterModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("formTypeId");
+        integerAdapter.write(out, value.getFormTypeId());
+        out.name("taxFormCode");
+        stringAdapter.write(out, value.getTaxFormCode());
+        out.name("legacyReturnName");
+        stringAdapter.write(out, value.getLegacyReturnName());
+        out.name("taxFormName");
+        stringAdapter.write(out, value.getTaxFormName());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("isEffective");
+        booleanAdapter.write(out, value.getIsEffective());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("authorityName");
+        stringAdapter.write(out, value.getAuthorityName());
+        out.name("shortCode");
+        stringAdapter.write(out, value.getShortCode());
+        out.name("dueDay");
+        integerAdapter.write(out, value.getDueDay());
+        out.name("delinquentDay");
+        integerAdapter.write(out, value.getDelinquentDay());
+        out.name("fiscalYearStartMonth");
+        integerAdapter.write(out, value.getFiscalYearStartMonth());
+        out.name("hasMultiFrequencies");
+        booleanAdapter.write(out, value.getHasMultiFrequencies());
+        out.name("isPOARequired");
+        booleanAdapter.write(out, value.getIsPOARequired());
+        out.name("isRegistrationRequired");
+        booleanAdapter.write(out, value.getIsRegistrationRequired());
+        out.name("hasMultiRegistrationMethods");
+        booleanAdapter.write(out, value.getHasMultiRegistrationMethods());
+        out.name("hasSchedules");
+        booleanAdapter.write(out, value.getHasSchedules());
+        out.name("hasMultiFilingMethods");
+        booleanAdapter.write(out, value.getHasMultiFilingMethods());
+        out.name("hasMultiPayMethods");
+        booleanAdapter.write(out, value.getHasMultiPayMethods());
+        out.name("isEFTRequired");
+        booleanAdapter.write(out, value.getIsEFTRequired());
+        out.name("isFilePayMethodLinked");
+        booleanAdapter.write(out, value.getIsFilePayMethodLinked());
+        out.name("mailingReceivedRuleId");
+        integerAdapter.write(out, value.getMailingReceivedRuleId());
+        out.name("proofOfMailingId");
+        integerAdapter.write(out, value.getProofOfMailingId());
+        out.name("isNegAmountAllowed");
+        booleanAdapter.write(out, value.getIsNegAmountAllowed());
+        out.name("allowNegativeOverallTax");
+        booleanAdapter.write(out, value.getAllowNegativeOverallTax());
+        out.name("isNettingRequired");
+        booleanAdapter.write(out, value.getIsNettingRequired());
+        out.name("roundingMethodId");
+        integerAdapter.write(out, value.getRoundingMethodId());
+        out.name("vendorDiscountAnnualMax");
+        bigDecimalAdapter.write(out, value.getVendorDiscountAnnualMax());
+        out.name("versionsRequireAuthorityApproval");
+        booleanAdapter.write(out, value.getVersionsRequireAuthorityApproval());
+        out.name("outletReportingMethodId");
+        integerAdapter.write(out, value.getOutletReportingMethodId());
+        out.name("hasReportingCodes");
+        booleanAdapter.write(out, value.getHasReportingCodes());
+        out.name("hasPrepayments");
+        booleanAdapter.write(out, value.getHasPrepayments());
+        out.name("grossIncludesInterstateSales");
+        booleanAdapter.write(out, value.getGrossIncludesInterstateSales());
+        out.name("grossIncludesTax");
+        stringAdapter.write(out, value.getGrossIncludesTax());
+        out.name("hasEfileFee");
+        booleanAdapter.write(out, value.getHasEfileFee());
+        out.name("hasEpayFee");
+        booleanAdapter.write(out, value.getHasEpayFee());
+        out.name("hasDependencies");
+        booleanAdapter.write(out, value.getHasDependencies());
+        out.name("requiredEfileTrigger");
+        stringAdapter.write(out, value.getRequiredEfileTrigger());
+        out.name("requiredEftTrigger");
+        stringAdapter.write(out, value.getRequiredEftTrigger());
+        out.name("vendorDiscountEfile");
+        booleanAdapter.write(out, value.getVendorDiscountEfile());
+        out.name("vendorDiscountPaper");
+        booleanAdapter.write(out, value.getVendorDiscountPaper());
+        out.name("peerReviewed");
+        stringAdapter.write(out, value.getPeerReviewed());
+        out.name("peerReviewedId");
+        stringAdapter.write(out, value.getPeerReviewedId());
+        out.name("peerReviewedDate");
+        stringAdapter.write(out, value.getPeerReviewedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("dorAddressMailTo");
+        stringAdapter.write(out, value.getDorAddressMailTo());
+        out.name("dorAddress1");
+        stringAdapter.write(out, value.getDorAddress1());
+        out.name("dorAddress2");
+        stringAdapter.write(out, value.getDorAddress2());
+        out.name("dorAddressCity");
+        stringAdapter.write(out, value.getDorAddressCity());
+        out.name("dorAddressRegion");
+        stringAdapter.write(out, value.getDorAddressRegion());
+        out.name("dorAddressPostalCode");
+        stringAdapter.write(out, value.getDorAddressPostalCode());
+        out.name("dorAddressCountry");
+        stringAdapter.write(out, value.getDorAddressCountry());
+        out.name("zeroAddressMailTo");
+        stringAdapter.write(out, value.getZeroAddressMailTo());
+        out.name("zeroAddress1");
+        stringAdapter.write(out, value.getZeroAddress1());
+        out.name("zeroAddress2");
+        stringAdapter.write(out, value.getZeroAddress2());
+        out.name("zeroAddressCity");
+        stringAdapter.write(out, value.getZeroAddressCity());
+        out.name("zeroAddressRegion");
+        stringAdapter.write(out, value.getZeroAddressRegion());
+        out.name("zeroAddressPostalCode");
+        stringAdapter.write(out, value.getZeroAddressPostalCode());
+        out.name("zeroAddressCountry");
+        stringAdapter.write(out, value.getZeroAddressCountry());
+        out.name("amendedAddressMailTo");
+        stringAdapter.write(out, value.getAmendedAddressMailTo());
+        out.name("amendedAddress1");
+        stringAdapter.write(out, value.getAmendedAddress1());
+        out.name("amendedAddress2");
+        stringAdapter.write(out, value.getAmendedAddress2());
+        out.name("amendedAddressCity");
+        stringAdapter.write(out, value.getAmendedAddressCity());
+        out.name("amendedAddressRegion");
+        stringAdapter.write(out, value.getAmendedAddressRegion());
+        out.name("amendedAddressPostalCode");
+        stringAdapter.write(out, value.getAmendedAddressPostalCode());
+        out.name("amendedAddressCountry");
+        stringAdapter.write(out, value.getAmendedAddressCountry());
+        out.name("onlineBackFiling");
+        booleanAdapter.write(out, value.getOnlineBackFiling());
+        out.name("onlineAmendedReturns");
+        booleanAdapter.write(out, value.getOnlineAmendedReturns());
+        out.name("prepaymentFrequency");
+        stringAdapter.write(out, value.getPrepaymentFrequency());
+        out.name("outletLocationIdentifiersRequired");
+        booleanAdapter.write(out, value.getOutletLocationIdentifiersRequired());
+        out.name("listingSortOrder");
+        stringAdapter.write(out, value.getListingSortOrder());
+        out.name("dorWebsite");
+        stringAdapter.write(out, value.getDorWebsite());
+        out.name("fileForAllOutlets");
+        booleanAdapter.write(out, value.getFileForAllOutlets());
+        out.name("paperFormsDoNotHaveDiscounts");
+        booleanAdapter.write(out, value.getPaperFormsDoNotHaveDiscounts());
+        out.name("stackAggregation");
+        booleanAdapter.write(out, value.getStackAggregation());
+        out.name("roundingPrecision");
+        stringAdapter.write(out, value.getRoundingPrecision());
+        out.name("inconsistencyTolerance");
+        stringAdapter.write(out, value.getInconsistencyTolerance());
+        out.name("effDate");
+        dateAdapter.write(out, value.getEffDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("visibleToCustomers");
+        booleanAdapter.write(out, value.getVisibleToCustomers());
+        out.name("requiresOutletSetup");
+        booleanAdapter.write(out, value.getRequiresOutletSetup());
+        out.name("achCreditAllowed");
+        booleanAdapter.write(out, value.getAchCreditAllowed());
+        out.name("reportLevel");
+        stringAdapter.write(out, value.getReportLevel());
+        out.name("postOfficeValidated");
+        booleanAdapter.write(out, value.getPostOfficeValidated());
+        out.name("stackAggregationOption");
+        stringAdapter.write(out, value.getStackAggregationOption());
+        out.name("sstBehavior");
+        stringAdapter.write(out, value.getSstBehavior());
+        out.name("nonSstBehavior");
+        stringAdapter.write(out, value.getNonSstBehavior());
+        out.name("dorPhoneNumber");
+        stringAdapter.write(out, value.getDorPhoneNumber());
+        out.name("averageCheckClearDays");
+        stringAdapter.write(out, value.getAverageCheckClearDays());
+        out.name("filterZeroRatedLineDetails");
+        booleanAdapter.write(out, value.getFilterZeroRatedLineDetails());
+        out.name("allowsBulkFilingAccounts");
+        booleanAdapter.write(out, value.getAllowsBulkFilingAccounts());
+        out.name("bulkAccountInstructionLink");
+        stringAdapter.write(out, value.getBulkAccountInstructionLink());
+        out.name("registrationIdFormat");
+        stringAdapter.write(out, value.getRegistrationIdFormat());
+        out.name("thresholdTrigger");
+        stringAdapter.write(out, value.getThresholdTrigger());
+        out.name("transactionSortingOption");
+        stringAdapter.write(out, value.getTransactionSortingOption());
+        out.name("contentReviewFrequencyId");
+        integerAdapter.write(out, value.getContentReviewFrequencyId());
+        out.name("aliasForFormMasterId");
+        stringAdapter.write(out, value.getAliasForFormMasterId());
+        out.endObject();
+    }
+
+    @Override
+    public FormMasterModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FormMasterModel value = new FormMasterModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "formTypeId":
+                    value.setFormTypeId(integerAdapter.read(in));
+                    break;
+                case "taxFormCode":
+                    value.setTaxFormCode(stringAdapter.read(in));
+                    break;
+                case "legacyReturnName":
+                    value.setLegacyReturnName(stringAdapter.read(in));
+                    break;
+                case "taxFormName":
+                    value.setTaxFormName(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "isEffective":
+                    value.setIsEffective(booleanAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "authorityName":
+                    value.setAuthorityName(stringAdapter.read(in));
+                    break;
+                case "shortCode":
+                    value.setShortCode(stringAdapter.read(in));
+                    break;
+                case "dueDay":
+                    value.setDueDay(integerAdapter.read(in));
+                    break;
+                case "delinquentDay":
+                    value.setDelinquentDay(integerAdapter.read(in));
+                    break;
+                case "fiscalYearStartMonth":
+                    value.setFiscalYearStartMonth(integerAdapter.read(in));
+                    break;
+                case "hasMultiFrequencies":
+                    value.setHasMultiFrequencies(booleanAdapter.read(in));
+                    break;
+                case "isPOARequired":
+                    value.setIsPOARequired(booleanAdapter.read(in));
+                    break;
+                case "isRegistrationRequired":
+                    value.setIsRegistrationRequired(booleanAdapter.read(in));
+                    break;
+                case "hasMultiRegistrationMethods":
+                    value.setHasMultiRegistrationMethods(booleanAdapter.read(in));
+                    break;
+                case "hasSchedules":
+                    value.setHasSchedules(booleanAdapter.read(in));
+                    break;
+                case "hasMultiFilingMethods":
+                    value.setHasMultiFilingMethods(booleanAdapter.read(in));
+                    break;
+                case "hasMultiPayMethods":
+                    value.setHasMultiPayMethods(booleanAdapter.read(in));
+                    break;
+                case "isEFTRequired":
+                    value.setIsEFTRequired(booleanAdapter.read(in));
+                    break;
+                case "isFilePayMethodLinked":
+                    value.setIsFilePayMethodLinked(booleanAdapter.read(in));
+                    break;
+                case "mailingReceivedRuleId":
+                    value.setMailingReceivedRuleId(integerAdapter.read(in));
+                    break;
+                case "proofOfMailingId":
+                    value.setProofOfMailingId(integerAdapter.read(in));
+                    break;
+                case "isNegAmountAllowed":
+                    value.setIsNegAmountAllowed(booleanAdapter.read(in));
+                    break;
+                case "allowNegativeOverallTax":
+                    value.setAllowNegativeOverallTax(booleanAdapter.read(in));
+                    break;
+                case "isNettingRequired":
+                    value.setIsNettingRequired(booleanAdapter.read(in));
+                    break;
+                case "roundingMethodId":
+                    value.setRoundingMethodId(integerAdapter.read(in));
+                    break;
+                case "vendorDiscountAnnualMax":
+                    value.setVendorDiscountAnnualMax(bigDecimalAdapter.read(in));
+                    break;
+                case "versionsRequireAuthorityApproval":
+                    value.setVersionsRequireAuthorityApproval(booleanAdapter.read(in));
+                    break;
+                case "outletReportingMethodId":
+                    value.setOutletReportingMethodId(integerAdapter.read(in));
+                    break;
+                case "hasReportingCodes":
+                    value.setHasReportingCodes(booleanAdapter.read(in));
+                    break;
+                case "hasPrepayments":
+                    value.setHasPrepayments(booleanAdapter.read(in));
+                    break;
+                case "grossIncludesInterstateSales":
+                    value.setGrossIncludesInterstateSales(booleanAdapter.read(in));
+                    break;
+                case "grossIncludesTax":
+                    value.setGrossIncludesTax(stringAdapter.read(in));
+                    break;
+                case "hasEfileFee":
+                    value.setHasEfileFee(booleanAdapter.read(in));
+                    break;
+                case "hasEpayFee":
+                    value.setHasEpayFee(booleanAdapter.read(in));
+                    break;
+                case "hasDependencies":
+                    value.setHasDependencies(booleanAdapter.read(in));
+                    break;
+                case "requiredEfileTrigger":
+                    value.setRequiredEfileTrigger(stringAdapter.read(in));
+                    break;
+                case "requiredEftTrigger":
+                    value.setRequiredEftTrigger(stringAdapter.read(in));
+                    break;
+                case "vendorDiscountEfile":
+                    value.setVendorDiscountEfile(booleanAdapter.read(in));
+                    break;
+                case "vendorDiscountPaper":
+                    value.setVendorDiscountPaper(booleanAdapter.read(in));
+                    break;
+                case "peerReviewed":
+                    value.setPeerReviewed(stringAdapter.read(in));
+                    break;
+                case "peerReviewedId":
+                    value.setPeerReviewedId(stringAdapter.read(in));
+                    break;
+                case "peerReviewedDate":
+                    value.setPeerReviewedDate(stringAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "dorAddressMailTo":
+                    value.setDorAddressMailTo(stringAdapter.read(in));
+                    break;
+                case "dorAddress1":
+                    value.setDorAddress1(stringAdapter.read(in));
+                    break;
+                case "dorAddress2":
+                    value.setDorAddress2(stringAdapter.read(in));
+                    break;
+                case "dorAddressCity":
+                    value.setDorAddressCity(stringAdapter.read(in));
+                    break;
+                case "dorAddressRegion":
+                    value.setDorAddressRegion(stringAdapter.read(in));
+                    break;
+                case "dorAddressPostalCode":
+                    value.setDorAddressPostalCode(stringAdapter.read(in));
+                    break;
+                case "dorAddressCountry":
+                    value.setDorAddressCountry(stringAdapter.read(in));
+                    break;
+                case "zeroAddressMailTo":
+                    value.setZeroAddressMailTo(stringAdapter.read(in));
+                    break;
+                case "zeroAddress1":
+                    value.setZeroAddress1(stringAdapter.read(in));
+                    break;
+                case "zeroAddress2":
+                    value.setZeroAddress2(stringAdapter.read(in));
+                    break;
+                case "zeroAddressCity":
+                    value.setZeroAddressCity(stringAdapter.read(in));
+                    break;
+                case "zeroAddressRegion":
+                    value.setZeroAddressRegion(stringAdapter.read(in));
+                    break;
+                case "zeroAddressPostalCode":
+                    value.setZeroAddressPostalCode(stringAdapter.read(in));
+                    break;
+                case "zeroAddressCountry":
+                    value.setZeroAddressCountry(stringAdapter.read(in));
+                    break;
+                case "amendedAddressMailTo":
+                    value.setAmendedAddressMailTo(stringAdapter.read(in));
+                    break;
+                case "amendedAddress1":
+                    value.setAmendedAddress1(stringAdapter.read(in));
+                    break;
+                case "amendedAddress2":
+                    value.setAmendedAddress2(stringAdapter.read(in));
+                    break;
+                case "amendedAddressCity":
+                    value.setAmendedAddressCity(stringAdapter.read(in));
+                    break;
+                case "amendedAddressRegion":
+                    value.setAmendedAddressRegion(stringAdapter.read(in));
+                    break;
+                case "amendedAddressPostalCode":
+                    value.setAmendedAddressPostalCode(stringAdapter.read(in));
+                    break;
+                case "amendedAddressCountry":
+                    value.setAmendedAddressCountry(stringAdapter.read(in));
+                    break;
+                case "onlineBackFiling":
+                    value.setOnlineBackFiling(booleanAdapter.read(in));
+                    break;
+                case "onlineAmendedReturns":
+                    value.setOnlineAmendedReturns(booleanAdapter.read(in));
+                    break;
+                case "prepaymentFrequency":
+                    value.setPrepaymentFrequency(stringAdapter.read(in));
+                    break;
+                case "outletLocationIdentifiersRequired":
+                    value.setOutletLocationIdentifiersRequired(booleanAdapter.read(in));
+                    break;
+                case "listingSortOrder":
+                    value.setListingSortOrder(stringAdapter.read(in));
+                    break;
+                case "dorWebsite":
+                    value.setDorWebsite(stringAdapter.read(in));
+                    break;
+                case "fileForAllOutlets":
+                    value.setFileForAllOutlets(booleanAdapter.read(in));
+                    break;
+                case "paperFormsDoNotHaveDiscounts":
+                    value.setPaperFormsDoNotHaveDiscounts(booleanAdapter.read(in));
+                    break;
+                case "stackAggregation":
+                    value.setStackAggregation(booleanAdapter.read(in));
+                    break;
+                case "roundingPrecision":
+                    value.setRoundingPrecision(stringAdapter.read(in));
+                    break;
+                case "inconsistencyTolerance":
+                    value.setInconsistencyTolerance(stringAdapter.read(in));
+                    break;
+                case "effDate":
+                    value.setEffDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "visibleToCustomers":
+                    value.setVisibleToCustomers(booleanAdapter.read(in));
+                    break;
+                case "requiresOutletSetup":
+                    value.setRequiresOutletSetup(booleanAdapter.read(in));
+                    break;
+                case "achCreditAllowed":
+                    value.setAchCreditAllowed(booleanAdapter.read(in));
+                    break;
+                case "reportLevel":
+                    value.setReportLevel(stringAdapter.read(in));
+                    break;
+                case "postOfficeValidated":
+                    value.setPostOfficeValidated(booleanAdapter.read(in));
+                    break;
+                case "stackAggregationOption":
+                    value.setStackAggregationOption(stringAdapter.read(in));
+                    break;
+                case "sstBehavior":
+                    value.setSstBehavior(stringAdapter.read(in));
+                    break;
+                case "nonSstBehavior":
+                    value.setNonSstBehavior(stringAdapter.read(in));
+                    break;
+                case "dorPhoneNumber":
+                    value.setDorPhoneNumber(stringAdapter.read(in));
+                    break;
+                case "averageCheckClearDays":
+                    value.setAverageCheckClearDays(stringAdapter.read(in));
+                    break;
+                case "filterZeroRatedLineDetails":
+                    value.setFilterZeroRatedLineDetails(booleanAdapter.read(in));
+                    break;
+                case "allowsBulkFilingAccounts":
+                    value.setAllowsBulkFilingAccounts(booleanAdapter.read(in));
+                    break;
+                case "bulkAccountInstructionLink":
+                    value.setBulkAccountInstructionLink(stringAdapter.read(in));
+                    break;
+                case "registrationIdFormat":
+                    value.setRegistrationIdFormat(stringAdapter.read(in));
+                    break;
+                case "thresholdTrigger":
+                    value.setThresholdTrigger(stringAdapter.read(in));
+                    break;
+                case "transactionSortingOption":
+                    value.setTransactionSortingOption(stringAdapter.read(in));
+                    break;
+                case "contentReviewFrequencyId":
+                    value.setContentReviewFrequencyId(integerAdapter.read(in));
+                    break;
+                case "aliasForFormMasterId":
+                    value.setAliasForFormMasterId(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
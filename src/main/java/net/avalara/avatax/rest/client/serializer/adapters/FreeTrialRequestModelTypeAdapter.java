@@ -0,0 +1,114 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FreeTrialRequestModel without reflection.
+ */
+public class FreeTrialRequestModelTypeAdapter extends TypeAdapter<FreeTrialRequestModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<CompanyAddress> companyAddressAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public FreeTrialRequestModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.companyAddressAdapter = gson.getAdapter(CompanyAddress.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, FreeTrialRequestModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("firstName");
+        stringAdapter.write(out, value.getFirstName());
+        out.name("lastName");
+        stringAdapter.write(out, value.getLastName());
+        out.name("email");
+        stringAdapter.write(out, value.getEmail());
+        out.name("company");
+        stringAdapter.write(out, value.getCompany());
+        out.name("phone");
+        stringAdapter.write(out, value.getPhone());
+        out.name("campaign");
+        stringAdapter.write(out, value.getCampaign());
+        out.name("companyAddress");
+        companyAddressAdapter.write(out, value.getCompanyAddress());
+        out.name("website");
+        stringAdapter.write(out, value.getWebsite());
+        out.name("haveReadAvalaraTermsAndConditions");
+        booleanAdapter.write(out, value.getHaveReadAvalaraTermsAndConditions());
+        out.name("acceptAvalaraTermsAndConditions");
+        booleanAdapter.write(out, value.getAcceptAvalaraTermsAndConditions());
+        out.endObject();
+    }
+
+    @Override
+    public FreeTrialRequestModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FreeTrialRequestModel value = new FreeTrialRequestModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "firstName":
+                    value.setFirstName(stringAdapter.read(in));
+                    break;
+                case "lastName":
+                    value.setLastName(stringAdapter.read(in));
+                    break;
+                case "email":
+                    value.setEmail(stringAdapter.read(in));
+                    break;
+                case "company":
+                    value.setCompany(stringAdapter.read(in));
+                    break;
+                case "phone":
+                    value.setPhone(stringAdapter.read(in));
+                    break;
+                case "campaign":
+                    value.setCampaign(stringAdapter.read(in));
+                    break;
+                case "companyAddress":
+                    value.setCompanyAddress(companyAddressAdapter.read(in));
+                    break;
+                case "website":
+                    value.setWebsite(stringAdapter.read(in));
+                    break;
+                case "haveReadAvalaraTermsAndConditions":
+                    value.setHaveReadAvalaraTermsAndConditions(booleanAdapter.read(in));
+                    break;
+                case "acceptAvalaraTermsAndConditions":
+                    value.setAcceptAvalaraTermsAndConditions(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,96 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FundingConfigurationModel without reflection.
+ */
+public class FundingConfigurationModelTypeAdapter extends TypeAdapter<FundingConfigurationModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public FundingConfigurationModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, FundingConfigurationModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("systemType");
+        stringAdapter.write(out, value.getSystemType());
+        out.name("currency");
+        stringAdapter.write(out, value.getCurrency());
+        out.name("isFundingSetup");
+        booleanAdapter.write(out, value.getIsFundingSetup());
+        out.name("fundingMethod");
+        stringAdapter.write(out, value.getFundingMethod());
+        out.name("lastUpdated");
+        dateAdapter.write(out, value.getLastUpdated());
+        out.endObject();
+    }
+
+    @Override
+    public FundingConfigurationModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FundingConfigurationModel value = new FundingConfigurationModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "systemType":
+                    value.setSystemType(stringAdapter.read(in));
+                    break;
+                case "currency":
+                    value.setCurrency(stringAdapter.read(in));
+                    break;
+                case "isFundingSetup":
+                    value.setIsFundingSetup(booleanAdapter.read(in));
+                    break;
+                case "fundingMethod":
+                    value.setFundingMethod(stringAdapter.read(in));
+                    break;
+                case "lastUpdated":
+                    value.setLastUpdated(dateAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,77 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FundingESignMethodReturn without reflection.
+ */
+public class FundingESignMethodReturnTypeAdapter extends TypeAdapter<FundingESignMethodReturn> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public FundingESignMethodReturnTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, FundingESignMethodReturn value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("method");
+        stringAdapter.write(out, value.getMethod());
+        out.name("javaScriptReady");
+        booleanAdapter.write(out, value.getJavaScriptReady());
+        out.name("javaScript");
+        stringAdapter.write(out, value.getJavaScript());
+        out.endObject();
+    }
+
+    @Override
+    public FundingESignMethodReturn read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FundingESignMethodReturn value = new FundingESignMethodReturn();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "method":
+                    value.setMethod(stringAdapter.read(in));
+                    break;
+                case "javaScriptReady":
+                    value.setJavaScriptReady(booleanAdapter.read(in));
+                    break;
+                case "javaScript":
+                    value.setJavaScript(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
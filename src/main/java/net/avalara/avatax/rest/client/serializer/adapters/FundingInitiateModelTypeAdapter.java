@@ -0,0 +1,77 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FundingInitiateModel without reflection.
+ */
+public class FundingInitiateModelTypeAdapter extends TypeAdapter<FundingInitiateModel> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    public FundingInitiateModelTypeAdapter(Gson gson) {
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, FundingInitiateModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("requestEmail");
+        booleanAdapter.write(out, value.getRequestEmail());
+        out.name("fundingEmailRecipient");
+        stringAdapter.write(out, value.getFundingEmailRecipient());
+        out.name("requestWidget");
+        booleanAdapter.write(out, value.getRequestWidget());
+        out.endObject();
+    }
+
+    @Override
+    public FundingInitiateModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FundingInitiateModel value = new FundingInitiateModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "requestEmail":
+                    value.setRequestEmail(booleanAdapter.read(in));
+                    break;
+                case "fundingEmailRecipient":
+                    value.setFundingEmailRecipient(stringAdapter.read(in));
+                    break;
+                case "requestWidget":
+                    value.setRequestWidget(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,148 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes FundingStatusModel without reflection.
+ */
+public class FundingStatusModelTypeAdapter extends TypeAdapter<FundingStatusModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<FundingESignMethodReturn> fundingESignMethodReturnAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public FundingStatusModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.fundingESignMethodReturnAdapter = gson.getAdapter(FundingESignMethodReturn.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, FundingStatusModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("requestId");
+        longAdapter.write(out, value.getRequestId());
+        out.name("subledgerProfileID");
+        integerAdapter.write(out, value.getSubledgerProfileID());
+        out.name("companyID");
+        stringAdapter.write(out, value.getCompanyID());
+        out.name("domain");
+        stringAdapter.write(out, value.getDomain());
+        out.name("recipient");
+        stringAdapter.write(out, value.getRecipient());
+        out.name("sender");
+        stringAdapter.write(out, value.getSender());
+        out.name("documentKey");
+        stringAdapter.write(out, value.getDocumentKey());
+        out.name("documentType");
+        stringAdapter.write(out, value.getDocumentType());
+        out.name("documentName");
+        stringAdapter.write(out, value.getDocumentName());
+        out.name("methodReturn");
+        fundingESignMethodReturnAdapter.write(out, value.getMethodReturn());
+        out.name("status");
+        stringAdapter.write(out, value.getStatus());
+        out.name("errorMessage");
+        stringAdapter.write(out, value.getErrorMessage());
+        out.name("lastPolled");
+        dateAdapter.write(out, value.getLastPolled());
+        out.name("lastSigned");
+        dateAdapter.write(out, value.getLastSigned());
+        out.name("lastActivated");
+        dateAdapter.write(out, value.getLastActivated());
+        out.name("templateRequestId");
+        longAdapter.write(out, value.getTemplateRequestId());
+        out.endObject();
+    }
+
+    @Override
+    public FundingStatusModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        FundingStatusModel value = new FundingStatusModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "requestId":
+                    value.setRequestId(longAdapter.read(in));
+                    break;
+                case "subledgerProfileID":
+                    value.setSubledgerProfileID(integerAdapter.read(in));
+                    break;
+                case "companyID":
+                    value.setCompanyID(stringAdapter.read(in));
+                    break;
+                case "domain":
+                    value.setDomain(stringAdapter.read(in));
+                    break;
+                case "recipient":
+                    value.setRecipient(stringAdapter.read(in));
+                    break;
+                case "sender":
+                    value.setSender(stringAdapter.read(in));
+                    break;
+                case "documentKey":
+                    value.setDocumentKey(stringAdapter.read(in));
+                    break;
+                case "documentType":
+                    value.setDocumentType(stringAdapter.read(in));
+                    break;
+                case "documentName":
+                    value.setDocumentName(stringAdapter.read(in));
+                    break;
+                case "methodReturn":
+                    value.setMethodReturn(fundingESignMethodReturnAdapter.read(in));
+                    break;
+                case "status":
+                    value.setStatus(stringAdapter.read(in));
+                    break;
+                case "errorMessage":
+                    value.setErrorMessage(stringAdapter.read(in));
+                    break;
+                case "lastPolled":
+                    value.setLastPolled(dateAdapter.read(in));
+                    break;
+                case "lastSigned":
+                    value.setLastSigned(dateAdapter.read(in));
+                    break;
+                case "lastActivated":
+                    value.setLastActivated(dateAdapter.read(in));
+                    break;
+                case "templateRequestId":
+                    value.setTemplateRequestId(longAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,104 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes HsCodeModel without reflection.
+ */
+public class HsCodeModelTypeAdapter extends TypeAdapter<HsCodeModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public HsCodeModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, HsCodeModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("hsCode");
+        stringAdapter.write(out, value.getHsCode());
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("parentHsCodeId");
+        longAdapter.write(out, value.getParentHsCodeId());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("system");
+        stringAdapter.write(out, value.getSystem());
+        out.name("destinationCountry");
+        stringAdapter.write(out, value.getDestinationCountry());
+        out.name("effDate");
+        dateAdapter.write(out, value.getEffDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.endObject();
+    }
+
+    @Override
+    public HsCodeModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        HsCodeModel value = new HsCodeModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "hsCode":
+                    value.setHsCode(stringAdapter.read(in));
+                    break;
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "parentHsCodeId":
+                    value.setParentHsCodeId(longAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "system":
+                    value.setSystem(stringAdapter.read(in));
+                    break;
+                case "destinationCountry":
+                    value.setDestinationCountry(stringAdapter.read(in));
+                    break;
+                case "effDate":
+                    value.setEffDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
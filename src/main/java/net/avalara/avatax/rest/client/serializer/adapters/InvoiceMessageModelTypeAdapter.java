@@ -0,0 +1,72 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes InvoiceMessageModel without reflection.
+ */
+public class InvoiceMessageModelTypeAdapter extends TypeAdapter<InvoiceMessageModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+    public InvoiceMessageModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.stringListAdapter = gson.getAdapter(new TypeToken<ArrayList<String>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, InvoiceMessageModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("content");
+        stringAdapter.write(out, value.getContent());
+        out.name("lineNumbers");
+        stringListAdapter.write(out, value.getLineNumbers());
+        out.endObject();
+    }
+
+    @Override
+    public InvoiceMessageModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        InvoiceMessageModel value = new InvoiceMessageModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "content":
+                    value.setContent(stringAdapter.read(in));
+                    break;
+                case "lineNumbers":
+                    value.setLineNumbers(stringListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
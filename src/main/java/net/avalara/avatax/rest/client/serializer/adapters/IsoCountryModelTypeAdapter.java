@@ -0,0 +1,94 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes IsoCountryModel without reflection.
+ */
+public class IsoCountryModelTypeAdapter extends TypeAdapter<IsoCountryModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<ArrayList<IsoLocalizedName>> isoLocalizedNameListAdapter;
+
+    public IsoCountryModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.isoLocalizedNameListAdapter = gson.getAdapter(new TypeToken<ArrayList<IsoLocalizedName>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, IsoCountryModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("code");
+        stringAdapter.write(out, value.getCode());
+        out.name("alpha3Code");
+        stringAdapter.write(out, value.getAlpha3Code());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("isEuropeanUnion");
+        booleanAdapter.write(out, value.getIsEuropeanUnion());
+        out.name("localizedNames");
+        isoLocalizedNameListAdapter.write(out, value.getLocalizedNames());
+        out.name("addressesRequireRegion");
+        booleanAdapter.write(out, value.getAddressesRequireRegion());
+        out.endObject();
+    }
+
+    @Override
+    public IsoCountryModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        IsoCountryModel value = new IsoCountryModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "code":
+                    value.setCode(stringAdapter.read(in));
+                    break;
+                case "alpha3Code":
+                    value.setAlpha3Code(stringAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "isEuropeanUnion":
+                    value.setIsEuropeanUnion(booleanAdapter.read(in));
+                    break;
+                case "localizedNames":
+                    value.setLocalizedNames(isoLocalizedNameListAdapter.read(in));
+                    break;
+                case "addressesRequireRegion":
+                    value.setAddressesRequireRegion(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,75 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes IsoLocalizedName without reflection.
+ */
+public class IsoLocalizedNameTypeAdapter extends TypeAdapter<IsoLocalizedName> {
+    private final TypeAdapter<String> stringAdapter;
+
+    public IsoLocalizedNameTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, IsoLocalizedName value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("languageAlpha2Code");
+        stringAdapter.write(out, value.getLanguageAlpha2Code());
+        out.name("languageAlpha3Code");
+        stringAdapter.write(out, value.getLanguageAlpha3Code());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.endObject();
+    }
+
+    @Override
+    public IsoLocalizedName read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        IsoLocalizedName value = new IsoLocalizedName();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "languageAlpha2Code":
+                    value.setLanguageAlpha2Code(stringAdapter.read(in));
+                    break;
+                case "languageAlpha3Code":
+                    value.setLanguageAlpha3Code(stringAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
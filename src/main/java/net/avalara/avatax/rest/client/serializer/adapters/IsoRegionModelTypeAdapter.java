@@ -0,0 +1,94 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes IsoRegionModel without reflection.
+ */
+public class IsoRegionModelTypeAdapter extends TypeAdapter<IsoRegionModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<ArrayList<IsoLocalizedName>> isoLocalizedNameListAdapter;
+
+    public IsoRegionModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.isoLocalizedNameListAdapter = gson.getAdapter(new TypeToken<ArrayList<IsoLocalizedName>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, IsoRegionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("countryCode");
+        stringAdapter.write(out, value.getCountryCode());
+        out.name("code");
+        stringAdapter.write(out, value.getCode());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("classification");
+        stringAdapter.write(out, value.getClassification());
+        out.name("streamlinedSalesTax");
+        booleanAdapter.write(out, value.getStreamlinedSalesTax());
+        out.name("localizedNames");
+        isoLocalizedNameListAdapter.write(out, value.getLocalizedNames());
+        out.endObject();
+    }
+
+    @Override
+    public IsoRegionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        IsoRegionModel value = new IsoRegionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "countryCode":
+                    value.setCountryCode(stringAdapter.read(in));
+                    break;
+                case "code":
+                    value.setCode(stringAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "classification":
+                    value.setClassification(stringAdapter.read(in));
+                    break;
+                case "streamlinedSalesTax":
+                    value.setStreamlinedSalesTax(booleanAdapter.read(in));
+                    break;
+                case "localizedNames":
+                    value.setLocalizedNames(isoLocalizedNameListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,158 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes JurisdictionModel without reflection.
+ */
+public class JurisdictionModelTypeAdapter extends TypeAdapter<JurisdictionModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<JurisdictionType> jurisdictionTypeAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public JurisdictionModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.jurisdictionTypeAdapter = gson.getAdapter(JurisdictionType.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, JurisdictionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("code");
+        stringAdapter.write(out, value.getCode());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("type");
+        jurisdictionTypeAdapter.write(out, value.getType());
+        out.name("rate");
+        bigDecimalAdapter.write(out, value.getRate());
+        out.name("salesRate");
+        bigDecimalAdapter.write(out, value.getSalesRate());
+        out.name("signatureCode");
+        stringAdapter.write(out, value.getSignatureCode());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("useRate");
+        bigDecimalAdapter.write(out, value.getUseRate());
+        out.name("city");
+        stringAdapter.write(out, value.getCity());
+        out.name("county");
+        stringAdapter.write(out, value.getCounty());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("shortName");
+        stringAdapter.write(out, value.getShortName());
+        out.name("stateFips");
+        stringAdapter.write(out, value.getStateFips());
+        out.name("countyFips");
+        stringAdapter.write(out, value.getCountyFips());
+        out.name("placeFips");
+        stringAdapter.write(out, value.getPlaceFips());
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("effectiveDate");
+        dateAdapter.write(out, value.getEffectiveDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.endObject();
+    }
+
+    @Override
+    public JurisdictionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        JurisdictionModel value = new JurisdictionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "code":
+                    value.setCode(stringAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "type":
+                    value.setType(jurisdictionTypeAdapter.read(in));
+                    break;
+                case "rate":
+                    value.setRate(bigDecimalAdapter.read(in));
+                    break;
+                case "salesRate":
+                    value.setSalesRate(bigDecimalAdapter.read(in));
+                    break;
+                case "signatureCode":
+                    value.setSignatureCode(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "useRate":
+                    value.setUseRate(bigDecimalAdapter.read(in));
+                    break;
+                case "city":
+                    value.setCity(stringAdapter.read(in));
+                    break;
+                case "county":
+                    value.setCounty(stringAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "shortName":
+                    value.setShortName(stringAdapter.read(in));
+                    break;
+                case "stateFips":
+                    value.setStateFips(stringAdapter.read(in));
+                    break;
+                case "countyFips":
+                    value.setCountyFips(stringAdapter.read(in));
+                    break;
+                case "placeFips":
+                    value.setPlaceFips(stringAdapter.read(in));
+                    break;
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "effectiveDate":
+                    value.setEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
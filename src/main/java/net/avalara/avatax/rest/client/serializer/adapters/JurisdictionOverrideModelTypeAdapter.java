@@ -0,0 +1,160 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes JurisdictionOverrideModel without reflection.
+ */
+public class JurisdictionOverrideModelTypeAdapter extends TypeAdapter<JurisdictionOverrideModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<ArrayList<JurisdictionModel>> jurisdictionModelListAdapter;
+    private final TypeAdapter<BoundaryLevel> boundaryLevelAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public JurisdictionOverrideModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.jurisdictionModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<JurisdictionModel>>(){});
+        this.boundaryLevelAdapter = gson.getAdapter(BoundaryLevel.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, JurisdictionOverrideModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("line1");
+        stringAdapter.write(out, value.getLine1());
+        out.name("city");
+        stringAdapter.write(out, value.getCity());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("postalCode");
+        stringAdapter.write(out, value.getPostalCode());
+        out.name("effectiveDate");
+        dateAdapter.write(out, value.getEffectiveDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.name("jurisdictions");
+        jurisdictionModelListAdapter.write(out, value.getJurisdictions());
+        out.name("taxRegionId");
+        integerAdapter.write(out, value.getTaxRegionId());
+        out.name("boundaryLevel");
+        boundaryLevelAdapter.write(out, value.getBoundaryLevel());
+        out.name("isDefault");
+        booleanAdapter.write(out, value.getIsDefault());
+        out.endObject();
+    }
+
+    @Override
+    public JurisdictionOverrideModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        JurisdictionOverrideModel value = new JurisdictionOverrideModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "line1":
+                    value.setLine1(stringAdapter.read(in));
+                    break;
+                case "city":
+                    value.setCity(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "postalCode":
+                    value.setPostalCode(stringAdapter.read(in));
+                    break;
+                case "effectiveDate":
+                    value.setEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                case "jurisdictions":
+                    value.setJurisdictions(jurisdictionModelListAdapter.read(in));
+                    break;
+                case "taxRegionId":
+                    value.setTaxRegionId(integerAdapter.read(in));
+                    break;
+                case "boundaryLevel":
+                    value.setBoundaryLevel(boundaryLevelAdapter.read(in));
+                    break;
+                case "isDefault":
+                    value.setIsDefault(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,77 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes LicenseKeyModel without reflection.
+ */
+public class LicenseKeyModelTypeAdapter extends TypeAdapter<LicenseKeyModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    public LicenseKeyModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, LicenseKeyModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("privateLicenseKey");
+        stringAdapter.write(out, value.getPrivateLicenseKey());
+        out.name("httpRequestHeader");
+        stringAdapter.write(out, value.getHttpRequestHeader());
+        out.endObject();
+    }
+
+    @Override
+    public LicenseKeyModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        LicenseKeyModel value = new LicenseKeyModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "privateLicenseKey":
+                    value.setPrivateLicenseKey(stringAdapter.read(in));
+                    break;
+                case "httpRequestHeader":
+                    value.setHttpRequestHeader(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,72 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes LineDetailSERCodeModel without reflection.
+ */
+public class LineDetailSERCodeModelTypeAdapter extends TypeAdapter<LineDetailSERCodeModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    public LineDetailSERCodeModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, LineDetailSERCodeModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("transactionLineDetailId");
+        longAdapter.write(out, value.getTransactionLineDetailId());
+        out.name("serCode");
+        stringAdapter.write(out, value.getSerCode());
+        out.endObject();
+    }
+
+    @Override
+    public LineDetailSERCodeModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        LineDetailSERCodeModel value = new LineDetailSERCodeModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "transactionLineDetailId":
+                    value.setTransactionLineDetailId(longAdapter.read(in));
+                    break;
+                case "serCode":
+                    value.setSerCode(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,65 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes LinkCertificatesModel without reflection.
+ */
+public class LinkCertificatesModelTypeAdapter extends TypeAdapter<LinkCertificatesModel> {
+    private final TypeAdapter<ArrayList<Integer>> integerListAdapter;
+
+    public LinkCertificatesModelTypeAdapter(Gson gson) {
+        this.integerListAdapter = gson.getAdapter(new TypeToken<ArrayList<Integer>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, LinkCertificatesModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("certificates");
+        integerListAdapter.write(out, value.getCertificates());
+        out.endObject();
+    }
+
+    @Override
+    public LinkCertificatesModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        LinkCertificatesModel value = new LinkCertificatesModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "certificates":
+                    value.setCertificates(integerListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
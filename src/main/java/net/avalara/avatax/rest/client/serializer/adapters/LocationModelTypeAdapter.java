@@ -0,0 +1,207 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes LocationModel without reflection.
+ */
+public class LocationModelTypeAdapter extends TypeAdapter<LocationModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<AddressTypeId> addressTypeIdAdapter;
+    private final TypeAdapter<AddressCategoryId> addressCategoryIdAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<ArrayList<LocationSettingModel>> locationSettingModelListAdapter;
+
+    public LocationModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.addressTypeIdAdapter = gson.getAdapter(AddressTypeId.class);
+        this.addressCategoryIdAdapter = gson.getAdapter(AddressCategoryId.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.locationSettingModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<LocationSettingModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, LocationModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("locationCode");
+        stringAdapter.write(out, value.getLocationCode());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("addressTypeId");
+        addressTypeIdAdapter.write(out, value.getAddressTypeId());
+        out.name("addressCategoryId");
+        addressCategoryIdAdapter.write(out, value.getAddressCategoryId());
+        out.name("line1");
+        stringAdapter.write(out, value.getLine1());
+        out.name("line2");
+        stringAdapter.write(out, value.getLine2());
+        out.name("line3");
+        stringAdapter.write(out, value.getLine3());
+        out.name("city");
+        stringAdapter.write(out, value.getCity());
+        out.name("county");
+        stringAdapter.write(out, value.getCounty());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("postalCode");
+        stringAdapter.write(out, value.getPostalCode());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("isDefault");
+        booleanAdapter.write(out, value.getIsDefault());
+        out.name("isRegistered");
+        booleanAdapter.write(out, value.getIsRegistered());
+        out.name("dbaName");
+        stringAdapter.write(out, value.getDbaName());
+        out.name("outletName");
+        stringAdapter.write(out, value.getOutletName());
+        out.name("effectiveDate");
+        dateAdapter.write(out, value.getEffectiveDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("lastTransactionDate");
+        dateAdapter.write(out, value.getLastTransactionDate());
+        out.name("registeredDate");
+        dateAdapter.write(out, value.getRegisteredDate());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.name("settings");
+        locationSettingModelListAdapter.write(out, value.getSettings());
+        out.endObject();
+    }
+
+    @Override
+    public LocationModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        LocationModel value = new LocationModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "locationCode":
+                    value.setLocationCode(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "addressTypeId":
+                    value.setAddressTypeId(addressTypeIdAdapter.read(in));
+                    break;
+                case "addressCategoryId":
+                    value.setAddressCategoryId(addressCategoryIdAdapter.read(in));
+                    break;
+                case "line1":
+                    value.setLine1(stringAdapter.read(in));
+                    break;
+                case "line2":
+                    value.setLine2(stringAdapter.read(in));
+                    break;
+                case "line3":
+                    value.setLine3(stringAdapter.read(in));
+                    break;
+                case "city":
+                    value.setCity(stringAdapter.read(in));
+                    break;
+                case "county":
+                    value.setCounty(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "postalCode":
+                    value.setPostalCode(stringAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "isDefault":
+                    value.setIsDefault(booleanAdapter.read(in));
+                    break;
+                case "isRegistered":
+                    value.setIsRegistered(booleanAdapter.read(in));
+                    break;
+                case "dbaName":
+                    value.setDbaName(stringAdapter.read(in));
+                    break;
+                case "outletName":
+                    value.setOutletName(stringAdapter.read(in));
+                    break;
+                case "effectiveDate":
+                    value.setEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "lastTransactionDate":
+                    value.setLastTransactionDate(dateAdapter.read(in));
+                    break;
+                case "registeredDate":
+                    value.setRegisteredDate(dateAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                case "settings":
+                    value.setSettings(locationSettingModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
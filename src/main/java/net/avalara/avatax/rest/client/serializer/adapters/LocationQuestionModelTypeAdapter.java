@@ -0,0 +1,109 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes LocationQuestionModel without reflection.
+ */
+public class LocationQuestionModelTypeAdapter extends TypeAdapter<LocationQuestionModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<JurisdictionType> jurisdictionTypeAdapter;
+
+    public LocationQuestionModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.jurisdictionTypeAdapter = gson.getAdapter(JurisdictionType.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, LocationQuestionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("question");
+        stringAdapter.write(out, value.getQuestion());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("regularExpression");
+        stringAdapter.write(out, value.getRegularExpression());
+        out.name("exampleValue");
+        stringAdapter.write(out, value.getExampleValue());
+        out.name("jurisdictionName");
+        stringAdapter.write(out, value.getJurisdictionName());
+        out.name("jurisdictionType");
+        jurisdictionTypeAdapter.write(out, value.getJurisdictionType());
+        out.name("jurisdictionCountry");
+        stringAdapter.write(out, value.getJurisdictionCountry());
+        out.name("jurisdictionRegion");
+        stringAdapter.write(out, value.getJurisdictionRegion());
+        out.endObject();
+    }
+
+    @Override
+    public LocationQuestionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        LocationQuestionModel value = new LocationQuestionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "question":
+                    value.setQuestion(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "regularExpression":
+                    value.setRegularExpression(stringAdapter.read(in));
+                    break;
+                case "exampleValue":
+                    value.setExampleValue(stringAdapter.read(in));
+                    break;
+                case "jurisdictionName":
+                    value.setJurisdictionName(stringAdapter.read(in));
+                    break;
+                case "jurisdictionType":
+                    value.setJurisdictionType(jurisdictionTypeAdapter.read(in));
+                    break;
+                case "jurisdictionCountry":
+                    value.setJurisdictionCountry(stringAdapter.read(in));
+                    break;
+                case "jurisdictionRegion":
+                    value.setJurisdictionRegion(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,77 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes LocationSettingModel without reflection.
+ */
+public class LocationSettingModelTypeAdapter extends TypeAdapter<LocationSettingModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    public LocationSettingModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, LocationSettingModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("questionId");
+        integerAdapter.write(out, value.getQuestionId());
+        out.name("questionName");
+        stringAdapter.write(out, value.getQuestionName());
+        out.name("value");
+        stringAdapter.write(out, value.getValue());
+        out.endObject();
+    }
+
+    @Override
+    public LocationSettingModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        LocationSettingModel value = new LocationSettingModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "questionId":
+                    value.setQuestionId(integerAdapter.read(in));
+                    break;
+                case "questionName":
+                    value.setQuestionName(stringAdapter.read(in));
+                    break;
+                case "value":
+                    value.setValue(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
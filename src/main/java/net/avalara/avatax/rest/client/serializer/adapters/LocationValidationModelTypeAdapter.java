@@ -0,0 +1,72 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes LocationValidationModel without reflection.
+ */
+public class LocationValidationModelTypeAdapter extends TypeAdapter<LocationValidationModel> {
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<ArrayList<LocationQuestionModel>> locationQuestionModelListAdapter;
+
+    public LocationValidationModelTypeAdapter(Gson gson) {
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.locationQuestionModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<LocationQuestionModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, LocationValidationModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("settingsValidated");
+        booleanAdapter.write(out, value.getSettingsValidated());
+        out.name("requiredSettings");
+        locationQuestionModelListAdapter.write(out, value.getRequiredSettings());
+        out.endObject();
+    }
+
+    @Override
+    public LocationValidationModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        LocationValidationModel value = new LocationValidationModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "settingsValidated":
+                    value.setSettingsValidated(booleanAdapter.read(in));
+                    break;
+                case "requiredSettings":
+                    value.setRequiredSettings(locationQuestionModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,109 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes LoginVerificationInputModel without reflection.
+ */
+public class LoginVerificationInputModelTypeAdapter extends TypeAdapter<LoginVerificationInputModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<HashMap<String, String>> stringStringMapAdapter;
+
+    public LoginVerificationInputModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.stringStringMapAdapter = gson.getAdapter(new TypeToken<HashMap<String, String>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, LoginVerificationInputModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("taxFormCode");
+        stringAdapter.write(out, value.getTaxFormCode());
+        out.name("username");
+        stringAdapter.write(out, value.getUsername());
+        out.name("password");
+        stringAdapter.write(out, value.getPassword());
+        out.name("additionalOptions");
+        stringStringMapAdapter.write(out, value.getAdditionalOptions());
+        out.name("bulkRequestId");
+        integerAdapter.write(out, value.getBulkRequestId());
+        out.name("priority");
+        integerAdapter.write(out, value.getPriority());
+        out.endObject();
+    }
+
+    @Override
+    public LoginVerificationInputModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        LoginVerificationInputModel value = new LoginVerificationInputModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "taxFormCode":
+                    value.setTaxFormCode(stringAdapter.read(in));
+                    break;
+                case "username":
+                    value.setUsername(stringAdapter.read(in));
+                    break;
+                case "password":
+                    value.setPassword(stringAdapter.read(in));
+                    break;
+                case "additionalOptions":
+                    value.setAdditionalOptions(stringStringMapAdapter.read(in));
+                    break;
+                case "bulkRequestId":
+                    value.setBulkRequestId(integerAdapter.read(in));
+                    break;
+                case "priority":
+                    value.setPriority(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
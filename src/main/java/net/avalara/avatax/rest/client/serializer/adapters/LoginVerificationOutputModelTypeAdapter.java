@@ -0,0 +1,84 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes LoginVerificationOutputModel without reflection.
+ */
+public class LoginVerificationOutputModelTypeAdapter extends TypeAdapter<LoginVerificationOutputModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public LoginVerificationOutputModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, LoginVerificationOutputModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("jobId");
+        integerAdapter.write(out, value.getJobId());
+        out.name("operationStatus");
+        stringAdapter.write(out, value.getOperationStatus());
+        out.name("message");
+        stringAdapter.write(out, value.getMessage());
+        out.name("loginSuccess");
+        booleanAdapter.write(out, value.getLoginSuccess());
+        out.endObject();
+    }
+
+    @Override
+    public LoginVerificationOutputModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        LoginVerificationOutputModel value = new LoginVerificationOutputModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "jobId":
+                    value.setJobId(integerAdapter.read(in));
+                    break;
+                case "operationStatus":
+                    value.setOperationStatus(stringAdapter.read(in));
+                    break;
+                case "message":
+                    value.setMessage(stringAdapter.read(in));
+                    break;
+                case "loginSuccess":
+                    value.setLoginSuccess(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,95 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes Message without reflection.
+ */
+public class MessageTypeAdapter extends TypeAdapter<Message> {
+    private final TypeAdapter<String> stringAdapter;
+
+    public MessageTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, Message value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("details");
+        stringAdapter.write(out, value.getDetails());
+        out.name("helpLink");
+        stringAdapter.write(out, value.getHelpLink());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("refersTo");
+        stringAdapter.write(out, value.getRefersTo());
+        out.name("severity");
+        stringAdapter.write(out, value.getSeverity());
+        out.name("source");
+        stringAdapter.write(out, value.getSource());
+        out.name("summary");
+        stringAdapter.write(out, value.getSummary());
+        out.endObject();
+    }
+
+    @Override
+    public Message read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        Message value = new Message();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "details":
+                    value.setDetails(stringAdapter.read(in));
+                    break;
+                case "helpLink":
+                    value.setHelpLink(stringAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "refersTo":
+                    value.setRefersTo(stringAdapter.read(in));
+                    break;
+                case "severity":
+                    value.setSeverity(stringAdapter.read(in));
+                    break;
+                case "source":
+                    value.setSource(stringAdapter.read(in));
+                    break;
+                case "summary":
+                    value.setSummary(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
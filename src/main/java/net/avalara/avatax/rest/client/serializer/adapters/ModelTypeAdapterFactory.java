@@ -0,0 +1,601 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import net.avalara.avatax.rest.client.enums.*;
+
+/**
+ * Supplies the generated, reflection-free adapters for every AvaTax model and enum.
+ */
+public class ModelTypeAdapterFactory implements TypeAdapterFactory {
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        switch (type.getRawType().getName()) {
+            case "net.avalara.avatax.rest.client.models.AccountConfigurationModel":
+                return (TypeAdapter<T>)new AccountConfigurationModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AccountModel":
+                return (TypeAdapter<T>)new AccountModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ActivateAccountModel":
+                return (TypeAdapter<T>)new ActivateAccountModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AddTransactionLineModel":
+                return (TypeAdapter<T>)new AddTransactionLineModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AddressInfo":
+                return (TypeAdapter<T>)new AddressInfoTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AddressLocationInfo":
+                return (TypeAdapter<T>)new AddressLocationInfoTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AddressResolutionModel":
+                return (TypeAdapter<T>)new AddressResolutionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AddressValidationInfo":
+                return (TypeAdapter<T>)new AddressValidationInfoTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AddressesModel":
+                return (TypeAdapter<T>)new AddressesModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AdjustMultiDocumentModel":
+                return (TypeAdapter<T>)new AdjustMultiDocumentModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AdjustTransactionModel":
+                return (TypeAdapter<T>)new AdjustTransactionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AdvancedRuleScriptModel":
+                return (TypeAdapter<T>)new AdvancedRuleScriptModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AdvancedRuleTableModel":
+                return (TypeAdapter<T>)new AdvancedRuleTableModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ApproveFilingsModel":
+                return (TypeAdapter<T>)new ApproveFilingsModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AuditEvent":
+                return (TypeAdapter<T>)new AuditEventTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AuditModel":
+                return (TypeAdapter<T>)new AuditModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AuditMultiDocumentModel":
+                return (TypeAdapter<T>)new AuditMultiDocumentModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AuditTransactionModel":
+                return (TypeAdapter<T>)new AuditTransactionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AvaFileFormModel":
+                return (TypeAdapter<T>)new AvaFileFormModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.AvaTaxMessage":
+                return (TypeAdapter<T>)new AvaTaxMessageTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.BatchFileModel":
+                return (TypeAdapter<T>)new BatchFileModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.BatchModel":
+                return (TypeAdapter<T>)new BatchModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.BulkLockTransactionModel":
+                return (TypeAdapter<T>)new BulkLockTransactionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.BulkLockTransactionResult":
+                return (TypeAdapter<T>)new BulkLockTransactionResultTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CertExpressInvitationModel":
+                return (TypeAdapter<T>)new CertExpressInvitationModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CertExpressInvitationStatusModel":
+                return (TypeAdapter<T>)new CertExpressInvitationStatusModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CertificateAttributeModel":
+                return (TypeAdapter<T>)new CertificateAttributeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CertificateModel":
+                return (TypeAdapter<T>)new CertificateModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CertificateTaxCodeModel":
+                return (TypeAdapter<T>)new CertificateTaxCodeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ChangeTransactionCodeModel":
+                return (TypeAdapter<T>)new ChangeTransactionCodeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CommitMultiDocumentModel":
+                return (TypeAdapter<T>)new CommitMultiDocumentModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CommitTransactionModel":
+                return (TypeAdapter<T>)new CommitTransactionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CommunicationsTSPairModel":
+                return (TypeAdapter<T>)new CommunicationsTSPairModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CommunicationsTransactionTypeModel":
+                return (TypeAdapter<T>)new CommunicationsTransactionTypeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CompanyAddress":
+                return (TypeAdapter<T>)new CompanyAddressTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CompanyConfigurationModel":
+                return (TypeAdapter<T>)new CompanyConfigurationModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CompanyDistanceThresholdModel":
+                return (TypeAdapter<T>)new CompanyDistanceThresholdModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CompanyInitializationModel":
+                return (TypeAdapter<T>)new CompanyInitializationModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CompanyModel":
+                return (TypeAdapter<T>)new CompanyModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CompanyReturnSettingModel":
+                return (TypeAdapter<T>)new CompanyReturnSettingModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ComplianceAggregatedTaxRateModel":
+                return (TypeAdapter<T>)new ComplianceAggregatedTaxRateModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ComplianceJurisdictionModel":
+                return (TypeAdapter<T>)new ComplianceJurisdictionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ComplianceJurisdictionRateModel":
+                return (TypeAdapter<T>)new ComplianceJurisdictionRateModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ComplianceTaxRateModel":
+                return (TypeAdapter<T>)new ComplianceTaxRateModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ContactModel":
+                return (TypeAdapter<T>)new ContactModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CoordinateInfo":
+                return (TypeAdapter<T>)new CoordinateInfoTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CoverLetterModel":
+                return (TypeAdapter<T>)new CoverLetterModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CreateCertExpressInvitationModel":
+                return (TypeAdapter<T>)new CreateCertExpressInvitationModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CreateMultiCompanyTransactionModel":
+                return (TypeAdapter<T>)new CreateMultiCompanyTransactionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CreateMultiDocumentModel":
+                return (TypeAdapter<T>)new CreateMultiDocumentModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CreateOrAdjustTransactionModel":
+                return (TypeAdapter<T>)new CreateOrAdjustTransactionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CreateTransactionModel":
+                return (TypeAdapter<T>)new CreateTransactionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CurrencyModel":
+                return (TypeAdapter<T>)new CurrencyModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CustomFieldModel":
+                return (TypeAdapter<T>)new CustomFieldModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CustomerModel":
+                return (TypeAdapter<T>)new CustomerModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CycleAddOptionModel":
+                return (TypeAdapter<T>)new CycleAddOptionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CycleEditOptionModel":
+                return (TypeAdapter<T>)new CycleEditOptionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CycleExpireModel":
+                return (TypeAdapter<T>)new CycleExpireModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.CycleExpireOptionModel":
+                return (TypeAdapter<T>)new CycleExpireOptionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.DataSourceModel":
+                return (TypeAdapter<T>)new DataSourceModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.DeclareNexusByAddressModel":
+                return (TypeAdapter<T>)new DeclareNexusByAddressModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.EcmsDetailModel":
+                return (TypeAdapter<T>)new EcmsDetailModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.EcmsDetailTaxCodeModel":
+                return (TypeAdapter<T>)new EcmsDetailTaxCodeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.EcmsModel":
+                return (TypeAdapter<T>)new EcmsModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.EntityUseCodeModel":
+                return (TypeAdapter<T>)new EntityUseCodeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ErrorDetail":
+                return (TypeAdapter<T>)new ErrorDetailTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ErrorInfo":
+                return (TypeAdapter<T>)new ErrorInfoTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ErrorResult":
+                return (TypeAdapter<T>)new ErrorResultTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ExemptionReasonModel":
+                return (TypeAdapter<T>)new ExemptionReasonModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ExemptionStatusModel":
+                return (TypeAdapter<T>)new ExemptionStatusModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ExportDocumentLineModel":
+                return (TypeAdapter<T>)new ExportDocumentLineModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ExposureZoneModel":
+                return (TypeAdapter<T>)new ExposureZoneModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FileContentResult":
+                return (TypeAdapter<T>)new FileContentResultTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingAdjustmentModel":
+                return (TypeAdapter<T>)new FilingAdjustmentModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingAnswer":
+                return (TypeAdapter<T>)new FilingAnswerTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingAnswerModel":
+                return (TypeAdapter<T>)new FilingAnswerModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingAttachmentModel":
+                return (TypeAdapter<T>)new FilingAttachmentModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingAugmentationModel":
+                return (TypeAdapter<T>)new FilingAugmentationModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingCalendarEditModel":
+                return (TypeAdapter<T>)new FilingCalendarEditModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingCalendarModel":
+                return (TypeAdapter<T>)new FilingCalendarModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingFrequencyModel":
+                return (TypeAdapter<T>)new FilingFrequencyModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingModel":
+                return (TypeAdapter<T>)new FilingModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingPaymentModel":
+                return (TypeAdapter<T>)new FilingPaymentModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingRegionModel":
+                return (TypeAdapter<T>)new FilingRegionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingRequestDataModel":
+                return (TypeAdapter<T>)new FilingRequestDataModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingRequestModel":
+                return (TypeAdapter<T>)new FilingRequestModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingReturnCreditModel":
+                return (TypeAdapter<T>)new FilingReturnCreditModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingReturnModel":
+                return (TypeAdapter<T>)new FilingReturnModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingReturnModelBasic":
+                return (TypeAdapter<T>)new FilingReturnModelBasicTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingStatusChangeModel":
+                return (TypeAdapter<T>)new FilingStatusChangeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingsCheckupAuthorityModel":
+                return (TypeAdapter<T>)new FilingsCheckupAuthorityModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingsCheckupModel":
+                return (TypeAdapter<T>)new FilingsCheckupModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FilingsCheckupSuggestedFormModel":
+                return (TypeAdapter<T>)new FilingsCheckupSuggestedFormModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FormMasterModel":
+                return (TypeAdapter<T>)new FormMasterModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FreeTrialRequestModel":
+                return (TypeAdapter<T>)new FreeTrialRequestModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FundingConfigurationModel":
+                return (TypeAdapter<T>)new FundingConfigurationModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FundingESignMethodReturn":
+                return (TypeAdapter<T>)new FundingESignMethodReturnTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FundingInitiateModel":
+                return (TypeAdapter<T>)new FundingInitiateModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.FundingStatusModel":
+                return (TypeAdapter<T>)new FundingStatusModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.HsCodeModel":
+                return (TypeAdapter<T>)new HsCodeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.InvoiceMessageModel":
+                return (TypeAdapter<T>)new InvoiceMessageModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.IsoCountryModel":
+                return (TypeAdapter<T>)new IsoCountryModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.IsoLocalizedName":
+                return (TypeAdapter<T>)new IsoLocalizedNameTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.IsoRegionModel":
+                return (TypeAdapter<T>)new IsoRegionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ItemModel":
+                return (TypeAdapter<T>)new ItemModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.JurisdictionModel":
+                return (TypeAdapter<T>)new JurisdictionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.JurisdictionOverrideModel":
+                return (TypeAdapter<T>)new JurisdictionOverrideModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.LicenseKeyModel":
+                return (TypeAdapter<T>)new LicenseKeyModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.LineDetailSERCodeModel":
+                return (TypeAdapter<T>)new LineDetailSERCodeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.LineItemModel":
+                return (TypeAdapter<T>)new LineItemModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.LinkCertificatesModel":
+                return (TypeAdapter<T>)new LinkCertificatesModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.LinkCustomersModel":
+                return (TypeAdapter<T>)new LinkCustomersModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.LocationModel":
+                return (TypeAdapter<T>)new LocationModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.LocationQuestionModel":
+                return (TypeAdapter<T>)new LocationQuestionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.LocationSettingModel":
+                return (TypeAdapter<T>)new LocationSettingModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.LocationValidationModel":
+                return (TypeAdapter<T>)new LocationValidationModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.LockTransactionModel":
+                return (TypeAdapter<T>)new LockTransactionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.LoginVerificationInputModel":
+                return (TypeAdapter<T>)new LoginVerificationInputModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.LoginVerificationOutputModel":
+                return (TypeAdapter<T>)new LoginVerificationOutputModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.Message":
+                return (TypeAdapter<T>)new MessageTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.MrsCompanyModel":
+                return (TypeAdapter<T>)new MrsCompanyModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.MultiCompanyLineItemModel":
+                return (TypeAdapter<T>)new MultiCompanyLineItemModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.MultiDocumentLineItemModel":
+                return (TypeAdapter<T>)new MultiDocumentLineItemModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.MultiDocumentModel":
+                return (TypeAdapter<T>)new MultiDocumentModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NewAccountModel":
+                return (TypeAdapter<T>)new NewAccountModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NewAccountRequestModel":
+                return (TypeAdapter<T>)new NewAccountRequestModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NexusByAddressModel":
+                return (TypeAdapter<T>)new NexusByAddressModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NexusByTaxFormModel":
+                return (TypeAdapter<T>)new NexusByTaxFormModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NexusModel":
+                return (TypeAdapter<T>)new NexusModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NexusSummaryModel":
+                return (TypeAdapter<T>)new NexusSummaryModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NexusTaxTypeGroupCountModel":
+                return (TypeAdapter<T>)new NexusTaxTypeGroupCountModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NexusTaxTypeGroupModel":
+                return (TypeAdapter<T>)new NexusTaxTypeGroupModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NoticeCommentModel":
+                return (TypeAdapter<T>)new NoticeCommentModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NoticeCustomerFundingOptionModel":
+                return (TypeAdapter<T>)new NoticeCustomerFundingOptionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NoticeCustomerTypeModel":
+                return (TypeAdapter<T>)new NoticeCustomerTypeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NoticeFilingTypeModel":
+                return (TypeAdapter<T>)new NoticeFilingTypeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NoticeFinanceModel":
+                return (TypeAdapter<T>)new NoticeFinanceModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NoticeModel":
+                return (TypeAdapter<T>)new NoticeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NoticePriorityModel":
+                return (TypeAdapter<T>)new NoticePriorityModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NoticeReasonModel":
+                return (TypeAdapter<T>)new NoticeReasonModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NoticeResponsibilityDetailModel":
+                return (TypeAdapter<T>)new NoticeResponsibilityDetailModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NoticeResponsibilityModel":
+                return (TypeAdapter<T>)new NoticeResponsibilityModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NoticeRootCauseDetailModel":
+                return (TypeAdapter<T>)new NoticeRootCauseDetailModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NoticeRootCauseModel":
+                return (TypeAdapter<T>)new NoticeRootCauseModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NoticeStatusModel":
+                return (TypeAdapter<T>)new NoticeStatusModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NoticeTypeModel":
+                return (TypeAdapter<T>)new NoticeTypeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.NotificationModel":
+                return (TypeAdapter<T>)new NotificationModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.OfferModel":
+                return (TypeAdapter<T>)new OfferModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.OriginalApiRequestResponseModel":
+                return (TypeAdapter<T>)new OriginalApiRequestResponseModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ParameterModel":
+                return (TypeAdapter<T>)new ParameterModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.PasswordChangeModel":
+                return (TypeAdapter<T>)new PasswordChangeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.PingResultModel":
+                return (TypeAdapter<T>)new PingResultModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.PoNumberModel":
+                return (TypeAdapter<T>)new PoNumberModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.PointOfSaleDataRequestModel":
+                return (TypeAdapter<T>)new PointOfSaleDataRequestModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.PostalCodeModel":
+                return (TypeAdapter<T>)new PostalCodeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.PreferredProgramModel":
+                return (TypeAdapter<T>)new PreferredProgramModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ProvisionStatusModel":
+                return (TypeAdapter<T>)new ProvisionStatusModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.RateModel":
+                return (TypeAdapter<T>)new RateModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.RateTypeModel":
+                return (TypeAdapter<T>)new RateTypeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.RebuildFilingsModel":
+                return (TypeAdapter<T>)new RebuildFilingsModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ReconstructedApiRequestResponseModel":
+                return (TypeAdapter<T>)new ReconstructedApiRequestResponseModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ReconstructedMultiDocumentModel":
+                return (TypeAdapter<T>)new ReconstructedMultiDocumentModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.RefundTransactionModel":
+                return (TypeAdapter<T>)new RefundTransactionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.RemoveTransactionLineModel":
+                return (TypeAdapter<T>)new RemoveTransactionLineModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ReportModel":
+                return (TypeAdapter<T>)new ReportModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ReportParametersModel":
+                return (TypeAdapter<T>)new ReportParametersModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ResetLicenseKeyModel":
+                return (TypeAdapter<T>)new ResetLicenseKeyModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ResourceFileTypeModel":
+                return (TypeAdapter<T>)new ResourceFileTypeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ResourceFileUploadRequestModel":
+                return (TypeAdapter<T>)new ResourceFileUploadRequestModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.SecurityRoleModel":
+                return (TypeAdapter<T>)new SecurityRoleModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.SetPasswordModel":
+                return (TypeAdapter<T>)new SetPasswordModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.SettingModel":
+                return (TypeAdapter<T>)new SettingModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.SettleTransactionModel":
+                return (TypeAdapter<T>)new SettleTransactionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.SkyscraperStatusModel":
+                return (TypeAdapter<T>)new SkyscraperStatusModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.SubscriptionModel":
+                return (TypeAdapter<T>)new SubscriptionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.SubscriptionTypeModel":
+                return (TypeAdapter<T>)new SubscriptionTypeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TaxAuthorityFormModel":
+                return (TypeAdapter<T>)new TaxAuthorityFormModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TaxAuthorityInfo":
+                return (TypeAdapter<T>)new TaxAuthorityInfoTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TaxAuthorityModel":
+                return (TypeAdapter<T>)new TaxAuthorityModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TaxAuthorityTypeModel":
+                return (TypeAdapter<T>)new TaxAuthorityTypeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TaxCodeModel":
+                return (TypeAdapter<T>)new TaxCodeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TaxCodeTypesModel":
+                return (TypeAdapter<T>)new TaxCodeTypesModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TaxDetailsByTaxType":
+                return (TypeAdapter<T>)new TaxDetailsByTaxTypeTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TaxOverrideModel":
+                return (TypeAdapter<T>)new TaxOverrideModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TaxRateModel":
+                return (TypeAdapter<T>)new TaxRateModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TaxRegionJurisdictionModel":
+                return (TypeAdapter<T>)new TaxRegionJurisdictionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TaxRegionModel":
+                return (TypeAdapter<T>)new TaxRegionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TaxRuleModel":
+                return (TypeAdapter<T>)new TaxRuleModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TaxSubTypeModel":
+                return (TypeAdapter<T>)new TaxSubTypeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TaxTypeGroupModel":
+                return (TypeAdapter<T>)new TaxTypeGroupModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TransactionAddressModel":
+                return (TypeAdapter<T>)new TransactionAddressModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TransactionLineDetailModel":
+                return (TypeAdapter<T>)new TransactionLineDetailModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TransactionLineLocationTypeModel":
+                return (TypeAdapter<T>)new TransactionLineLocationTypeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TransactionLineModel":
+                return (TypeAdapter<T>)new TransactionLineModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TransactionLocationTypeModel":
+                return (TypeAdapter<T>)new TransactionLocationTypeModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TransactionModel":
+                return (TypeAdapter<T>)new TransactionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TransactionReferenceFieldModel":
+                return (TypeAdapter<T>)new TransactionReferenceFieldModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.TransactionSummary":
+                return (TypeAdapter<T>)new TransactionSummaryTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.UPCModel":
+                return (TypeAdapter<T>)new UPCModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.UomModel":
+                return (TypeAdapter<T>)new UomModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.UserEntitlementModel":
+                return (TypeAdapter<T>)new UserEntitlementModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.UserModel":
+                return (TypeAdapter<T>)new UserModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.UsernameModel":
+                return (TypeAdapter<T>)new UsernameModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.ValidatedAddressInfo":
+                return (TypeAdapter<T>)new ValidatedAddressInfoTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.VerifyMultiDocumentModel":
+                return (TypeAdapter<T>)new VerifyMultiDocumentModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.VerifyTransactionModel":
+                return (TypeAdapter<T>)new VerifyTransactionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.VoidTransactionModel":
+                return (TypeAdapter<T>)new VoidTransactionModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.WorksheetDocument":
+                return (TypeAdapter<T>)new WorksheetDocumentTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.WorksheetDocumentLine":
+                return (TypeAdapter<T>)new WorksheetDocumentLineTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.models.requiredFilingCalendarDataFieldModel":
+                return (TypeAdapter<T>)new requiredFilingCalendarDataFieldModelTypeAdapter(gson);
+            case "net.avalara.avatax.rest.client.enums.AccountStatusId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<AccountStatusId>(AccountStatusId.values());
+            case "net.avalara.avatax.rest.client.enums.AccrualType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<AccrualType>(AccrualType.values());
+            case "net.avalara.avatax.rest.client.enums.AddressCategoryId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<AddressCategoryId>(AddressCategoryId.values());
+            case "net.avalara.avatax.rest.client.enums.AddressTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<AddressTypeId>(AddressTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.AdjustmentPeriodTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<AdjustmentPeriodTypeId>(AdjustmentPeriodTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.AdjustmentReason":
+                return (TypeAdapter<T>)new EnumTypeAdapter<AdjustmentReason>(AdjustmentReason.values());
+            case "net.avalara.avatax.rest.client.enums.AdjustmentTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<AdjustmentTypeId>(AdjustmentTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.AdvancedRuleCrashBehavior":
+                return (TypeAdapter<T>)new EnumTypeAdapter<AdvancedRuleCrashBehavior>(AdvancedRuleCrashBehavior.values());
+            case "net.avalara.avatax.rest.client.enums.AdvancedRuleScriptType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<AdvancedRuleScriptType>(AdvancedRuleScriptType.values());
+            case "net.avalara.avatax.rest.client.enums.ApiCallStatus":
+                return (TypeAdapter<T>)new EnumTypeAdapter<ApiCallStatus>(ApiCallStatus.values());
+            case "net.avalara.avatax.rest.client.enums.AuthenticationTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<AuthenticationTypeId>(AuthenticationTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.AvaTaxEnvironment":
+                return (TypeAdapter<T>)new EnumTypeAdapter<AvaTaxEnvironment>(AvaTaxEnvironment.values());
+            case "net.avalara.avatax.rest.client.enums.BatchStatus":
+                return (TypeAdapter<T>)new EnumTypeAdapter<BatchStatus>(BatchStatus.values());
+            case "net.avalara.avatax.rest.client.enums.BatchType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<BatchType>(BatchType.values());
+            case "net.avalara.avatax.rest.client.enums.BoundaryLevel":
+                return (TypeAdapter<T>)new EnumTypeAdapter<BoundaryLevel>(BoundaryLevel.values());
+            case "net.avalara.avatax.rest.client.enums.BoundaryLevelForJO":
+                return (TypeAdapter<T>)new EnumTypeAdapter<BoundaryLevelForJO>(BoundaryLevelForJO.values());
+            case "net.avalara.avatax.rest.client.enums.CertCaptureProvisionStatus":
+                return (TypeAdapter<T>)new EnumTypeAdapter<CertCaptureProvisionStatus>(CertCaptureProvisionStatus.values());
+            case "net.avalara.avatax.rest.client.enums.CertExpressInvitationStatus":
+                return (TypeAdapter<T>)new EnumTypeAdapter<CertExpressInvitationStatus>(CertExpressInvitationStatus.values());
+            case "net.avalara.avatax.rest.client.enums.CertificatePreviewType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<CertificatePreviewType>(CertificatePreviewType.values());
+            case "net.avalara.avatax.rest.client.enums.CertificateRequestDeliveryMethod":
+                return (TypeAdapter<T>)new EnumTypeAdapter<CertificateRequestDeliveryMethod>(CertificateRequestDeliveryMethod.values());
+            case "net.avalara.avatax.rest.client.enums.CommentType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<CommentType>(CommentType.values());
+            case "net.avalara.avatax.rest.client.enums.CompanyAccessLevel":
+                return (TypeAdapter<T>)new EnumTypeAdapter<CompanyAccessLevel>(CompanyAccessLevel.values());
+            case "net.avalara.avatax.rest.client.enums.CompanyFilingStatus":
+                return (TypeAdapter<T>)new EnumTypeAdapter<CompanyFilingStatus>(CompanyFilingStatus.values());
+            case "net.avalara.avatax.rest.client.enums.DocumentStatus":
+                return (TypeAdapter<T>)new EnumTypeAdapter<DocumentStatus>(DocumentStatus.values());
+            case "net.avalara.avatax.rest.client.enums.DocumentType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<DocumentType>(DocumentType.values());
+            case "net.avalara.avatax.rest.client.enums.DueDateTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<DueDateTypeId>(DueDateTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.ErrorCodeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<ErrorCodeId>(ErrorCodeId.values());
+            case "net.avalara.avatax.rest.client.enums.ErrorTargetCode":
+                return (TypeAdapter<T>)new EnumTypeAdapter<ErrorTargetCode>(ErrorTargetCode.values());
+            case "net.avalara.avatax.rest.client.enums.ExemptCertReviewStatusId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<ExemptCertReviewStatusId>(ExemptCertReviewStatusId.values());
+            case "net.avalara.avatax.rest.client.enums.ExemptCertStatusId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<ExemptCertStatusId>(ExemptCertStatusId.values());
+            case "net.avalara.avatax.rest.client.enums.ExemptCertTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<ExemptCertTypeId>(ExemptCertTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.FilingFrequencyId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<FilingFrequencyId>(FilingFrequencyId.values());
+            case "net.avalara.avatax.rest.client.enums.FilingOptionTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<FilingOptionTypeId>(FilingOptionTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.FilingRequestStatus":
+                return (TypeAdapter<T>)new EnumTypeAdapter<FilingRequestStatus>(FilingRequestStatus.values());
+            case "net.avalara.avatax.rest.client.enums.FilingStatusId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<FilingStatusId>(FilingStatusId.values());
+            case "net.avalara.avatax.rest.client.enums.FilingTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<FilingTypeId>(FilingTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.FormTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<FormTypeId>(FormTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.FundingOption":
+                return (TypeAdapter<T>)new EnumTypeAdapter<FundingOption>(FundingOption.values());
+            case "net.avalara.avatax.rest.client.enums.JurisTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<JurisTypeId>(JurisTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.JurisdictionType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<JurisdictionType>(JurisdictionType.values());
+            case "net.avalara.avatax.rest.client.enums.LocalNexusTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<LocalNexusTypeId>(LocalNexusTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.MatchingTaxType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<MatchingTaxType>(MatchingTaxType.values());
+            case "net.avalara.avatax.rest.client.enums.NexusTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<NexusTypeId>(NexusTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.NoticeCustomerType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<NoticeCustomerType>(NoticeCustomerType.values());
+            case "net.avalara.avatax.rest.client.enums.NoticePriorityId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<NoticePriorityId>(NoticePriorityId.values());
+            case "net.avalara.avatax.rest.client.enums.NotificationSeverityLevel":
+                return (TypeAdapter<T>)new EnumTypeAdapter<NotificationSeverityLevel>(NotificationSeverityLevel.values());
+            case "net.avalara.avatax.rest.client.enums.OutletTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<OutletTypeId>(OutletTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.ParameterBagDataType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<ParameterBagDataType>(ParameterBagDataType.values());
+            case "net.avalara.avatax.rest.client.enums.PasswordStatusId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<PasswordStatusId>(PasswordStatusId.values());
+            case "net.avalara.avatax.rest.client.enums.PaymentAccountTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<PaymentAccountTypeId>(PaymentAccountTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.PaymentType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<PaymentType>(PaymentType.values());
+            case "net.avalara.avatax.rest.client.enums.PointOfSaleFileType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<PointOfSaleFileType>(PointOfSaleFileType.values());
+            case "net.avalara.avatax.rest.client.enums.PointOfSalePartnerId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<PointOfSalePartnerId>(PointOfSalePartnerId.values());
+            case "net.avalara.avatax.rest.client.enums.RateType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<RateType>(RateType.values());
+            case "net.avalara.avatax.rest.client.enums.RefundType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<RefundType>(RefundType.values());
+            case "net.avalara.avatax.rest.client.enums.ReportDateFilter":
+                return (TypeAdapter<T>)new EnumTypeAdapter<ReportDateFilter>(ReportDateFilter.values());
+            case "net.avalara.avatax.rest.client.enums.ReportDocType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<ReportDocType>(ReportDocType.values());
+            case "net.avalara.avatax.rest.client.enums.ReportFormat":
+                return (TypeAdapter<T>)new EnumTypeAdapter<ReportFormat>(ReportFormat.values());
+            case "net.avalara.avatax.rest.client.enums.ResolutionQuality":
+                return (TypeAdapter<T>)new EnumTypeAdapter<ResolutionQuality>(ResolutionQuality.values());
+            case "net.avalara.avatax.rest.client.enums.RoundingLevelId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<RoundingLevelId>(RoundingLevelId.values());
+            case "net.avalara.avatax.rest.client.enums.RoundingTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<RoundingTypeId>(RoundingTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.ScraperType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<ScraperType>(ScraperType.values());
+            case "net.avalara.avatax.rest.client.enums.SecurityRoleId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<SecurityRoleId>(SecurityRoleId.values());
+            case "net.avalara.avatax.rest.client.enums.ServiceMode":
+                return (TypeAdapter<T>)new EnumTypeAdapter<ServiceMode>(ServiceMode.values());
+            case "net.avalara.avatax.rest.client.enums.ServiceTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<ServiceTypeId>(ServiceTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.SeverityLevel":
+                return (TypeAdapter<T>)new EnumTypeAdapter<SeverityLevel>(SeverityLevel.values());
+            case "net.avalara.avatax.rest.client.enums.Sourcing":
+                return (TypeAdapter<T>)new EnumTypeAdapter<Sourcing>(Sourcing.values());
+            case "net.avalara.avatax.rest.client.enums.TaxDebugLevel":
+                return (TypeAdapter<T>)new EnumTypeAdapter<TaxDebugLevel>(TaxDebugLevel.values());
+            case "net.avalara.avatax.rest.client.enums.TaxDependencyLevelId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<TaxDependencyLevelId>(TaxDependencyLevelId.values());
+            case "net.avalara.avatax.rest.client.enums.TaxNoticeFilingTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<TaxNoticeFilingTypeId>(TaxNoticeFilingTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.TaxOverrideType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<TaxOverrideType>(TaxOverrideType.values());
+            case "net.avalara.avatax.rest.client.enums.TaxOverrideTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<TaxOverrideTypeId>(TaxOverrideTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.TaxRuleTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<TaxRuleTypeId>(TaxRuleTypeId.values());
+            case "net.avalara.avatax.rest.client.enums.TaxType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<TaxType>(TaxType.values());
+            case "net.avalara.avatax.rest.client.enums.TextCase":
+                return (TypeAdapter<T>)new EnumTypeAdapter<TextCase>(TextCase.values());
+            case "net.avalara.avatax.rest.client.enums.TransactionAddressType":
+                return (TypeAdapter<T>)new EnumTypeAdapter<TransactionAddressType>(TransactionAddressType.values());
+            case "net.avalara.avatax.rest.client.enums.VoidReasonCode":
+                return (TypeAdapter<T>)new EnumTypeAdapter<VoidReasonCode>(VoidReasonCode.values());
+            case "net.avalara.avatax.rest.client.enums.WelcomeEmail":
+                return (TypeAdapter<T>)new EnumTypeAdapter<WelcomeEmail>(WelcomeEmail.values());
+            case "net.avalara.avatax.rest.client.enums.WorksheetStatusId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<WorksheetStatusId>(WorksheetStatusId.values());
+            case "net.avalara.avatax.rest.client.enums.WorksheetTypeId":
+                return (TypeAdapter<T>)new EnumTypeAdapter<WorksheetTypeId>(WorksheetTypeId.values());
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes MultiDocumentLineItemModel without reflection.
+ */
+public class MultiDocumentLineItemModelTypeAdapter extends TypeAdapter<MultiDocumentLineItemModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<AddressesModel> addressesModelAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<TaxOverrideModel> taxOverrideModelAdapter;
+    private final TypeAdapter<HashMap<String, String>> stringStringMapAdapter;
+
+    public MultiDocumentLineItemModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.addressesModelAdapter = gson.getAdapter(AddressesModel.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.taxOverrideModelAdapter = gson.getAdapter(TaxOverrideModel.class);
+        this.stringStringMapAdapter = gson.getAdapter(new TypeToken<HashMap<String, String>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, MultiDocumentLineItemModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("companyCode");
+        stringAdapter.write(out, value.getCompanyCode());
+        out.name("reportingLocationCode");
+        stringAdapter.write(out, value.getReportingLocationCode());
+        out.name("number");
+        stringAdapter.write(out, value.getNumber());
+        out.name("quantity");
+        bigDecimalAdapter.write(out, value.getQuantity());
+        out.name("amount");
+        bigDecimalAdapter.write(out, value.getAmount());
+        out.name("addresses");
+        addressesModelAdapter.write(out, value.getAddresses());
+        out.name("taxCode");
+        stringAdapter.write(out, value.getTaxCode());
+        out.name("customerUsageType");
+        stringAdapter.write(out, value.getCustomerUsageType());
+        out.name("entityUseCode");
+        stringAdapter.write(out, value.getEntityUseCode());
+        out.name("itemCode");
+        stringAdapter.write(out, value.getItemCode());
+        out.name("exemptionCode");
+        stringAdapter.write(out, value.getExemptionCode());
+        out.name("discounted");
+        booleanAdapter.write(out, value.getDiscounted());
+        out.name("taxIncluded");
+        booleanAdapter.write(out, value.getTaxIncluded());
+        out.name("revenueAccount");
+        stringAdapter.write(out, value.getRevenueAccount());
+        out.name("ref1");
+        stringAdapter.write(out, value.getRef1());
+        out.name("ref2");
+        stringAdapter.write(out, value.getRef2());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("businessIdentificationNo");
+        stringAdapter.write(out, value.getBusinessIdentificationNo());
+        out.name("taxOverride");
+        taxOverrideModelAdapter.write(out, value.getTaxOverride());
+        out.name("parameters");
+        stringStringMapAdapter.write(out, value.getParameters());
+        out.name("hsCode");
+        stringAdapter.write(out, value.getHsCode());
+        out.endObject();
+    }
+
+    @Override
+    public MultiDocumentLineItemModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        MultiDocumentLineItemModel value = new MultiDocumentLineItemModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "companyCode":
+                    value.setCompanyCode(stringAdapter.read(in));
+                    break;
+                case "reportingLocationCode":
+                    value.setReportingLocationCode(stringAdapter.read(in));
+                    break;
+                case "number":
+                    value.setNumber(stringAdapter.read(in));
+                    break;
+                case "quantity":
+                    value.setQuantity(bigDecimalAdapter.read(in));
+                    break;
+                case "amount":
+                    value.setAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "addresses":
+                    value.setAddresses(addressesModelAdapter.read(in));
+                    break;
+                case "taxCode":
+                    value.setTaxCode(stringAdapter.read(in));
+                    break;
+                case "customerUsageType":
+                    value.setCustomerUsageType(stringAdapter.read(in));
+                    break;
+                case "entityUseCode":
+                    value.setEntityUseCode(stringAdapter.read(in));
+                    break;
+                case "itemCode":
+                    value.setItemCode(stringAdapter.read(in));
+                    break;
+                case "exemptionCode":
+                    value.setExemptionCode(stringAdapter.read(in));
+                    break;
+                case "discounted":
+                    value.setDiscounted(booleanAdapter.read(in));
+                    break;
+                case "taxIncluded":
+                    value.setTaxIncluded(booleanAdapter.read(in));
+                    break;
+                case "revenueAccount":
+                    value.setRevenueAccount(stringAdapter.read(in));
+                    break;
+                case "ref1":
+                    value.setRef1(stringAdapter.read(in));
+                    break;
+                case "ref2":
+                    value.setRef2(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "businessIdentificationNo":
+                    value.setBusinessIdentificationNo(stringAdapter.read(in));
+                    break;
+                case "taxOverride":
+                    value.setTaxOverride(taxOverrideModelAdapter.read(in));
+                    break;
+                case "parameters":
+                    value.setParameters(stringStringMapAdapter.read(in));
+                    break;
+                case "hsCode":
+                    value.setHsCode(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
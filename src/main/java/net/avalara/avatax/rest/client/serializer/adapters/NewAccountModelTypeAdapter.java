@@ -0,0 +1,99 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes NewAccountModel without reflection.
+ */
+public class NewAccountModelTypeAdapter extends TypeAdapter<NewAccountModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public NewAccountModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, NewAccountModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("accountDetailsEmailedTo");
+        stringAdapter.write(out, value.getAccountDetailsEmailedTo());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("emailedDate");
+        dateAdapter.write(out, value.getEmailedDate());
+        out.name("limitations");
+        stringAdapter.write(out, value.getLimitations());
+        out.name("licenseKey");
+        stringAdapter.write(out, value.getLicenseKey());
+        out.name("paymentUrl");
+        stringAdapter.write(out, value.getPaymentUrl());
+        out.endObject();
+    }
+
+    @Override
+    public NewAccountModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        NewAccountModel value = new NewAccountModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "accountDetailsEmailedTo":
+                    value.setAccountDetailsEmailedTo(stringAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "emailedDate":
+                    value.setEmailedDate(dateAdapter.read(in));
+                    break;
+                case "limitations":
+                    value.setLimitations(stringAdapter.read(in));
+                    break;
+                case "licenseKey":
+                    value.setLicenseKey(stringAdapter.read(in));
+                    break;
+                case "paymentUrl":
+                    value.setPaymentUrl(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
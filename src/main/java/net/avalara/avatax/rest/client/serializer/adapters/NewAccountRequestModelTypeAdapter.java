@@ -0,0 +1,182 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes NewAccountRequestModel without reflection.
+ */
+public class NewAccountRequestModelTypeAdapter extends TypeAdapter<NewAccountRequestModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<WelcomeEmail> welcomeEmailAdapter;
+    private final TypeAdapter<CompanyAddress> companyAddressAdapter;
+    private final TypeAdapter<ArrayList<String>> stringListAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<HashMap<String, String>> stringStringMapAdapter;
+
+    public NewAccountRequestModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.welcomeEmailAdapter = gson.getAdapter(WelcomeEmail.class);
+        this.companyAddressAdapter = gson.getAdapter(CompanyAddress.class);
+        this.stringListAdapter = gson.getAdapter(new TypeToken<ArrayList<String>>(){});
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.stringStringMapAdapter = gson.getAdapter(new TypeToken<HashMap<String, String>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, NewAccountRequestModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("offer");
+        stringAdapter.write(out, value.getOffer());
+        out.name("connectorId");
+        stringAdapter.write(out, value.getConnectorId());
+        out.name("campaign");
+        stringAdapter.write(out, value.getCampaign());
+        out.name("leadSource");
+        stringAdapter.write(out, value.getLeadSource());
+        out.name("effectiveDate");
+        dateAdapter.write(out, value.getEffectiveDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("accountName");
+        stringAdapter.write(out, value.getAccountName());
+        out.name("website");
+        stringAdapter.write(out, value.getWebsite());
+        out.name("paymentMethodId");
+        stringAdapter.write(out, value.getPaymentMethodId());
+        out.name("firstName");
+        stringAdapter.write(out, value.getFirstName());
+        out.name("lastName");
+        stringAdapter.write(out, value.getLastName());
+        out.name("title");
+        stringAdapter.write(out, value.getTitle());
+        out.name("phoneNumber");
+        stringAdapter.write(out, value.getPhoneNumber());
+        out.name("email");
+        stringAdapter.write(out, value.getEmail());
+        out.name("userPassword");
+        stringAdapter.write(out, value.getUserPassword());
+        out.name("welcomeEmail");
+        welcomeEmailAdapter.write(out, value.getWelcomeEmail());
+        out.name("companyAddress");
+        companyAddressAdapter.write(out, value.getCompanyAddress());
+        out.name("companyCode");
+        stringAdapter.write(out, value.getCompanyCode());
+        out.name("properties");
+        stringListAdapter.write(out, value.getProperties());
+        out.name("acceptAvalaraTermsAndConditions");
+        booleanAdapter.write(out, value.getAcceptAvalaraTermsAndConditions());
+        out.name("haveReadAvalaraTermsAndConditions");
+        booleanAdapter.write(out, value.getHaveReadAvalaraTermsAndConditions());
+        out.name("marketingContext");
+        stringStringMapAdapter.write(out, value.getMarketingContext());
+        out.endObject();
+    }
+
+    @Override
+    public NewAccountRequestModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        NewAccountRequestModel value = new NewAccountRequestModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "offer":
+                    value.setOffer(stringAdapter.read(in));
+                    break;
+                case "connectorId":
+                    value.setConnectorId(stringAdapter.read(in));
+                    break;
+                case "campaign":
+                    value.setCampaign(stringAdapter.read(in));
+                    break;
+                case "leadSource":
+                    value.setLeadSource(stringAdapter.read(in));
+                    break;
+                case "effectiveDate":
+                    value.setEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "accountName":
+                    value.setAccountName(stringAdapter.read(in));
+                    break;
+                case "website":
+                    value.setWebsite(stringAdapter.read(in));
+                    break;
+                case "paymentMethodId":
+                    value.setPaymentMethodId(stringAdapter.read(in));
+                    break;
+                case "firstName":
+                    value.setFirstName(stringAdapter.read(in));
+                    break;
+                case "lastName":
+                    value.setLastName(stringAdapter.read(in));
+                    break;
+                case "title":
+                    value.setTitle(stringAdapter.read(in));
+                    break;
+                case "phoneNumber":
+                    value.setPhoneNumber(stringAdapter.read(in));
+                    break;
+                case "email":
+                    value.setEmail(stringAdapter.read(in));
+                    break;
+                case "userPassword":
+                    value.setUserPassword(stringAdapter.read(in));
+                    break;
+                case "welcomeEmail":
+                    value.setWelcomeEmail(welcomeEmailAdapter.read(in));
+                    break;
+                case "companyAddress":
+                    value.setCompanyAddress(companyAddressAdapter.read(in));
+                    break;
+                case "companyCode":
+                    value.setCompanyCode(stringAdapter.read(in));
+                    break;
+                case "properties":
+                    value.setProperties(stringListAdapter.read(in));
+                    break;
+                case "acceptAvalaraTermsAndConditions":
+                    value.setAcceptAvalaraTermsAndConditions(booleanAdapter.read(in));
+                    break;
+                case "haveReadAvalaraTermsAndConditions":
+                    value.setHaveReadAvalaraTermsAndConditions(booleanAdapter.read(in));
+                    break;
+                case "marketingContext":
+                    value.setMarketingContext(stringStringMapAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,72 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes NexusByAddressModel without reflection.
+ */
+public class NexusByAddressModelTypeAdapter extends TypeAdapter<NexusByAddressModel> {
+    private final TypeAdapter<DeclareNexusByAddressModel> declareNexusByAddressModelAdapter;
+    private final TypeAdapter<ArrayList<NexusModel>> nexusModelListAdapter;
+
+    public NexusByAddressModelTypeAdapter(Gson gson) {
+        this.declareNexusByAddressModelAdapter = gson.getAdapter(DeclareNexusByAddressModel.class);
+        this.nexusModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<NexusModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, NexusByAddressModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("address");
+        declareNexusByAddressModelAdapter.write(out, value.getAddress());
+        out.name("declaredNexus");
+        nexusModelListAdapter.write(out, value.getDeclaredNexus());
+        out.endObject();
+    }
+
+    @Override
+    public NexusByAddressModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        NexusByAddressModel value = new NexusByAddressModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "address":
+                    value.setAddress(declareNexusByAddressModelAdapter.read(in));
+                    break;
+                case "declaredNexus":
+                    value.setDeclaredNexus(nexusModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
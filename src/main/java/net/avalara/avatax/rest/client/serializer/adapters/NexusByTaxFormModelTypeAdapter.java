@@ -0,0 +1,84 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes NexusByTaxFormModel without reflection.
+ */
+public class NexusByTaxFormModelTypeAdapter extends TypeAdapter<NexusByTaxFormModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<ArrayList<NexusModel>> nexusModelListAdapter;
+
+    public NexusByTaxFormModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.nexusModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<NexusModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, NexusByTaxFormModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("formCode");
+        stringAdapter.write(out, value.getFormCode());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("nexusDefinitions");
+        nexusModelListAdapter.write(out, value.getNexusDefinitions());
+        out.name("companyNexus");
+        nexusModelListAdapter.write(out, value.getCompanyNexus());
+        out.endObject();
+    }
+
+    @Override
+    public NexusByTaxFormModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        NexusByTaxFormModel value = new NexusByTaxFormModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "formCode":
+                    value.setFormCode(stringAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "nexusDefinitions":
+                    value.setNexusDefinitions(nexusModelListAdapter.read(in));
+                    break;
+                case "companyNexus":
+                    value.setCompanyNexus(nexusModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
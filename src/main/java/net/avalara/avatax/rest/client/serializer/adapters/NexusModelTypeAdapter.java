@@ -0,0 +1,213 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes NexusModel without reflection.
+ */
+public class NexusModelTypeAdapter extends TypeAdapter<NexusModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<JurisTypeId> jurisTypeIdAdapter;
+    private final TypeAdapter<JurisdictionType> jurisdictionTypeAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<NexusTypeId> nexusTypeIdAdapter;
+    private final TypeAdapter<Sourcing> sourcingAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<LocalNexusTypeId> localNexusTypeIdAdapter;
+    private final TypeAdapter<Long> longAdapter;
+
+    public NexusModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.jurisTypeIdAdapter = gson.getAdapter(JurisTypeId.class);
+        this.jurisdictionTypeAdapter = gson.getAdapter(JurisdictionType.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.nexusTypeIdAdapter = gson.getAdapter(NexusTypeId.class);
+        this.sourcingAdapter = gson.getAdapter(Sourcing.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.localNexusTypeIdAdapter = gson.getAdapter(LocalNexusTypeId.class);
+        this.longAdapter = gson.getAdapter(Long.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, NexusModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("jurisTypeId");
+        jurisTypeIdAdapter.write(out, value.getJurisTypeId());
+        out.name("jurisdictionTypeId");
+        jurisdictionTypeAdapter.write(out, value.getJurisdictionTypeId());
+        out.name("jurisCode");
+        stringAdapter.write(out, value.getJurisCode());
+        out.name("jurisName");
+        stringAdapter.write(out, value.getJurisName());
+        out.name("effectiveDate");
+        dateAdapter.write(out, value.getEffectiveDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("shortName");
+        stringAdapter.write(out, value.getShortName());
+        out.name("signatureCode");
+        stringAdapter.write(out, value.getSignatureCode());
+        out.name("stateAssignedNo");
+        stringAdapter.write(out, value.getStateAssignedNo());
+        out.name("nexusTypeId");
+        nexusTypeIdAdapter.write(out, value.getNexusTypeId());
+        out.name("sourcing");
+        sourcingAdapter.write(out, value.getSourcing());
+        out.name("hasLocalNexus");
+        booleanAdapter.write(out, value.getHasLocalNexus());
+        out.name("localNexusTypeId");
+        localNexusTypeIdAdapter.write(out, value.getLocalNexusTypeId());
+        out.name("hasPermanentEstablishment");
+        booleanAdapter.write(out, value.getHasPermanentEstablishment());
+        out.name("taxId");
+        stringAdapter.write(out, value.getTaxId());
+        out.name("streamlinedSalesTax");
+        booleanAdapter.write(out, value.getStreamlinedSalesTax());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.name("nexusTaxTypeGroup");
+        stringAdapter.write(out, value.getNexusTaxTypeGroup());
+        out.name("taxAuthorityId");
+        longAdapter.write(out, value.getTaxAuthorityId());
+        out.name("isSellerImporterOfRecord");
+        booleanAdapter.write(out, value.getIsSellerImporterOfRecord());
+        out.endObject();
+    }
+
+    @Override
+    public NexusModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        NexusModel value = new NexusModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "jurisTypeId":
+                    value.setJurisTypeId(jurisTypeIdAdapter.read(in));
+                    break;
+                case "jurisdictionTypeId":
+                    value.setJurisdictionTypeId(jurisdictionTypeAdapter.read(in));
+                    break;
+                case "jurisCode":
+                    value.setJurisCode(stringAdapter.read(in));
+                    break;
+                case "jurisName":
+                    value.setJurisName(stringAdapter.read(in));
+                    break;
+                case "effectiveDate":
+                    value.setEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "shortName":
+                    value.setShortName(stringAdapter.read(in));
+                    break;
+                case "signatureCode":
+                    value.setSignatureCode(stringAdapter.read(in));
+                    break;
+                case "stateAssignedNo":
+                    value.setStateAssignedNo(stringAdapter.read(in));
+                    break;
+                case "nexusTypeId":
+                    value.setNexusTypeId(nexusTypeIdAdapter.read(in));
+                    break;
+                case "sourcing":
+                    value.setSourcing(sourcingAdapter.read(in));
+                    break;
+                case "hasLocalNexus":
+                    value.setHasLocalNexus(booleanAdapter.read(in));
+                    break;
+                case "localNexusTypeId":
+                    value.setLocalNexusTypeId(localNexusTypeIdAdapter.read(in));
+                    break;
+                case "hasPermanentEstablishment":
+                    value.setHasPermanentEstablishment(booleanAdapter.read(in));
+                    break;
+                case "taxId":
+                    value.setTaxId(stringAdapter.read(in));
+                    break;
+                case "streamlinedSalesTax":
+                    value.setStreamlinedSalesTax(booleanAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                case "nexusTaxTypeGroup":
+                    value.setNexusTaxTypeGroup(stringAdapter.read(in));
+                    break;
+                case "taxAuthorityId":
+                    value.setTaxAuthorityId(longAdapter.read(in));
+                    break;
+                case "isSellerImporterOfRecord":
+                    value.setIsSellerImporterOfRecord(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
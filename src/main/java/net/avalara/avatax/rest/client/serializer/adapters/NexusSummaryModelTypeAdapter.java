@@ -0,0 +1,72 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes NexusSummaryModel without reflection.
+ */
+public class NexusSummaryModelTypeAdapter extends TypeAdapter<NexusSummaryModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<ArrayList<NexusTaxTypeGroupCountModel>> nexusTaxTypeGroupCountModelListAdapter;
+
+    public NexusSummaryModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.nexusTaxTypeGroupCountModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<NexusTaxTypeGroupCountModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, NexusSummaryModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("nexusSummary");
+        nexusTaxTypeGroupCountModelListAdapter.write(out, value.getNexusSummary());
+        out.endObject();
+    }
+
+    @Override
+    public NexusSummaryModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        NexusSummaryModel value = new NexusSummaryModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "nexusSummary":
+                    value.setNexusSummary(nexusTaxTypeGroupCountModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
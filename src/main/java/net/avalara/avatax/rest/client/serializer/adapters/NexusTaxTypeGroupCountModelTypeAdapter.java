@@ -0,0 +1,72 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes NexusTaxTypeGroupCountModel without reflection.
+ */
+public class NexusTaxTypeGroupCountModelTypeAdapter extends TypeAdapter<NexusTaxTypeGroupCountModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+
+    public NexusTaxTypeGroupCountModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, NexusTaxTypeGroupCountModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("nexusTaxTypeGroup");
+        stringAdapter.write(out, value.getNexusTaxTypeGroup());
+        out.name("count");
+        integerAdapter.write(out, value.getCount());
+        out.endObject();
+    }
+
+    @Override
+    public NexusTaxTypeGroupCountModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        NexusTaxTypeGroupCountModel value = new NexusTaxTypeGroupCountModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "nexusTaxTypeGroup":
+                    value.setNexusTaxTypeGroup(stringAdapter.read(in));
+                    break;
+                case "count":
+                    value.setCount(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
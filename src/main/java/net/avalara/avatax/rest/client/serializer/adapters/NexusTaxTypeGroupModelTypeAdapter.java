@@ -0,0 +1,99 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes NexusTaxTypeGroupModel without reflection.
+ */
+public class NexusTaxTypeGroupModelTypeAdapter extends TypeAdapter<NexusTaxTypeGroupModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public NexusTaxTypeGroupModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, NexusTaxTypeGroupModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("nexusTaxTypeGroupId");
+        stringAdapter.write(out, value.getNexusTaxTypeGroupId());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("subscriptionTypeId");
+        integerAdapter.write(out, value.getSubscriptionTypeId());
+        out.name("subscriptionDescription");
+        stringAdapter.write(out, value.getSubscriptionDescription());
+        out.name("tabName");
+        stringAdapter.write(out, value.getTabName());
+        out.name("showColumn");
+        booleanAdapter.write(out, value.getShowColumn());
+        out.endObject();
+    }
+
+    @Override
+    public NexusTaxTypeGroupModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        NexusTaxTypeGroupModel value = new NexusTaxTypeGroupModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "nexusTaxTypeGroupId":
+                    value.setNexusTaxTypeGroupId(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "subscriptionTypeId":
+                    value.setSubscriptionTypeId(integerAdapter.read(in));
+                    break;
+                case "subscriptionDescription":
+                    value.setSubscriptionDescription(stringAdapter.read(in));
+                    break;
+                case "tabName":
+                    value.setTabName(stringAdapter.read(in));
+                    break;
+                case "showColumn":
+                    value.setShowColumn(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
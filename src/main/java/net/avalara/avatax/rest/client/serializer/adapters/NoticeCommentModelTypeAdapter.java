@@ -0,0 +1,140 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes NoticeCommentModel without reflection.
+ */
+public class NoticeCommentModelTypeAdapter extends TypeAdapter<NoticeCommentModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<CommentType> commentTypeAdapter;
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<ResourceFileUploadRequestModel> resourceFileUploadRequestModelAdapter;
+
+    public NoticeCommentModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.commentTypeAdapter = gson.getAdapter(CommentType.class);
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.resourceFileUploadRequestModelAdapter = gson.getAdapter(ResourceFileUploadRequestModel.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, NoticeCommentModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("noticeId");
+        integerAdapter.write(out, value.getNoticeId());
+        out.name("date");
+        dateAdapter.write(out, value.getDate());
+        out.name("comment");
+        stringAdapter.write(out, value.getComment());
+        out.name("commentUserId");
+        integerAdapter.write(out, value.getCommentUserId());
+        out.name("commentUserName");
+        stringAdapter.write(out, value.getCommentUserName());
+        out.name("commentTypeId");
+        integerAdapter.write(out, value.getCommentTypeId());
+        out.name("commentType");
+        commentTypeAdapter.write(out, value.getCommentType());
+        out.name("commentLink");
+        stringAdapter.write(out, value.getCommentLink());
+        out.name("taxNoticeFileName");
+        stringAdapter.write(out, value.getTaxNoticeFileName());
+        out.name("resourceFileId");
+        longAdapter.write(out, value.getResourceFileId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.name("attachmentUploadRequest");
+        resourceFileUploadRequestModelAdapter.write(out, value.getAttachmentUploadRequest());
+        out.endObject();
+    }
+
+    @Override
+    public NoticeCommentModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        NoticeCommentModel value = new NoticeCommentModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "noticeId":
+                    value.setNoticeId(integerAdapter.read(in));
+                    break;
+                case "date":
+                    value.setDate(dateAdapter.read(in));
+                    break;
+                case "comment":
+                    value.setComment(stringAdapter.read(in));
+                    break;
+                case "commentUserId":
+                    value.setCommentUserId(integerAdapter.read(in));
+                    break;
+                case "commentUserName":
+                    value.setCommentUserName(stringAdapter.read(in));
+                    break;
+                case "commentTypeId":
+                    value.setCommentTypeId(integerAdapter.read(in));
+                    break;
+                case "commentType":
+                    value.setCommentType(commentTypeAdapter.read(in));
+                    break;
+                case "commentLink":
+                    value.setCommentLink(stringAdapter.read(in));
+                    break;
+                case "taxNoticeFileName":
+                    value.setTaxNoticeFileName(stringAdapter.read(in));
+                    break;
+                case "resourceFileId":
+                    value.setResourceFileId(longAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                case "attachmentUploadRequest":
+                    value.setAttachmentUploadRequest(resourceFileUploadRequestModelAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,170 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes NoticeFinanceModel without reflection.
+ */
+public class NoticeFinanceModelTypeAdapter extends TypeAdapter<NoticeFinanceModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<ResourceFileUploadRequestModel> resourceFileUploadRequestModelAdapter;
+
+    public NoticeFinanceModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.resourceFileUploadRequestModelAdapter = gson.getAdapter(ResourceFileUploadRequestModel.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, NoticeFinanceModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("noticeId");
+        integerAdapter.write(out, value.getNoticeId());
+        out.name("noticeDate");
+        dateAdapter.write(out, value.getNoticeDate());
+        out.name("dueDate");
+        dateAdapter.write(out, value.getDueDate());
+        out.name("noticeNumber");
+        stringAdapter.write(out, value.getNoticeNumber());
+        out.name("taxDue");
+        bigDecimalAdapter.write(out, value.getTaxDue());
+        out.name("penalty");
+        bigDecimalAdapter.write(out, value.getPenalty());
+        out.name("interest");
+        bigDecimalAdapter.write(out, value.getInterest());
+        out.name("credits");
+        bigDecimalAdapter.write(out, value.getCredits());
+        out.name("taxAbated");
+        bigDecimalAdapter.write(out, value.getTaxAbated());
+        out.name("customerPenalty");
+        bigDecimalAdapter.write(out, value.getCustomerPenalty());
+        out.name("customerInterest");
+        bigDecimalAdapter.write(out, value.getCustomerInterest());
+        out.name("cspFeeRefund");
+        bigDecimalAdapter.write(out, value.getCspFeeRefund());
+        out.name("fileName");
+        stringAdapter.write(out, value.getFileName());
+        out.name("resourceFileId");
+        longAdapter.write(out, value.getResourceFileId());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.name("attachmentUploadRequest");
+        resourceFileUploadRequestModelAdapter.write(out, value.getAttachmentUploadRequest());
+        out.endObject();
+    }
+
+    @Override
+    public NoticeFinanceModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        NoticeFinanceModel value = new NoticeFinanceModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "noticeId":
+                    value.setNoticeId(integerAdapter.read(in));
+                    break;
+                case "noticeDate":
+                    value.setNoticeDate(dateAdapter.read(in));
+                    break;
+                case "dueDate":
+                    value.setDueDate(dateAdapter.read(in));
+                    break;
+                case "noticeNumber":
+                    value.setNoticeNumber(stringAdapter.read(in));
+                    break;
+                case "taxDue":
+                    value.setTaxDue(bigDecimalAdapter.read(in));
+                    break;
+                case "penalty":
+                    value.setPenalty(bigDecimalAdapter.read(in));
+                    break;
+                case "interest":
+                    value.setInterest(bigDecimalAdapter.read(in));
+                    break;
+                case "credits":
+                    value.setCredits(bigDecimalAdapter.read(in));
+                    break;
+                case "taxAbated":
+                    value.setTaxAbated(bigDecimalAdapter.read(in));
+                    break;
+                case "customerPenalty":
+                    value.setCustomerPenalty(bigDecimalAdapter.read(in));
+                    break;
+                case "customerInterest":
+                    value.setCustomerInterest(bigDecimalAdapter.read(in));
+                    break;
+                case "cspFeeRefund":
+                    value.setCspFeeRefund(bigDecimalAdapter.read(in));
+                    break;
+                case "fileName":
+                    value.setFileName(stringAdapter.read(in));
+                    break;
+                case "resourceFileId":
+                    value.setResourceFileId(longAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                case "attachmentUploadRequest":
+                    value.setAttachmentUploadRequest(resourceFileUploadRequestModelAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,316 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes NoticeModel without reflection.
+ */
+public class NoticeModelTypeAdapter extends TypeAdapter<NoticeModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<NoticeCustomerType> noticeCustomerTypeAdapter;
+    private final TypeAdapter<FilingFrequencyId> filingFrequencyIdAdapter;
+    private final TypeAdapter<TaxNoticeFilingTypeId> taxNoticeFilingTypeIdAdapter;
+    private final TypeAdapter<FundingOption> fundingOptionAdapter;
+    private final TypeAdapter<NoticePriorityId> noticePriorityIdAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<ArrayList<NoticeCommentModel>> noticeCommentModelListAdapter;
+    private final TypeAdapter<ArrayList<NoticeFinanceModel>> noticeFinanceModelListAdapter;
+    private final TypeAdapter<ArrayList<NoticeResponsibilityDetailModel>> noticeResponsibilityDetailModelListAdapter;
+    private final TypeAdapter<ArrayList<NoticeRootCauseDetailModel>> noticeRootCauseDetailModelListAdapter;
+
+    public NoticeModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.noticeCustomerTypeAdapter = gson.getAdapter(NoticeCustomerType.class);
+        this.filingFrequencyIdAdapter = gson.getAdapter(FilingFrequencyId.class);
+        this.taxNoticeFilingTypeIdAdapter = gson.getAdapter(TaxNoticeFilingTypeId.class);
+        this.fundingOptionAdapter = gson.getAdapter(FundingOption.class);
+        this.noticePriorityIdAdapter = gson.getAdapter(NoticePriorityId.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.noticeCommentModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<NoticeCommentModel>>(){});
+        this.noticeFinanceModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<NoticeFinanceModel>>(){});
+        this.noticeResponsibilityDetailModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<NoticeResponsibilityDetailModel>>(){});
+        this.noticeRootCauseDetailModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<NoticeRootCauseDetailModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, NoticeModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("statusId");
+        integerAdapter.write(out, value.getStatusId());
+        out.name("status");
+        stringAdapter.write(out, value.getStatus());
+        out.name("receivedDate");
+        dateAdapter.write(out, value.getReceivedDate());
+        out.name("closedDate");
+        dateAdapter.write(out, value.getClosedDate());
+        out.name("totalRemit");
+        bigDecimalAdapter.write(out, value.getTotalRemit());
+        out.name("customerTypeId");
+        noticeCustomerTypeAdapter.write(out, value.getCustomerTypeId());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("taxAuthorityId");
+        integerAdapter.write(out, value.getTaxAuthorityId());
+        out.name("filingFrequency");
+        filingFrequencyIdAdapter.write(out, value.getFilingFrequency());
+        out.name("filingTypeId");
+        taxNoticeFilingTypeIdAdapter.write(out, value.getFilingTypeId());
+        out.name("ticketReferenceNo");
+        stringAdapter.write(out, value.getTicketReferenceNo());
+        out.name("ticketReferenceUrl");
+        stringAdapter.write(out, value.getTicketReferenceUrl());
+        out.name("salesForceCase");
+        stringAdapter.write(out, value.getSalesForceCase());
+        out.name("salesForceCaseUrl");
+        stringAdapter.write(out, value.getSalesForceCaseUrl());
+        out.name("taxPeriod");
+        stringAdapter.write(out, value.getTaxPeriod());
+        out.name("reasonId");
+        integerAdapter.write(out, value.getReasonId());
+        out.name("reason");
+        stringAdapter.write(out, value.getReason());
+        out.name("typeId");
+        integerAdapter.write(out, value.getTypeId());
+        out.name("type");
+        stringAdapter.write(out, value.getType());
+        out.name("customerFundingOptionId");
+        fundingOptionAdapter.write(out, value.getCustomerFundingOptionId());
+        out.name("priorityId");
+        noticePriorityIdAdapter.write(out, value.getPriorityId());
+        out.name("customerComment");
+        stringAdapter.write(out, value.getCustomerComment());
+        out.name("hideFromCustomer");
+        booleanAdapter.write(out, value.getHideFromCustomer());
+        out.name("expectedResolutionDate");
+        dateAdapter.write(out, value.getExpectedResolutionDate());
+        out.name("showResolutionDateToCustomer");
+        booleanAdapter.write(out, value.getShowResolutionDateToCustomer());
+        out.name("closedByUserId");
+        integerAdapter.write(out, value.getClosedByUserId());
+        out.name("createdByUserName");
+        stringAdapter.write(out, value.getCreatedByUserName());
+        out.name("ownedByUserId");
+        integerAdapter.write(out, value.getOwnedByUserId());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("avaFileFormId");
+        integerAdapter.write(out, value.getAvaFileFormId());
+        out.name("revenueContactId");
+        integerAdapter.write(out, value.getRevenueContactId());
+        out.name("complianceContactId");
+        integerAdapter.write(out, value.getComplianceContactId());
+        out.name("documentReference");
+        stringAdapter.write(out, value.getDocumentReference());
+        out.name("jurisdictionName");
+        stringAdapter.write(out, value.getJurisdictionName());
+        out.name("jurisdictionType");
+        stringAdapter.write(out, value.getJurisdictionType());
+        out.name("comments");
+        noticeCommentModelListAdapter.write(out, value.getComments());
+        out.name("finances");
+        noticeFinanceModelListAdapter.write(out, value.getFinances());
+        out.name("responsibility");
+        noticeResponsibilityDetailModelListAdapter.write(out, value.getResponsibility());
+        out.name("rootCause");
+        noticeRootCauseDetailModelListAdapter.write(out, value.getRootCause());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.endObject();
+    }
+
+    @Override
+    public NoticeModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        NoticeModel value = new NoticeModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "statusId":
+                    value.setStatusId(integerAdapter.read(in));
+                    break;
+                case "status":
+                    value.setStatus(stringAdapter.read(in));
+                    break;
+                case "receivedDate":
+                    value.setReceivedDate(dateAdapter.read(in));
+                    break;
+                case "closedDate":
+                    value.setClosedDate(dateAdapter.read(in));
+                    break;
+                case "totalRemit":
+                    value.setTotalRemit(bigDecimalAdapter.read(in));
+                    break;
+                case "customerTypeId":
+                    value.setCustomerTypeId(noticeCustomerTypeAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "taxAuthorityId":
+                    value.setTaxAuthorityId(integerAdapter.read(in));
+                    break;
+                case "filingFrequency":
+                    value.setFilingFrequency(filingFrequencyIdAdapter.read(in));
+                    break;
+                case "filingTypeId":
+                    value.setFilingTypeId(taxNoticeFilingTypeIdAdapter.read(in));
+                    break;
+                case "ticketReferenceNo":
+                    value.setTicketReferenceNo(stringAdapter.read(in));
+                    break;
+                case "ticketReferenceUrl":
+                    value.setTicketReferenceUrl(stringAdapter.read(in));
+                    break;
+                case "salesForceCase":
+                    value.setSalesForceCase(stringAdapter.read(in));
+                    break;
+                case "salesForceCaseUrl":
+                    value.setSalesForceCaseUrl(stringAdapter.read(in));
+                    break;
+                case "taxPeriod":
+                    value.setTaxPeriod(stringAdapter.read(in));
+                    break;
+                case "reasonId":
+                    value.setReasonId(integerAdapter.read(in));
+                    break;
+                case "reason":
+                    value.setReason(stringAdapter.read(in));
+                    break;
+                case "typeId":
+                    value.setTypeId(integerAdapter.read(in));
+                    break;
+                case "type":
+                    value.setType(stringAdapter.read(in));
+                    break;
+                case "customerFundingOptionId":
+                    value.setCustomerFundingOptionId(fundingOptionAdapter.read(in));
+                    break;
+                case "priorityId":
+                    value.setPriorityId(noticePriorityIdAdapter.read(in));
+                    break;
+                case "customerComment":
+                    value.setCustomerComment(stringAdapter.read(in));
+                    break;
+                case "hideFromCustomer":
+                    value.setHideFromCustomer(booleanAdapter.read(in));
+                    break;
+                case "expectedResolutionDate":
+                    value.setExpectedResolutionDate(dateAdapter.read(in));
+                    break;
+                case "showResolutionDateToCustomer":
+                    value.setShowResolutionDateToCustomer(booleanAdapter.read(in));
+                    break;
+                case "closedByUserId":
+                    value.setClosedByUserId(integerAdapter.read(in));
+                    break;
+                case "createdByUserName":
+                    value.setCreatedByUserName(stringAdapter.read(in));
+                    break;
+                case "ownedByUserId":
+                    value.setOwnedByUserId(integerAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "avaFileFormId":
+                    value.setAvaFileFormId(integerAdapter.read(in));
+                    break;
+                case "revenueContactId":
+                    value.setRevenueContactId(integerAdapter.read(in));
+                    break;
+                case "complianceContactId":
+                    value.setComplianceContactId(integerAdapter.read(in));
+                    break;
+                case "documentReference":
+                    value.setDocumentReference(stringAdapter.read(in));
+                    break;
+                case "jurisdictionName":
+                    value.setJurisdictionName(stringAdapter.read(in));
+                    break;
+                case "jurisdictionType":
+                    value.setJurisdictionType(stringAdapter.read(in));
+                    break;
+                case "comments":
+                    value.setComments(noticeCommentModelListAdapter.read(in));
+                    break;
+                case "finances":
+                    value.setFinances(noticeFinanceModelListAdapter.read(in));
+                    break;
+                case "responsibility":
+                    value.setResponsibility(noticeResponsibilityDetailModelListAdapter.read(in));
+                    break;
+                case "rootCause":
+                    value.setRootCause(noticeRootCauseDetailModelListAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,82 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes NoticeResponsibilityDetailModel without reflection.
+ */
+public class NoticeResponsibilityDetailModelTypeAdapter extends TypeAdapter<NoticeResponsibilityDetailModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    public NoticeResponsibilityDetailModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, NoticeResponsibilityDetailModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("noticeId");
+        integerAdapter.write(out, value.getNoticeId());
+        out.name("taxNoticeResponsibilityId");
+        integerAdapter.write(out, value.getTaxNoticeResponsibilityId());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.endObject();
+    }
+
+    @Override
+    public NoticeResponsibilityDetailModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        NoticeResponsibilityDetailModel value = new NoticeResponsibilityDetailModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "noticeId":
+                    value.setNoticeId(integerAdapter.read(in));
+                    break;
+                case "taxNoticeResponsibilityId":
+                    value.setTaxNoticeResponsibilityId(integerAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,175 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes NotificationModel without reflection.
+ */
+public class NotificationModelTypeAdapter extends TypeAdapter<NotificationModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<NotificationSeverityLevel> notificationSeverityLevelAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public NotificationModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.notificationSeverityLevelAdapter = gson.getAdapter(NotificationSeverityLevel.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, NotificationModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("referenceObject");
+        stringAdapter.write(out, value.getReferenceObject());
+        out.name("referenceId");
+        longAdapter.write(out, value.getReferenceId());
+        out.name("severityLevelId");
+        notificationSeverityLevelAdapter.write(out, value.getSeverityLevelId());
+        out.name("category");
+        stringAdapter.write(out, value.getCategory());
+        out.name("topic");
+        stringAdapter.write(out, value.getTopic());
+        out.name("message");
+        stringAdapter.write(out, value.getMessage());
+        out.name("needsAction");
+        booleanAdapter.write(out, value.getNeedsAction());
+        out.name("actionName");
+        stringAdapter.write(out, value.getActionName());
+        out.name("actionLink");
+        stringAdapter.write(out, value.getActionLink());
+        out.name("actionDueDate");
+        dateAdapter.write(out, value.getActionDueDate());
+        out.name("dismissed");
+        booleanAdapter.write(out, value.getDismissed());
+        out.name("dismissedByUserId");
+        integerAdapter.write(out, value.getDismissedByUserId());
+        out.name("dismissedDate");
+        dateAdapter.write(out, value.getDismissedDate());
+        out.name("expireDate");
+        dateAdapter.write(out, value.getExpireDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.endObject();
+    }
+
+    @Override
+    public NotificationModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        NotificationModel value = new NotificationModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "referenceObject":
+                    value.setReferenceObject(stringAdapter.read(in));
+                    break;
+                case "referenceId":
+                    value.setReferenceId(longAdapter.read(in));
+                    break;
+                case "severityLevelId":
+                    value.setSeverityLevelId(notificationSeverityLevelAdapter.read(in));
+                    break;
+                case "category":
+                    value.setCategory(stringAdapter.read(in));
+                    break;
+                case "topic":
+                    value.setTopic(stringAdapter.read(in));
+                    break;
+                case "message":
+                    value.setMessage(stringAdapter.read(in));
+                    break;
+                case "needsAction":
+                    value.setNeedsAction(booleanAdapter.read(in));
+                    break;
+                case "actionName":
+                    value.setActionName(stringAdapter.read(in));
+                    break;
+                case "actionLink":
+                    value.setActionLink(stringAdapter.read(in));
+                    break;
+                case "actionDueDate":
+                    value.setActionDueDate(dateAdapter.read(in));
+                    break;
+                case "dismissed":
+                    value.setDismissed(booleanAdapter.read(in));
+                    break;
+                case "dismissedByUserId":
+                    value.setDismissedByUserId(integerAdapter.read(in));
+                    break;
+                case "dismissedDate":
+                    value.setDismissedDate(dateAdapter.read(in));
+                    break;
+                case "expireDate":
+                    value.setExpireDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
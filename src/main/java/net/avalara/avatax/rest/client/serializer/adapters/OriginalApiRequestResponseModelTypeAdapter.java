@@ -0,0 +1,70 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes OriginalApiRequestResponseModel without reflection.
+ */
+public class OriginalApiRequestResponseModelTypeAdapter extends TypeAdapter<OriginalApiRequestResponseModel> {
+    private final TypeAdapter<String> stringAdapter;
+
+    public OriginalApiRequestResponseModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, OriginalApiRequestResponseModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("request");
+        stringAdapter.write(out, value.getRequest());
+        out.name("response");
+        stringAdapter.write(out, value.getResponse());
+        out.endObject();
+    }
+
+    @Override
+    public OriginalApiRequestResponseModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        OriginalApiRequestResponseModel value = new OriginalApiRequestResponseModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "request":
+                    value.setRequest(stringAdapter.read(in));
+                    break;
+                case "response":
+                    value.setResponse(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
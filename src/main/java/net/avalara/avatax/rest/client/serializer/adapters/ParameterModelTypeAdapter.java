@@ -0,0 +1,104 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ParameterModel without reflection.
+ */
+public class ParameterModelTypeAdapter extends TypeAdapter<ParameterModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+    public ParameterModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.stringListAdapter = gson.getAdapter(new TypeToken<ArrayList<String>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, ParameterModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("category");
+        stringAdapter.write(out, value.getCategory());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("dataType");
+        stringAdapter.write(out, value.getDataType());
+        out.name("helpText");
+        stringAdapter.write(out, value.getHelpText());
+        out.name("serviceTypes");
+        stringListAdapter.write(out, value.getServiceTypes());
+        out.name("prompt");
+        stringAdapter.write(out, value.getPrompt());
+        out.name("regularExpression");
+        stringAdapter.write(out, value.getRegularExpression());
+        out.endObject();
+    }
+
+    @Override
+    public ParameterModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ParameterModel value = new ParameterModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "category":
+                    value.setCategory(stringAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "dataType":
+                    value.setDataType(stringAdapter.read(in));
+                    break;
+                case "helpText":
+                    value.setHelpText(stringAdapter.read(in));
+                    break;
+                case "serviceTypes":
+                    value.setServiceTypes(stringListAdapter.read(in));
+                    break;
+                case "prompt":
+                    value.setPrompt(stringAdapter.read(in));
+                    break;
+                case "regularExpression":
+                    value.setRegularExpression(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,70 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes PasswordChangeModel without reflection.
+ */
+public class PasswordChangeModelTypeAdapter extends TypeAdapter<PasswordChangeModel> {
+    private final TypeAdapter<String> stringAdapter;
+
+    public PasswordChangeModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, PasswordChangeModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("oldPassword");
+        stringAdapter.write(out, value.getOldPassword());
+        out.name("newPassword");
+        stringAdapter.write(out, value.getNewPassword());
+        out.endObject();
+    }
+
+    @Override
+    public PasswordChangeModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        PasswordChangeModel value = new PasswordChangeModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "oldPassword":
+                    value.setOldPassword(stringAdapter.read(in));
+                    break;
+                case "newPassword":
+                    value.setNewPassword(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,101 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes PingResultModel without reflection.
+ */
+public class PingResultModelTypeAdapter extends TypeAdapter<PingResultModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<AuthenticationTypeId> authenticationTypeIdAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+
+    public PingResultModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.authenticationTypeIdAdapter = gson.getAdapter(AuthenticationTypeId.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, PingResultModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("version");
+        stringAdapter.write(out, value.getVersion());
+        out.name("authenticated");
+        booleanAdapter.write(out, value.getAuthenticated());
+        out.name("authenticationType");
+        authenticationTypeIdAdapter.write(out, value.getAuthenticationType());
+        out.name("authenticatedUserName");
+        stringAdapter.write(out, value.getAuthenticatedUserName());
+        out.name("authenticatedUserId");
+        integerAdapter.write(out, value.getAuthenticatedUserId());
+        out.name("authenticatedAccountId");
+        integerAdapter.write(out, value.getAuthenticatedAccountId());
+        out.name("crmid");
+        stringAdapter.write(out, value.getCrmid());
+        out.endObject();
+    }
+
+    @Override
+    public PingResultModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        PingResultModel value = new PingResultModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "version":
+                    value.setVersion(stringAdapter.read(in));
+                    break;
+                case "authenticated":
+                    value.setAuthenticated(booleanAdapter.read(in));
+                    break;
+                case "authenticationType":
+                    value.setAuthenticationType(authenticationTypeIdAdapter.read(in));
+                    break;
+                case "authenticatedUserName":
+                    value.setAuthenticatedUserName(stringAdapter.read(in));
+                    break;
+                case "authenticatedUserId":
+                    value.setAuthenticatedUserId(integerAdapter.read(in));
+                    break;
+                case "authenticatedAccountId":
+                    value.setAuthenticatedAccountId(integerAdapter.read(in));
+                    break;
+                case "crmid":
+                    value.setCrmid(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,105 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes PointOfSaleDataRequestModel without reflection.
+ */
+public class PointOfSaleDataRequestModelTypeAdapter extends TypeAdapter<PointOfSaleDataRequestModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<PointOfSaleFileType> pointOfSaleFileTypeAdapter;
+    private final TypeAdapter<ArrayList<String>> stringListAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<PointOfSalePartnerId> pointOfSalePartnerIdAdapter;
+
+    public PointOfSaleDataRequestModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.pointOfSaleFileTypeAdapter = gson.getAdapter(PointOfSaleFileType.class);
+        this.stringListAdapter = gson.getAdapter(new TypeToken<ArrayList<String>>(){});
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.pointOfSalePartnerIdAdapter = gson.getAdapter(PointOfSalePartnerId.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, PointOfSaleDataRequestModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("companyCode");
+        stringAdapter.write(out, value.getCompanyCode());
+        out.name("documentDate");
+        dateAdapter.write(out, value.getDocumentDate());
+        out.name("responseType");
+        pointOfSaleFileTypeAdapter.write(out, value.getResponseType());
+        out.name("taxCodes");
+        stringListAdapter.write(out, value.getTaxCodes());
+        out.name("locationCodes");
+        stringListAdapter.write(out, value.getLocationCodes());
+        out.name("includeJurisCodes");
+        booleanAdapter.write(out, value.getIncludeJurisCodes());
+        out.name("partnerId");
+        pointOfSalePartnerIdAdapter.write(out, value.getPartnerId());
+        out.endObject();
+    }
+
+    @Override
+    public PointOfSaleDataRequestModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        PointOfSaleDataRequestModel value = new PointOfSaleDataRequestModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "companyCode":
+                    value.setCompanyCode(stringAdapter.read(in));
+                    break;
+                case "documentDate":
+                    value.setDocumentDate(dateAdapter.read(in));
+                    break;
+                case "responseType":
+                    value.setResponseType(pointOfSaleFileTypeAdapter.read(in));
+                    break;
+                case "taxCodes":
+                    value.setTaxCodes(stringListAdapter.read(in));
+                    break;
+                case "locationCodes":
+                    value.setLocationCodes(stringListAdapter.read(in));
+                    break;
+                case "includeJurisCodes":
+                    value.setIncludeJurisCodes(booleanAdapter.read(in));
+                    break;
+                case "partnerId":
+                    value.setPartnerId(pointOfSalePartnerIdAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,77 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ProvisionStatusModel without reflection.
+ */
+public class ProvisionStatusModelTypeAdapter extends TypeAdapter<ProvisionStatusModel> {
+    private final TypeAdapter<CertCaptureProvisionStatus> certCaptureProvisionStatusAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+
+    public ProvisionStatusModelTypeAdapter(Gson gson) {
+        this.certCaptureProvisionStatusAdapter = gson.getAdapter(CertCaptureProvisionStatus.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ProvisionStatusModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("status");
+        certCaptureProvisionStatusAdapter.write(out, value.getStatus());
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.endObject();
+    }
+
+    @Override
+    public ProvisionStatusModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ProvisionStatusModel value = new ProvisionStatusModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "status":
+                    value.setStatus(certCaptureProvisionStatusAdapter.read(in));
+                    break;
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,79 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes RateModel without reflection.
+ */
+public class RateModelTypeAdapter extends TypeAdapter<RateModel> {
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<JurisdictionType> jurisdictionTypeAdapter;
+
+    public RateModelTypeAdapter(Gson gson) {
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.jurisdictionTypeAdapter = gson.getAdapter(JurisdictionType.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, RateModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("rate");
+        bigDecimalAdapter.write(out, value.getRate());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("type");
+        jurisdictionTypeAdapter.write(out, value.getType());
+        out.endObject();
+    }
+
+    @Override
+    public RateModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        RateModel value = new RateModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "rate":
+                    value.setRate(bigDecimalAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "type":
+                    value.setType(jurisdictionTypeAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,65 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ReconstructedApiRequestResponseModel without reflection.
+ */
+public class ReconstructedApiRequestResponseModelTypeAdapter extends TypeAdapter<ReconstructedApiRequestResponseModel> {
+    private final TypeAdapter<CreateTransactionModel> createTransactionModelAdapter;
+
+    public ReconstructedApiRequestResponseModelTypeAdapter(Gson gson) {
+        this.createTransactionModelAdapter = gson.getAdapter(CreateTransactionModel.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ReconstructedApiRequestResponseModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("request");
+        createTransactionModelAdapter.write(out, value.getRequest());
+        out.endObject();
+    }
+
+    @Override
+    public ReconstructedApiRequestResponseModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ReconstructedApiRequestResponseModel value = new ReconstructedApiRequestResponseModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "request":
+                    value.setRequest(createTransactionModelAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
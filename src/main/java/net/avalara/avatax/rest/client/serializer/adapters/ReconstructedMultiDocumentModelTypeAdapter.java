@@ -0,0 +1,65 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ReconstructedMultiDocumentModel without reflection.
+ */
+public class ReconstructedMultiDocumentModelTypeAdapter extends TypeAdapter<ReconstructedMultiDocumentModel> {
+    private final TypeAdapter<CreateMultiDocumentModel> createMultiDocumentModelAdapter;
+
+    public ReconstructedMultiDocumentModelTypeAdapter(Gson gson) {
+        this.createMultiDocumentModelAdapter = gson.getAdapter(CreateMultiDocumentModel.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ReconstructedMultiDocumentModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("request");
+        createMultiDocumentModelAdapter.write(out, value.getRequest());
+        out.endObject();
+    }
+
+    @Override
+    public ReconstructedMultiDocumentModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ReconstructedMultiDocumentModel value = new ReconstructedMultiDocumentModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "request":
+                    value.setRequest(createMultiDocumentModelAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
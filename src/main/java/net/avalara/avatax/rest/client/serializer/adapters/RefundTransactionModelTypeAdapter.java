@@ -0,0 +1,98 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes RefundTransactionModel without reflection.
+ */
+public class RefundTransactionModelTypeAdapter extends TypeAdapter<RefundTransactionModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<RefundType> refundTypeAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<ArrayList<String>> stringListAdapter;
+
+    public RefundTransactionModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.refundTypeAdapter = gson.getAdapter(RefundType.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.stringListAdapter = gson.getAdapter(new TypeToken<ArrayList<String>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, RefundTransactionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("refundTransactionCode");
+        stringAdapter.write(out, value.getRefundTransactionCode());
+        out.name("refundDate");
+        dateAdapter.write(out, value.getRefundDate());
+        out.name("refundType");
+        refundTypeAdapter.write(out, value.getRefundType());
+        out.name("refundPercentage");
+        bigDecimalAdapter.write(out, value.getRefundPercentage());
+        out.name("refundLines");
+        stringListAdapter.write(out, value.getRefundLines());
+        out.name("referenceCode");
+        stringAdapter.write(out, value.getReferenceCode());
+        out.endObject();
+    }
+
+    @Override
+    public RefundTransactionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        RefundTransactionModel value = new RefundTransactionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "refundTransactionCode":
+                    value.setRefundTransactionCode(stringAdapter.read(in));
+                    break;
+                case "refundDate":
+                    value.setRefundDate(dateAdapter.read(in));
+                    break;
+                case "refundType":
+                    value.setRefundType(refundTypeAdapter.read(in));
+                    break;
+                case "refundPercentage":
+                    value.setRefundPercentage(bigDecimalAdapter.read(in));
+                    break;
+                case "refundLines":
+                    value.setRefundLines(stringListAdapter.read(in));
+                    break;
+                case "referenceCode":
+                    value.setReferenceCode(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
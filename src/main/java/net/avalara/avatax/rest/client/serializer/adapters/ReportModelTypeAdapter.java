@@ -0,0 +1,133 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ReportModel without reflection.
+ */
+public class ReportModelTypeAdapter extends TypeAdapter<ReportModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<ReportParametersModel> reportParametersModelAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public ReportModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.reportParametersModelAdapter = gson.getAdapter(ReportParametersModel.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ReportModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("reportType");
+        stringAdapter.write(out, value.getReportType());
+        out.name("parameters");
+        reportParametersModelAdapter.write(out, value.getParameters());
+        out.name("status");
+        stringAdapter.write(out, value.getStatus());
+        out.name("size");
+        integerAdapter.write(out, value.getSize());
+        out.name("format");
+        stringAdapter.write(out, value.getFormat());
+        out.name("file");
+        stringAdapter.write(out, value.getFile());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("createdUser");
+        stringAdapter.write(out, value.getCreatedUser());
+        out.name("completedDate");
+        dateAdapter.write(out, value.getCompletedDate());
+        out.endObject();
+    }
+
+    @Override
+    public ReportModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ReportModel value = new ReportModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "reportType":
+                    value.setReportType(stringAdapter.read(in));
+                    break;
+                case "parameters":
+                    value.setParameters(reportParametersModelAdapter.read(in));
+                    break;
+                case "status":
+                    value.setStatus(stringAdapter.read(in));
+                    break;
+                case "size":
+                    value.setSize(integerAdapter.read(in));
+                    break;
+                case "format":
+                    value.setFormat(stringAdapter.read(in));
+                    break;
+                case "file":
+                    value.setFile(stringAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "createdUser":
+                    value.setCreatedUser(stringAdapter.read(in));
+                    break;
+                case "completedDate":
+                    value.setCompletedDate(dateAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,107 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ReportParametersModel without reflection.
+ */
+public class ReportParametersModelTypeAdapter extends TypeAdapter<ReportParametersModel> {
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    public ReportParametersModelTypeAdapter(Gson gson) {
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ReportParametersModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("startDate");
+        dateAdapter.write(out, value.getStartDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("state");
+        stringAdapter.write(out, value.getState());
+        out.name("dateFilter");
+        stringAdapter.write(out, value.getDateFilter());
+        out.name("docType");
+        stringAdapter.write(out, value.getDocType());
+        out.name("dateFormat");
+        stringAdapter.write(out, value.getDateFormat());
+        out.name("culture");
+        stringAdapter.write(out, value.getCulture());
+        out.name("currencyCode");
+        stringAdapter.write(out, value.getCurrencyCode());
+        out.endObject();
+    }
+
+    @Override
+    public ReportParametersModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ReportParametersModel value = new ReportParametersModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "startDate":
+                    value.setStartDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "state":
+                    value.setState(stringAdapter.read(in));
+                    break;
+                case "dateFilter":
+                    value.setDateFilter(stringAdapter.read(in));
+                    break;
+                case "docType":
+                    value.setDocType(stringAdapter.read(in));
+                    break;
+                case "dateFormat":
+                    value.setDateFormat(stringAdapter.read(in));
+                    break;
+                case "culture":
+                    value.setCulture(stringAdapter.read(in));
+                    break;
+                case "currencyCode":
+                    value.setCurrencyCode(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
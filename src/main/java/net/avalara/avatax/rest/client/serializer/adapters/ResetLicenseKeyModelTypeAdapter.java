@@ -0,0 +1,72 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ResetLicenseKeyModel without reflection.
+ */
+public class ResetLicenseKeyModelTypeAdapter extends TypeAdapter<ResetLicenseKeyModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public ResetLicenseKeyModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ResetLicenseKeyModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("confirmResetLicenseKey");
+        booleanAdapter.write(out, value.getConfirmResetLicenseKey());
+        out.endObject();
+    }
+
+    @Override
+    public ResetLicenseKeyModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ResetLicenseKeyModel value = new ResetLicenseKeyModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "confirmResetLicenseKey":
+                    value.setConfirmResetLicenseKey(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,101 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes ResourceFileUploadRequestModel without reflection.
+ */
+public class ResourceFileUploadRequestModelTypeAdapter extends TypeAdapter<ResourceFileUploadRequestModel> {
+    private final TypeAdapter<Byte> byteAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Long> longAdapter;
+
+    public ResourceFileUploadRequestModelTypeAdapter(Gson gson) {
+        this.byteAdapter = gson.getAdapter(Byte.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.longAdapter = gson.getAdapter(Long.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ResourceFileUploadRequestModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("content");
+        byteAdapter.write(out, value.getContent());
+        out.name("username");
+        stringAdapter.write(out, value.getUsername());
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("resourceFileTypeId");
+        integerAdapter.write(out, value.getResourceFileTypeId());
+        out.name("length");
+        longAdapter.write(out, value.getLength());
+        out.endObject();
+    }
+
+    @Override
+    public ResourceFileUploadRequestModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        ResourceFileUploadRequestModel value = new ResourceFileUploadRequestModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "content":
+                    value.setContent(byteAdapter.read(in));
+                    break;
+                case "username":
+                    value.setUsername(stringAdapter.read(in));
+                    break;
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "resourceFileTypeId":
+                    value.setResourceFileTypeId(integerAdapter.read(in));
+                    break;
+                case "length":
+                    value.setLength(longAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
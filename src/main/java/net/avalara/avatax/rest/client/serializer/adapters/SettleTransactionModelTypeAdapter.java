@@ -0,0 +1,79 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes SettleTransactionModel without reflection.
+ */
+public class SettleTransactionModelTypeAdapter extends TypeAdapter<SettleTransactionModel> {
+    private final TypeAdapter<VerifyTransactionModel> verifyTransactionModelAdapter;
+    private final TypeAdapter<ChangeTransactionCodeModel> changeTransactionCodeModelAdapter;
+    private final TypeAdapter<CommitTransactionModel> commitTransactionModelAdapter;
+
+    public SettleTransactionModelTypeAdapter(Gson gson) {
+        this.verifyTransactionModelAdapter = gson.getAdapter(VerifyTransactionModel.class);
+        this.changeTransactionCodeModelAdapter = gson.getAdapter(ChangeTransactionCodeModel.class);
+        this.commitTransactionModelAdapter = gson.getAdapter(CommitTransactionModel.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, SettleTransactionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("verify");
+        verifyTransactionModelAdapter.write(out, value.getVerify());
+        out.name("changeCode");
+        changeTransactionCodeModelAdapter.write(out, value.getChangeCode());
+        out.name("commit");
+        commitTransactionModelAdapter.write(out, value.getCommit());
+        out.endObject();
+    }
+
+    @Override
+    public SettleTransactionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        SettleTransactionModel value = new SettleTransactionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "verify":
+                    value.setVerify(verifyTransactionModelAdapter.read(in));
+                    break;
+                case "changeCode":
+                    value.setChangeCode(changeTransactionCodeModelAdapter.read(in));
+                    break;
+                case "commit":
+                    value.setCommit(commitTransactionModelAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
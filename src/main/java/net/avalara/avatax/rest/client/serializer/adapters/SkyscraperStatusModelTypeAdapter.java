@@ -0,0 +1,108 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes SkyscraperStatusModel without reflection.
+ */
+public class SkyscraperStatusModelTypeAdapter extends TypeAdapter<SkyscraperStatusModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<ArrayList<String>> stringListAdapter;
+    private final TypeAdapter<ScraperType> scraperTypeAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<ArrayList<requiredFilingCalendarDataFieldModel>> requiredFilingCalendarDataFieldModelListAdapter;
+
+    public SkyscraperStatusModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.stringListAdapter = gson.getAdapter(new TypeToken<ArrayList<String>>(){});
+        this.scraperTypeAdapter = gson.getAdapter(ScraperType.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.requiredFilingCalendarDataFieldModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<requiredFilingCalendarDataFieldModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, SkyscraperStatusModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("name");
+        stringAdapter.write(out, value.getName());
+        out.name("taxFormCodes");
+        stringListAdapter.write(out, value.getTaxFormCodes());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("scraperType");
+        scraperTypeAdapter.write(out, value.getScraperType());
+        out.name("isAvailable");
+        booleanAdapter.write(out, value.getIsAvailable());
+        out.name("expectedResponseTime");
+        stringAdapter.write(out, value.getExpectedResponseTime());
+        out.name("message");
+        stringAdapter.write(out, value.getMessage());
+        out.name("requiredFilingCalendarDataFields");
+        requiredFilingCalendarDataFieldModelListAdapter.write(out, value.getRequiredFilingCalendarDataFields());
+        out.endObject();
+    }
+
+    @Override
+    public SkyscraperStatusModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        SkyscraperStatusModel value = new SkyscraperStatusModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "name":
+                    value.setName(stringAdapter.read(in));
+                    break;
+                case "taxFormCodes":
+                    value.setTaxFormCodes(stringListAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "scraperType":
+                    value.setScraperType(scraperTypeAdapter.read(in));
+                    break;
+                case "isAvailable":
+                    value.setIsAvailable(booleanAdapter.read(in));
+                    break;
+                case "expectedResponseTime":
+                    value.setExpectedResponseTime(stringAdapter.read(in));
+                    break;
+                case "message":
+                    value.setMessage(stringAdapter.read(in));
+                    break;
+                case "requiredFilingCalendarDataFields":
+                    value.setRequiredFilingCalendarDataFields(requiredFilingCalendarDataFieldModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
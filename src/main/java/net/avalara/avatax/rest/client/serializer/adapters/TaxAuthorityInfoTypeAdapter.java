@@ -0,0 +1,82 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes TaxAuthorityInfo without reflection.
+ */
+public class TaxAuthorityInfoTypeAdapter extends TypeAdapter<TaxAuthorityInfo> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<JurisdictionType> jurisdictionTypeAdapter;
+
+    public TaxAuthorityInfoTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.jurisdictionTypeAdapter = gson.getAdapter(JurisdictionType.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, TaxAuthorityInfo value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("avalaraId");
+        stringAdapter.write(out, value.getAvalaraId());
+        out.name("jurisdictionName");
+        stringAdapter.write(out, value.getJurisdictionName());
+        out.name("jurisdictionType");
+        jurisdictionTypeAdapter.write(out, value.getJurisdictionType());
+        out.name("signatureCode");
+        stringAdapter.write(out, value.getSignatureCode());
+        out.endObject();
+    }
+
+    @Override
+    public TaxAuthorityInfo read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        TaxAuthorityInfo value = new TaxAuthorityInfo();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "avalaraId":
+                    value.setAvalaraId(stringAdapter.read(in));
+                    break;
+                case "jurisdictionName":
+                    value.setJurisdictionName(stringAdapter.read(in));
+                    break;
+                case "jurisdictionType":
+                    value.setJurisdictionType(jurisdictionTypeAdapter.read(in));
+                    break;
+                case "signatureCode":
+                    value.setSignatureCode(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,143 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes TaxCodeModel without reflection.
+ */
+public class TaxCodeModelTypeAdapter extends TypeAdapter<TaxCodeModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public TaxCodeModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, TaxCodeModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("taxCode");
+        stringAdapter.write(out, value.getTaxCode());
+        out.name("taxCodeTypeId");
+        stringAdapter.write(out, value.getTaxCodeTypeId());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("parentTaxCode");
+        stringAdapter.write(out, value.getParentTaxCode());
+        out.name("isPhysical");
+        booleanAdapter.write(out, value.getIsPhysical());
+        out.name("goodsServiceCode");
+        longAdapter.write(out, value.getGoodsServiceCode());
+        out.name("entityUseCode");
+        stringAdapter.write(out, value.getEntityUseCode());
+        out.name("isActive");
+        booleanAdapter.write(out, value.getIsActive());
+        out.name("isSSTCertified");
+        booleanAdapter.write(out, value.getIsSSTCertified());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.endObject();
+    }
+
+    @Override
+    public TaxCodeModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        TaxCodeModel value = new TaxCodeModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "taxCode":
+                    value.setTaxCode(stringAdapter.read(in));
+                    break;
+                case "taxCodeTypeId":
+                    value.setTaxCodeTypeId(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "parentTaxCode":
+                    value.setParentTaxCode(stringAdapter.read(in));
+                    break;
+                case "isPhysical":
+                    value.setIsPhysical(booleanAdapter.read(in));
+                    break;
+                case "goodsServiceCode":
+                    value.setGoodsServiceCode(longAdapter.read(in));
+                    break;
+                case "entityUseCode":
+                    value.setEntityUseCode(stringAdapter.read(in));
+                    break;
+                case "isActive":
+                    value.setIsActive(booleanAdapter.read(in));
+                    break;
+                case "isSSTCertified":
+                    value.setIsSSTCertified(booleanAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
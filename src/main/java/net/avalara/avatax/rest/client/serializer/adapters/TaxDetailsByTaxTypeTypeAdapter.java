@@ -0,0 +1,87 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes TaxDetailsByTaxType without reflection.
+ */
+public class TaxDetailsByTaxTypeTypeAdapter extends TypeAdapter<TaxDetailsByTaxType> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+
+    public TaxDetailsByTaxTypeTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, TaxDetailsByTaxType value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("taxType");
+        stringAdapter.write(out, value.getTaxType());
+        out.name("totalTaxable");
+        bigDecimalAdapter.write(out, value.getTotalTaxable());
+        out.name("totalExempt");
+        bigDecimalAdapter.write(out, value.getTotalExempt());
+        out.name("totalNonTaxable");
+        bigDecimalAdapter.write(out, value.getTotalNonTaxable());
+        out.name("totalTax");
+        bigDecimalAdapter.write(out, value.getTotalTax());
+        out.endObject();
+    }
+
+    @Override
+    public TaxDetailsByTaxType read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        TaxDetailsByTaxType value = new TaxDetailsByTaxType();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "taxType":
+                    value.setTaxType(stringAdapter.read(in));
+                    break;
+                case "totalTaxable":
+                    value.setTotalTaxable(bigDecimalAdapter.read(in));
+                    break;
+                case "totalExempt":
+                    value.setTotalExempt(bigDecimalAdapter.read(in));
+                    break;
+                case "totalNonTaxable":
+                    value.setTotalNonTaxable(bigDecimalAdapter.read(in));
+                    break;
+                case "totalTax":
+                    value.setTotalTax(bigDecimalAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,86 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes TaxOverrideModel without reflection.
+ */
+public class TaxOverrideModelTypeAdapter extends TypeAdapter<TaxOverrideModel> {
+    private final TypeAdapter<TaxOverrideType> taxOverrideTypeAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    public TaxOverrideModelTypeAdapter(Gson gson) {
+        this.taxOverrideTypeAdapter = gson.getAdapter(TaxOverrideType.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, TaxOverrideModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("type");
+        taxOverrideTypeAdapter.write(out, value.getType());
+        out.name("taxAmount");
+        bigDecimalAdapter.write(out, value.getTaxAmount());
+        out.name("taxDate");
+        dateAdapter.write(out, value.getTaxDate());
+        out.name("reason");
+        stringAdapter.write(out, value.getReason());
+        out.endObject();
+    }
+
+    @Override
+    public TaxOverrideModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        TaxOverrideModel value = new TaxOverrideModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "type":
+                    value.setType(taxOverrideTypeAdapter.read(in));
+                    break;
+                case "taxAmount":
+                    value.setTaxAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxDate":
+                    value.setTaxDate(dateAdapter.read(in));
+                    break;
+                case "reason":
+                    value.setReason(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
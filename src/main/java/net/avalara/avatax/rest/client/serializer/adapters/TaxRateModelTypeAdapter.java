@@ -0,0 +1,72 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes TaxRateModel without reflection.
+ */
+public class TaxRateModelTypeAdapter extends TypeAdapter<TaxRateModel> {
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<ArrayList<RateModel>> rateModelListAdapter;
+
+    public TaxRateModelTypeAdapter(Gson gson) {
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.rateModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<RateModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, TaxRateModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("totalRate");
+        bigDecimalAdapter.write(out, value.getTotalRate());
+        out.name("rates");
+        rateModelListAdapter.write(out, value.getRates());
+        out.endObject();
+    }
+
+    @Override
+    public TaxRateModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        TaxRateModel value = new TaxRateModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "totalRate":
+                    value.setTotalRate(bigDecimalAdapter.read(in));
+                    break;
+                case "rates":
+                    value.setRates(rateModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
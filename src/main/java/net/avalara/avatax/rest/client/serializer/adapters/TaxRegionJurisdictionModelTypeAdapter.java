@@ -0,0 +1,114 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes TaxRegionJurisdictionModel without reflection.
+ */
+public class TaxRegionJurisdictionModelTypeAdapter extends TypeAdapter<TaxRegionJurisdictionModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public TaxRegionJurisdictionModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, TaxRegionJurisdictionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("jurisdictionId");
+        integerAdapter.write(out, value.getJurisdictionId());
+        out.name("taxRegionId");
+        integerAdapter.write(out, value.getTaxRegionId());
+        out.name("jurisdictionLevelId");
+        integerAdapter.write(out, value.getJurisdictionLevelId());
+        out.name("rockName");
+        stringAdapter.write(out, value.getRockName());
+        out.name("reportLevel");
+        integerAdapter.write(out, value.getReportLevel());
+        out.name("stateAssignedCode");
+        stringAdapter.write(out, value.getStateAssignedCode());
+        out.name("taxAuthorityId");
+        integerAdapter.write(out, value.getTaxAuthorityId());
+        out.name("signatureCode");
+        stringAdapter.write(out, value.getSignatureCode());
+        out.name("effectiveDate");
+        dateAdapter.write(out, value.getEffectiveDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.endObject();
+    }
+
+    @Override
+    public TaxRegionJurisdictionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        TaxRegionJurisdictionModel value = new TaxRegionJurisdictionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "jurisdictionId":
+                    value.setJurisdictionId(integerAdapter.read(in));
+                    break;
+                case "taxRegionId":
+                    value.setTaxRegionId(integerAdapter.read(in));
+                    break;
+                case "jurisdictionLevelId":
+                    value.setJurisdictionLevelId(integerAdapter.read(in));
+                    break;
+                case "rockName":
+                    value.setRockName(stringAdapter.read(in));
+                    break;
+                case "reportLevel":
+                    value.setReportLevel(integerAdapter.read(in));
+                    break;
+                case "stateAssignedCode":
+                    value.setStateAssignedCode(stringAdapter.read(in));
+                    break;
+                case "taxAuthorityId":
+                    value.setTaxAuthorityId(integerAdapter.read(in));
+                    break;
+                case "signatureCode":
+                    value.setSignatureCode(stringAdapter.read(in));
+                    break;
+                case "effectiveDate":
+                    value.setEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,270 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes TaxRuleModel without reflection.
+ */
+public class TaxRuleModelTypeAdapter extends TypeAdapter<TaxRuleModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<JurisTypeId> jurisTypeIdAdapter;
+    private final TypeAdapter<JurisdictionType> jurisdictionTypeAdapter;
+    private final TypeAdapter<MatchingTaxType> matchingTaxTypeAdapter;
+    private final TypeAdapter<RateType> rateTypeAdapter;
+    private final TypeAdapter<TaxRuleTypeId> taxRuleTypeIdAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<Sourcing> sourcingAdapter;
+
+    public TaxRuleModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.jurisTypeIdAdapter = gson.getAdapter(JurisTypeId.class);
+        this.jurisdictionTypeAdapter = gson.getAdapter(JurisdictionType.class);
+        this.matchingTaxTypeAdapter = gson.getAdapter(MatchingTaxType.class);
+        this.rateTypeAdapter = gson.getAdapter(RateType.class);
+        this.taxRuleTypeIdAdapter = gson.getAdapter(TaxRuleTypeId.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.sourcingAdapter = gson.getAdapter(Sourcing.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, TaxRuleModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("taxCodeId");
+        integerAdapter.write(out, value.getTaxCodeId());
+        out.name("taxCode");
+        stringAdapter.write(out, value.getTaxCode());
+        out.name("stateFIPS");
+        stringAdapter.write(out, value.getStateFIPS());
+        out.name("jurisName");
+        stringAdapter.write(out, value.getJurisName());
+        out.name("jurisCode");
+        stringAdapter.write(out, value.getJurisCode());
+        out.name("jurisTypeId");
+        jurisTypeIdAdapter.write(out, value.getJurisTypeId());
+        out.name("jurisdictionTypeId");
+        jurisdictionTypeAdapter.write(out, value.getJurisdictionTypeId());
+        out.name("customerUsageType");
+        stringAdapter.write(out, value.getCustomerUsageType());
+        out.name("entityUseCode");
+        stringAdapter.write(out, value.getEntityUseCode());
+        out.name("taxTypeId");
+        matchingTaxTypeAdapter.write(out, value.getTaxTypeId());
+        out.name("rateTypeId");
+        rateTypeAdapter.write(out, value.getRateTypeId());
+        out.name("rateTypeCode");
+        stringAdapter.write(out, value.getRateTypeCode());
+        out.name("taxRuleTypeId");
+        taxRuleTypeIdAdapter.write(out, value.getTaxRuleTypeId());
+        out.name("isAllJuris");
+        booleanAdapter.write(out, value.getIsAllJuris());
+        out.name("value");
+        bigDecimalAdapter.write(out, value.getValue());
+        out.name("cap");
+        bigDecimalAdapter.write(out, value.getCap());
+        out.name("threshold");
+        bigDecimalAdapter.write(out, value.getThreshold());
+        out.name("options");
+        stringAdapter.write(out, value.getOptions());
+        out.name("effectiveDate");
+        dateAdapter.write(out, value.getEffectiveDate());
+        out.name("endDate");
+        dateAdapter.write(out, value.getEndDate());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("countyFIPS");
+        stringAdapter.write(out, value.getCountyFIPS());
+        out.name("isSTPro");
+        booleanAdapter.write(out, value.getIsSTPro());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("sourcing");
+        sourcingAdapter.write(out, value.getSourcing());
+        out.name("taxTypeGroup");
+        stringAdapter.write(out, value.getTaxTypeGroup());
+        out.name("taxSubType");
+        stringAdapter.write(out, value.getTaxSubType());
+        out.name("nonPassthroughExpression");
+        stringAdapter.write(out, value.getNonPassthroughExpression());
+        out.name("currencyCode");
+        stringAdapter.write(out, value.getCurrencyCode());
+        out.name("preferredProgramId");
+        integerAdapter.write(out, value.getPreferredProgramId());
+        out.name("uomId");
+        integerAdapter.write(out, value.getUomId());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.endObject();
+    }
+
+    @Override
+    public TaxRuleModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        TaxRuleModel value = new TaxRuleModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "taxCodeId":
+                    value.setTaxCodeId(integerAdapter.read(in));
+                    break;
+                case "taxCode":
+                    value.setTaxCode(stringAdapter.read(in));
+                    break;
+                case "stateFIPS":
+                    value.setStateFIPS(stringAdapter.read(in));
+                    break;
+                case "jurisName":
+                    value.setJurisName(stringAdapter.read(in));
+                    break;
+                case "jurisCode":
+                    value.setJurisCode(stringAdapter.read(in));
+                    break;
+                case "jurisTypeId":
+                    value.setJurisTypeId(jurisTypeIdAdapter.read(in));
+                    break;
+                case "jurisdictionTypeId":
+                    value.setJurisdictionTypeId(jurisdictionTypeAdapter.read(in));
+                    break;
+                case "customerUsageType":
+                    value.setCustomerUsageType(stringAdapter.read(in));
+                    break;
+                case "entityUseCode":
+                    value.setEntityUseCode(stringAdapter.read(in));
+                    break;
+                case "taxTypeId":
+                    value.setTaxTypeId(matchingTaxTypeAdapter.read(in));
+                    break;
+                case "rateTypeId":
+                    value.setRateTypeId(rateTypeAdapter.read(in));
+                    break;
+                case "rateTypeCode":
+                    value.setRateTypeCode(stringAdapter.read(in));
+                    break;
+                case "taxRuleTypeId":
+                    value.setTaxRuleTypeId(taxRuleTypeIdAdapter.read(in));
+                    break;
+                case "isAllJuris":
+                    value.setIsAllJuris(booleanAdapter.read(in));
+                    break;
+                case "value":
+                    value.setValue(bigDecimalAdapter.read(in));
+                    break;
+                case "cap":
+                    value.setCap(bigDecimalAdapter.read(in));
+                    break;
+                case "threshold":
+                    value.setThreshold(bigDecimalAdapter.read(in));
+                    break;
+                case "options":
+                    value.setOptions(stringAdapter.read(in));
+                    break;
+                case "effectiveDate":
+                    value.setEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "endDate":
+                    value.setEndDate(dateAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "countyFIPS":
+                    value.setCountyFIPS(stringAdapter.read(in));
+                    break;
+                case "isSTPro":
+                    value.setIsSTPro(booleanAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "sourcing":
+                    value.setSourcing(sourcingAdapter.read(in));
+                    break;
+                case "taxTypeGroup":
+                    value.setTaxTypeGroup(stringAdapter.read(in));
+                    break;
+                case "taxSubType":
+                    value.setTaxSubType(stringAdapter.read(in));
+                    break;
+                case "nonPassthroughExpression":
+                    value.setNonPassthroughExpression(stringAdapter.read(in));
+                    break;
+                case "currencyCode":
+                    value.setCurrencyCode(stringAdapter.read(in));
+                    break;
+                case "preferredProgramId":
+                    value.setPreferredProgramId(integerAdapter.read(in));
+                    break;
+                case "uomId":
+                    value.setUomId(integerAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,104 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes TaxTypeGroupModel without reflection.
+ */
+public class TaxTypeGroupModelTypeAdapter extends TypeAdapter<TaxTypeGroupModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public TaxTypeGroupModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, TaxTypeGroupModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("taxTypeGroup");
+        stringAdapter.write(out, value.getTaxTypeGroup());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("subscriptionTypeId");
+        integerAdapter.write(out, value.getSubscriptionTypeId());
+        out.name("subscriptionDescription");
+        stringAdapter.write(out, value.getSubscriptionDescription());
+        out.name("tabName");
+        stringAdapter.write(out, value.getTabName());
+        out.name("showColumn");
+        booleanAdapter.write(out, value.getShowColumn());
+        out.name("displaySequence");
+        integerAdapter.write(out, value.getDisplaySequence());
+        out.endObject();
+    }
+
+    @Override
+    public TaxTypeGroupModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        TaxTypeGroupModel value = new TaxTypeGroupModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "taxTypeGroup":
+                    value.setTaxTypeGroup(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "subscriptionTypeId":
+                    value.setSubscriptionTypeId(integerAdapter.read(in));
+                    break;
+                case "subscriptionDescription":
+                    value.setSubscriptionDescription(stringAdapter.read(in));
+                    break;
+                case "tabName":
+                    value.setTabName(stringAdapter.read(in));
+                    break;
+                case "showColumn":
+                    value.setShowColumn(booleanAdapter.read(in));
+                    break;
+                case "displaySequence":
+                    value.setDisplaySequence(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,295 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes TransactionLineDetailModel without reflection.
+ */
+public class TransactionLineDetailModelTypeAdapter extends TypeAdapter<TransactionLineDetailModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<JurisTypeId> jurisTypeIdAdapter;
+    private final TypeAdapter<JurisdictionType> jurisdictionTypeAdapter;
+    private final TypeAdapter<TaxRuleTypeId> taxRuleTypeIdAdapter;
+    private final TypeAdapter<Sourcing> sourcingAdapter;
+    private final TypeAdapter<TaxType> taxTypeAdapter;
+    private final TypeAdapter<RateType> rateTypeAdapter;
+
+    public TransactionLineDetailModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.jurisTypeIdAdapter = gson.getAdapter(JurisTypeId.class);
+        this.jurisdictionTypeAdapter = gson.getAdapter(JurisdictionType.class);
+        this.taxRuleTypeIdAdapter = gson.getAdapter(TaxRuleTypeId.class);
+        this.sourcingAdapter = gson.getAdapter(Sourcing.class);
+        this.taxTypeAdapter = gson.getAdapter(TaxType.class);
+        this.rateTypeAdapter = gson.getAdapter(RateType.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, TransactionLineDetailModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("transactionLineId");
+        longAdapter.write(out, value.getTransactionLineId());
+        out.name("transactionId");
+        longAdapter.write(out, value.getTransactionId());
+        out.name("addressId");
+        longAdapter.write(out, value.getAddressId());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("countyFIPS");
+        stringAdapter.write(out, value.getCountyFIPS());
+        out.name("stateFIPS");
+        stringAdapter.write(out, value.getStateFIPS());
+        out.name("exemptAmount");
+        bigDecimalAdapter.write(out, value.getExemptAmount());
+        out.name("exemptReasonId");
+        integerAdapter.write(out, value.getExemptReasonId());
+        out.name("inState");
+        booleanAdapter.write(out, value.getInState());
+        out.name("jurisCode");
+        stringAdapter.write(out, value.getJurisCode());
+        out.name("jurisName");
+        stringAdapter.write(out, value.getJurisName());
+        out.name("jurisdictionId");
+        integerAdapter.write(out, value.getJurisdictionId());
+        out.name("signatureCode");
+        stringAdapter.write(out, value.getSignatureCode());
+        out.name("stateAssignedNo");
+        stringAdapter.write(out, value.getStateAssignedNo());
+        out.name("jurisType");
+        jurisTypeIdAdapter.write(out, value.getJurisType());
+        out.name("jurisdictionType");
+        jurisdictionTypeAdapter.write(out, value.getJurisdictionType());
+        out.name("nonTaxableAmount");
+        bigDecimalAdapter.write(out, value.getNonTaxableAmount());
+        out.name("nonTaxableRuleId");
+        integerAdapter.write(out, value.getNonTaxableRuleId());
+        out.name("nonTaxableType");
+        taxRuleTypeIdAdapter.write(out, value.getNonTaxableType());
+        out.name("rate");
+        bigDecimalAdapter.write(out, value.getRate());
+        out.name("rateRuleId");
+        integerAdapter.write(out, value.getRateRuleId());
+        out.name("rateSourceId");
+        integerAdapter.write(out, value.getRateSourceId());
+        out.name("serCode");
+        stringAdapter.write(out, value.getSerCode());
+        out.name("sourcing");
+        sourcingAdapter.write(out, value.getSourcing());
+        out.name("tax");
+        bigDecimalAdapter.write(out, value.getTax());
+        out.name("taxableAmount");
+        bigDecimalAdapter.write(out, value.getTaxableAmount());
+        out.name("taxType");
+        taxTypeAdapter.write(out, value.getTaxType());
+        out.name("taxSubTypeId");
+        stringAdapter.write(out, value.getTaxSubTypeId());
+        out.name("taxTypeGroupId");
+        stringAdapter.write(out, value.getTaxTypeGroupId());
+        out.name("taxName");
+        stringAdapter.write(out, value.getTaxName());
+        out.name("taxAuthorityTypeId");
+        integerAdapter.write(out, value.getTaxAuthorityTypeId());
+        out.name("taxRegionId");
+        integerAdapter.write(out, value.getTaxRegionId());
+        out.name("taxCalculated");
+        bigDecimalAdapter.write(out, value.getTaxCalculated());
+        out.name("taxOverride");
+        bigDecimalAdapter.write(out, value.getTaxOverride());
+        out.name("rateType");
+        rateTypeAdapter.write(out, value.getRateType());
+        out.name("rateTypeCode");
+        stringAdapter.write(out, value.getRateTypeCode());
+        out.name("taxableUnits");
+        bigDecimalAdapter.write(out, value.getTaxableUnits());
+        out.name("nonTaxableUnits");
+        bigDecimalAdapter.write(out, value.getNonTaxableUnits());
+        out.name("exemptUnits");
+        bigDecimalAdapter.write(out, value.getExemptUnits());
+        out.name("unitOfBasis");
+        stringAdapter.write(out, value.getUnitOfBasis());
+        out.name("isNonPassThru");
+        booleanAdapter.write(out, value.getIsNonPassThru());
+        out.endObject();
+    }
+
+    @Override
+    public TransactionLineDetailModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        TransactionLineDetailModel value = new TransactionLineDetailModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "transactionLineId":
+                    value.setTransactionLineId(longAdapter.read(in));
+                    break;
+                case "transactionId":
+                    value.setTransactionId(longAdapter.read(in));
+                    break;
+                case "addressId":
+                    value.setAddressId(longAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "countyFIPS":
+                    value.setCountyFIPS(stringAdapter.read(in));
+                    break;
+                case "stateFIPS":
+                    value.setStateFIPS(stringAdapter.read(in));
+                    break;
+                case "exemptAmount":
+                    value.setExemptAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "exemptReasonId":
+                    value.setExemptReasonId(integerAdapter.read(in));
+                    break;
+                case "inState":
+                    value.setInState(booleanAdapter.read(in));
+                    break;
+                case "jurisCode":
+                    value.setJurisCode(stringAdapter.read(in));
+                    break;
+                case "jurisName":
+                    value.setJurisName(stringAdapter.read(in));
+                    break;
+                case "jurisdictionId":
+                    value.setJurisdictionId(integerAdapter.read(in));
+                    break;
+                case "signatureCode":
+                    value.setSignatureCode(stringAdapter.read(in));
+                    break;
+                case "stateAssignedNo":
+                    value.setStateAssignedNo(stringAdapter.read(in));
+                    break;
+                case "jurisType":
+                    value.setJurisType(jurisTypeIdAdapter.read(in));
+                    break;
+                case "jurisdictionType":
+                    value.setJurisdictionType(jurisdictionTypeAdapter.read(in));
+                    break;
+                case "nonTaxableAmount":
+                    value.setNonTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "nonTaxableRuleId":
+                    value.setNonTaxableRuleId(integerAdapter.read(in));
+                    break;
+                case "nonTaxableType":
+                    value.setNonTaxableType(taxRuleTypeIdAdapter.read(in));
+                    break;
+                case "rate":
+                    value.setRate(bigDecimalAdapter.read(in));
+                    break;
+                case "rateRuleId":
+                    value.setRateRuleId(integerAdapter.read(in));
+                    break;
+                case "rateSourceId":
+                    value.setRateSourceId(integerAdapter.read(in));
+                    break;
+                case "serCode":
+                    value.setSerCode(stringAdapter.read(in));
+                    break;
+                case "sourcing":
+                    value.setSourcing(sourcingAdapter.read(in));
+                    break;
+                case "tax":
+                    value.setTax(bigDecimalAdapter.read(in));
+                    break;
+                case "taxableAmount":
+                    value.setTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxType":
+                    value.setTaxType(taxTypeAdapter.read(in));
+                    break;
+                case "taxSubTypeId":
+                    value.setTaxSubTypeId(stringAdapter.read(in));
+                    break;
+                case "taxTypeGroupId":
+                    value.setTaxTypeGroupId(stringAdapter.read(in));
+                    break;
+                case "taxName":
+                    value.setTaxName(stringAdapter.read(in));
+                    break;
+                case "taxAuthorityTypeId":
+                    value.setTaxAuthorityTypeId(integerAdapter.read(in));
+                    break;
+                case "taxRegionId":
+                    value.setTaxRegionId(integerAdapter.read(in));
+                    break;
+                case "taxCalculated":
+                    value.setTaxCalculated(bigDecimalAdapter.read(in));
+                    break;
+                case "taxOverride":
+                    value.setTaxOverride(bigDecimalAdapter.read(in));
+                    break;
+                case "rateType":
+                    value.setRateType(rateTypeAdapter.read(in));
+                    break;
+                case "rateTypeCode":
+                    value.setRateTypeCode(stringAdapter.read(in));
+                    break;
+                case "taxableUnits":
+                    value.setTaxableUnits(bigDecimalAdapter.read(in));
+                    break;
+                case "nonTaxableUnits":
+                    value.setNonTaxableUnits(bigDecimalAdapter.read(in));
+                    break;
+                case "exemptUnits":
+                    value.setExemptUnits(bigDecimalAdapter.read(in));
+                    break;
+                case "unitOfBasis":
+                    value.setUnitOfBasis(stringAdapter.read(in));
+                    break;
+                case "isNonPassThru":
+                    value.setIsNonPassThru(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
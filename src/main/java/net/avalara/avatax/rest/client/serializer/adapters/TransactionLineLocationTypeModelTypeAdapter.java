@@ -0,0 +1,82 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes TransactionLineLocationTypeModel without reflection.
+ */
+public class TransactionLineLocationTypeModelTypeAdapter extends TypeAdapter<TransactionLineLocationTypeModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    public TransactionLineLocationTypeModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, TransactionLineLocationTypeModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("documentLineLocationTypeId");
+        longAdapter.write(out, value.getDocumentLineLocationTypeId());
+        out.name("documentLineId");
+        longAdapter.write(out, value.getDocumentLineId());
+        out.name("documentAddressId");
+        longAdapter.write(out, value.getDocumentAddressId());
+        out.name("locationTypeCode");
+        stringAdapter.write(out, value.getLocationTypeCode());
+        out.endObject();
+    }
+
+    @Override
+    public TransactionLineLocationTypeModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        TransactionLineLocationTypeModel value = new TransactionLineLocationTypeModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "documentLineLocationTypeId":
+                    value.setDocumentLineLocationTypeId(longAdapter.read(in));
+                    break;
+                case "documentLineId":
+                    value.setDocumentLineId(longAdapter.read(in));
+                    break;
+                case "documentAddressId":
+                    value.setDocumentAddressId(longAdapter.read(in));
+                    break;
+                case "locationTypeCode":
+                    value.setLocationTypeCode(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,305 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes TransactionLineModel without reflection.
+ */
+public class TransactionLineModelTypeAdapter extends TypeAdapter<TransactionLineModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<Sourcing> sourcingAdapter;
+    private final TypeAdapter<TaxOverrideType> taxOverrideTypeAdapter;
+    private final TypeAdapter<ArrayList<TransactionLineDetailModel>> transactionLineDetailModelListAdapter;
+    private final TypeAdapter<ArrayList<TransactionLineLocationTypeModel>> transactionLineLocationTypeModelListAdapter;
+    private final TypeAdapter<HashMap<String, String>> stringStringMapAdapter;
+
+    public TransactionLineModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.sourcingAdapter = gson.getAdapter(Sourcing.class);
+        this.taxOverrideTypeAdapter = gson.getAdapter(TaxOverrideType.class);
+        this.transactionLineDetailModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<TransactionLineDetailModel>>(){});
+        this.transactionLineLocationTypeModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<TransactionLineLocationTypeModel>>(){});
+        this.stringStringMapAdapter = gson.getAdapter(new TypeToken<HashMap<String, String>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, TransactionLineModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("transactionId");
+        longAdapter.write(out, value.getTransactionId());
+        out.name("lineNumber");
+        stringAdapter.write(out, value.getLineNumber());
+        out.name("boundaryOverrideId");
+        integerAdapter.write(out, value.getBoundaryOverrideId());
+        out.name("customerUsageType");
+        stringAdapter.write(out, value.getCustomerUsageType());
+        out.name("entityUseCode");
+        stringAdapter.write(out, value.getEntityUseCode());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("destinationAddressId");
+        longAdapter.write(out, value.getDestinationAddressId());
+        out.name("originAddressId");
+        longAdapter.write(out, value.getOriginAddressId());
+        out.name("discountAmount");
+        bigDecimalAdapter.write(out, value.getDiscountAmount());
+        out.name("discountTypeId");
+        integerAdapter.write(out, value.getDiscountTypeId());
+        out.name("exemptAmount");
+        bigDecimalAdapter.write(out, value.getExemptAmount());
+        out.name("exemptCertId");
+        integerAdapter.write(out, value.getExemptCertId());
+        out.name("certificateId");
+        stringAdapter.write(out, value.getCertificateId());
+        out.name("exemptNo");
+        stringAdapter.write(out, value.getExemptNo());
+        out.name("isItemTaxable");
+        booleanAdapter.write(out, value.getIsItemTaxable());
+        out.name("isSSTP");
+        booleanAdapter.write(out, value.getIsSSTP());
+        out.name("itemCode");
+        stringAdapter.write(out, value.getItemCode());
+        out.name("lineAmount");
+        bigDecimalAdapter.write(out, value.getLineAmount());
+        out.name("quantity");
+        bigDecimalAdapter.write(out, value.getQuantity());
+        out.name("ref1");
+        stringAdapter.write(out, value.getRef1());
+        out.name("ref2");
+        stringAdapter.write(out, value.getRef2());
+        out.name("reportingDate");
+        dateAdapter.write(out, value.getReportingDate());
+        out.name("revAccount");
+        stringAdapter.write(out, value.getRevAccount());
+        out.name("sourcing");
+        sourcingAdapter.write(out, value.getSourcing());
+        out.name("tax");
+        bigDecimalAdapter.write(out, value.getTax());
+        out.name("taxableAmount");
+        bigDecimalAdapter.write(out, value.getTaxableAmount());
+        out.name("taxCalculated");
+        bigDecimalAdapter.write(out, value.getTaxCalculated());
+        out.name("taxCode");
+        stringAdapter.write(out, value.getTaxCode());
+        out.name("taxCodeId");
+        integerAdapter.write(out, value.getTaxCodeId());
+        out.name("taxDate");
+        dateAdapter.write(out, value.getTaxDate());
+        out.name("taxEngine");
+        stringAdapter.write(out, value.getTaxEngine());
+        out.name("taxOverrideType");
+        taxOverrideTypeAdapter.write(out, value.getTaxOverrideType());
+        out.name("businessIdentificationNo");
+        stringAdapter.write(out, value.getBusinessIdentificationNo());
+        out.name("taxOverrideAmount");
+        bigDecimalAdapter.write(out, value.getTaxOverrideAmount());
+        out.name("taxOverrideReason");
+        stringAdapter.write(out, value.getTaxOverrideReason());
+        out.name("taxIncluded");
+        booleanAdapter.write(out, value.getTaxIncluded());
+        out.name("details");
+        transactionLineDetailModelListAdapter.write(out, value.getDetails());
+        out.name("nonPassthroughDetails");
+        transactionLineDetailModelListAdapter.write(out, value.getNonPassthroughDetails());
+        out.name("lineLocationTypes");
+        transactionLineLocationTypeModelListAdapter.write(out, value.getLineLocationTypes());
+        out.name("parameters");
+        stringStringMapAdapter.write(out, value.getParameters());
+        out.name("hsCode");
+        stringAdapter.write(out, value.getHsCode());
+        out.name("costInsuranceFreight");
+        bigDecimalAdapter.write(out, value.getCostInsuranceFreight());
+        out.name("vatCode");
+        stringAdapter.write(out, value.getVatCode());
+        out.name("vatNumberTypeId");
+        integerAdapter.write(out, value.getVatNumberTypeId());
+        out.endObject();
+    }
+
+    @Override
+    public TransactionLineModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        TransactionLineModel value = new TransactionLineModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "transactionId":
+                    value.setTransactionId(longAdapter.read(in));
+                    break;
+                case "lineNumber":
+                    value.setLineNumber(stringAdapter.read(in));
+                    break;
+                case "boundaryOverrideId":
+                    value.setBoundaryOverrideId(integerAdapter.read(in));
+                    break;
+                case "customerUsageType":
+                    value.setCustomerUsageType(stringAdapter.read(in));
+                    break;
+                case "entityUseCode":
+                    value.setEntityUseCode(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "destinationAddressId":
+                    value.setDestinationAddressId(longAdapter.read(in));
+                    break;
+                case "originAddressId":
+                    value.setOriginAddressId(longAdapter.read(in));
+                    break;
+                case "discountAmount":
+                    value.setDiscountAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "discountTypeId":
+                    value.setDiscountTypeId(integerAdapter.read(in));
+                    break;
+                case "exemptAmount":
+                    value.setExemptAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "exemptCertId":
+                    value.setExemptCertId(integerAdapter.read(in));
+                    break;
+                case "certificateId":
+                    value.setCertificateId(stringAdapter.read(in));
+                    break;
+                case "exemptNo":
+                    value.setExemptNo(stringAdapter.read(in));
+                    break;
+                case "isItemTaxable":
+                    value.setIsItemTaxable(booleanAdapter.read(in));
+                    break;
+                case "isSSTP":
+                    value.setIsSSTP(booleanAdapter.read(in));
+                    break;
+                case "itemCode":
+                    value.setItemCode(stringAdapter.read(in));
+                    break;
+                case "lineAmount":
+                    value.setLineAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "quantity":
+                    value.setQuantity(bigDecimalAdapter.read(in));
+                    break;
+                case "ref1":
+                    value.setRef1(stringAdapter.read(in));
+                    break;
+                case "ref2":
+                    value.setRef2(stringAdapter.read(in));
+                    break;
+                case "reportingDate":
+                    value.setReportingDate(dateAdapter.read(in));
+                    break;
+                case "revAccount":
+                    value.setRevAccount(stringAdapter.read(in));
+                    break;
+                case "sourcing":
+                    value.setSourcing(sourcingAdapter.read(in));
+                    break;
+                case "tax":
+                    value.setTax(bigDecimalAdapter.read(in));
+                    break;
+                case "taxableAmount":
+                    value.setTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxCalculated":
+                    value.setTaxCalculated(bigDecimalAdapter.read(in));
+                    break;
+                case "taxCode":
+                    value.setTaxCode(stringAdapter.read(in));
+                    break;
+                case "taxCodeId":
+                    value.setTaxCodeId(integerAdapter.read(in));
+                    break;
+                case "taxDate":
+                    value.setTaxDate(dateAdapter.read(in));
+                    break;
+                case "taxEngine":
+                    value.setTaxEngine(stringAdapter.read(in));
+                    break;
+                case "taxOverrideType":
+                    value.setTaxOverrideType(taxOverrideTypeAdapter.read(in));
+                    break;
+                case "businessIdentificationNo":
+                    value.setBusinessIdentificationNo(stringAdapter.read(in));
+                    break;
+                case "taxOverrideAmount":
+                    value.setTaxOverrideAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxOverrideReason":
+                    value.setTaxOverrideReason(stringAdapter.read(in));
+                    break;
+                case "taxIncluded":
+                    value.setTaxIncluded(booleanAdapter.read(in));
+                    break;
+                case "details":
+                    value.setDetails(transactionLineDetailModelListAdapter.read(in));
+                    break;
+                case "nonPassthroughDetails":
+                    value.setNonPassthroughDetails(transactionLineDetailModelListAdapter.read(in));
+                    break;
+                case "lineLocationTypes":
+                    value.setLineLocationTypes(transactionLineLocationTypeModelListAdapter.read(in));
+                    break;
+                case "parameters":
+                    value.setParameters(stringStringMapAdapter.read(in));
+                    break;
+                case "hsCode":
+                    value.setHsCode(stringAdapter.read(in));
+                    break;
+                case "costInsuranceFreight":
+                    value.setCostInsuranceFreight(bigDecimalAdapter.read(in));
+                    break;
+                case "vatCode":
+                    value.setVatCode(stringAdapter.read(in));
+                    break;
+                case "vatNumberTypeId":
+                    value.setVatNumberTypeId(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
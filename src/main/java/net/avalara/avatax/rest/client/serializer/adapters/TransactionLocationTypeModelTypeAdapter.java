@@ -0,0 +1,82 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes TransactionLocationTypeModel without reflection.
+ */
+public class TransactionLocationTypeModelTypeAdapter extends TypeAdapter<TransactionLocationTypeModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<String> stringAdapter;
+
+    public TransactionLocationTypeModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, TransactionLocationTypeModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("documentLocationTypeId");
+        longAdapter.write(out, value.getDocumentLocationTypeId());
+        out.name("documentId");
+        longAdapter.write(out, value.getDocumentId());
+        out.name("documentAddressId");
+        longAdapter.write(out, value.getDocumentAddressId());
+        out.name("locationTypeCode");
+        stringAdapter.write(out, value.getLocationTypeCode());
+        out.endObject();
+    }
+
+    @Override
+    public TransactionLocationTypeModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        TransactionLocationTypeModel value = new TransactionLocationTypeModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "documentLocationTypeId":
+                    value.setDocumentLocationTypeId(longAdapter.read(in));
+                    break;
+                case "documentId":
+                    value.setDocumentId(longAdapter.read(in));
+                    break;
+                case "documentAddressId":
+                    value.setDocumentAddressId(longAdapter.read(in));
+                    break;
+                case "locationTypeCode":
+                    value.setLocationTypeCode(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,369 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes TransactionModel without reflection.
+ */
+public class TransactionModelTypeAdapter extends TypeAdapter<TransactionModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<DocumentStatus> documentStatusAdapter;
+    private final TypeAdapter<DocumentType> documentTypeAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<TaxOverrideType> taxOverrideTypeAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<AdjustmentReason> adjustmentReasonAdapter;
+    private final TypeAdapter<ArrayList<TransactionLineModel>> transactionLineModelListAdapter;
+    private final TypeAdapter<ArrayList<TransactionAddressModel>> transactionAddressModelListAdapter;
+    private final TypeAdapter<ArrayList<TransactionLocationTypeModel>> transactionLocationTypeModelListAdapter;
+    private final TypeAdapter<ArrayList<TransactionSummary>> transactionSummaryListAdapter;
+    private final TypeAdapter<ArrayList<TaxDetailsByTaxType>> taxDetailsByTaxTypeListAdapter;
+    private final TypeAdapter<HashMap<String, String>> stringStringMapAdapter;
+    private final TypeAdapter<ArrayList<AvaTaxMessage>> avaTaxMessageListAdapter;
+    private final TypeAdapter<ArrayList<InvoiceMessageModel>> invoiceMessageModelListAdapter;
+
+    public TransactionModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.documentStatusAdapter = gson.getAdapter(DocumentStatus.class);
+        this.documentTypeAdapter = gson.getAdapter(DocumentType.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.taxOverrideTypeAdapter = gson.getAdapter(TaxOverrideType.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.adjustmentReasonAdapter = gson.getAdapter(AdjustmentReason.class);
+        this.transactionLineModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<TransactionLineModel>>(){});
+        this.transactionAddressModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<TransactionAddressModel>>(){});
+        this.transactionLocationTypeModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<TransactionLocationTypeModel>>(){});
+        this.transactionSummaryListAdapter = gson.getAdapter(new TypeToken<ArrayList<TransactionSummary>>(){});
+        this.taxDetailsByTaxTypeListAdapter = gson.getAdapter(new TypeToken<ArrayList<TaxDetailsByTaxType>>(){});
+        this.stringStringMapAdapter = gson.getAdapter(new TypeToken<HashMap<String, String>>(){});
+        this.avaTaxMessageListAdapter = gson.getAdapter(new TypeToken<ArrayList<AvaTaxMessage>>(){});
+        this.invoiceMessageModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<InvoiceMessageModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, TransactionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        longAdapter.write(out, value.getId());
+        out.name("code");
+        stringAdapter.write(out, value.getCode());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("date");
+        dateAdapter.write(out, value.getDate());
+        out.name("paymentDate");
+        dateAdapter.write(out, value.getPaymentDate());
+        out.name("status");
+        documentStatusAdapter.write(out, value.getStatus());
+        out.name("type");
+        documentTypeAdapter.write(out, value.getType());
+        out.name("batchCode");
+        stringAdapter.write(out, value.getBatchCode());
+        out.name("currencyCode");
+        stringAdapter.write(out, value.getCurrencyCode());
+        out.name("customerUsageType");
+        stringAdapter.write(out, value.getCustomerUsageType());
+        out.name("entityUseCode");
+        stringAdapter.write(out, value.getEntityUseCode());
+        out.name("customerVendorCode");
+        stringAdapter.write(out, value.getCustomerVendorCode());
+        out.name("customerCode");
+        stringAdapter.write(out, value.getCustomerCode());
+        out.name("exemptNo");
+        stringAdapter.write(out, value.getExemptNo());
+        out.name("reconciled");
+        booleanAdapter.write(out, value.getReconciled());
+        out.name("locationCode");
+        stringAdapter.write(out, value.getLocationCode());
+        out.name("reportingLocationCode");
+        stringAdapter.write(out, value.getReportingLocationCode());
+        out.name("purchaseOrderNo");
+        stringAdapter.write(out, value.getPurchaseOrderNo());
+        out.name("referenceCode");
+        stringAdapter.write(out, value.getReferenceCode());
+        out.name("salespersonCode");
+        stringAdapter.write(out, value.getSalespersonCode());
+        out.name("taxOverrideType");
+        taxOverrideTypeAdapter.write(out, value.getTaxOverrideType());
+        out.name("taxOverrideAmount");
+        bigDecimalAdapter.write(out, value.getTaxOverrideAmount());
+        out.name("taxOverrideReason");
+        stringAdapter.write(out, value.getTaxOverrideReason());
+        out.name("totalAmount");
+        bigDecimalAdapter.write(out, value.getTotalAmount());
+        out.name("totalExempt");
+        bigDecimalAdapter.write(out, value.getTotalExempt());
+        out.name("totalDiscount");
+        bigDecimalAdapter.write(out, value.getTotalDiscount());
+        out.name("totalTax");
+        bigDecimalAdapter.write(out, value.getTotalTax());
+        out.name("totalTaxable");
+        bigDecimalAdapter.write(out, value.getTotalTaxable());
+        out.name("totalTaxCalculated");
+        bigDecimalAdapter.write(out, value.getTotalTaxCalculated());
+        out.name("adjustmentReason");
+        adjustmentReasonAdapter.write(out, value.getAdjustmentReason());
+        out.name("adjustmentDescription");
+        stringAdapter.write(out, value.getAdjustmentDescription());
+        out.name("locked");
+        booleanAdapter.write(out, value.getLocked());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("version");
+        integerAdapter.write(out, value.getVersion());
+        out.name("softwareVersion");
+        stringAdapter.write(out, value.getSoftwareVersion());
+        out.name("originAddressId");
+        longAdapter.write(out, value.getOriginAddressId());
+        out.name("destinationAddressId");
+        longAdapter.write(out, value.getDestinationAddressId());
+        out.name("exchangeRateEffectiveDate");
+        dateAdapter.write(out, value.getExchangeRateEffectiveDate());
+        out.name("exchangeRate");
+        bigDecimalAdapter.write(out, value.getExchangeRate());
+        out.name("isSellerImporterOfRecord");
+        booleanAdapter.write(out, value.getIsSellerImporterOfRecord());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("email");
+        stringAdapter.write(out, value.getEmail());
+        out.name("businessIdentificationNo");
+        stringAdapter.write(out, value.getBusinessIdentificationNo());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.name("taxDate");
+        dateAdapter.write(out, value.getTaxDate());
+        out.name("lines");
+        transactionLineModelListAdapter.write(out, value.getLines());
+        out.name("addresses");
+        transactionAddressModelListAdapter.write(out, value.getAddresses());
+        out.name("locationTypes");
+        transactionLocationTypeModelListAdapter.write(out, value.getLocationTypes());
+        out.name("summary");
+        transactionSummaryListAdapter.write(out, value.getSummary());
+        out.name("taxDetailsByTaxType");
+        taxDetailsByTaxTypeListAdapter.write(out, value.getTaxDetailsByTaxType());
+        out.name("parameters");
+        stringStringMapAdapter.write(out, value.getParameters());
+        out.name("messages");
+        avaTaxMessageListAdapter.write(out, value.getMessages());
+        out.name("invoiceMessages");
+        invoiceMessageModelListAdapter.write(out, value.getInvoiceMessages());
+        out.endObject();
+    }
+
+    @Override
+    public TransactionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        TransactionModel value = new TransactionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(longAdapter.read(in));
+                    break;
+                case "code":
+                    value.setCode(stringAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "date":
+                    value.setDate(dateAdapter.read(in));
+                    break;
+                case "paymentDate":
+                    value.setPaymentDate(dateAdapter.read(in));
+                    break;
+                case "status":
+                    value.setStatus(documentStatusAdapter.read(in));
+                    break;
+                case "type":
+                    value.setType(documentTypeAdapter.read(in));
+                    break;
+                case "batchCode":
+                    value.setBatchCode(stringAdapter.read(in));
+                    break;
+                case "currencyCode":
+                    value.setCurrencyCode(stringAdapter.read(in));
+                    break;
+                case "customerUsageType":
+                    value.setCustomerUsageType(stringAdapter.read(in));
+                    break;
+                case "entityUseCode":
+                    value.setEntityUseCode(stringAdapter.read(in));
+                    break;
+                case "customerVendorCode":
+                    value.setCustomerVendorCode(stringAdapter.read(in));
+                    break;
+                case "customerCode":
+                    value.setCustomerCode(stringAdapter.read(in));
+                    break;
+                case "exemptNo":
+                    value.setExemptNo(stringAdapter.read(in));
+                    break;
+                case "reconciled":
+                    value.setReconciled(booleanAdapter.read(in));
+                    break;
+                case "locationCode":
+                    value.setLocationCode(stringAdapter.read(in));
+                    break;
+                case "reportingLocationCode":
+                    value.setReportingLocationCode(stringAdapter.read(in));
+                    break;
+                case "purchaseOrderNo":
+                    value.setPurchaseOrderNo(stringAdapter.read(in));
+                    break;
+                case "referenceCode":
+                    value.setReferenceCode(stringAdapter.read(in));
+                    break;
+                case "salespersonCode":
+                    value.setSalespersonCode(stringAdapter.read(in));
+                    break;
+                case "taxOverrideType":
+                    value.setTaxOverrideType(taxOverrideTypeAdapter.read(in));
+                    break;
+                case "taxOverrideAmount":
+                    value.setTaxOverrideAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxOverrideReason":
+                    value.setTaxOverrideReason(stringAdapter.read(in));
+                    break;
+                case "totalAmount":
+                    value.setTotalAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "totalExempt":
+                    value.setTotalExempt(bigDecimalAdapter.read(in));
+                    break;
+                case "totalDiscount":
+                    value.setTotalDiscount(bigDecimalAdapter.read(in));
+                    break;
+                case "totalTax":
+                    value.setTotalTax(bigDecimalAdapter.read(in));
+                    break;
+                case "totalTaxable":
+                    value.setTotalTaxable(bigDecimalAdapter.read(in));
+                    break;
+                case "totalTaxCalculated":
+                    value.setTotalTaxCalculated(bigDecimalAdapter.read(in));
+                    break;
+                case "adjustmentReason":
+                    value.setAdjustmentReason(adjustmentReasonAdapter.read(in));
+                    break;
+                case "adjustmentDescription":
+                    value.setAdjustmentDescription(stringAdapter.read(in));
+                    break;
+                case "locked":
+                    value.setLocked(booleanAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "version":
+                    value.setVersion(integerAdapter.read(in));
+                    break;
+                case "softwareVersion":
+                    value.setSoftwareVersion(stringAdapter.read(in));
+                    break;
+                case "originAddressId":
+                    value.setOriginAddressId(longAdapter.read(in));
+                    break;
+                case "destinationAddressId":
+                    value.setDestinationAddressId(longAdapter.read(in));
+                    break;
+                case "exchangeRateEffectiveDate":
+                    value.setExchangeRateEffectiveDate(dateAdapter.read(in));
+                    break;
+                case "exchangeRate":
+                    value.setExchangeRate(bigDecimalAdapter.read(in));
+                    break;
+                case "isSellerImporterOfRecord":
+                    value.setIsSellerImporterOfRecord(booleanAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "email":
+                    value.setEmail(stringAdapter.read(in));
+                    break;
+                case "businessIdentificationNo":
+                    value.setBusinessIdentificationNo(stringAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                case "taxDate":
+                    value.setTaxDate(dateAdapter.read(in));
+                    break;
+                case "lines":
+                    value.setLines(transactionLineModelListAdapter.read(in));
+                    break;
+                case "addresses":
+                    value.setAddresses(transactionAddressModelListAdapter.read(in));
+                    break;
+                case "locationTypes":
+                    value.setLocationTypes(transactionLocationTypeModelListAdapter.read(in));
+                    break;
+                case "summary":
+                    value.setSummary(transactionSummaryListAdapter.read(in));
+                    break;
+                case "taxDetailsByTaxType":
+                    value.setTaxDetailsByTaxType(taxDetailsByTaxTypeListAdapter.read(in));
+                    break;
+                case "parameters":
+                    value.setParameters(stringStringMapAdapter.read(in));
+                    break;
+                case "messages":
+                    value.setMessages(avaTaxMessageListAdapter.read(in));
+                    break;
+                case "invoiceMessages":
+                    value.setInvoiceMessages(invoiceMessageModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
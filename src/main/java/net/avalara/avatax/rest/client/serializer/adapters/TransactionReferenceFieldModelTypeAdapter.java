@@ -0,0 +1,79 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes TransactionReferenceFieldModel without reflection.
+ */
+public class TransactionReferenceFieldModelTypeAdapter extends TypeAdapter<TransactionReferenceFieldModel> {
+    private final TypeAdapter<Long> longAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<ArrayList<LineDetailSERCodeModel>> lineDetailSERCodeModelListAdapter;
+
+    public TransactionReferenceFieldModelTypeAdapter(Gson gson) {
+        this.longAdapter = gson.getAdapter(Long.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.lineDetailSERCodeModelListAdapter = gson.getAdapter(new TypeToken<ArrayList<LineDetailSERCodeModel>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, TransactionReferenceFieldModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("documentId");
+        longAdapter.write(out, value.getDocumentId());
+        out.name("reportingLocationCode");
+        stringAdapter.write(out, value.getReportingLocationCode());
+        out.name("lineDetailSerCodes");
+        lineDetailSERCodeModelListAdapter.write(out, value.getLineDetailSerCodes());
+        out.endObject();
+    }
+
+    @Override
+    public TransactionReferenceFieldModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        TransactionReferenceFieldModel value = new TransactionReferenceFieldModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "documentId":
+                    value.setDocumentId(longAdapter.read(in));
+                    break;
+                case "reportingLocationCode":
+                    value.setReportingLocationCode(stringAdapter.read(in));
+                    break;
+                case "lineDetailSerCodes":
+                    value.setLineDetailSerCodes(lineDetailSERCodeModelListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,160 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes TransactionSummary without reflection.
+ */
+public class TransactionSummaryTypeAdapter extends TypeAdapter<TransactionSummary> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<JurisdictionType> jurisdictionTypeAdapter;
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<TaxType> taxTypeAdapter;
+    private final TypeAdapter<RateType> rateTypeAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+
+    public TransactionSummaryTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.jurisdictionTypeAdapter = gson.getAdapter(JurisdictionType.class);
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.taxTypeAdapter = gson.getAdapter(TaxType.class);
+        this.rateTypeAdapter = gson.getAdapter(RateType.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, TransactionSummary value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("country");
+        stringAdapter.write(out, value.getCountry());
+        out.name("region");
+        stringAdapter.write(out, value.getRegion());
+        out.name("jurisType");
+        jurisdictionTypeAdapter.write(out, value.getJurisType());
+        out.name("jurisCode");
+        stringAdapter.write(out, value.getJurisCode());
+        out.name("jurisName");
+        stringAdapter.write(out, value.getJurisName());
+        out.name("taxAuthorityType");
+        integerAdapter.write(out, value.getTaxAuthorityType());
+        out.name("stateAssignedNo");
+        stringAdapter.write(out, value.getStateAssignedNo());
+        out.name("taxType");
+        taxTypeAdapter.write(out, value.getTaxType());
+        out.name("taxName");
+        stringAdapter.write(out, value.getTaxName());
+        out.name("taxGroup");
+        stringAdapter.write(out, value.getTaxGroup());
+        out.name("rateType");
+        rateTypeAdapter.write(out, value.getRateType());
+        out.name("rateTypeCode");
+        stringAdapter.write(out, value.getRateTypeCode());
+        out.name("taxable");
+        bigDecimalAdapter.write(out, value.getTaxable());
+        out.name("rate");
+        bigDecimalAdapter.write(out, value.getRate());
+        out.name("tax");
+        bigDecimalAdapter.write(out, value.getTax());
+        out.name("taxCalculated");
+        bigDecimalAdapter.write(out, value.getTaxCalculated());
+        out.name("nonTaxable");
+        bigDecimalAdapter.write(out, value.getNonTaxable());
+        out.name("exemption");
+        bigDecimalAdapter.write(out, value.getExemption());
+        out.endObject();
+    }
+
+    @Override
+    public TransactionSummary read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        TransactionSummary value = new TransactionSummary();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "country":
+                    value.setCountry(stringAdapter.read(in));
+                    break;
+                case "region":
+                    value.setRegion(stringAdapter.read(in));
+                    break;
+                case "jurisType":
+                    value.setJurisType(jurisdictionTypeAdapter.read(in));
+                    break;
+                case "jurisCode":
+                    value.setJurisCode(stringAdapter.read(in));
+                    break;
+                case "jurisName":
+                    value.setJurisName(stringAdapter.read(in));
+                    break;
+                case "taxAuthorityType":
+                    value.setTaxAuthorityType(integerAdapter.read(in));
+                    break;
+                case "stateAssignedNo":
+                    value.setStateAssignedNo(stringAdapter.read(in));
+                    break;
+                case "taxType":
+                    value.setTaxType(taxTypeAdapter.read(in));
+                    break;
+                case "taxName":
+                    value.setTaxName(stringAdapter.read(in));
+                    break;
+                case "taxGroup":
+                    value.setTaxGroup(stringAdapter.read(in));
+                    break;
+                case "rateType":
+                    value.setRateType(rateTypeAdapter.read(in));
+                    break;
+                case "rateTypeCode":
+                    value.setRateTypeCode(stringAdapter.read(in));
+                    break;
+                case "taxable":
+                    value.setTaxable(bigDecimalAdapter.read(in));
+                    break;
+                case "rate":
+                    value.setRate(bigDecimalAdapter.read(in));
+                    break;
+                case "tax":
+                    value.setTax(bigDecimalAdapter.read(in));
+                    break;
+                case "taxCalculated":
+                    value.setTaxCalculated(bigDecimalAdapter.read(in));
+                    break;
+                case "nonTaxable":
+                    value.setNonTaxable(bigDecimalAdapter.read(in));
+                    break;
+                case "exemption":
+                    value.setExemption(bigDecimalAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
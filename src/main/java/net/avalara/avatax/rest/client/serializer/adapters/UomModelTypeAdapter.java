@@ -0,0 +1,109 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes UomModel without reflection.
+ */
+public class UomModelTypeAdapter extends TypeAdapter<UomModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+
+    public UomModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, UomModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("code");
+        stringAdapter.write(out, value.getCode());
+        out.name("shortDesc");
+        stringAdapter.write(out, value.getShortDesc());
+        out.name("description");
+        stringAdapter.write(out, value.getDescription());
+        out.name("measurementTypeId");
+        integerAdapter.write(out, value.getMeasurementTypeId());
+        out.name("measurementTypeCode");
+        stringAdapter.write(out, value.getMeasurementTypeCode());
+        out.name("siUOM");
+        stringAdapter.write(out, value.getSiUOM());
+        out.name("measurementTypeDescription");
+        stringAdapter.write(out, value.getMeasurementTypeDescription());
+        out.name("isSiUom");
+        booleanAdapter.write(out, value.getIsSiUom());
+        out.endObject();
+    }
+
+    @Override
+    public UomModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        UomModel value = new UomModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "code":
+                    value.setCode(stringAdapter.read(in));
+                    break;
+                case "shortDesc":
+                    value.setShortDesc(stringAdapter.read(in));
+                    break;
+                case "description":
+                    value.setDescription(stringAdapter.read(in));
+                    break;
+                case "measurementTypeId":
+                    value.setMeasurementTypeId(integerAdapter.read(in));
+                    break;
+                case "measurementTypeCode":
+                    value.setMeasurementTypeCode(stringAdapter.read(in));
+                    break;
+                case "siUOM":
+                    value.setSiUOM(stringAdapter.read(in));
+                    break;
+                case "measurementTypeDescription":
+                    value.setMeasurementTypeDescription(stringAdapter.read(in));
+                    break;
+                case "isSiUom":
+                    value.setIsSiUom(booleanAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,79 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes UserEntitlementModel without reflection.
+ */
+public class UserEntitlementModelTypeAdapter extends TypeAdapter<UserEntitlementModel> {
+    private final TypeAdapter<ArrayList<String>> stringListAdapter;
+    private final TypeAdapter<CompanyAccessLevel> companyAccessLevelAdapter;
+    private final TypeAdapter<ArrayList<Integer>> integerListAdapter;
+
+    public UserEntitlementModelTypeAdapter(Gson gson) {
+        this.stringListAdapter = gson.getAdapter(new TypeToken<ArrayList<String>>(){});
+        this.companyAccessLevelAdapter = gson.getAdapter(CompanyAccessLevel.class);
+        this.integerListAdapter = gson.getAdapter(new TypeToken<ArrayList<Integer>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, UserEntitlementModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("permissions");
+        stringListAdapter.write(out, value.getPermissions());
+        out.name("accessLevel");
+        companyAccessLevelAdapter.write(out, value.getAccessLevel());
+        out.name("companies");
+        integerListAdapter.write(out, value.getCompanies());
+        out.endObject();
+    }
+
+    @Override
+    public UserEntitlementModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        UserEntitlementModel value = new UserEntitlementModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "permissions":
+                    value.setPermissions(stringListAdapter.read(in));
+                    break;
+                case "accessLevel":
+                    value.setAccessLevel(companyAccessLevelAdapter.read(in));
+                    break;
+                case "companies":
+                    value.setCompanies(integerListAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
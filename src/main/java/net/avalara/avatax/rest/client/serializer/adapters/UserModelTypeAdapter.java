@@ -0,0 +1,145 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes UserModel without reflection.
+ */
+public class UserModelTypeAdapter extends TypeAdapter<UserModel> {
+    private final TypeAdapter<Integer> integerAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<SecurityRoleId> securityRoleIdAdapter;
+    private final TypeAdapter<PasswordStatusId> passwordStatusIdAdapter;
+    private final TypeAdapter<Boolean> booleanAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+
+    public UserModelTypeAdapter(Gson gson) {
+        this.integerAdapter = gson.getAdapter(Integer.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.securityRoleIdAdapter = gson.getAdapter(SecurityRoleId.class);
+        this.passwordStatusIdAdapter = gson.getAdapter(PasswordStatusId.class);
+        this.booleanAdapter = gson.getAdapter(Boolean.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, UserModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("id");
+        integerAdapter.write(out, value.getId());
+        out.name("accountId");
+        integerAdapter.write(out, value.getAccountId());
+        out.name("companyId");
+        integerAdapter.write(out, value.getCompanyId());
+        out.name("userName");
+        stringAdapter.write(out, value.getUserName());
+        out.name("firstName");
+        stringAdapter.write(out, value.getFirstName());
+        out.name("lastName");
+        stringAdapter.write(out, value.getLastName());
+        out.name("email");
+        stringAdapter.write(out, value.getEmail());
+        out.name("postalCode");
+        stringAdapter.write(out, value.getPostalCode());
+        out.name("securityRoleId");
+        securityRoleIdAdapter.write(out, value.getSecurityRoleId());
+        out.name("passwordStatus");
+        passwordStatusIdAdapter.write(out, value.getPasswordStatus());
+        out.name("isActive");
+        booleanAdapter.write(out, value.getIsActive());
+        out.name("createdDate");
+        dateAdapter.write(out, value.getCreatedDate());
+        out.name("createdUserId");
+        integerAdapter.write(out, value.getCreatedUserId());
+        out.name("modifiedDate");
+        dateAdapter.write(out, value.getModifiedDate());
+        out.name("modifiedUserId");
+        integerAdapter.write(out, value.getModifiedUserId());
+        out.endObject();
+    }
+
+    @Override
+    public UserModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        UserModel value = new UserModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    value.setId(integerAdapter.read(in));
+                    break;
+                case "accountId":
+                    value.setAccountId(integerAdapter.read(in));
+                    break;
+                case "companyId":
+                    value.setCompanyId(integerAdapter.read(in));
+                    break;
+                case "userName":
+                    value.setUserName(stringAdapter.read(in));
+                    break;
+                case "firstName":
+                    value.setFirstName(stringAdapter.read(in));
+                    break;
+                case "lastName":
+                    value.setLastName(stringAdapter.read(in));
+                    break;
+                case "email":
+                    value.setEmail(stringAdapter.read(in));
+                    break;
+                case "postalCode":
+                    value.setPostalCode(stringAdapter.read(in));
+                    break;
+                case "securityRoleId":
+                    value.setSecurityRoleId(securityRoleIdAdapter.read(in));
+                    break;
+                case "passwordStatus":
+                    value.setPasswordStatus(passwordStatusIdAdapter.read(in));
+                    break;
+                case "isActive":
+                    value.setIsActive(booleanAdapter.read(in));
+                    break;
+                case "createdDate":
+                    value.setCreatedDate(dateAdapter.read(in));
+                    break;
+                case "createdUserId":
+                    value.setCreatedUserId(integerAdapter.read(in));
+                    break;
+                case "modifiedDate":
+                    value.setModifiedDate(dateAdapter.read(in));
+                    break;
+                case "modifiedUserId":
+                    value.setModifiedUserId(integerAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,91 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes VerifyMultiDocumentModel without reflection.
+ */
+public class VerifyMultiDocumentModelTypeAdapter extends TypeAdapter<VerifyMultiDocumentModel> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<DocumentType> documentTypeAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+
+    public VerifyMultiDocumentModelTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.documentTypeAdapter = gson.getAdapter(DocumentType.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, VerifyMultiDocumentModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("code");
+        stringAdapter.write(out, value.getCode());
+        out.name("type");
+        documentTypeAdapter.write(out, value.getType());
+        out.name("verifyTransactionDate");
+        dateAdapter.write(out, value.getVerifyTransactionDate());
+        out.name("verifyTotalAmount");
+        bigDecimalAdapter.write(out, value.getVerifyTotalAmount());
+        out.name("verifyTotalTax");
+        bigDecimalAdapter.write(out, value.getVerifyTotalTax());
+        out.endObject();
+    }
+
+    @Override
+    public VerifyMultiDocumentModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        VerifyMultiDocumentModel value = new VerifyMultiDocumentModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "code":
+                    value.setCode(stringAdapter.read(in));
+                    break;
+                case "type":
+                    value.setType(documentTypeAdapter.read(in));
+                    break;
+                case "verifyTransactionDate":
+                    value.setVerifyTransactionDate(dateAdapter.read(in));
+                    break;
+                case "verifyTotalAmount":
+                    value.setVerifyTotalAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "verifyTotalTax":
+                    value.setVerifyTotalTax(bigDecimalAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
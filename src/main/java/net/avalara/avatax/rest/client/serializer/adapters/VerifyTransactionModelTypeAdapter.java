@@ -0,0 +1,77 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes VerifyTransactionModel without reflection.
+ */
+public class VerifyTransactionModelTypeAdapter extends TypeAdapter<VerifyTransactionModel> {
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+
+    public VerifyTransactionModelTypeAdapter(Gson gson) {
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, VerifyTransactionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("verifyTransactionDate");
+        dateAdapter.write(out, value.getVerifyTransactionDate());
+        out.name("verifyTotalAmount");
+        bigDecimalAdapter.write(out, value.getVerifyTotalAmount());
+        out.name("verifyTotalTax");
+        bigDecimalAdapter.write(out, value.getVerifyTotalTax());
+        out.endObject();
+    }
+
+    @Override
+    public VerifyTransactionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        VerifyTransactionModel value = new VerifyTransactionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "verifyTransactionDate":
+                    value.setVerifyTransactionDate(dateAdapter.read(in));
+                    break;
+                case "verifyTotalAmount":
+                    value.setVerifyTotalAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "verifyTotalTax":
+                    value.setVerifyTotalTax(bigDecimalAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
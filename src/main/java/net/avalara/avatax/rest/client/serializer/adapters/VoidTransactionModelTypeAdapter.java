@@ -0,0 +1,65 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes VoidTransactionModel without reflection.
+ */
+public class VoidTransactionModelTypeAdapter extends TypeAdapter<VoidTransactionModel> {
+    private final TypeAdapter<VoidReasonCode> voidReasonCodeAdapter;
+
+    public VoidTransactionModelTypeAdapter(Gson gson) {
+        this.voidReasonCodeAdapter = gson.getAdapter(VoidReasonCode.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, VoidTransactionModel value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("code");
+        voidReasonCodeAdapter.write(out, value.getCode());
+        out.endObject();
+    }
+
+    @Override
+    public VoidTransactionModel read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        VoidTransactionModel value = new VoidTransactionModel();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "code":
+                    value.setCode(voidReasonCodeAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,111 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes WorksheetDocumentLine without reflection.
+ */
+public class WorksheetDocumentLineTypeAdapter extends TypeAdapter<WorksheetDocumentLine> {
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<ArrayList<Message>> messageListAdapter;
+
+    public WorksheetDocumentLineTypeAdapter(Gson gson) {
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.messageListAdapter = gson.getAdapter(new TypeToken<ArrayList<Message>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, WorksheetDocumentLine value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("reportingDate");
+        dateAdapter.write(out, value.getReportingDate());
+        out.name("lineNo");
+        stringAdapter.write(out, value.getLineNo());
+        out.name("lineAmount");
+        bigDecimalAdapter.write(out, value.getLineAmount());
+        out.name("exemptAmount");
+        bigDecimalAdapter.write(out, value.getExemptAmount());
+        out.name("taxableAmount");
+        bigDecimalAdapter.write(out, value.getTaxableAmount());
+        out.name("taxAmount");
+        bigDecimalAdapter.write(out, value.getTaxAmount());
+        out.name("messages");
+        messageListAdapter.write(out, value.getMessages());
+        out.name("resultCode");
+        stringAdapter.write(out, value.getResultCode());
+        out.name("transactionId");
+        stringAdapter.write(out, value.getTransactionId());
+        out.endObject();
+    }
+
+    @Override
+    public WorksheetDocumentLine read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        WorksheetDocumentLine value = new WorksheetDocumentLine();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "reportingDate":
+                    value.setReportingDate(dateAdapter.read(in));
+                    break;
+                case "lineNo":
+                    value.setLineNo(stringAdapter.read(in));
+                    break;
+                case "lineAmount":
+                    value.setLineAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "exemptAmount":
+                    value.setExemptAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxableAmount":
+                    value.setTaxableAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "taxAmount":
+                    value.setTaxAmount(bigDecimalAdapter.read(in));
+                    break;
+                case "messages":
+                    value.setMessages(messageListAdapter.read(in));
+                    break;
+                case "resultCode":
+                    value.setResultCode(stringAdapter.read(in));
+                    break;
+                case "transactionId":
+                    value.setTransactionId(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
@@ -0,0 +1,113 @@
+package net.avalara.avatax.rest.client.serializer.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+
+/**
+ * Reads and writes WorksheetDocument without reflection.
+ */
+public class WorksheetDocumentTypeAdapter extends TypeAdapter<WorksheetDocument> {
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<Date> dateAdapter;
+    private final TypeAdapter<BigDecimal> bigDecimalAdapter;
+    private final TypeAdapter<ArrayList<WorksheetDocumentLine>> worksheetDocumentLineListAdapter;
+    private final TypeAdapter<ArrayList<Message>> messageListAdapter;
+
+    public WorksheetDocumentTypeAdapter(Gson gson) {
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.dateAdapter = gson.getAdapter(Date.class);
+        this.bigDecimalAdapter = gson.getAdapter(BigDecimal.class);
+        this.worksheetDocumentLineListAdapter = gson.getAdapter(new TypeToken<ArrayList<WorksheetDocumentLine>>(){});
+        this.messageListAdapter = gson.getAdapter(new TypeToken<ArrayList<Message>>(){});
+    }
+
+    @Override
+    public void write(JsonWriter out, WorksheetDocument value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        out.name("docCode");
+        stringAdapter.write(out, value.getDocCode());
+        out.name("docDate");
+        dateAdapter.write(out, value.getDocDate());
+        out.name("totalExempt");
+        bigDecimalAdapter.write(out, value.getTotalExempt());
+        out.name("totalTaxable");
+        bigDecimalAdapter.write(out, value.getTotalTaxable());
+        out.name("totalTax");
+        bigDecimalAdapter.write(out, value.getTotalTax());
+        out.name("lines");
+        worksheetDocumentLineListAdapter.write(out, value.getLines());
+        out.name("messages");
+        messageListAdapter.write(out, value.getMessages());
+        out.name("resultCode");
+        stringAdapter.write(out, value.getResultCode());
+        out.name("transactionId");
+        stringAdapter.write(out, value.getTransactionId());
+        out.endObject();
+    }
+
+    @Override
+    public WorksheetDocument read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        WorksheetDocument value = new WorksheetDocument();
+        in.beginObject();
+
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "docCode":
+                    value.setDocCode(stringAdapter.read(in));
+                    break;
+                case "docDate":
+                    value.setDocDate(dateAdapter.read(in));
+                    break;
+                case "totalExempt":
+                    value.setTotalExempt(bigDecimalAdapter.read(in));
+                    break;
+                case "totalTaxable":
+                    value.setTotalTaxable(bigDecimalAdapter.read(in));
+                    break;
+                case "totalTax":
+                    value.setTotalTax(bigDecimalAdapter.read(in));
+                    break;
+                case "lines":
+                    value.setLines(worksheetDocumentLineListAdapter.read(in));
+                    break;
+                case "messages":
+                    value.setMessages(messageListAdapter.read(in));
+                    break;
+                case "resultCode":
+                    value.setResultCode(stringAdapter.read(in));
+                    break;
+                case "transactionId":
+                    value.setTransactionId(stringAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+                    break;
+            }
+        }
+
+        in.endObject();
+        return value;
+    }
+}
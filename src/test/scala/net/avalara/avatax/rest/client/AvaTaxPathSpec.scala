@@ -0,0 +1,41 @@
+package net.avalara.avatax.rest.client
+
+import org.scalatest.FreeSpec
+
+class AvaTaxPathSpec extends FreeSpec {
+  "AvaTaxPath should" - {
+    "render the same URL every time it is asked" in {
+      val path = new AvaTaxPath("/api/v2/companies/{companyId}/transactions")
+      path.applyField("companyId", 123)
+      path.addQuery("$top", 10)
+      path.addQuery("$skip", 20)
+
+      assert(path.toString == "/api/v2/companies/123/transactions?%24top=10&%24skip=20")
+      assert(path.toString == path.toString)
+      assert(path.toUrl("https://sandbox-rest.avatax.com") == "https://sandbox-rest.avatax.com" + path.toString)
+    }
+
+    "keep query parameters in the order they were first added" in {
+      val path = new AvaTaxPath("/api/v2/definitions/nexus")
+      path.addQuery("$filter", "country eq 'US'")
+      path.addQuery("$include", "x")
+      path.addQuery("$filter", "country eq 'CA'")
+      path.addQuery("$orderBy", null)
+
+      assert(path.toString == "/api/v2/definitions/nexus?%24filter=country+eq+%27CA%27&%24include=x")
+    }
+
+    "encode field values as single path segments" in {
+      val path = new AvaTaxPath("/api/v2/companies/{companyCode}/transactions/{transactionCode}")
+      path.applyField("companyCode", "MY CO")
+      path.applyField("transactionCode", "INV/1é")
+
+      assert(path.toString == "/api/v2/companies/MY%20CO/transactions/INV%2F1%C3%A9")
+      assert(path.getTemplate == "/api/v2/companies/{companyCode}/transactions/{transactionCode}")
+    }
+
+    "share one parsed template per path" in {
+      assert(AvaTaxPathTemplate.of("/api/v2/accounts/{id}") eq AvaTaxPathTemplate.of("/api/v2/accounts/{id}"))
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package net.avalara.avatax.rest.client
+
+import java.net.SocketException
+import java.util.concurrent.TimeUnit
+
+import net.avalara.avatax.rest.client.LocalServer.Reply
+import org.scalatest.FreeSpec
+
+class CallLimitsSpec extends FreeSpec {
+  private def apiError(statusCode: Int): AvaTaxClientException = {
+    val error = new AvaTaxClientException("HTTP/1.1 " + statusCode)
+    error.setResponse(statusCode, null)
+    error
+  }
+
+  private val ping = "/api/v2/utilities/ping"
+
+  private def withClient(limits: CallLimits, nonBlocking: Boolean)(test: (LocalServer, AvaTaxClient) => Unit): Unit = {
+    val server = new LocalServer()
+    val client = new AvaTaxClient("Test", "1.0", "Test", server.url)
+      .withSecurity("user", "password")
+      .withRetryPolicy(new RetryPolicy().withBackoff(10, 10))
+      .withCallLimits(limits)
+
+    if (nonBlocking) {
+      client.withNonBlockingTransport()
+    }
+
+    try {
+      test(server, client)
+    } finally {
+      client.close()
+      server.close()
+    }
+  }
+
+  "RateLimiter should" - {
+    "admit a burst and then refuse until permits are replenished" in {
+      val limiter = new RateLimiter(20, 3)
+
+      assert((1 to 3).forall(_ => limiter.tryAcquire()))
+      assert(!limiter.tryAcquire())
+
+      Thread.sleep(60)
+      assert(limiter.tryAcquire())
+    }
+  }
+
+  "CircuitBreaker should" - {
+    "open after consecutive failures and close after a successful trial" in {
+      val breaker = new CircuitBreaker(2, 50, TimeUnit.MILLISECONDS)
+
+      breaker.recordFailure()
+      assert(breaker.getState == CircuitBreaker.State.Closed)
+      breaker.recordFailure()
+      assert(breaker.getState == CircuitBreaker.State.Open)
+      assert(!breaker.tryAcquire())
+
+      Thread.sleep(60)
+      assert(breaker.tryAcquire())
+      assert(breaker.getState == CircuitBreaker.State.HalfOpen)
+      assert(!breaker.tryAcquire())
+
+      breaker.recordSuccess()
+      assert(breaker.getState == CircuitBreaker.State.Closed)
+      assert(breaker.getOpenCount == 1)
+    }
+
+    "reopen when the trial fails" in {
+      val breaker = new CircuitBreaker(1, 50, TimeUnit.MILLISECONDS)
+
+      breaker.recordFailure()
+      Thread.sleep(60)
+      assert(breaker.tryAcquire())
+      breaker.recordFailure()
+      assert(breaker.getState == CircuitBreaker.State.Open)
+      assert(!breaker.tryAcquire())
+    }
+  }
+
+  "CallLimits should" - {
+    val template = "/api/v2/transactions/create"
+
+    "count server errors and I/O errors but not client errors as failures" in {
+      val limits = new CallLimits().withCircuitBreaker(2, 1, TimeUnit.MINUTES)
+
+      limits.recordResult(template, 0, apiError(400))
+      limits.recordResult(template, 0, apiError(404))
+      assert(limits.admit("POST", template) == null)
+
+      limits.recordResult(template, 0, apiError(503))
+      limits.recordResult(template, 0, new SocketException("Connection reset"))
+      val rejection = limits.admit("POST", template)
+
+      assert(rejection.getReason == CallRejectedException.Reason.CircuitOpen)
+      assert(limits.getRejectedCount == 1)
+    }
+
+    "count slow calls as failures" in {
+      val limits = new CallLimits().withCircuitBreaker(1, 1, TimeUnit.MINUTES).withSlowCallThreshold(1, TimeUnit.SECONDS)
+
+      limits.recordResult(template, TimeUnit.SECONDS.toNanos(2), null)
+      assert(limits.isOpen(template))
+    }
+
+    "refuse calls over an endpoint's rate limit" in {
+      val limits = new CallLimits().withRateLimit(template, 1, 1)
+
+      assert(limits.admit("POST", template) == null)
+      assert(limits.admit("POST", template).getReason == CallRejectedException.Reason.RateLimited)
+      assert(limits.admit("GET", "/api/v2/utilities/ping") == null)
+    }
+  }
+
+  for ((transport, nonBlocking) <- Seq("blocking" -> false, "non-blocking" -> true)) {
+    s"CallLimits on a client's $transport transport should" - {
+      "open an endpoint's breaker on error pages that are not JSON" in {
+        val limits = new CallLimits().withCircuitBreaker(2, 1, TimeUnit.MINUTES)
+
+        withClient(limits, nonBlocking) { (server, client) =>
+          server.otherwise(Reply(502, "<html>Bad Gateway</html>".getBytes("UTF-8"), Map("Content-Type" -> "text/html")))
+
+          assert(intercept[AvaTaxClientException](client.ping()).getStatusCode == 502)
+          assert(intercept[AvaTaxClientException](client.ping()).getStatusCode == 502)
+          assert(intercept[CallRejectedException](client.ping()).getReason == CallRejectedException.Reason.CircuitOpen)
+          assert(limits.getCircuitBreaker(ping).getState == CircuitBreaker.State.Open)
+          assert(server.requests.size == 2)
+        }
+      }
+
+      "admit each retry like a call of its own, and fail with the last error once one is refused" in {
+        val limits = new CallLimits().withRateLimit(ping, 0.001, 2)
+
+        withClient(limits, nonBlocking) { (server, client) =>
+          server.otherwise(Reply.unavailable)
+
+          assert(intercept[AvaTaxClientException](client.ping()).getStatusCode == 503)
+          assert(server.requests.size == 2)
+          assert(limits.getRejectedCount == 1)
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package net.avalara.avatax.rest.client
+
+import java.util
+
+import net.avalara.avatax.rest.client.enums._
+import net.avalara.avatax.rest.client.models._
+import net.avalara.avatax.rest.client.serializer.JsonSerializer
+import org.scalatest.FreeSpec
+
+class JsonSerializerSpec extends FreeSpec {
+  "JsonSerializer should" - {
+    "round trip a transaction through the generated adapters" in {
+      val model = new CreateTransactionModel()
+      model.setCompanyCode("DEFAULT")
+      model.setType(DocumentType.SalesInvoice)
+      model.setDate(new java.text.SimpleDateFormat("yyyy-MM-dd").parse("2017-11-28"))
+
+      val line = new LineItemModel()
+      line.setAmount(new java.math.BigDecimal("100.25"))
+      line.setTaxCode("P0000000")
+      val lines = new util.ArrayList[LineItemModel]()
+      lines.add(line)
+      model.setLines(lines)
+
+      val json = JsonSerializer.SerializeObject(model)
+      assert(json.contains("\"companyCode\":\"DEFAULT\""))
+      assert(json.contains("\"date\":\"2017-11-28T00:00:00\""))
+      assert(!json.contains("null"))
+
+      val parsed = JsonSerializer.DeserializeObject(json, classOf[CreateTransactionModel]).asInstanceOf[CreateTransactionModel]
+      assert(parsed.getType == DocumentType.SalesInvoice)
+      assert(parsed.getLines.get(0).getAmount == new java.math.BigDecimal("100.25"))
+      assert(JsonSerializer.SerializeObject(parsed) == json)
+    }
+    "ignore unknown properties and enum values" in {
+      val error = JsonSerializer.DeserializeObject("{\"code\":\"NotARealCode\",\"message\":\"bad\",\"extra\":{\"a\":[1,2]}}", classOf[ErrorInfo]).asInstanceOf[ErrorInfo]
+      assert(error.getCode == null)
+      assert(error.getMessage == "bad")
+    }
+    "read the record count and next link of a FetchResult" in {
+      val json = "{\"@recordsetCount\":2500,\"value\":[{\"code\":\"USD\"}],\"@nextLink\":\"/api/v2/definitions/currencies?$top=1&$skip=1\"}"
+      val page = JsonSerializer.DeserializeObject(json, new com.google.gson.reflect.TypeToken[FetchResult[CurrencyModel]]() {}.getType).asInstanceOf[FetchResult[CurrencyModel]]
+      assert(page.getCount == 2500)
+      assert(page.getValue.get(0).getCode == "USD")
+      assert(page.getNextLink == "/api/v2/definitions/currencies?$top=1&$skip=1")
+    }
+  }
+}
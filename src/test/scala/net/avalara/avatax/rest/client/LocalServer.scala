@@ -0,0 +1,98 @@
+package net.avalara.avatax.rest.client
+
+import java.io.ByteArrayOutputStream
+import java.net.InetSocketAddress
+import java.util.concurrent.{ConcurrentLinkedQueue, Executors}
+
+import com.sun.net.httpserver.{HttpExchange, HttpHandler, HttpServer}
+
+import scala.collection.JavaConverters._
+
+/**
+ * An HTTP server on a loopback port for specs that need a real connection.  Each request is answered with the next
+ * queued reply, or by the fallback once the queue is empty, and is recorded with its body.  Requests are handled
+ * concurrently, so that a slow reply does not hold up the others.
+ */
+class LocalServer {
+  import LocalServer._
+
+  private val replies = new ConcurrentLinkedQueue[Reply]()
+  private val received = new ConcurrentLinkedQueue[Received]()
+  @volatile private var fallback: Received => Reply = _ => Reply(200, "{}")
+
+  private val executor = Executors.newCachedThreadPool()
+  private val server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0)
+  server.setExecutor(executor)
+  server.createContext("/", new HttpHandler {
+    override def handle(exchange: HttpExchange): Unit = {
+      try {
+        val body = new ByteArrayOutputStream()
+        val in = exchange.getRequestBody
+        val buffer = new Array[Byte](8192)
+        var n = in.read(buffer)
+
+        while (n >= 0) {
+          body.write(buffer, 0, n)
+          n = in.read(buffer)
+        }
+
+        val headers = exchange.getRequestHeaders.asScala.map { case (name, values) => name.toLowerCase -> values.get(0) }.toMap
+        val query = Option(exchange.getRequestURI.getQuery).toSeq.flatMap(_.split("&")).map { pair =>
+          val i = pair.indexOf('=')
+          if (i < 0) pair -> "" else pair.substring(0, i) -> pair.substring(i + 1)
+        }.toMap
+        val request = Received(exchange.getRequestMethod, exchange.getRequestURI.getPath, headers, body.toByteArray, query)
+        received.add(request)
+
+        val reply = Option(replies.poll()).getOrElse(fallback(request))
+        reply.headers.foreach { case (name, value) => exchange.getResponseHeaders.set(name, value) }
+        exchange.sendResponseHeaders(reply.status, if (reply.body.isEmpty) -1 else reply.body.length)
+
+        if (reply.body.nonEmpty) {
+          exchange.getResponseBody.write(reply.body)
+        }
+      } finally {
+        exchange.close()
+      }
+    }
+  })
+  server.start()
+
+  def url: String = "http://127.0.0.1:" + server.getAddress.getPort
+
+  def reply(replies: Reply*): LocalServer = {
+    replies.foreach(this.replies.add)
+    this
+  }
+
+  def otherwise(reply: Reply): LocalServer = answer(_ => reply)
+
+  /**
+   * Answer each request that finds the queue empty by calling the handler, which may block to delay its reply.
+   */
+  def answer(handler: Received => Reply): LocalServer = {
+    fallback = handler
+    this
+  }
+
+  def requests: Seq[Received] = received.asScala.toList
+
+  def close(): Unit = {
+    server.stop(0)
+    executor.shutdownNow()
+  }
+}
+
+object LocalServer {
+  case class Reply(status: Int, body: Array[Byte], headers: Map[String, String])
+
+  object Reply {
+    def apply(status: Int, json: String): Reply =
+      Reply(status, json.getBytes("UTF-8"), Map("Content-Type" -> "application/json"))
+
+    def unavailable: Reply =
+      Reply(503, """{"error":{"code":"ServiceUnavailable"}}""".getBytes("UTF-8"), Map("Content-Type" -> "application/json", "Retry-After" -> "0"))
+  }
+
+  case class Received(method: String, path: String, headers: Map[String, String], body: Array[Byte], query: Map[String, String])
+}
@@ -0,0 +1,242 @@
+package net.avalara.avatax.rest.client
+
+import java.io.{ByteArrayInputStream, ByteArrayOutputStream, IOException, InputStream}
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.file.{Files, Path}
+import java.util.Random
+
+import net.avalara.avatax.rest.client.LocalServer.Reply
+import net.avalara.avatax.rest.client.models.ResourceFileUploadRequestModel
+import org.apache.http.nio.{ContentEncoder, FileContentEncoder}
+import org.scalatest.FreeSpec
+
+class MultipartEntitySpec extends FreeSpec {
+  private val content: Array[Byte] = {
+    val bytes = new Array[Byte](200000)
+    new Random(1).nextBytes(bytes)
+    // Bytes that look like the start of a delimiter must pass through untouched
+    "\r\n--AvaTax\r\n".getBytes("UTF-8").copyToArray(bytes, 1000)
+    bytes
+  }
+
+  /**
+   * Takes at most a few kilobytes per call, like a connection whose socket buffer is full.
+   */
+  private class SlowEncoder extends ContentEncoder {
+    val out = new ByteArrayOutputStream()
+    private var completed = false
+
+    override def write(src: ByteBuffer): Int = {
+      val n = math.min(src.remaining(), 3000)
+      val bytes = new Array[Byte](n)
+      src.get(bytes)
+      out.write(bytes)
+      n
+    }
+
+    override def complete(): Unit = completed = true
+
+    override def isCompleted: Boolean = completed
+  }
+
+  /**
+   * Also transfers straight from a file, as the non-blocking client's encoder does.
+   */
+  private class SlowFileEncoder extends SlowEncoder with FileContentEncoder {
+    var transfers = 0
+
+    override def transfer(src: FileChannel, position: Long, count: Long): Long = {
+      transfers += 1
+      val buffer = ByteBuffer.allocate(math.min(count, 3000L).toInt)
+      val n = src.read(buffer, position)
+      out.write(buffer.array(), 0, math.max(n, 0))
+      n
+    }
+  }
+
+  private def produce(entity: MultipartEntity, encoder: ContentEncoder): Unit = {
+    var calls = 0
+
+    while (!encoder.isCompleted) {
+      entity.produceContent(encoder, null)
+      calls += 1
+      assert(calls < 10000)
+    }
+  }
+
+  private def written(entity: MultipartEntity): Array[Byte] = {
+    val out = new ByteArrayOutputStream()
+    entity.writeTo(out)
+    out.toByteArray
+  }
+
+  private def read(in: InputStream): Array[Byte] = {
+    val out = new ByteArrayOutputStream()
+    val buffer = new Array[Byte](4096)
+    var n = in.read(buffer)
+
+    while (n >= 0) {
+      out.write(buffer, 0, n)
+      n = in.read(buffer)
+    }
+
+    in.close()
+    out.toByteArray
+  }
+
+  private def boundary(entity: MultipartEntity): String =
+    entity.getContentType.getValue.substring("multipart/form-data; boundary=".length)
+
+  /**
+   * The body as text with its boundary replaced, to compare bodies that only differ in their boundaries.
+   */
+  private def framed(entity: MultipartEntity, body: Array[Byte]): String =
+    new String(body, "ISO-8859-1").replace(boundary(entity), "BOUNDARY")
+
+  private def withFile(test: Path => Unit): Unit = {
+    val file = Files.createTempFile("certificate", ".pdf")
+
+    try {
+      Files.write(file, content)
+      test(file)
+    } finally {
+      Files.delete(file)
+    }
+  }
+
+  "MultipartEntity should" - {
+    "frame the form fields and the file between boundaries" in {
+      val fields = new ResourceFileUploadRequestModel()
+      fields.setCompanyId(7)
+      fields.setName("notice.pdf")
+
+      val entity = MultipartEntity.of(fields, "content", ByteBuffer.wrap(content), "notice.pdf")
+      val delimiter = "--" + boundary(entity)
+      val body = written(entity)
+      val text = new String(body, "ISO-8859-1")
+
+      assert(text.startsWith(delimiter + "\r\nContent-Disposition: form-data; name=\"companyId\"\r\n\r\n7\r\n"))
+      assert(text.contains(delimiter + "\r\nContent-Disposition: form-data; name=\"name\"\r\n\r\nnotice.pdf\r\n"))
+      assert(text.contains(delimiter + "\r\nContent-Disposition: form-data; name=\"content\"; filename=\"notice.pdf\"\r\nContent-Type: application/pdf\r\n\r\n"))
+      assert(text.endsWith("\r\n" + delimiter + "--\r\n"))
+      assert(text.indexOf(new String(content, "ISO-8859-1")) > 0)
+      assert(entity.getContentLength == body.length && !entity.isChunked)
+    }
+
+    "escape quotes and line breaks in part and file names" in {
+      val entity = MultipartEntity.of(null, "file", ByteBuffer.wrap(content), "a\"b\r\n.png")
+      val text = new String(written(entity), "ISO-8859-1")
+
+      assert(text.contains("name=\"file\"; filename=\"a%22b%0D%0A.png\"\r\n"))
+    }
+
+    "choose a boundary that differs between bodies" in {
+      val first = MultipartEntity.of(null, "file", ByteBuffer.wrap(content), "a.png")
+      val second = MultipartEntity.of(null, "file", ByteBuffer.wrap(content), "a.png")
+
+      assert(boundary(first) != boundary(second))
+    }
+
+    "read the same bytes as it writes, from a file and from heap and direct buffers" in withFile { file =>
+      val direct = ByteBuffer.allocateDirect(content.length)
+      direct.put(content).flip()
+
+      for (entity <- Seq(MultipartEntity.of(null, "file", file), MultipartEntity.of(null, "file", ByteBuffer.wrap(content), "a.pdf"),
+          MultipartEntity.of(null, "file", direct, "a.pdf"))) {
+        val body = written(entity)
+
+        assert(entity.isRepeatable)
+        assert(read(entity.getContent).sameElements(body))
+        assert(read(entity.getContent).sameElements(body))
+        assert(written(entity).sameElements(body))
+      }
+
+      assert(direct.position == 0)
+    }
+
+    "send a body from an input stream chunked, and only once" in {
+      val source = new ByteArrayInputStream(content)
+      val entity = MultipartEntity.of(null, "file", source, "a.pdf")
+
+      assert(!entity.isRepeatable && entity.isChunked && entity.getContentLength == -1)
+
+      val buffered = MultipartEntity.of(null, "file", ByteBuffer.wrap(content), "a.pdf")
+      assert(framed(entity, read(entity.getContent)) == framed(buffered, written(buffered)))
+      intercept[IOException](entity.getContent)
+    }
+
+    "produce the same bytes for the non-blocking transport, a little at a time" in withFile { file =>
+      val fromFile = MultipartEntity.of(null, "file", file)
+      val expected = written(fromFile)
+
+      val transferred = new SlowFileEncoder()
+      produce(fromFile, transferred)
+      assert(transferred.out.toByteArray.sameElements(expected))
+      assert(transferred.transfers > 1)
+
+      // Produced again from the start after close(), as for a retry, and read from the file's channel this time
+      fromFile.close()
+      val copied = new SlowEncoder()
+      produce(fromFile, copied)
+      assert(copied.out.toByteArray.sameElements(expected))
+
+      val fromStream = MultipartEntity.of(null, "file", new ByteArrayInputStream(content), file.getFileName.toString)
+      val streamed = new SlowFileEncoder()
+      produce(fromStream, streamed)
+      assert(framed(fromStream, streamed.out.toByteArray) == framed(fromFile, expected))
+      assert(streamed.transfers == 0)
+    }
+  }
+
+  for ((transport, nonBlocking) <- Seq("blocking" -> false, "non-blocking" -> true)) {
+    s"An upload on the $transport transport should" - {
+      "be sent again, whole, after a 503" in withFile { file =>
+        val server = new LocalServer()
+        val client = new AvaTaxClient("Test", "1.0", "Test", server.url)
+          .withSecurity("user", "password")
+          .withRetryPolicy(new RetryPolicy().withBackoff(10, 10)
+            .withIdempotentEndpoint("POST", "/api/v2/companies/{companyId}/certificates/{id}/attachment"))
+
+        if (nonBlocking) {
+          client.withNonBlockingTransport()
+        }
+
+        try {
+          server.reply(Reply.unavailable, Reply(200, "\"stored\""), Reply.unavailable, Reply(200, "\"stored\""))
+
+          assert(client.uploadCertificateImage(1, 2, file) == "stored")
+          assert(client.uploadCertificateImage(1, 2, ByteBuffer.wrap(content), "image.png") == "stored")
+
+          val requests = server.requests
+          assert(requests.size == 4)
+          assert(requests(1).body.sameElements(requests.head.body) && requests(3).body.sameElements(requests(2).body))
+          assert(requests.head.body.length > content.length)
+        } finally {
+          client.close()
+          server.close()
+        }
+      }
+
+      "not resend a body read from an input stream" in {
+        val server = new LocalServer().otherwise(Reply.unavailable)
+        val client = new AvaTaxClient("Test", "1.0", "Test", server.url)
+          .withSecurity("user", "password")
+          .withRetryPolicy(new RetryPolicy().withBackoff(10, 10)
+            .withIdempotentEndpoint("POST", "/api/v2/companies/{companyId}/certificates/{id}/attachment"))
+
+        if (nonBlocking) {
+          client.withNonBlockingTransport()
+        }
+
+        try {
+          intercept[AvaTaxClientException](client.uploadCertificateImage(1, 2, new ByteArrayInputStream(content), "image.png"))
+          assert(server.requests.size == 1)
+        } finally {
+          client.close()
+          server.close()
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package net.avalara.avatax.rest.client
+
+import net.avalara.avatax.rest.client.LocalServer.{Received, Reply}
+import net.avalara.avatax.rest.client.models.CurrencyModel
+import org.scalatest.FreeSpec
+
+import scala.collection.JavaConverters._
+
+class PagedIterableSpec extends FreeSpec {
+  private val Total = 25
+  private val Codes = (0 until Total).map(i => f"C$i%02d")
+
+  /**
+   * A page of Total currencies chosen by the request's $top and $skip, as the API serves them.
+   *
+   * @param count The name of the record count, or null to leave it out
+   * @param nextLink The name of the next page's link
+   */
+  private def page(request: Received, count: String = "@recordsetCount", nextLink: String = "@nextLink"): Reply = {
+    val top = request.query.get("$top").map(_.toInt).getOrElse(10)
+    val skip = request.query.get("$skip").map(_.toInt).getOrElse(0)
+    val records = Codes.slice(skip, skip + top).map(code => s"""{"code":"$code"}""")
+    val counted = if (count != null) s""""$count":$Total,""" else ""
+    val linked = if (skip + top < Total) s""","$nextLink":"/api/v2/definitions/currencies?$$top=$top&$$skip=${skip + top}"""" else ""
+
+    Reply(200, s"""{$counted"value":[${records.mkString(",")}]$linked}""")
+  }
+
+  private def failing(skip: String): Received => Reply = { request =>
+    if (request.query.get("$skip").contains(skip)) Reply(500, """{"error":{"message":"Page failed"}}""") else page(request)
+  }
+
+  private def skips(server: LocalServer): Seq[String] = server.requests.map(_.query.getOrElse("$skip", "-"))
+
+  private def codes(records: java.lang.Iterable[CurrencyModel]): Seq[String] = records.asScala.map(_.getCode).toList
+
+  /**
+   * Serve pages, delaying the page at one offset so that it arrives after those fetched with it.
+   */
+  private def slow(skip: String): Received => Reply = { request =>
+    if (request.query.get("$skip").contains(skip)) {
+      Thread.sleep(500)
+    }
+
+    page(request)
+  }
+
+  private def withClient(nonBlocking: Boolean = false)(test: (LocalServer, AvaTaxClient) => Unit): Unit = {
+    val server = new LocalServer().answer(page(_))
+    val client = new AvaTaxClient("Test", "1.0", "Test", server.url).withSecurity("user", "password")
+
+    if (nonBlocking) {
+      client.withNonBlockingTransport()
+    }
+
+    try {
+      test(server, client)
+    } finally {
+      client.close()
+      server.close()
+    }
+  }
+
+  /**
+   * Wait for the server to have received the given number of requests.
+   */
+  private def awaitRequests(server: LocalServer, count: Int): Unit = {
+    val deadline = System.currentTimeMillis() + 5000
+
+    while (server.requests.size < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10)
+    }
+
+    assert(server.requests.size == count)
+  }
+
+  "A PagedIterable should" - {
+    "follow each page's @nextLink until the last page, fetching nothing before iteration starts" in withClient() { (server, client) =>
+      val currencies = client.listCurrenciesPaged(null, 10, null, null)
+      assert(server.requests.isEmpty)
+
+      assert(codes(currencies) == Codes)
+      assert(skips(server) == Seq("-", "10", "20"))
+      assert(server.requests.forall(_.path == "/api/v2/definitions/currencies"))
+
+      // Each iteration starts again from the first page
+      assert(codes(currencies) == Codes)
+      assert(server.requests.size == 6)
+    }
+
+    "fetch the next page while the caller works through the current one, and no further" in withClient() { (server, client) =>
+      val records = client.listCurrenciesPaged(null, 10, null, null).iterator()
+
+      assert(records.next().getCode == "C00")
+      awaitRequests(server, 2)
+
+      (1 until 10).foreach(_ => records.next())
+      Thread.sleep(100)
+      assert(server.requests.size == 2)
+
+      assert(records.next().getCode == "C10")
+      awaitRequests(server, 3)
+    }
+
+    "read the record count and next link under either spelling" in withClient() { (server, client) =>
+      for ((count, nextLink) <- Seq("@recordsetCount" -> "@nextLink", "count" -> "nextLink")) {
+        server.answer(page(_, count, nextLink))
+        val pages = client.listCurrenciesPaged(null, 10, null, null).pages().asScala.toList
+
+        assert(pages.map(_.getCount) == Seq(Total, Total, Total))
+        assert(pages.head.getNextLink == "/api/v2/definitions/currencies?$top=10&$skip=10")
+        assert(pages.last.getNextLink == null)
+        assert(pages.flatMap(_.getValue.asScala.map(_.getCode)) == Codes)
+      }
+    }
+
+    "throw a page that could not be fetched as an AvaTaxPagingException" in withClient() { (server, client) =>
+      server.answer(failing("10"))
+      val records = client.listCurrenciesPaged(null, 10, null, null).iterator()
+
+      (0 until 10).foreach(_ => records.next())
+      val error = intercept[AvaTaxPagingException](records.hasNext)
+      assert(error.getCause.asInstanceOf[AvaTaxClientException].getStatusCode == 500)
+    }
+  }
+
+  for ((transport, nonBlocking) <- Seq("blocking" -> false, "non-blocking" -> true)) {
+    s"A parallel PagedIterable on the $transport transport should" - {
+      "fetch the remaining pages by offset, counting from the caller's $skip" in withClient(nonBlocking) { (server, client) =>
+        assert(codes(client.listCurrenciesPaged(null, 5, 3, null).parallel(3, true)) == Codes.drop(3))
+
+        val requests = server.requests
+        assert(requests.head.query.get("$skip").contains("3"))
+        assert(requests.tail.map(_.query("$skip")).toSet == Set("8", "13", "18", "23"))
+        assert(requests.forall(_.query.get("$top").contains("5")))
+      }
+
+      "return records in page order when ordered, though a page arrives late" in withClient(nonBlocking) { (server, client) =>
+        server.answer(slow("5"))
+
+        assert(codes(client.listCurrenciesPaged(null, 5, null, null).parallel(4, true)) == Codes)
+      }
+
+      "return each page as it arrives when unordered" in withClient(nonBlocking) { (server, client) =>
+        server.answer(slow("5"))
+        val records = codes(client.listCurrenciesPaged(null, 5, null, null).parallel(4, false))
+
+        assert(records.take(5) == Codes.take(5))
+        assert(records.takeRight(5) == Codes.slice(5, 10))
+        assert(records.sorted == Codes)
+      }
+
+      "follow @nextLink one page at a time when the API does not report a count" in withClient(nonBlocking) { (server, client) =>
+        server.answer(page(_, count = null))
+
+        assert(codes(client.listCurrenciesPaged(null, 10, null, null).parallel(4, true)) == Codes)
+        assert(skips(server) == Seq("-", "10", "20"))
+      }
+
+      "throw a page that could not be fetched as an AvaTaxPagingException, in either order" in withClient(nonBlocking) { (server, client) =>
+        server.answer(failing("10"))
+
+        for (ordered <- Seq(true, false)) {
+          val error = intercept[AvaTaxPagingException](codes(client.listCurrenciesPaged(null, 5, null, null).parallel(4, ordered)))
+          assert(error.getCause.asInstanceOf[AvaTaxClientException].getStatusCode == 500)
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package net.avalara.avatax.rest.client
+
+import java.io.{ByteArrayInputStream, ByteArrayOutputStream}
+import java.util
+import java.util.zip.{GZIPInputStream, GZIPOutputStream}
+
+import net.avalara.avatax.rest.client.LocalServer.Reply
+import net.avalara.avatax.rest.client.models.{CreateTransactionModel, LineItemModel}
+import net.avalara.avatax.rest.client.serializer.JsonSerializer
+import org.scalatest.FreeSpec
+
+import scala.collection.JavaConverters._
+
+class RestCallCompressionSpec extends FreeSpec {
+  private def transaction(lines: Int): CreateTransactionModel = {
+    val model = new CreateTransactionModel()
+    model.setCode("compressed")
+    model.setCustomerCode("ABC")
+    model.setLines(new util.ArrayList[LineItemModel]((1 to lines).map { i =>
+      val line = new LineItemModel()
+      line.setNumber(String.valueOf(i))
+      line.setItemCode("SKU-" + i)
+      line.setDescription("Line item " + i)
+      line.setAmount(new java.math.BigDecimal("100"))
+      line
+    }.toList.asJava))
+    model
+  }
+
+  private def gzip(bytes: Array[Byte]): Array[Byte] = {
+    val out = new ByteArrayOutputStream()
+    val stream = new GZIPOutputStream(out)
+    stream.write(bytes)
+    stream.close()
+    out.toByteArray
+  }
+
+  private def gunzip(bytes: Array[Byte]): Array[Byte] = {
+    val in = new GZIPInputStream(new ByteArrayInputStream(bytes))
+    val out = new ByteArrayOutputStream()
+    val buffer = new Array[Byte](8192)
+    var n = in.read(buffer)
+
+    while (n >= 0) {
+      out.write(buffer, 0, n)
+      n = in.read(buffer)
+    }
+
+    out.toByteArray
+  }
+
+  private def withClient(nonBlocking: Boolean)(test: (LocalServer, AvaTaxClient) => Unit): Unit = {
+    val server = new LocalServer().otherwise(Reply(201, """{"id":1}"""))
+    val client = new AvaTaxClient("Test", "1.0", "Test", server.url).withSecurity("user", "password").withCompression(1024)
+
+    if (nonBlocking) {
+      client.withNonBlockingTransport()
+    }
+
+    try {
+      test(server, client)
+    } finally {
+      client.close()
+      server.close()
+    }
+  }
+
+  for ((transport, nonBlocking) <- Seq("blocking" -> false, "non-blocking" -> true)) {
+    s"A call with compression on the $transport transport should" - {
+      "gzip a request body over the threshold, which inflates to the same JSON" in withClient(nonBlocking) { (server, client) =>
+        val model = transaction(50)
+        val json = JsonSerializer.SerializeObject(model).getBytes("UTF-8")
+        assert(json.length > 1024)
+
+        assert(client.createTransaction(null, model).getId == 1)
+
+        val request = server.requests.head
+        assert(request.headers.get("content-encoding").contains("gzip"))
+        assert(request.body.length < json.length)
+        assert(gunzip(request.body).sameElements(json))
+      }
+
+      "send a request body under the threshold as it is" in withClient(nonBlocking) { (server, client) =>
+        val model = transaction(1)
+        val json = JsonSerializer.SerializeObject(model).getBytes("UTF-8")
+        assert(json.length < 1024)
+
+        assert(client.createTransaction(null, model).getId == 1)
+
+        val request = server.requests.head
+        assert(!request.headers.contains("content-encoding"))
+        assert(request.body.sameElements(json))
+      }
+
+      "ask for a compressed response, and inflate a gzipped JSON response" in withClient(nonBlocking) { (server, client) =>
+        val json = """{"id":7,"code":"compressed","lines":[""" + (1 to 100).map(i => s"""{"lineNumber":"$i"}""").mkString(",") + "]}"
+        server.reply(Reply(201, gzip(json.getBytes("UTF-8")), Map("Content-Type" -> "application/json", "Content-Encoding" -> "gzip")))
+
+        val result = client.createTransaction(null, transaction(1))
+        assert(result.getId == 7 && result.getCode == "compressed")
+        assert(result.getLines.size == 100)
+        assert(server.requests.head.headers.get("accept-encoding").exists(_.contains("gzip")))
+      }
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package net.avalara.avatax.rest.client
+
+import java.io.ByteArrayOutputStream
+import java.nio.channels.Channels
+import java.nio.file.Files
+import java.util.Random
+import java.util.concurrent.{ConcurrentLinkedQueue, TimeUnit}
+import java.util.zip.GZIPOutputStream
+
+import net.avalara.avatax.rest.client.LocalServer.Reply
+import org.scalatest.FreeSpec
+
+import scala.collection.JavaConverters._
+
+class RestCallDownloadSpec extends FreeSpec {
+  private val content: Array[Byte] = {
+    val bytes = new Array[Byte](300000)
+    new Random(1).nextBytes(bytes)
+    bytes
+  }
+
+  private val file = Reply(200, content, Map("Content-Type" -> "text/csv"))
+
+  private val gzipped = {
+    val out = new ByteArrayOutputStream()
+    val gzip = new GZIPOutputStream(out)
+    gzip.write(content)
+    gzip.close()
+    Reply(200, out.toByteArray, Map("Content-Type" -> "text/csv", "Content-Encoding" -> "gzip"))
+  }
+
+  private val notFound = Reply(404, """{"error":{"code":"EntityNotFoundError","message":"No report"}}""")
+
+  /**
+   * Records every progress report.
+   */
+  private class Progress extends TransferListener {
+    val reports = new ConcurrentLinkedQueue[(Long, Long)]()
+
+    override def progress(bytesTransferred: Long, contentLength: Long): Unit = reports.add(bytesTransferred -> contentLength)
+  }
+
+  private def withClient(nonBlocking: Boolean, configure: AvaTaxClient => AvaTaxClient = identity)(test: (LocalServer, AvaTaxClient) => Unit): Unit = {
+    val server = new LocalServer().otherwise(file)
+    val client = configure(new AvaTaxClient("Test", "1.0", "Test", server.url).withSecurity("user", "password"))
+
+    if (nonBlocking) {
+      client.withNonBlockingTransport()
+    }
+
+    try {
+      test(server, client)
+    } finally {
+      client.close()
+      server.close()
+    }
+  }
+
+  for ((transport, nonBlocking) <- Seq("blocking" -> false, "non-blocking" -> true)) {
+    s"A download on the $transport transport should" - {
+      "write the body to a channel a chunk at a time, reporting progress after each" in withClient(nonBlocking) { (server, client) =>
+        val out = new ByteArrayOutputStream()
+        val progress = new Progress
+
+        assert(client.downloadReport(1L, Channels.newChannel(out), progress) == content.length)
+        assert(out.toByteArray.sameElements(content))
+        assert(server.requests.map(_.path) == Seq("/api/v2/reports/1/attachment"))
+
+        val reports = progress.reports.asScala.toSeq
+        assert(reports.size > 1)
+        assert(reports.map(_._1) == reports.map(_._1).sorted && reports.map(_._1).distinct.size == reports.size)
+        assert(reports.last == (content.length.toLong, content.length.toLong))
+        assert(reports.forall(_._2 == content.length))
+      }
+
+      "write the body to an output stream" in withClient(nonBlocking) { (_, client) =>
+        val out = new ByteArrayOutputStream()
+
+        assert(client.downloadReport(1L, out, null) == content.length)
+        assert(out.toByteArray.sameElements(content))
+      }
+
+      "replace the file at a path" in withClient(nonBlocking) { (_, client) =>
+        val target = Files.createTempFile("report", ".csv")
+
+        try {
+          Files.write(target, new Array[Byte](content.length * 2))
+
+          assert(client.downloadReport(1L, target, null) == content.length)
+          assert(Files.readAllBytes(target).sameElements(content))
+        } finally {
+          Files.deleteIfExists(target)
+        }
+      }
+
+      "write the body to a channel without blocking the caller" in withClient(nonBlocking) { (_, client) =>
+        val out = new ByteArrayOutputStream()
+
+        assert(client.downloadReportAsync(1L, Channels.newChannel(out), null, null).get(10, TimeUnit.SECONDS) == content.length)
+        assert(out.toByteArray.sameElements(content))
+      }
+
+      "throw the API's error without writing to the target, and delete a file it created" in withClient(nonBlocking) { (server, client) =>
+        server.reply(notFound, notFound)
+        val out = new ByteArrayOutputStream()
+        val progress = new Progress
+        val target = Files.createTempFile("report", ".csv")
+
+        try {
+          val error = intercept[AvaTaxClientException](client.downloadReport(1L, Channels.newChannel(out), progress))
+          assert(error.getStatusCode == 404)
+          assert(error.getErrorResult.getError.getMessage == "No report")
+          assert(out.size == 0 && progress.reports.isEmpty)
+
+          intercept[AvaTaxClientException](client.downloadReport(1L, target, progress))
+          assert(!Files.exists(target))
+        } finally {
+          Files.deleteIfExists(target)
+        }
+      }
+    }
+  }
+
+  "A download with compression" - {
+    "write the decoded body on the blocking transport" in withClient(nonBlocking = false, _.withCompression()) { (server, client) =>
+      server.reply(gzipped)
+      val out = new ByteArrayOutputStream()
+
+      assert(client.downloadReport(1L, Channels.newChannel(out), null) == content.length)
+      assert(out.toByteArray.sameElements(content))
+      assert(server.requests.head.headers.get("accept-encoding").exists(_.contains("gzip")))
+    }
+
+    "ask for an unencoded body on the non-blocking transport, which writes the body as it arrives" in withClient(nonBlocking = true, _.withCompression()) { (server, client) =>
+      val out = new ByteArrayOutputStream()
+
+      assert(client.downloadReport(1L, Channels.newChannel(out), null) == content.length)
+      assert(out.toByteArray.sameElements(content))
+      assert(server.requests.head.headers.get("accept-encoding").contains("identity"))
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package net.avalara.avatax.rest.client
+
+import com.google.gson.reflect.TypeToken
+import net.avalara.avatax.rest.client.LocalServer.Reply
+import net.avalara.avatax.rest.client.models.PingResultModel
+import org.scalatest.FreeSpec
+
+class RestCallFactorySpec extends FreeSpec {
+  private def withFactory(nonBlocking: Boolean, settings: ConnectionPoolSettings)(test: RestCallFactory => Unit): Unit = {
+    val server = new LocalServer().otherwise(Reply(200, """{"version":"1.0","authenticated":false}"""))
+    val factory = new RestCallFactory("Test", "1.0", "Test", server.url)
+    factory.setNonBlocking(nonBlocking)
+    factory.setConnectionPoolSettings(settings)
+
+    try {
+      test(factory)
+    } finally {
+      factory.close()
+      server.close()
+    }
+  }
+
+  private def ping(factory: RestCallFactory): PingResultModel =
+    factory.createRestCall("get", new AvaTaxPath("/api/v2/utilities/ping"), null, new TypeToken[PingResultModel]() {}).call()
+
+  for ((transport, nonBlocking) <- Seq("blocking" -> false, "non-blocking" -> true)) {
+    s"A RestCallFactory on the $transport transport should" - {
+      "size its pool from the settings, and keep a connection for the next call" in withFactory(nonBlocking, new ConnectionPoolSettings().withMaxTotal(5)) { factory =>
+        assert(factory.getConnectionPoolStats == null)
+        assert(ping(factory).getVersion == "1.0")
+
+        val stats = factory.getConnectionPoolStats
+        assert(stats.getMax == 5)
+        assert(stats.getLeased == 0 && stats.getAvailable == 1)
+      }
+
+      "close a connection that has been idle for longer than the idle timeout" in withFactory(nonBlocking, new ConnectionPoolSettings().withIdleTimeout(200)) { factory =>
+        ping(factory)
+        assert(factory.getConnectionPoolStats.getAvailable == 1)
+
+        Thread.sleep(1000)
+        assert(factory.getConnectionPoolStats.getAvailable == 0)
+      }
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package net.avalara.avatax.rest.client
+
+import java.util
+import java.util.concurrent.TimeUnit
+
+import net.avalara.avatax.rest.client.LocalServer.Reply
+import net.avalara.avatax.rest.client.models.{CreateOrAdjustTransactionModel, CreateTransactionModel, LineItemModel}
+import org.scalatest.FreeSpec
+
+class RestCallRetrySpec extends FreeSpec {
+  private def adjustment(): CreateOrAdjustTransactionModel = {
+    val line = new LineItemModel()
+    line.setNumber("1")
+    line.setAmount(new java.math.BigDecimal("100"))
+
+    val transaction = new CreateTransactionModel()
+    transaction.setCode("retry")
+    transaction.setLines(new util.ArrayList[LineItemModel](util.Arrays.asList(line)))
+
+    val model = new CreateOrAdjustTransactionModel()
+    model.setCreateTransactionModel(transaction)
+    model
+  }
+
+  private val htmlUnavailable =
+    Reply(503, "<html><body>Service Unavailable</body></html>".getBytes("UTF-8"), Map("Content-Type" -> "text/html", "Retry-After" -> "0"))
+
+  private def withClient(nonBlocking: Boolean)(test: (LocalServer, AvaTaxClient) => Unit): Unit = {
+    val server = new LocalServer()
+    val client = new AvaTaxClient("Test", "1.0", "Test", server.url)
+      .withSecurity("user", "password")
+      .withRetryPolicy(new RetryPolicy().withBackoff(10, 10))
+
+    if (nonBlocking) {
+      client.withNonBlockingTransport()
+    }
+
+    try {
+      test(server, client)
+    } finally {
+      client.close()
+      server.close()
+    }
+  }
+
+  for ((transport, nonBlocking) <- Seq("blocking" -> false, "non-blocking" -> true)) {
+    s"A POST on the $transport transport should" - {
+      "be sent again, with the same body, after a 503" in withClient(nonBlocking) { (server, client) =>
+        server.reply(Reply.unavailable, Reply(200, """{"id":42}"""))
+
+        assert(client.createOrAdjustTransaction(null, adjustment()).getId == 42)
+
+        val requests = server.requests
+        assert(requests.size == 2)
+        assert(requests.forall(r => r.method == "POST" && r.path == "/api/v2/transactions/createoradjust"))
+        assert(requests(1).body.sameElements(requests.head.body) && requests.head.body.nonEmpty)
+        assert(requests(1).headers.get("authorization") == requests.head.headers.get("authorization"))
+      }
+
+      "be retried when sent asynchronously" in withClient(nonBlocking) { (server, client) =>
+        server.reply(Reply.unavailable, Reply.unavailable, Reply(200, """{"id":7}"""))
+
+        assert(client.createOrAdjustTransactionAsync(null, adjustment()).get(10, TimeUnit.SECONDS).getId == 7)
+        assert(server.requests.size == 3)
+      }
+
+      "be sent again after a 503 whose body is an HTML page rather than an error result" in withClient(nonBlocking) { (server, client) =>
+        server.reply(htmlUnavailable, Reply(200, """{"id":42}"""))
+
+        assert(client.createOrAdjustTransaction(null, adjustment()).getId == 42)
+        assert(server.requests.size == 2)
+      }
+
+      "report an HTML error page by its status line" in withClient(nonBlocking) { (server, client) =>
+        server.otherwise(htmlUnavailable)
+
+        val error = intercept[AvaTaxClientException](client.createOrAdjustTransaction(null, adjustment()))
+        assert(error.getStatusCode == 503 && error.getRetryAfter == "0")
+        assert(error.getErrorResult == null && error.getMessage.contains("503"))
+        assert(server.requests.size == 3)
+      }
+
+      "fail with the last error once the attempts run out" in withClient(nonBlocking) { (server, client) =>
+        server.otherwise(Reply.unavailable)
+
+        val error = intercept[AvaTaxClientException](client.createOrAdjustTransaction(null, adjustment()))
+        assert(error.getStatusCode == 503)
+        assert(server.requests.size == 3)
+      }
+    }
+  }
+}
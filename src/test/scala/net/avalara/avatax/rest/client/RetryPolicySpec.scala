@@ -0,0 +1,64 @@
+package net.avalara.avatax.rest.client
+
+import java.net.{ConnectException, SocketException}
+
+import org.scalatest.FreeSpec
+
+class RetryPolicySpec extends FreeSpec {
+  private def apiError(statusCode: Int, retryAfter: String = null): AvaTaxClientException = {
+    val error = new AvaTaxClientException("HTTP/1.1 " + statusCode)
+    error.setResponse(statusCode, retryAfter)
+    error
+  }
+
+  "RetryPolicy should" - {
+    "treat reads, deletes and CreateOrAdjustTransaction as idempotent" in {
+      val policy = new RetryPolicy()
+
+      assert(policy.isIdempotent("GET", "/api/v2/utilities/ping"))
+      assert(policy.isIdempotent("DELETE", "/api/v2/companies/{id}"))
+      assert(policy.isIdempotent("POST", "/api/v2/transactions/createoradjust"))
+      assert(!policy.isIdempotent("POST", "/api/v2/transactions/create"))
+    }
+
+    "retry throttled idempotent calls with a growing delay" in {
+      val policy = new RetryPolicy().withBackoff(100, 1000).withJitter(0)
+
+      assert(policy.getRetryDelay(1, apiError(429), true) == 100)
+      assert(policy.getRetryDelay(2, apiError(503), true) == 200)
+      assert(policy.getRetryDelay(3, apiError(503), true) == -1)
+      assert(policy.getRetryCount == 2)
+    }
+
+    "never resend a create that may have reached the server" in {
+      val policy = new RetryPolicy()
+
+      assert(policy.getRetryDelay(1, apiError(503), false) == -1)
+      assert(policy.getRetryDelay(1, new SocketException("Connection reset"), false) == -1)
+      assert(policy.getRetryDelay(1, new ConnectException("Connection refused"), false) >= 0)
+    }
+
+    "not retry client errors" in {
+      assert(new RetryPolicy().getRetryDelay(1, apiError(400), true) == -1)
+    }
+
+    "wait at least as long as Retry-After, and give up when it is too long" in {
+      val policy = new RetryPolicy().withBackoff(10, 10).withMaxRetryAfter(5000)
+
+      assert(policy.getRetryDelay(1, apiError(429, "2"), true) == 2000)
+      assert(policy.getRetryDelay(1, apiError(429, "60"), true) == -1)
+    }
+
+    "hedge only once an endpoint has enough samples" in {
+      val policy = new RetryPolicy().withHedging(95, 5)
+
+      assert(policy.isHedged("GET") && !policy.isHedged("POST"))
+      assert(policy.getHedgeDelay("GET /api/v2/utilities/ping") == -1)
+
+      (1 to 100).foreach(i => policy.recordLatency("GET /api/v2/utilities/ping", i * 1000000L))
+
+      val delay = policy.getHedgeDelay("GET /api/v2/utilities/ping")
+      assert(delay >= 90 && delay <= 100)
+    }
+  }
+}
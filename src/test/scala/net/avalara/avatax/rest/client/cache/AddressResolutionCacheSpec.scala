@@ -0,0 +1,142 @@
+package net.avalara.avatax.rest.client.cache
+
+import java.nio.charset.StandardCharsets.UTF_8
+import java.nio.file.{Files, Path}
+import java.util.concurrent.TimeUnit
+
+import net.avalara.avatax.rest.client.LocalServer.Reply
+import net.avalara.avatax.rest.client.enums.{ResolutionQuality, TextCase}
+import net.avalara.avatax.rest.client.models.AddressValidationInfo
+import net.avalara.avatax.rest.client.{AvaTaxClient, LocalServer}
+import org.scalatest.FreeSpec
+
+import scala.collection.JavaConverters._
+
+class AddressResolutionCacheSpec extends FreeSpec {
+  private def resolution(line1: String): Reply =
+    Reply(200, s"""{"address":{"line1":"$line1","region":"WA","country":"US"},"resolutionQuality":"Rooftop"}""")
+
+  private def withCache(test: (LocalServer, AvaTaxClient) => Unit): Unit = {
+    val server = new LocalServer().otherwise(resolution("100 Ravine Lane"))
+    val client = new AvaTaxClient("Test", "1.0", "Test", server.url).withSecurity("user", "password")
+
+    try {
+      test(server, client)
+    } finally {
+      client.close()
+      server.close()
+    }
+  }
+
+  private def withFile(test: Path => Unit): Unit = {
+    val directory = Files.createTempDirectory("addresses")
+    val file = directory.resolve("addresses.snapshot")
+
+    try {
+      test(file)
+    } finally {
+      Files.deleteIfExists(file)
+      Files.deleteIfExists(directory)
+    }
+  }
+
+  "AddressKey should" - {
+    "fold case and whitespace, so that the same address written differently has one key" in {
+      def key(fields: String*): String = fields.foldLeft(new AddressKey('R'))(_ add _).toString
+
+      assert(key("123 Main St", "Seattle") == key(" 123  MAIN\tst ", "seattle"))
+      assert(key("123 Main St", "Seattle") != key("123 Main St", "Tacoma"))
+      assert(key("12 3 Main St", "Seattle") != key("123 Main St", "Seattle"))
+    }
+
+    "keep fields apart, so that moving text between fields changes the key" in {
+      assert(new AddressKey('R').add("100 Main").add(null).toString != new AddressKey('R').add("100").add("Main").toString)
+      assert(new AddressKey('R').add("x").toString != new AddressKey('P').add("x").toString)
+    }
+  }
+
+  "AddressResolutionCache should" - {
+    "share one lookup between the GET and POST forms of an address written differently" in withCache { (server, client) =>
+      val cache = new AddressResolutionCache(client, 100, 1, TimeUnit.HOURS)
+      val model = new AddressValidationInfo()
+      model.setLine1(" 100 RAVINE  lane")
+      model.setCity("bainbridge island")
+      model.setRegion("wa")
+      model.setPostalCode("98110")
+      model.setCountry("us")
+
+      val first = cache.resolveAddress("100 Ravine Lane", null, null, "Bainbridge Island", "WA", "98110", "US", null)
+      assert(cache.resolveAddressPost(model) eq first)
+      assert(first.getResolutionQuality == ResolutionQuality.Rooftop)
+
+      cache.resolveAddress("100 Ravine Lane", null, null, "Bainbridge Island", "WA", "98110", "US", TextCase.Upper)
+      assert(server.requests.size == 2)
+    }
+
+    "save its entries and load them into a new cache, skipping lines that do not parse" in withCache { (server, client) =>
+      withFile { file =>
+        server.reply(resolution("100 Ravine Lane"), resolution("255 S King St"))
+        val cache = new AddressResolutionCache(client, 100, 1, TimeUnit.HOURS)
+        cache.resolveAddress("100 Ravine Lane", null, null, "Bainbridge Island", "WA", "98110", "US", null)
+        cache.resolveAddress("255 S King St", null, null, "Seattle", "WA", "98104", "US", null)
+
+        assert(cache.saveSnapshot(file) == 2)
+        assert(!Files.exists(file.resolveSibling("addresses.snapshot.tmp")))
+
+        val lines = Files.readAllLines(file, UTF_8).asScala
+        Files.write(file, (lines :+ "R\u001fcorrupt\t{\"address\":" :+ "no tab here").asJava, UTF_8)
+
+        val restored = new AddressResolutionCache(client, 100, 1, TimeUnit.HOURS)
+        assert(restored.loadSnapshot(file) == 2)
+
+        val resolved = restored.resolveAddress("255 s king st", null, null, "SEATTLE", "WA", "98104", "US", null)
+        assert(resolved.getAddress.getLine1 == "255 S King St")
+        assert(server.requests.size == 2)
+      }
+    }
+
+    "keep the time each entry was loaded, skipping those that have expired since" in withCache { (server, client) =>
+      withFile { file =>
+        server.reply(resolution("100 Ravine Lane"), resolution("255 S King St"))
+        val cache = new AddressResolutionCache(client, 100, 1, TimeUnit.HOURS)
+        cache.resolveAddress("100 Ravine Lane", null, null, "Bainbridge Island", "WA", "98110", "US", null)
+        cache.resolveAddress("255 S King St", null, null, "Seattle", "WA", "98104", "US", null)
+        cache.saveSnapshot(file)
+
+        // Age the first entry past a one second time-to-live, and the second to within a few hundred milliseconds of it
+        val now = System.currentTimeMillis()
+        val lines = Files.readAllLines(file, UTF_8).asScala
+        val keys = lines.tail.map(_.split("\t", 3)(0))
+        assert(lines.tail.forall(line => math.abs(line.split("\t", 3)(1).toLong - now) < 60000))
+
+        val aged = lines.tail.zip(Seq(now - 5000, now - 700)).map { case (line, loadedAt) =>
+          val fields = line.split("\t", 3)
+          fields(0) + "\t" + loadedAt + "\t" + fields(2)
+        }
+        Files.write(file, (lines.head +: aged).asJava, UTF_8)
+
+        val restored = new AddressResolutionCache(client, 100, 1, TimeUnit.SECONDS)
+        assert(restored.loadSnapshot(file) == 1)
+        assert(restored.getCache.getIfPresent(keys.head) == null)
+        assert(restored.getCache.getIfPresent(keys(1)) != null)
+
+        Thread.sleep(500)
+        assert(restored.getCache.getIfPresent(keys(1)) == null)
+      }
+    }
+
+    "load nothing from a missing file, a file that is not a snapshot or a snapshot without load times" in withCache { (_, client) =>
+      withFile { file =>
+        val cache = new AddressResolutionCache(client, 100, 1, TimeUnit.HOURS)
+        assert(cache.loadSnapshot(file) == 0)
+
+        Files.write(file, Seq("R\u001f100 RAVINE LANE\t{}").asJava, UTF_8)
+        assert(cache.loadSnapshot(file) == 0)
+
+        Files.write(file, Seq("#avatax-address-resolution-cache 1", "R\u001f100 RAVINE LANE\t{}").asJava, UTF_8)
+        assert(cache.loadSnapshot(file) == 0)
+        assert(cache.getCache.size == 0)
+      }
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package net.avalara.avatax.rest.client.cache
+
+import java.util.concurrent.atomic.{AtomicInteger, AtomicReference}
+import java.util.concurrent._
+
+import org.scalatest.FreeSpec
+
+class CoalescingCacheSpec extends FreeSpec {
+  private class CountingLoader(latch: CountDownLatch = new CountDownLatch(0)) extends CoalescingCache.Loader[String, String] {
+    val loads = new AtomicInteger()
+
+    override def load(key: String): String = {
+      latch.await()
+      key + loads.incrementAndGet()
+    }
+  }
+
+  "CoalescingCache should" - {
+    "load a key once and then return the cached value" in {
+      val cache = new CoalescingCache[String, String](10, 1, 0, TimeUnit.HOURS)
+      val loader = new CountingLoader()
+
+      assert(cache.get("a", loader) == "a1")
+      assert(cache.get("a", loader) == "a1")
+      assert(loader.loads.get == 1)
+      assert(cache.getHitCount == 1 && cache.getMissCount == 1)
+    }
+
+    "share one load between concurrent callers" in {
+      val cache = new CoalescingCache[String, String](10, 1, 0, TimeUnit.HOURS)
+      val release = new CountDownLatch(1)
+      val loader = new CountingLoader(release)
+      val pool = Executors.newFixedThreadPool(8)
+
+      try {
+        val futures = (1 to 8).map(_ => pool.submit(new Callable[String] {
+          override def call(): String = cache.get("a", loader)
+        }))
+
+        Thread.sleep(100)
+        release.countDown()
+
+        assert(futures.map(_.get(10, TimeUnit.SECONDS)).forall(_ == "a1"))
+        assert(loader.loads.get == 1)
+      } finally {
+        pool.shutdown()
+      }
+    }
+
+    "evict the least recently used entry beyond the maximum size" in {
+      val cache = new CoalescingCache[String, String](2, 1, 0, TimeUnit.HOURS)
+      cache.put("a", "1")
+      cache.put("b", "2")
+      cache.getIfPresent("a")
+      cache.put("c", "3")
+
+      assert(cache.getIfPresent("a") == "1")
+      assert(cache.getIfPresent("b") == null)
+      assert(cache.getEvictionCount == 1)
+    }
+
+    "not cache a failed load" in {
+      val cache = new CoalescingCache[String, String](10, 1, 0, TimeUnit.HOURS)
+      val failing = new CoalescingCache.Loader[String, String] {
+        override def load(key: String): String = throw new IllegalStateException("down")
+      }
+
+      intercept[IllegalStateException](cache.get("a", failing))
+      assert(cache.get("a", new CountingLoader()) == "a1")
+      assert(cache.getLoadFailureCount == 1)
+    }
+
+    "serve a stale value while reloading it in the background" in {
+      val cache = new CoalescingCache[String, String](10, 50, 60000, TimeUnit.MILLISECONDS)
+      val loader = new CountingLoader()
+
+      assert(cache.get("a", loader) == "a1")
+      Thread.sleep(100)
+      assert(cache.get("a", loader) == "a1")
+
+      val deadline = System.currentTimeMillis() + 5000
+      while (cache.getIfPresent("a") == "a1" && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10)
+      }
+
+      assert(cache.getIfPresent("a") == "a2")
+      assert(cache.getStaleHitCount == 1)
+    }
+
+    "keep a cache split into segments within its maximum size" in {
+      val cache = new CoalescingCache[String, String](1000, 1, 0, TimeUnit.HOURS)
+      (1 to 5000).foreach(i => cache.put("key" + i, "value"))
+
+      assert(cache.size == 1000)
+      assert(cache.getEvictionCount == 4000)
+      assert(cache.getIfPresent("key5000") == "value")
+    }
+
+    "queue one reload of a stale key however many readers see it" in {
+      val queued = new ConcurrentLinkedQueue[Runnable]()
+      val cache = new CoalescingCache[String, String](10, 50, 60000, TimeUnit.MILLISECONDS, new Executor {
+        override def execute(command: Runnable): Unit = queued.add(command)
+      })
+      val loader = new CountingLoader()
+
+      assert(cache.get("a", loader) == "a1")
+      Thread.sleep(100)
+      (1 to 10).foreach(_ => assert(cache.get("a", loader) == "a1"))
+
+      assert(queued.size == 1)
+      queued.poll().run()
+      assert(cache.get("a", loader) == "a2")
+      assert(cache.getStaleHitCount == 10 && loader.loads.get == 2)
+    }
+
+    "serve the stale value when the reload cannot be queued" in {
+      val attempts = new AtomicInteger()
+      val cache = new CoalescingCache[String, String](10, 50, 60000, TimeUnit.MILLISECONDS, new Executor {
+        override def execute(command: Runnable): Unit = {
+          attempts.incrementAndGet()
+          throw new RejectedExecutionException("full")
+        }
+      })
+      val loader = new CountingLoader()
+
+      cache.get("a", loader)
+      Thread.sleep(100)
+
+      assert(cache.get("a", loader) == "a1")
+      assert(cache.get("a", loader) == "a1")
+      assert(attempts.get == 2)
+    }
+
+    "reload in the background on shared daemon threads by default" in {
+      val thread = new AtomicReference[Thread]()
+      val loader = new CoalescingCache.Loader[String, String] {
+        override def load(key: String): String = {
+          thread.set(Thread.currentThread())
+          key
+        }
+      }
+      val cache = new CoalescingCache[String, String](10, 50, 60000, TimeUnit.MILLISECONDS)
+
+      cache.get("a", loader)
+      Thread.sleep(100)
+      cache.get("a", loader)
+
+      val deadline = System.currentTimeMillis() + 5000
+      while ((thread.get == null || thread.get.getName != "avatax-cache-refresh") && System.currentTimeMillis() < deadline) {
+        Thread.sleep(10)
+      }
+
+      assert(thread.get.getName == "avatax-cache-refresh" && thread.get.isDaemon)
+    }
+  }
+}
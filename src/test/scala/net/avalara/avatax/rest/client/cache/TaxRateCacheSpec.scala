@@ -0,0 +1,54 @@
+package net.avalara.avatax.rest.client.cache
+
+import java.text.SimpleDateFormat
+import java.util.TimeZone
+import java.util.concurrent.TimeUnit
+
+import net.avalara.avatax.rest.client.LocalServer.Reply
+import net.avalara.avatax.rest.client.{AvaTaxClient, LocalServer}
+import org.scalatest.FreeSpec
+
+class TaxRateCacheSpec extends FreeSpec {
+  private def time(value: String, zone: String): Long = {
+    val format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS")
+    format.setTimeZone(TimeZone.getTimeZone(zone))
+    format.parse(value).getTime
+  }
+
+  private def withCache(zone: TimeZone = TimeZone.getDefault)(test: (LocalServer, TaxRateCache) => Unit): Unit = {
+    val server = new LocalServer().otherwise(Reply(200, """{"totalRate":0.101,"rates":[]}"""))
+    val client = new AvaTaxClient("Test", "1.0", "Test", server.url).withSecurity("user", "password")
+
+    try {
+      test(server, new TaxRateCache(client, 100, 1, TimeUnit.HOURS, zone))
+    } finally {
+      client.close()
+      server.close()
+    }
+  }
+
+  "TaxRateCache should" - {
+    "share one lookup between addresses that differ only in case and spacing" in withCache() { (server, cache) =>
+      val first = cache.taxRatesByAddress("100 Ravine Lane", null, null, "Bainbridge Island", "WA", "98110", "US")
+      val second = cache.taxRatesByAddress(" 100  ravine lane ", "", null, "BAINBRIDGE ISLAND", "wa", "98110 ", "us")
+
+      assert(second eq first)
+      assert(first.getTotalRate.toPlainString == "0.101")
+
+      val byPostalCode = cache.taxRatesByPostalCode("US", "98110")
+      assert(byPostalCode ne first)
+      assert(cache.taxRatesByPostalCode("us", " 98110") eq byPostalCode)
+      assert(server.requests.map(_.path) == Seq("/api/v2/taxrates/byaddress", "/api/v2/taxrates/bypostalcode"))
+    }
+
+    "start a new key at midnight in its time zone" in withCache(TimeZone.getTimeZone("America/Los_Angeles")) { (_, cache) =>
+      def key(value: String, zone: String): String = cache.key('P', time(value, zone)).toString
+
+      assert(key("2018-10-01 00:00:00.000", "America/Los_Angeles") == key("2018-10-01 23:59:59.999", "America/Los_Angeles"))
+      assert(key("2018-10-01 23:59:59.999", "America/Los_Angeles") != key("2018-10-02 00:00:00.000", "America/Los_Angeles"))
+
+      // Midnight UTC falls in the afternoon of the previous day in Los Angeles
+      assert(key("2018-10-02 00:00:00.000", "UTC") == key("2018-10-01 12:00:00.000", "America/Los_Angeles"))
+    }
+  }
+}
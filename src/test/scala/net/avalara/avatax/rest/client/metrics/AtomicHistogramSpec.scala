@@ -0,0 +1,37 @@
+package net.avalara.avatax.rest.client.metrics
+
+import org.scalatest.FreeSpec
+
+class AtomicHistogramSpec extends FreeSpec {
+  "AtomicHistogram should" - {
+    "count small values exactly" in {
+      val histogram = new AtomicHistogram()
+      (0 until 32).foreach(v => histogram.record(v))
+
+      assert(histogram.getCount == 32)
+      assert(histogram.getValueAtPercentile(50) == 15)
+      assert(histogram.getMax == 31)
+    }
+
+    "report percentiles within 1/16 of the true value" in {
+      val histogram = new AtomicHistogram()
+      (1L to 100000L).foreach(v => histogram.record(v * 1000))
+
+      for (percentile <- Seq(10.0, 50.0, 90.0, 99.0, 99.9)) {
+        val expected = (percentile / 100 * 100000).toLong * 1000
+        val actual = histogram.getValueAtPercentile(percentile)
+        assert(actual >= expected && actual <= expected + expected / 16, s"p$percentile was $actual, expected about $expected")
+      }
+
+      assert(histogram.getValueAtPercentile(100) == 100000000L)
+    }
+
+    "map every value to a bucket whose upper bound covers it" in {
+      for (value <- Seq(0L, 31L, 32L, 33L, 1000L, 123456789L, Long.MaxValue / 3, Long.MaxValue)) {
+        val index = AtomicHistogram.indexOf(value)
+        assert(AtomicHistogram.highestEquivalentValue(index) >= value)
+        assert(index == 0 || AtomicHistogram.highestEquivalentValue(index - 1) < value)
+      }
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package net.avalara.avatax.rest.client.offline
+
+import java.math.BigDecimal
+import java.util
+
+import net.avalara.avatax.rest.client.AvaTaxClientException
+import net.avalara.avatax.rest.client.enums.{DocumentStatus, DocumentType, PointOfSaleFileType, TaxType}
+import net.avalara.avatax.rest.client.models.{AddressLocationInfo, AddressesModel, CreateTransactionModel, LineItemModel}
+import org.scalatest.FreeSpec
+
+import scala.collection.JavaConverters._
+
+class LocalTaxCalculatorSpec extends FreeSpec {
+  import TaxContentIndexSpec._
+
+  private val calculator = new LocalTaxCalculator(TaxContentIndex.load(Csv, PointOfSaleFileType.Csv))
+
+  private def line(number: String, amount: String, configure: LineItemModel => Unit = _ => ()): LineItemModel = {
+    val line = new LineItemModel()
+    line.setNumber(number)
+    line.setAmount(new BigDecimal(amount))
+    configure(line)
+    line
+  }
+
+  private def transaction(lines: LineItemModel*): CreateTransactionModel = {
+    val location = new AddressLocationInfo()
+    location.setLocationCode("STORE1")
+    val addresses = new AddressesModel()
+    addresses.setSingleLocation(location)
+
+    val model = new CreateTransactionModel()
+    model.setCode("lane-1")
+    model.setType(DocumentType.SalesInvoice)
+    model.setDate(day("2019-06-01"))
+    model.setAddresses(addresses)
+    model.setLines(new util.ArrayList[LineItemModel](lines.asJava))
+    model
+  }
+
+  private def amount(value: BigDecimal): String = value.setScale(2).toPlainString
+
+  "LocalTaxCalculator should" - {
+    "tax each line at the rates of its location and tax code, with one detail per jurisdiction" in {
+      val result = calculator.calculate(transaction(line("1", "100"), line("2", "50", _.setTaxCode("PC040100"))))
+
+      assert(result.getStatus == DocumentStatus.Temporary)
+      assert(amount(result.getTotalTax) == "11.10")
+      assert(amount(result.getTotalTaxable) == "150.00")
+
+      val first = result.getLines.get(0)
+      assert(amount(first.getTax) == "10.10")
+      assert(first.getDetails.asScala.map(d => (d.getJurisName, amount(d.getTax), d.getTaxType)) ==
+        Seq(("WASHINGTON", "6.50", TaxType.Sales), ("SEATTLE", "3.60", TaxType.Sales)))
+      assert(amount(result.getLines.get(1).getTax) == "1.00")
+    }
+
+    "take the tax out of a tax-included amount" in {
+      val result = calculator.calculate(transaction(line("1", "110.10", _.setTaxIncluded(true))))
+      val taxed = result.getLines.get(0)
+
+      assert(amount(taxed.getLineAmount) == "110.10")
+      assert(amount(taxed.getTaxableAmount) == "100.00")
+      assert(amount(taxed.getTax) == "10.10")
+    }
+
+    "tax nothing on an exempt line or document" in {
+      val result = calculator.calculate(transaction(line("1", "100", _.setExemptionCode("EX-1")), line("2", "100")))
+
+      assert(amount(result.getLines.get(0).getTax) == "0.00")
+      assert(amount(result.getLines.get(0).getExemptAmount) == "100.00")
+      assert(!result.getLines.get(0).getIsItemTaxable)
+      assert(amount(result.getTotalExempt) == "100.00")
+      assert(amount(result.getTotalTax) == "10.10")
+
+      val exempt = transaction(line("1", "100"))
+      exempt.setCustomerUsageType("G")
+      assert(amount(calculator.calculate(exempt).getTotalTax) == "0.00")
+    }
+
+    "spread the document discount over the discounted lines" in {
+      val model = transaction(line("1", "100", _.setDiscounted(true)), line("2", "300", _.setDiscounted(true)), line("3", "100"))
+      model.setDiscount(new BigDecimal("40"))
+      val result = calculator.calculate(model)
+
+      assert(result.getLines.asScala.map(l => amount(l.getDiscountAmount)) == Seq("10.00", "30.00", "0.00"))
+      assert(amount(result.getTotalTaxable) == "460.00")
+    }
+
+    "tax purchases at the use tax rates" in {
+      val model = transaction(line("1", "100"))
+      model.setType(DocumentType.PurchaseInvoice)
+      val result = calculator.calculate(model)
+
+      assert(amount(result.getTotalTax) == "6.50")
+      assert(result.getLines.get(0).getDetails.get(0).getTaxType == TaxType.Use)
+    }
+
+    "fail rather than tax a line at zero when no rate applies" in {
+      val tooEarly = transaction(line("1", "100"))
+      tooEarly.setDate(day("2017-12-31"))
+      intercept[AvaTaxClientException](calculator.calculate(tooEarly))
+
+      // Content without a TaxType column only has sales tax rates
+      val salesOnlyCsv = Csv.split("\n").filterNot(_.contains(",U,")).map(_.replace(",TaxType", "").replace(",S,", ",")).mkString("\n")
+      val salesOnly = new LocalTaxCalculator(TaxContentIndex.load(salesOnlyCsv, PointOfSaleFileType.Csv))
+      val purchase = transaction(line("1", "100"))
+      purchase.setType(DocumentType.PurchaseOrder)
+      assert(amount(salesOnly.calculate(transaction(line("1", "100"))).getTotalTax) == "10.10")
+      intercept[AvaTaxClientException](salesOnly.calculate(purchase))
+
+      intercept[AvaTaxClientException](calculator.calculate(transaction(line("1", "100", _.setTaxCode("PX999999")))))
+    }
+
+    "fail for a line without a location code" in {
+      val model = transaction(line("1", "100"))
+      model.setAddresses(null)
+      intercept[AvaTaxClientException](calculator.calculate(model))
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package net.avalara.avatax.rest.client.offline
+
+import java.nio.file.Files
+import java.text.SimpleDateFormat
+import java.util.TimeZone
+
+import net.avalara.avatax.rest.client.LocalServer.Reply
+import net.avalara.avatax.rest.client.enums.{JurisdictionType, PointOfSaleFileType}
+import net.avalara.avatax.rest.client.models.PointOfSaleDataRequestModel
+import net.avalara.avatax.rest.client.{AvaTaxClient, LocalServer}
+import org.scalatest.FreeSpec
+
+import scala.collection.JavaConverters._
+
+object TaxContentIndexSpec {
+  val Csv: String =
+    """LocationCode,TaxCode,ShipToState,JurisType,JurisCode,JurisName,TaxDescription,TaxType,TaxRate,EffDate,EndDate
+      |STORE1,P0000000,WA,STA,53,WASHINGTON,WA STATE TAX,S,0.065,2018-01-01,2099-12-31
+      |STORE1,P0000000,WA,CIT,63000,SEATTLE,WA CITY TAX,S,0.036,2018-01-01,2099-12-31
+      |STORE1,P0000000,WA,STA,53,WASHINGTON,WA STATE USE TAX,U,0.065,2018-01-01,2099-12-31
+      |STORE1,PC040100,WA,STA,53,WASHINGTON,WA STATE TAX,S,0.02,2018-01-01,2099-12-31
+      |""".stripMargin
+
+  val Json: String =
+    """{"TaxContent":[
+      |{"LocationCode":"STORE1","TaxCode":"P0000000","ShipToState":"WA","JurisType":"STA","JurisCode":"53","JurisName":"WASHINGTON","TaxDescription":"WA STATE TAX","TaxType":"S","TaxRate":0.065,"EffDate":"2018-01-01T00:00:00","EndDate":"2099-12-31T00:00:00","Unknown":{"a":1}},
+      |{"LocationCode":"STORE1","TaxCode":"P0000000","ShipToState":"WA","JurisType":"CIT","JurisCode":"63000","JurisName":"SEATTLE","TaxDescription":"WA CITY TAX","TaxType":"S","TaxRate":0.036,"EffDate":"2018-01-01T00:00:00","EndDate":null},
+      |{"LocationCode":"STORE1","TaxCode":"P0000000","ShipToState":"WA","JurisType":"STA","JurisCode":"53","JurisName":"WASHINGTON","TaxDescription":"WA STATE USE TAX","TaxType":"U","TaxRate":0.065,"EffDate":"2018-01-01T00:00:00","EndDate":null},
+      |{"LocationCode":"STORE1","TaxCode":"PC040100","ShipToState":"WA","JurisType":"STA","JurisCode":"53","JurisName":"WASHINGTON","TaxDescription":"WA STATE TAX","TaxType":"S","TaxRate":0.02,"EffDate":"2018-01-01T00:00:00","EndDate":null}
+      |]}""".stripMargin
+
+  def day(value: String): java.util.Date = {
+    val format = new SimpleDateFormat("yyyy-MM-dd")
+    format.setTimeZone(TimeZone.getTimeZone("UTC"))
+    format.parse(value)
+  }
+}
+
+class TaxContentIndexSpec extends FreeSpec {
+  import TaxContentIndexSpec._
+
+  private def checkIndex(index: TaxContentIndex): Unit = {
+    assert(index.size == 4)
+
+    val rates = index.getRates("STORE1", "P0000000", day("2019-06-01"))
+    assert(rates.getTotalRate.compareTo(new java.math.BigDecimal("0.101")) == 0)
+    assert(rates.getRates.asScala.map(r => (r.getName, r.getType)) ==
+      Seq("WASHINGTON" -> JurisdictionType.State, "SEATTLE" -> JurisdictionType.City))
+    assert(index.getRates("STORE1", "PC040100", null).getTotalRate.compareTo(new java.math.BigDecimal("0.02")) == 0)
+  }
+
+  "TaxContentIndex should" - {
+    "load the CSV layout" in {
+      checkIndex(TaxContentIndex.load(Csv, PointOfSaleFileType.Csv))
+    }
+
+    "load the JSON layout, as an array or wrapped in an object" in {
+      checkIndex(TaxContentIndex.load(Json, PointOfSaleFileType.Json))
+      checkIndex(TaxContentIndex.load(Json.substring(Json.indexOf('['), Json.lastIndexOf(']') + 1), null))
+    }
+
+    "load a file" in {
+      val file = Files.createTempFile("taxcontent", ".csv")
+
+      try {
+        Files.write(file, Csv.getBytes("UTF-8"))
+        checkIndex(TaxContentIndex.load(file, PointOfSaleFileType.Csv))
+      } finally {
+        Files.delete(file)
+      }
+    }
+
+    "refuse XML" in {
+      intercept[IllegalArgumentException](TaxContentIndex.load("<TaxContent/>", PointOfSaleFileType.Xml))
+    }
+
+    "look locations and tax codes up ignoring case and surrounding spaces" in {
+      val index = TaxContentIndex.load(Csv, PointOfSaleFileType.Csv)
+
+      assert(index.contains(" store1 ", "p0000000"))
+      assert(!index.contains("STORE2", "P0000000"))
+      assert(index.getRates("STORE2", "P0000000", null) == null)
+    }
+
+    "find only the rates in effect on a date, for the kind of tax asked for" in {
+      val index = TaxContentIndex.load(Csv, PointOfSaleFileType.Csv)
+
+      assert(index.find("STORE1", "P0000000", "2019-06-01", false).size == 2)
+      assert(index.find("STORE1", "P0000000", "2019-06-01", true).size == 1)
+      assert(index.find("STORE1", "P0000000", "2017-12-31", false) == null)
+      assert(index.find("STORE1", "PC040100", null, true) == null)
+      assert(index.getRates("STORE1", "P0000000", day("2017-12-31")) == null)
+    }
+
+    "download the content through a file and index it" in {
+      val server = new LocalServer().reply(Reply(200, Json))
+      val client = new AvaTaxClient("Test", "1.0", "Test", server.url).withSecurity("user", "password")
+
+      try {
+        val model = new PointOfSaleDataRequestModel()
+        model.setCompanyCode("DEFAULT")
+        checkIndex(TaxContentIndex.download(client, model))
+
+        assert(model.getResponseType == PointOfSaleFileType.Json)
+        assert(server.requests.map(r => r.method -> r.path) == Seq("POST" -> "/api/v2/pointofsaledata/build"))
+      } finally {
+        client.close()
+        server.close()
+      }
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package net.avalara.avatax.rest.client.offline
+
+import java.io.IOException
+import java.nio.charset.StandardCharsets.UTF_8
+import java.nio.file.{Files, Path}
+
+import net.avalara.avatax.rest.client.enums.JurisdictionType
+import org.scalatest.FreeSpec
+
+import scala.collection.JavaConverters._
+
+class ZipRateTableSpec extends FreeSpec {
+  import TaxContentIndexSpec.day
+
+  // Out of order, with a zip that lost its leading zero, a zip in two cities and a special district in 98101
+  private val Csv =
+    """ZIP_CODE,STATE_ABBREV,COUNTY_NAME,CITY_NAME,STATE_SALES_TAX,STATE_USE_TAX,COUNTY_SALES_TAX,COUNTY_USE_TAX,CITY_SALES_TAX,CITY_USE_TAX,TOTAL_SALES_TAX,TOTAL_USE_TAX,TAX_SHIPPING_ALONE,TAX_SHIPPING_AND_HANDLING_TOGETHER
+      |98101,WA,KING,SEATTLE,0.065,0.065,0,0,0.036,0.036,0.101,0.101,Y,Y
+      |2108,MA,SUFFOLK,BOSTON,0.0625,0.0625,0,0,0,0,0.0625,0.0625,N,Y
+      |
+      |80301,CO,BOULDER,BOULDER,0.029,0.029,0.00985,0.00985,0.03860,0.03860,0.08845,0.08845,N,N
+      |80301,CO,BOULDER,"GUNBARREL, CO",0.029,0.029,0.00985,0.00985,0,0,0.04985,0.04985,N,N
+      |""".stripMargin
+
+  private def checkTable(table: ZipRateTable): Unit = {
+    assert(table.size == 4)
+    assert(table.getEffectiveDate == day("2018-10-01"))
+
+    val seattle = table.getSalesTaxRates("98101", null)
+    assert(seattle.getTotalRate.toPlainString == "0.101")
+    assert(seattle.getRates.asScala.map(r => (r.getName, r.getType, r.getRate.toPlainString)) == Seq(
+      ("WA", JurisdictionType.State, "0.065"), ("KING", JurisdictionType.County, "0"), ("SEATTLE", JurisdictionType.City, "0.036")))
+    assert(table.isShippingTaxable("98101", null) && table.isShippingAndHandlingTaxable("98101", null))
+
+    assert(table.getTotalSalesTaxRate("02108-1234", null).toPlainString == "0.0625")
+    assert(!table.isShippingTaxable("02108", null) && table.isShippingAndHandlingTaxable("02108", null))
+
+    assert(table.getTotalSalesTaxRate("80301", null).toPlainString == "0.08845")
+    assert(table.getTotalSalesTaxRate("80301", " gunbarrel, co ").toPlainString == "0.04985")
+    assert(table.getUseTaxRates("80301", "Nowhere").getTotalRate.toPlainString == "0.08845")
+
+    assert(!table.contains("10001") && table.getSalesTaxRates("10001", null) == null)
+    assert(!table.contains("981") && !table.contains("ABCDE") && !table.contains(null))
+    assert(table.getTotalSalesTaxRate("99999", null) == null && !table.isShippingTaxable("99999", null))
+  }
+
+  private def withFile(test: Path => Unit): Unit = {
+    val file = Files.createTempFile("rates", ".bin")
+
+    try {
+      test(file)
+    } finally {
+      Files.delete(file)
+    }
+  }
+
+  "ZipRateTable should" - {
+    "parse the rate file into sorted records" in {
+      checkTable(ZipRateTable.parse(Csv, day("2018-10-01")))
+    }
+
+    "report the total's difference from its parts as a special district" in {
+      val csv = Csv.replace("0.101,0.101,Y,Y", "0.103,0.101,Y,Y")
+      val rates = ZipRateTable.parse(csv, null).getSalesTaxRates("98101", null).getRates.asScala
+
+      assert(rates.last.getType == JurisdictionType.Special)
+      assert(rates.last.getRate.toPlainString == "0.002")
+    }
+
+    "name the line that is not valid, and require the key columns" in {
+      val invalid = intercept[IllegalArgumentException](ZipRateTable.parse(Csv + "98ABC,WA,KING,SEATTLE,0,0,0,0,0,0,0,0,N,N\n", null))
+      assert(invalid.getMessage.startsWith("Line 7 "))
+
+      intercept[IllegalArgumentException](ZipRateTable.parse(Csv.replace("TOTAL_SALES_TAX,", "TOTAL,"), null))
+      intercept[IllegalArgumentException](ZipRateTable.parse("", null))
+    }
+
+    "save to a file and open it again by mapping it" in withFile { file =>
+      ZipRateTable.parse(Csv, day("2018-10-01")).save(file)
+      checkTable(ZipRateTable.open(file))
+
+      // Saving a mapped table writes the same file again
+      val copy = Files.createTempFile("rates", ".bin")
+
+      try {
+        ZipRateTable.open(file).save(copy)
+        assert(Files.readAllBytes(copy).sameElements(Files.readAllBytes(file)))
+      } finally {
+        Files.delete(copy)
+      }
+    }
+
+    "refuse to open a file that is not a table, or is truncated" in withFile { file =>
+      Files.write(file, Csv.getBytes(UTF_8))
+      intercept[IOException](ZipRateTable.open(file))
+
+      ZipRateTable.parse(Csv, null).save(file)
+      val bytes = Files.readAllBytes(file)
+      Files.write(file, bytes.take(bytes.length - 1))
+      intercept[IOException](ZipRateTable.open(file))
+    }
+  }
+}
@@ -0,0 +1,1096 @@
+package net.avalara.avatax.rest.client.testkit;
+
+import com.google.gson.reflect.TypeToken;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import net.avalara.avatax.rest.client.enums.*;
+import net.avalara.avatax.rest.client.models.*;
+import net.avalara.avatax.rest.client.serializer.JsonSerializer;
+import org.apache.commons.codec.binary.Base64;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An in-process stand-in for the AvaTax REST v2 API, for load, latency and failure testing without network access.
+ *
+ * The server answers the calls an integration makes most often with plausible, deterministic payloads:
+ * <ul>
+ *     <li>POST /api/v2/transactions/create - computes tax on every line at the configured jurisdiction rates</li>
+ *     <li>GET and POST /api/v2/addresses/resolve - echoes the address back as a validated, geocoded address</li>
+ *     <li>GET /api/v2/taxrates/byaddress and /api/v2/taxrates/bypostalcode - returns the configured rates</li>
+ *     <li>GET /api/v2/utilities/ping</li>
+ *     <li>POST /api/v2/companies/{companyId}/batches, and GET of each batch and its file attachments - a batch moves
+ *     from Waiting through Processing to Completed on successive reads, then offers a result file listing every
+ *     imported document; file content is base64 in the batch, as in the API, and plain in the attachment</li>
+ *     <li>GET /api/v2/reports/{id}/attachment - a CSV report of the configured number of rows, generated as it is
+ *     sent so that downloads of any size can be tested</li>
+ *     <li>POST /api/v2/companies/{companyId}/certificates/{id}/attachment and .../notices/files/attachment - reads a
+ *     multipart/form-data upload as it arrives and describes it: each form field, and the name, size and CRC-32 of
+ *     each file</li>
+ *     <li>any other GET, including /api/v2/definitions/* - a paged FetchResult honouring $top and $skip and
+ *     linking to the next page with @nextLink</li>
+ * </ul>
+ * Anything else gets a 404 ErrorResult.  Latency and errors can be injected, and the server counts requests, the
+ * distinct client connections they arrived on and the body bytes in each direction.  Gzipped request bodies are
+ * always accepted, and responses can be gzipped for clients that ask.
+ *
+ * <pre>
+ * FakeAvaTaxServer server = new FakeAvaTaxServer().withLatency(5, 20).withErrorRate(0.01, 503).start();
+ * AvaTaxClient client = new AvaTaxClient("app", "1.0", "test", server.getUrl()).withSecurity("user", "pass");
+ * </pre>
+ */
+public class FakeAvaTaxServer implements Closeable {
+    private static final int MAX_TOP = 1000;
+    private static final BigDecimal HUNDRED = new BigDecimal(100);
+    private static final Pattern BATCHES = Pattern.compile("/api/v2/companies/\\d+/batches");
+    private static final Pattern BATCH = Pattern.compile("/api/v2/companies/\\d+/batches/\\d+");
+    private static final Pattern BATCH_FILE = Pattern.compile("/api/v2/companies/\\d+/batches/\\d+/files/\\d+/attachment");
+    private static final Pattern REPORT_FILE = Pattern.compile("/api/v2/reports/\\d+/attachment");
+    private static final Pattern UPLOAD = Pattern.compile("/api/v2/companies/\\d+/(certificates/\\d+|notices/files)/attachment");
+
+    private int port;
+    private volatile long minLatencyMillis;
+    private volatile long maxLatencyMillis;
+    private volatile double errorRate;
+    private volatile int errorStatus = 500;
+    private volatile int recordCount = 250;
+    private volatile long reportRows = 1000;
+    private volatile int compressionThreshold = -1;
+    private volatile List<RateModel> rates = defaultRates();
+    private final List<ForcedError> forcedErrors = new CopyOnWriteArrayList<ForcedError>();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong bytesReceived = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private final AtomicLong transactionId = new AtomicLong();
+    private final AtomicInteger batchId = new AtomicInteger();
+    private final ConcurrentMap<Integer, BatchModel> batches = new ConcurrentHashMap<Integer, BatchModel>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Set<InetSocketAddress> connections = Collections.newSetFromMap(new ConcurrentHashMap<InetSocketAddress, Boolean>());
+
+    public FakeAvaTaxServer() {
+    }
+
+    /**
+     * @param port The port to listen on; zero, the default, picks a free port
+     * @return this
+     */
+    public FakeAvaTaxServer withPort(int port) {
+        this.port = port;
+        return this;
+    }
+
+    /**
+     * Delay every response by a uniformly random time in the given range.
+     *
+     * @param minMillis The shortest delay
+     * @param maxMillis The longest delay
+     * @return this
+     */
+    public FakeAvaTaxServer withLatency(long minMillis, long maxMillis) {
+        if (minMillis < 0 || maxMillis < minMillis) {
+            throw new IllegalArgumentException("Latency must satisfy 0 <= min <= max");
+        }
+
+        this.minLatencyMillis = minMillis;
+        this.maxLatencyMillis = maxMillis;
+        return this;
+    }
+
+    /**
+     * Fail a random fraction of requests with a canned ErrorResult.  429 and 503 responses carry a Retry-After header.
+     *
+     * @param errorRate The probability, from 0 to 1, that any one request fails
+     * @param statusCode The HTTP status to fail with
+     * @return this
+     */
+    public FakeAvaTaxServer withErrorRate(double errorRate, int statusCode) {
+        if (errorRate < 0 || errorRate > 1) {
+            throw new IllegalArgumentException("errorRate must be between 0 and 1");
+        }
+
+        this.errorRate = errorRate;
+        this.errorStatus = statusCode;
+        return this;
+    }
+
+    /**
+     * Fail every request whose path starts with the given prefix.  Forced errors are checked before random ones.
+     *
+     * @param pathPrefix The path prefix, for example "/api/v2/transactions/create"
+     * @param statusCode The HTTP status to fail with
+     * @param error The body to return, or null for a canned ErrorResult matching the status
+     * @return this
+     */
+    public FakeAvaTaxServer withError(String pathPrefix, int statusCode, ErrorResult error) {
+        return withError(pathPrefix, statusCode, error, -1);
+    }
+
+    /**
+     * Fail the next requests whose path starts with the given prefix, then answer them normally again.
+     *
+     * @param pathPrefix The path prefix, for example "/api/v2/companies/1/batches/1"
+     * @param statusCode The HTTP status to fail with
+     * @param error The body to return, or null for a canned ErrorResult matching the status
+     * @param times The number of requests to fail, or -1 to fail every one
+     * @return this
+     */
+    public FakeAvaTaxServer withError(String pathPrefix, int statusCode, ErrorResult error, int times) {
+        forcedErrors.add(new ForcedError(pathPrefix, statusCode, error, times));
+        return this;
+    }
+
+    /**
+     * Remove every error added with withError.
+     *
+     * @return this
+     */
+    public FakeAvaTaxServer clearErrors() {
+        forcedErrors.clear();
+        return this;
+    }
+
+    /**
+     * @param recordCount The number of records every paged list endpoint reports
+     * @return this
+     */
+    public FakeAvaTaxServer withRecordCount(int recordCount) {
+        this.recordCount = recordCount;
+        return this;
+    }
+
+    /**
+     * @param reportRows The number of rows in every report download, at about 60 bytes a row
+     * @return this
+     */
+    public FakeAvaTaxServer withReportRows(long reportRows) {
+        this.reportRows = reportRows;
+        return this;
+    }
+
+    /**
+     * Gzip response bodies of at least the given size when the request's Accept-Encoding allows it.
+     *
+     * @param minBytes The smallest body to compress
+     * @return this
+     */
+    public FakeAvaTaxServer withCompression(int minBytes) {
+        this.compressionThreshold = minBytes;
+        return this;
+    }
+
+    /**
+     * Replace the jurisdiction rates used for tax calculation and rate lookups.
+     *
+     * @param rates The rates, one per jurisdiction
+     * @return this
+     */
+    public FakeAvaTaxServer withRates(RateModel... rates) {
+        this.rates = Collections.unmodifiableList(new ArrayList<RateModel>(Arrays.asList(rates)));
+        return this;
+    }
+
+    public synchronized FakeAvaTaxServer start() throws IOException {
+        if (server != null) {
+            throw new IllegalStateException("The server is already running.");
+        }
+
+        // The JDK server writes headers and body separately; without TCP_NODELAY every response waits on a delayed ACK
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+
+        executor = Executors.newCachedThreadPool(new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "fake-avatax-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 1024);
+        server.setExecutor(executor);
+        server.createContext("/", new Handler());
+        server.start();
+        return this;
+    }
+
+    /**
+     * @return The base URL to pass to the AvaTaxClient constructor
+     */
+    public String getUrl() {
+        return "http://localhost:" + getPort();
+    }
+
+    public int getPort() {
+        if (server == null) {
+            throw new IllegalStateException("The server has not been started.");
+        }
+
+        return server.getAddress().getPort();
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    /**
+     * @return Request body bytes read since the last reset, as sent, before any decompression
+     */
+    public long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    /**
+     * @return Response body bytes written since the last reset, after any compression
+     */
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    /**
+     * @return The number of distinct client connections seen since the last reset
+     */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * @return The highest number of requests handled at the same time since the last reset
+     */
+    public int getMaxConcurrentRequests() {
+        return maxInFlight.get();
+    }
+
+    public void resetStats() {
+        requestCount.set(0);
+        errorCount.set(0);
+        bytesReceived.set(0);
+        bytesSent.set(0);
+        maxInFlight.set(0);
+        connections.clear();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    /**
+     * Build the ErrorResult AvaTax would return for a status code.
+     *
+     * @param statusCode The HTTP status
+     * @param message The error message
+     * @return The error body
+     */
+    public static ErrorResult errorResult(int statusCode, String message) {
+        ErrorCodeId code;
+
+        switch (statusCode) {
+            case 401:
+                code = ErrorCodeId.AuthenticationException;
+                break;
+            case 403:
+                code = ErrorCodeId.AuthorizationException;
+                break;
+            case 404:
+                code = ErrorCodeId.EntityNotFoundError;
+                break;
+            case 408:
+            case 504:
+                code = ErrorCodeId.TimeoutRequested;
+                break;
+            case 503:
+                code = ErrorCodeId.ServerUnreachable;
+                break;
+            default:
+                code = ErrorCodeId.ServerConfiguration;
+                break;
+        }
+
+        ErrorDetail detail = new ErrorDetail();
+        detail.setCode(code);
+        detail.setNumber(statusCode);
+        detail.setMessage(message);
+        detail.setDescription(message);
+        detail.setFaultCode(statusCode >= 500 ? "Server" : "Client");
+        detail.setSeverity(SeverityLevel.Error);
+
+        ErrorInfo info = new ErrorInfo();
+        info.setCode(code);
+        info.setMessage(message);
+        info.setTarget(statusCode >= 500 ? ErrorTargetCode.AvaTaxApiServer : ErrorTargetCode.HttpRequest);
+        info.setDetails(new ArrayList<ErrorDetail>(Collections.singletonList(detail)));
+
+        ErrorResult result = new ErrorResult();
+        result.setError(info);
+        return result;
+    }
+
+    private static List<RateModel> defaultRates() {
+        return Collections.unmodifiableList(Arrays.asList(
+                rate(JurisdictionType.State, "CALIFORNIA", "0.06"),
+                rate(JurisdictionType.County, "ORANGE", "0.0025"),
+                rate(JurisdictionType.City, "IRVINE", "0"),
+                rate(JurisdictionType.Special, "ORANGE COUNTY DISTRICT TAX", "0.015")));
+    }
+
+    private static RateModel rate(JurisdictionType type, String name, String rate) {
+        RateModel model = new RateModel();
+        model.setType(type);
+        model.setName(name);
+        model.setRate(new BigDecimal(rate));
+        return model;
+    }
+
+    /**
+     * Start a server from the command line: FakeAvaTaxServer [port] [minLatencyMillis] [maxLatencyMillis]
+     */
+    public static void main(String[] args) throws Exception {
+        FakeAvaTaxServer server = new FakeAvaTaxServer().withPort(args.length > 0 ? Integer.parseInt(args[0]) : 8080);
+
+        if (args.length > 2) {
+            server.withLatency(Long.parseLong(args[1]), Long.parseLong(args[2]));
+        }
+
+        server.start();
+        System.out.println("Fake AvaTax server listening on " + server.getUrl());
+    }
+
+    private static class ForcedError {
+        private final String pathPrefix;
+        private final int statusCode;
+        private final ErrorResult error;
+        private final AtomicInteger remaining;
+
+        private ForcedError(String pathPrefix, int statusCode, ErrorResult error, int times) {
+            this.pathPrefix = pathPrefix;
+            this.statusCode = statusCode;
+            this.error = error;
+            this.remaining = new AtomicInteger(times);
+        }
+
+        /**
+         * @return Whether this error applies to a request for the path, using up one of its failures if it does
+         */
+        private boolean matches(String path) {
+            if (!path.startsWith(pathPrefix)) {
+                return false;
+            }
+
+            while (true) {
+                int left = remaining.get();
+
+                if (left < 0) {
+                    return true;
+                }
+
+                if (left == 0) {
+                    return false;
+                }
+
+                if (remaining.compareAndSet(left, left - 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private class Handler implements HttpHandler {
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            requestCount.incrementAndGet();
+            connections.add(exchange.getRemoteAddress());
+            int current = inFlight.incrementAndGet();
+
+            while (true) {
+                int max = maxInFlight.get();
+
+                if (current <= max || maxInFlight.compareAndSet(max, current)) {
+                    break;
+                }
+            }
+
+            try {
+                delay();
+                dispatch(exchange);
+            } catch (Exception ex) {
+                respond(exchange, 500, errorResult(500, String.valueOf(ex)));
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        }
+
+        private void delay() throws InterruptedException {
+            long min = minLatencyMillis;
+            long max = maxLatencyMillis;
+
+            if (max > 0) {
+                Thread.sleep(min == max ? min : ThreadLocalRandom.current().nextLong(min, max + 1));
+            }
+        }
+
+        private void dispatch(HttpExchange exchange) throws IOException {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+
+            for (ForcedError forced : forcedErrors) {
+                if (forced.matches(path)) {
+                    fail(exchange, forced.statusCode, forced.error);
+                    return;
+                }
+            }
+
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                fail(exchange, errorStatus, null);
+                return;
+            }
+
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            if (path.equals("/api/v2/transactions/create") && method.equals("POST")) {
+                CreateTransactionModel model = readBody(exchange, new TypeToken<CreateTransactionModel>(){});
+                respond(exchange, 201, createTransaction(model));
+            } else if (path.equals("/api/v2/addresses/resolve") && method.equals("POST")) {
+                respond(exchange, 200, resolveAddress(readBody(exchange, new TypeToken<AddressInfo>(){})));
+            } else if (path.equals("/api/v2/addresses/resolve") && method.equals("GET")) {
+                respond(exchange, 200, resolveAddress(addressFromQuery(query)));
+            } else if ((path.equals("/api/v2/taxrates/byaddress") || path.equals("/api/v2/taxrates/bypostalcode")) && method.equals("GET")) {
+                respond(exchange, 200, taxRates());
+            } else if (BATCHES.matcher(path).matches() && method.equals("POST")) {
+                respond(exchange, 201, createBatches(readBody(exchange, new TypeToken<ArrayList<BatchModel>>(){})));
+            } else if (BATCH.matcher(path).matches() && method.equals("GET")) {
+                BatchModel batch = getBatch(Integer.valueOf(path.substring(path.lastIndexOf('/') + 1)));
+
+                if (batch == null) {
+                    fail(exchange, 404, errorResult(404, "No batch at " + path));
+                } else {
+                    respond(exchange, 200, batch);
+                }
+            } else if (BATCH_FILE.matcher(path).matches() && method.equals("GET")) {
+                String[] parts = path.split("/");
+                String content = batchFile(Integer.valueOf(parts[6]), Integer.valueOf(parts[8]));
+
+                if (content == null) {
+                    fail(exchange, 404, errorResult(404, "No batch file at " + path));
+                } else {
+                    respondText(exchange, content);
+                }
+            } else if (UPLOAD.matcher(path).matches() && method.equals("POST")) {
+                respond(exchange, 200, readMultipart(exchange));
+            } else if (REPORT_FILE.matcher(path).matches() && method.equals("GET")) {
+                streamReport(exchange, reportRows);
+            } else if (path.equals("/api/v2/utilities/ping") && method.equals("GET")) {
+                respond(exchange, 200, ping(exchange));
+            } else if (path.startsWith("/api/v2/") && method.equals("GET")) {
+                respond(exchange, 200, fetch(path, query));
+            } else {
+                fail(exchange, 404, errorResult(404, "No fake endpoint for " + method + " " + path));
+            }
+        }
+
+        private void fail(HttpExchange exchange, int statusCode, ErrorResult error) throws IOException {
+            errorCount.incrementAndGet();
+
+            if (statusCode == 429 || statusCode == 503) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+            }
+
+            respond(exchange, statusCode, error != null ? error : errorResult(statusCode, "Injected failure"));
+        }
+
+        /**
+         * @return The request body, counting its bytes as they are read
+         */
+        private InputStream requestBody(HttpExchange exchange) {
+            return new FilterInputStream(exchange.getRequestBody()) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+
+                    if (b >= 0) {
+                        bytesReceived.incrementAndGet();
+                    }
+
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int n = super.read(b, off, len);
+
+                    if (n > 0) {
+                        bytesReceived.addAndGet(n);
+                    }
+
+                    return n;
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T readBody(HttpExchange exchange, TypeToken<T> typeToken) throws IOException {
+            InputStream in = requestBody(exchange);
+
+            if ("gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+                in = new GZIPInputStream(in);
+            }
+
+            Reader reader = new InputStreamReader(in, "UTF-8");
+
+            try {
+                return (T) JsonSerializer.DeserializeObject(reader, typeToken.getType());
+            } finally {
+                reader.close();
+            }
+        }
+
+        /**
+         * Read a multipart/form-data body without holding its files in memory.
+         *
+         * @return Each part on a line of its own: name=value for a field, name=fileName size crc32 for a file
+         */
+        private String readMultipart(HttpExchange exchange) throws IOException {
+            String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            String boundary = contentType.substring(contentType.indexOf("boundary=") + "boundary=".length());
+            byte[] delimiter = ("\r\n--" + boundary).getBytes("ISO-8859-1");
+            InputStream in = new BufferedInputStream(requestBody(exchange), 64 * 1024);
+            StringBuilder summary = new StringBuilder();
+
+            // The first delimiter has no line break in front of it
+            while (!readLine(in).equals("--" + boundary)) {
+            }
+
+            while (true) {
+                String name = null;
+                String fileName = null;
+
+                for (String header = readLine(in); !header.isEmpty(); header = readLine(in)) {
+                    if (header.toLowerCase().startsWith("content-disposition:")) {
+                        name = dispositionParameter(header, "name");
+                        fileName = dispositionParameter(header, "filename");
+                    }
+                }
+
+                ByteArrayOutputStream text = new ByteArrayOutputStream();
+                CRC32 crc = new CRC32();
+                long size = 0;
+                int matched = 0;
+
+                while (true) {
+                    int b = in.read();
+
+                    if (b < 0) {
+                        throw new EOFException("The multipart body ended inside a part");
+                    }
+
+                    if (b == (delimiter[matched] & 0xFF)) {
+                        if (++matched == delimiter.length) {
+                            break;
+                        }
+
+                        continue;
+                    }
+
+                    // Only the first byte of the delimiter is a line break, so a failed match can restart at b
+                    for (int i = 0; i < matched; i++) {
+                        crc.update(delimiter[i]);
+                        text.write(delimiter[i]);
+                    }
+
+                    size += matched;
+                    matched = b == delimiter[0] ? 1 : 0;
+
+                    if (matched == 0) {
+                        crc.update(b);
+                        size++;
+
+                        if (fileName == null) {
+                            text.write(b);
+                        }
+                    }
+                }
+
+                if (fileName == null) {
+                    summary.append(name).append('=').append(text.toString("UTF-8")).append('\n');
+                } else {
+                    summary.append(name).append('=').append(fileName).append(' ').append(size).append(' ')
+                            .append(Long.toHexString(crc.getValue())).append('\n');
+                }
+
+                if (readLine(in).equals("--")) {
+                    return summary.toString();
+                }
+            }
+        }
+
+        private String readLine(InputStream in) throws IOException {
+            StringBuilder line = new StringBuilder();
+
+            for (int b = in.read(); b != '\n'; b = in.read()) {
+                if (b < 0) {
+                    throw new EOFException("The multipart body ended inside a header");
+                }
+
+                if (b != '\r') {
+                    line.append((char)b);
+                }
+            }
+
+            return line.toString();
+        }
+
+        private String dispositionParameter(String header, String parameter) {
+            Matcher matcher = Pattern.compile("[; ]" + parameter + "=\"([^\"]*)\"").matcher(header);
+            return matcher.find() ? matcher.group(1) : null;
+        }
+
+        private void respondText(HttpExchange exchange, String body) throws IOException {
+            exchange.getResponseHeaders().set("Content-Type", "text/csv; charset=utf-8");
+            send(exchange, 200, body.getBytes("UTF-8"));
+        }
+
+        private void respond(HttpExchange exchange, int statusCode, Object body) throws IOException {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            send(exchange, statusCode, JsonSerializer.SerializeObject(body).getBytes("UTF-8"));
+        }
+
+        /**
+         * Send a report row by row with chunked encoding, so that it is never held in memory.
+         */
+        private void streamReport(HttpExchange exchange, long rows) throws IOException {
+            String accept = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            boolean gzip = compressionThreshold >= 0 && accept != null && accept.toLowerCase().contains("gzip");
+            exchange.getResponseHeaders().set("Content-Type", "text/csv; charset=utf-8");
+
+            if (gzip) {
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = new FilterOutputStream(exchange.getResponseBody()) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    bytesSent.addAndGet(len);
+                }
+            };
+
+            Writer writer = new BufferedWriter(new OutputStreamWriter(gzip ? new GZIPOutputStream(out, 8192) : out, "UTF-8"), 8192);
+            writer.write("DocumentCode,LineNumber,ItemCode,LineAmount,TaxAmount\n");
+
+            for (long row = 0; row < rows; row++) {
+                long cents = 1000 + (row * 7919) % 100000;
+                writer.write(String.format("INV-%08d,%d,ITEM-%04d,%d.%02d,%d.%02d\n", row / 10, row % 10 + 1, row % 1000,
+                        cents / 100, cents % 100, cents * 9 / 10000, cents * 9 / 100 % 100));
+            }
+
+            writer.close();
+        }
+
+        private void send(HttpExchange exchange, int statusCode, byte[] bytes) throws IOException {
+            String accept = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            int threshold = compressionThreshold;
+
+            if (threshold >= 0 && bytes.length >= threshold && accept != null && accept.toLowerCase().contains("gzip")) {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4);
+                GZIPOutputStream gzip = new GZIPOutputStream(buffer);
+                gzip.write(bytes);
+                gzip.close();
+                bytes = buffer.toByteArray();
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+
+            exchange.sendResponseHeaders(statusCode, bytes.length);
+            OutputStream out = exchange.getResponseBody();
+            out.write(bytes);
+            out.close();
+            bytesSent.addAndGet(bytes.length);
+        }
+    }
+
+    private TransactionModel createTransaction(CreateTransactionModel model) {
+        List<RateModel> rates = this.rates;
+        long id = transactionId.incrementAndGet();
+        AddressLocationInfo location = primaryLocation(model.getAddresses());
+        BigDecimal totalRate = totalRate(rates);
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        BigDecimal totalTax = BigDecimal.ZERO;
+        ArrayList<TransactionLineModel> lines = new ArrayList<TransactionLineModel>();
+
+        if (model.getLines() != null) {
+            int lineNumber = 0;
+
+            for (LineItemModel item : model.getLines()) {
+                BigDecimal amount = item.getAmount() != null ? item.getAmount() : BigDecimal.ZERO;
+                ArrayList<TransactionLineDetailModel> details = new ArrayList<TransactionLineDetailModel>();
+                BigDecimal lineTax = BigDecimal.ZERO;
+                lineNumber++;
+
+                for (RateModel rate : rates) {
+                    BigDecimal tax = amount.multiply(rate.getRate()).setScale(2, RoundingMode.HALF_UP);
+                    TransactionLineDetailModel detail = new TransactionLineDetailModel();
+                    detail.setTransactionId(id);
+                    detail.setCountry(location != null ? location.getCountry() : null);
+                    detail.setRegion(location != null ? location.getRegion() : null);
+                    detail.setJurisName(rate.getName());
+                    detail.setJurisdictionType(rate.getType());
+                    detail.setRate(rate.getRate());
+                    detail.setTaxableAmount(amount);
+                    detail.setNonTaxableAmount(BigDecimal.ZERO);
+                    detail.setExemptAmount(BigDecimal.ZERO);
+                    detail.setTax(tax);
+                    detail.setTaxCalculated(tax);
+                    detail.setTaxType(TaxType.Sales);
+                    detail.setTaxName(rate.getName() + " TAX");
+                    details.add(detail);
+                    lineTax = lineTax.add(tax);
+                }
+
+                TransactionLineModel line = new TransactionLineModel();
+                line.setTransactionId(id);
+                line.setLineNumber(item.getNumber() != null ? item.getNumber() : String.valueOf(lineNumber));
+                line.setItemCode(item.getItemCode());
+                line.setDescription(item.getDescription());
+                line.setTaxCode(item.getTaxCode());
+                line.setQuantity(item.getQuantity());
+                line.setLineAmount(amount);
+                line.setTaxableAmount(amount);
+                line.setTax(lineTax);
+                line.setTaxCalculated(lineTax);
+                line.setIsItemTaxable(totalRate.signum() != 0);
+                line.setDetails(details);
+                lines.add(line);
+
+                totalAmount = totalAmount.add(amount);
+                totalTax = totalTax.add(lineTax);
+            }
+        }
+
+        TransactionModel transaction = new TransactionModel();
+        transaction.setId(id);
+        transaction.setCode(model.getCode() != null ? model.getCode() : UUID.randomUUID().toString());
+        transaction.setCompanyId(1);
+        transaction.setDate(model.getDate());
+        transaction.setTaxDate(model.getDate());
+        transaction.setType(model.getType());
+        transaction.setStatus(Boolean.TRUE.equals(model.getCommit()) ? DocumentStatus.Committed : DocumentStatus.Saved);
+        transaction.setCustomerCode(model.getCustomerCode());
+        transaction.setCurrencyCode(model.getCurrencyCode() != null ? model.getCurrencyCode() : "USD");
+        transaction.setPurchaseOrderNo(model.getPurchaseOrderNo());
+        transaction.setReferenceCode(model.getReferenceCode());
+        transaction.setDescription(model.getDescription());
+        transaction.setRegion(location != null ? location.getRegion() : null);
+        transaction.setCountry(location != null ? location.getCountry() : null);
+        transaction.setTotalAmount(totalAmount);
+        transaction.setTotalExempt(BigDecimal.ZERO);
+        transaction.setTotalDiscount(BigDecimal.ZERO);
+        transaction.setTotalTaxable(totalAmount);
+        transaction.setTotalTax(totalTax);
+        transaction.setTotalTaxCalculated(totalTax);
+        transaction.setLocked(false);
+        transaction.setVersion(1);
+        transaction.setModifiedDate(new Date());
+        transaction.setLines(lines);
+        return transaction;
+    }
+
+    private AddressResolutionModel resolveAddress(AddressInfo address) {
+        ValidatedAddressInfo validated = new ValidatedAddressInfo();
+        validated.setAddressType("StreetOrResidentialAddress");
+        validated.setLine1(upper(address.getLine1()));
+        validated.setLine2(upper(address.getLine2()));
+        validated.setLine3(upper(address.getLine3()));
+        validated.setCity(upper(address.getCity()));
+        validated.setRegion(upper(address.getRegion()));
+        validated.setCountry(upper(address.getCountry()));
+        validated.setPostalCode(address.getPostalCode());
+
+        // Derive a stable, plausible coordinate from the postal code so repeated lookups agree
+        int hash = address.getPostalCode() != null ? address.getPostalCode().hashCode() & 0x7fffffff : 0;
+        BigDecimal latitude = new BigDecimal(25 + hash % 2400).divide(HUNDRED).setScale(6, RoundingMode.UNNECESSARY);
+        BigDecimal longitude = new BigDecimal(-70 - (hash / 2400) % 5000).divide(HUNDRED).setScale(6, RoundingMode.UNNECESSARY);
+        validated.setLatitude(latitude);
+        validated.setLongitude(longitude);
+
+        CoordinateInfo coordinates = new CoordinateInfo();
+        coordinates.setLatitude(latitude);
+        coordinates.setLongitude(longitude);
+
+        AddressResolutionModel resolution = new AddressResolutionModel();
+        resolution.setAddress(address);
+        resolution.setValidatedAddresses(new ArrayList<ValidatedAddressInfo>(Collections.singletonList(validated)));
+        resolution.setCoordinates(coordinates);
+        resolution.setResolutionQuality(ResolutionQuality.Rooftop);
+        return resolution;
+    }
+
+    private ArrayList<BatchModel> createBatches(ArrayList<BatchModel> requested) {
+        ArrayList<BatchModel> created = new ArrayList<BatchModel>();
+
+        for (BatchModel batch : requested) {
+            batch.setId(batchId.incrementAndGet());
+            batch.setStatus(BatchStatus.Waiting);
+            batch.setCreatedDate(new Date());
+            int fileId = 0;
+
+            if (batch.getFiles() != null) {
+                for (BatchFileModel file : batch.getFiles()) {
+                    file.setId(++fileId);
+                    file.setBatchId(batch.getId());
+                }
+            }
+
+            batches.put(batch.getId(), batch);
+            created.add(batch);
+        }
+
+        return created;
+    }
+
+    /**
+     * Return a batch, advancing it one step towards Completed; a completed batch gains a result file.
+     */
+    private BatchModel getBatch(Integer id) {
+        BatchModel batch = batches.get(id);
+
+        if (batch == null) {
+            return null;
+        }
+
+        synchronized (batch) {
+            if (batch.getStatus() == BatchStatus.Waiting) {
+                batch.setStatus(BatchStatus.Processing);
+            } else if (batch.getStatus() == BatchStatus.Processing) {
+                StringBuilder result = new StringBuilder("DocCode,Status\r\n");
+                Set<String> documents = new LinkedHashSet<String>();
+
+                for (BatchFileModel file : batch.getFiles()) {
+                    String[] lines = file.getContent() != null ? decode(file.getContent()).split("\r?\n") : new String[0];
+
+                    for (int i = 1; i < lines.length; i++) {
+                        String[] fields = lines[i].split(",", -1);
+
+                        if (fields.length > 1) {
+                            documents.add(fields[1]);
+                        }
+                    }
+                }
+
+                for (String document : documents) {
+                    result.append(document).append(",Imported\r\n");
+                }
+
+                BatchFileModel resultFile = new BatchFileModel();
+                resultFile.setId(batch.getFiles().size() + 1);
+                resultFile.setBatchId(batch.getId());
+                resultFile.setName("Result.csv");
+                resultFile.setContent(encode(result.toString()));
+                resultFile.setContentLength(result.toString().getBytes(StandardCharsets.UTF_8).length);
+                batch.getFiles().add(resultFile);
+                batch.setRecordCount(documents.size());
+                batch.setCompletedDate(new Date());
+                batch.setStatus(BatchStatus.Completed);
+            }
+
+            // Return a copy without file contents, as the API does
+            BatchModel copy = (BatchModel)JsonSerializer.DeserializeObject(JsonSerializer.SerializeObject(batch), BatchModel.class);
+
+            for (BatchFileModel file : copy.getFiles()) {
+                file.setContent(null);
+            }
+
+            return copy;
+        }
+    }
+
+    private String batchFile(Integer id, Integer fileId) {
+        BatchModel batch = batches.get(id);
+
+        if (batch == null) {
+            return null;
+        }
+
+        synchronized (batch) {
+            for (BatchFileModel file : batch.getFiles()) {
+                if (fileId.equals(file.getId())) {
+                    return file.getContent() != null ? decode(file.getContent()) : null;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * File content is bytes, which are carried in JSON as base64.
+     */
+    private static String encode(String content) {
+        return Base64.encodeBase64String(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String content) {
+        return new String(Base64.decodeBase64(content), StandardCharsets.UTF_8);
+    }
+
+    private TaxRateModel taxRates() {
+        List<RateModel> rates = this.rates;
+        TaxRateModel model = new TaxRateModel();
+        model.setTotalRate(totalRate(rates));
+        model.setRates(new ArrayList<RateModel>(rates));
+        return model;
+    }
+
+    private PingResultModel ping(HttpExchange exchange) {
+        PingResultModel model = new PingResultModel();
+        model.setVersion("fake");
+        model.setAuthenticated(exchange.getRequestHeaders().getFirst("Authorization") != null);
+        return model;
+    }
+
+    /**
+     * Page through a synthetic list of recordCount rows, in the shape AvaTax uses for every list and query endpoint.
+     */
+    private Map<String, Object> fetch(String path, Map<String, String> query) throws UnsupportedEncodingException {
+        int count = recordCount;
+        int top = query.containsKey("$top") ? Math.min(Integer.parseInt(query.get("$top")), MAX_TOP) : MAX_TOP;
+        int skip = query.containsKey("$skip") ? Integer.parseInt(query.get("$skip")) : 0;
+        String kind = path.substring(path.lastIndexOf('/') + 1);
+        List<Map<String, Object>> value = new ArrayList<Map<String, Object>>();
+
+        for (int i = skip; i < Math.min(skip + top, count); i++) {
+            Map<String, Object> row = new LinkedHashMap<String, Object>();
+            row.put("id", i + 1);
+            row.put("code", kind.toUpperCase() + "-" + (i + 1));
+            row.put("name", kind + " " + (i + 1));
+            row.put("description", "Synthetic " + kind + " record " + (i + 1));
+            value.add(row);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put("@recordsetCount", count);
+        result.put("value", value);
+
+        if (skip + top < count) {
+            StringBuilder next = new StringBuilder(path).append('?');
+
+            for (Map.Entry<String, String> entry : query.entrySet()) {
+                if (!entry.getKey().equals("$top") && !entry.getKey().equals("$skip")) {
+                    next.append(URLEncoder.encode(entry.getKey(), "UTF-8")).append('=').append(URLEncoder.encode(entry.getValue(), "UTF-8")).append('&');
+                }
+            }
+
+            next.append("$top=").append(top).append("&$skip=").append(skip + top);
+            result.put("@nextLink", next.toString());
+        }
+
+        return result;
+    }
+
+    private static AddressInfo addressFromQuery(Map<String, String> query) {
+        AddressInfo address = new AddressInfo();
+        address.setLine1(query.get("line1"));
+        address.setLine2(query.get("line2"));
+        address.setLine3(query.get("line3"));
+        address.setCity(query.get("city"));
+        address.setRegion(query.get("region"));
+        address.setPostalCode(query.get("postalCode"));
+        address.setCountry(query.get("country"));
+        return address;
+    }
+
+    private static AddressLocationInfo primaryLocation(AddressesModel addresses) {
+        if (addresses == null) {
+            return null;
+        }
+
+        return addresses.getSingleLocation() != null ? addresses.getSingleLocation() : addresses.getShipTo();
+    }
+
+    private static BigDecimal totalRate(List<RateModel> rates) {
+        BigDecimal total = BigDecimal.ZERO;
+
+        for (RateModel rate : rates) {
+            total = total.add(rate.getRate());
+        }
+
+        return total;
+    }
+
+    private static String upper(String value) {
+        return value == null ? null : value.toUpperCase(Locale.ROOT);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) throws UnsupportedEncodingException {
+        Map<String, String> query = new LinkedHashMap<String, String>();
+
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+
+            if (equals < 0) {
+                query.put(URLDecoder.decode(pair, "UTF-8"), "");
+            } else {
+                query.put(URLDecoder.decode(pair.substring(0, equals), "UTF-8"), URLDecoder.decode(pair.substring(equals + 1), "UTF-8"));
+            }
+        }
+
+        return query;
+    }
+}
@@ -0,0 +1,167 @@
+package net.avalara.avatax.rest.client.bulk
+
+import java.math.BigDecimal
+import java.util
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+import net.avalara.avatax.rest.client.{AvaTaxClient, AvaTaxClientException}
+import net.avalara.avatax.rest.client.enums.DocumentType
+import net.avalara.avatax.rest.client.models.{CreateTransactionModel, LineItemModel, TransactionModel}
+import net.avalara.avatax.rest.client.testkit.FakeAvaTaxServer
+import org.scalatest.FreeSpec
+
+import scala.collection.JavaConverters._
+
+class BulkTransactionSubmitterSpec extends FreeSpec {
+  private def transactions(count: Int): util.Iterator[CreateTransactionModel] = (1 to count).iterator.map { i =>
+    val line = new LineItemModel()
+    line.setAmount(new BigDecimal("10"))
+
+    val model = new CreateTransactionModel()
+    model.setCode("bulk-" + i)
+    model.setType(DocumentType.SalesInvoice)
+    model.setDate(new util.Date())
+    model.setCustomerCode("ABC")
+    model.setLines(new util.ArrayList[LineItemModel](util.Arrays.asList(line)))
+    model
+  }.asJava
+
+  /**
+   * Counts each outcome, and records the most transactions the submitter reported in flight while it ran.
+   */
+  private class Recorder(submitter: => BulkTransactionSubmitter, delayMillis: Long = 0) extends BulkTransactionSubmitter.Listener {
+    val completed = new AtomicInteger()
+    val failed = new AtomicInteger()
+    val errors = new util.concurrent.ConcurrentLinkedQueue[Exception]()
+    val mostInFlight = new AtomicInteger()
+
+    private def record(): Unit = {
+      val inFlight = submitter.getInFlightCount
+      var most = mostInFlight.get()
+
+      while (inFlight > most && !mostInFlight.compareAndSet(most, inFlight)) {
+        most = mostInFlight.get()
+      }
+
+      if (delayMillis > 0) {
+        Thread.sleep(delayMillis)
+      }
+    }
+
+    override def completed(model: CreateTransactionModel, result: TransactionModel): Unit = {
+      record()
+      completed.incrementAndGet()
+    }
+
+    override def failed(model: CreateTransactionModel, error: Exception): Unit = {
+      record()
+      errors.add(error)
+      failed.incrementAndGet()
+    }
+  }
+
+  private def withServer(nonBlocking: Boolean)(test: (FakeAvaTaxServer, AvaTaxClient) => Unit): Unit = {
+    val server = new FakeAvaTaxServer().withLatency(5, 20).start()
+    val client = new AvaTaxClient("Test", "1.0", "Test", server.getUrl).withSecurity("user", "password")
+
+    if (nonBlocking) {
+      client.withNonBlockingTransport()
+    }
+
+    try {
+      test(server, client)
+    } finally {
+      client.close()
+      server.close()
+    }
+  }
+
+  for ((transport, nonBlocking) <- Seq("blocking" -> false, "non-blocking" -> true)) {
+    s"BulkTransactionSubmitter on the $transport transport should" - {
+      "never have more than maxInFlight transactions in flight" in withServer(nonBlocking) { (server, client) =>
+        lazy val submitter = new BulkTransactionSubmitter(client, 4)
+        val recorder = new Recorder(submitter)
+
+        submitter.submitAll(transactions(100), recorder)
+
+        assert(recorder.completed.get == 100)
+        assert(recorder.mostInFlight.get <= 4)
+        assert(server.getMaxConcurrentRequests <= 4)
+        assert(submitter.getSubmittedCount == 100 && submitter.getSucceededCount == 100 && submitter.getFailedCount == 0)
+        assert(submitter.getInFlightCount == 0)
+        assert(submitter.getThroughput > 0)
+      }
+
+      "return from awaitCompletion only after every listener call has returned" in withServer(nonBlocking) { (_, client) =>
+        lazy val submitter = new BulkTransactionSubmitter(client, 8)
+        val recorder = new Recorder(submitter, delayMillis = 50)
+        val models = transactions(16)
+
+        while (models.hasNext) {
+          submitter.submit(models.next(), recorder)
+        }
+
+        assert(submitter.awaitCompletion(10, TimeUnit.SECONDS))
+        assert(recorder.completed.get == 16)
+      }
+
+      "report API errors as failures and count them" in withServer(nonBlocking) { (server, client) =>
+        server.withError("/api/v2/transactions/create", 400, null)
+        lazy val submitter = new BulkTransactionSubmitter(client, 2)
+        val recorder = new Recorder(submitter)
+
+        submitter.submitAll(transactions(5), recorder)
+
+        assert(recorder.failed.get == 5)
+        assert(recorder.errors.asScala.forall(_.isInstanceOf[AvaTaxClientException]))
+        assert(submitter.getSubmittedCount == 5 && submitter.getSucceededCount == 0 && submitter.getFailedCount == 5)
+      }
+
+      "keep its window when the listener throws" in withServer(nonBlocking) { (server, client) =>
+        val calls = new AtomicInteger()
+        val submitter = new BulkTransactionSubmitter(client, 4)
+
+        submitter.submitAll(transactions(40), new BulkTransactionSubmitter.Listener {
+          override def completed(model: CreateTransactionModel, result: TransactionModel): Unit = {
+            calls.incrementAndGet()
+            throw new IllegalStateException("listener bug")
+          }
+
+          override def failed(model: CreateTransactionModel, error: Exception): Unit = {
+            calls.incrementAndGet()
+            throw new IllegalStateException("listener bug")
+          }
+        })
+
+        // Each transaction is reported once, as a success, and gives back exactly one slot
+        assert(calls.get == 40)
+        assert(submitter.getSucceededCount == 40 && submitter.getFailedCount == 0)
+        assert(submitter.getInFlightCount == 0)
+        assert(server.getMaxConcurrentRequests <= 4)
+      }
+
+      "fail every transaction in flight when the client is closed, and those submitted afterwards" in withServer(nonBlocking) { (server, client) =>
+        server.withLatency(300, 300)
+        lazy val submitter = new BulkTransactionSubmitter(client, 4)
+        val recorder = new Recorder(submitter)
+        val models = transactions(6)
+
+        for (_ <- 1 to 4) {
+          submitter.submit(models.next(), recorder)
+        }
+
+        Thread.sleep(50)
+        client.close()
+
+        while (models.hasNext) {
+          submitter.submit(models.next(), recorder)
+        }
+
+        assert(submitter.awaitCompletion(10, TimeUnit.SECONDS))
+        assert(recorder.failed.get == 6 && recorder.completed.get == 0)
+        assert(submitter.getSubmittedCount == 6 && submitter.getFailedCount == 6)
+      }
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package net.avalara.avatax.rest.client.bulk
+
+import java.math.BigDecimal
+import java.text.SimpleDateFormat
+import java.util
+import java.util.concurrent.{LinkedBlockingQueue, TimeUnit}
+
+import net.avalara.avatax.rest.client.{AvaTaxClient, AvaTaxClientException}
+import net.avalara.avatax.rest.client.enums.{BatchStatus, DocumentType, TaxOverrideType}
+import net.avalara.avatax.rest.client.metrics.{AvaTaxMetrics, CallSample}
+import net.avalara.avatax.rest.client.models.{BatchModel, CreateTransactionModel, LineItemModel, TaxOverrideModel}
+import net.avalara.avatax.rest.client.testkit.FakeAvaTaxServer
+import org.scalatest.FreeSpec
+
+import scala.collection.JavaConverters._
+
+class TransactionBatcherSpec extends FreeSpec {
+  private case class Outcome(batch: BatchModel, results: Map[String, String], error: Exception)
+
+  /**
+   * Queues each outcome for the test thread to take.
+   */
+  private class Outcomes extends TransactionBatcher.Listener {
+    private val queue = new LinkedBlockingQueue[Outcome]()
+
+    override def completed(batch: BatchModel, results: util.Map[String, String]): Unit =
+      queue.add(Outcome(batch, results.asScala.toMap, null))
+
+    override def failed(batch: BatchModel, error: Exception): Unit = queue.add(Outcome(batch, null, error))
+
+    def next(): Outcome = {
+      val outcome = queue.poll(10, TimeUnit.SECONDS)
+      assert(outcome != null, "no batch finished in time")
+      outcome
+    }
+
+    def isEmpty: Boolean = queue.isEmpty
+  }
+
+  /**
+   * Records when each status poll was made.
+   */
+  private class Polls extends AvaTaxMetrics {
+    val times = new LinkedBlockingQueue[java.lang.Long]()
+
+    override def recordCall(sample: CallSample): Unit = {
+      if (sample.getPathTemplate == "/api/v2/companies/{companyId}/batches/{id}") {
+        times.add(System.nanoTime())
+      }
+    }
+  }
+
+  private def day(value: String): util.Date = new SimpleDateFormat("yyyy-MM-dd").parse(value)
+
+  private def transaction(code: String, lines: Int): CreateTransactionModel = {
+    val model = new CreateTransactionModel()
+    model.setCode(code)
+    model.setType(DocumentType.SalesInvoice)
+    model.setDate(day("2018-10-01"))
+    model.setCustomerCode("ABC")
+    model.setLines(new util.ArrayList[LineItemModel]((1 to lines).map { _ =>
+      val line = new LineItemModel()
+      line.setAmount(new BigDecimal("10"))
+      line
+    }.asJava))
+    model
+  }
+
+  private def withServer(test: (FakeAvaTaxServer, AvaTaxClient, Polls) => Unit): Unit = {
+    val server = new FakeAvaTaxServer().start()
+    val polls = new Polls
+    val client = new AvaTaxClient("Test", "1.0", "Test", server.getUrl).withSecurity("user", "password").withMetrics(polls)
+
+    try {
+      test(server, client, polls)
+    } finally {
+      client.close()
+      server.close()
+    }
+  }
+
+  "TransactionBatcher should" - {
+    "upload a file as soon as it reaches the record limit, and hand over the downloaded results" in withServer { (server, client, _) =>
+      val outcomes = new Outcomes
+      val batcher = new TransactionBatcher(client, 1, outcomes)
+        .withBatchSize(3, 1 << 20)
+        .withMaxDelay(1, TimeUnit.HOURS)
+        .withPollInterval(10, 10, TimeUnit.MILLISECONDS)
+
+      try {
+        batcher.add(transaction("first", 2))
+        assert(server.getRequestCount == 0)
+        batcher.add(transaction("second", 2))
+
+        val outcome = outcomes.next()
+        assert(outcome.error == null)
+        assert(outcome.batch.getStatus == BatchStatus.Completed)
+        assert(outcome.results.keySet == Set("Result.csv"))
+        assert(outcome.results("Result.csv").split("\r\n").toSeq == Seq("DocCode,Status", "first,Imported", "second,Imported"))
+
+        // Sent as base64, which the server decodes back into the file
+        val file = client.downloadBatch(1, outcome.batch.getId, 1)
+        assert(outcome.batch.getFiles.get(0).getContentLength == file.getBytes("UTF-8").length)
+
+        val rows = file.split("\r\n")
+        assert(rows.head == TransactionBatcher.COLUMNS.mkString(","))
+        assert(rows.tail.map(_.split(",", -1).take(8).mkString(",")).toSeq == Seq(
+          "0,first,1,2018-10-01,,ABC,,1", "0,first,1,2018-10-01,,ABC,,2",
+          "0,second,1,2018-10-01,,ABC,,1", "0,second,1,2018-10-01,,ABC,,2"))
+      } finally {
+        batcher.close()
+      }
+    }
+
+    "upload a part-filled file once its oldest row has waited for the time limit" in withServer { (_, client, _) =>
+      val outcomes = new Outcomes
+      val batcher = new TransactionBatcher(client, 1, outcomes)
+        .withMaxDelay(200, TimeUnit.MILLISECONDS)
+        .withPollInterval(10, 10, TimeUnit.MILLISECONDS)
+
+      try {
+        val start = System.nanoTime()
+        batcher.add(transaction("only", 1))
+
+        val outcome = outcomes.next()
+        assert(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 200)
+        assert(outcome.batch.getStatus == BatchStatus.Completed)
+        assert(outcome.results("Result.csv").contains("only,Imported"))
+      } finally {
+        batcher.close()
+      }
+    }
+
+    "wait twice as long before each further status poll" in withServer { (_, client, polls) =>
+      val outcomes = new Outcomes
+      val batcher = new TransactionBatcher(client, 1, outcomes).withPollInterval(100, 1000, TimeUnit.MILLISECONDS)
+
+      batcher.add(transaction("polled", 1))
+      batcher.close()
+      assert(outcomes.next().batch.getStatus == BatchStatus.Completed)
+
+      // The fake server reports Processing on the first poll and Completed on the second
+      val times = polls.times.asScala.toSeq
+      assert(times.size == 2)
+      assert(TimeUnit.NANOSECONDS.toMillis(times(1) - times.head) >= 190)
+    }
+
+    "reject a transaction it cannot express without starting a file" in withServer { (server, client, _) =>
+      val outcomes = new Outcomes
+      val batcher = new TransactionBatcher(client, 1, outcomes).withMaxDelay(50, TimeUnit.MILLISECONDS)
+
+      val discounted = transaction("discounted", 1)
+      discounted.setDiscount(new BigDecimal("5"))
+      val overridden = transaction("overridden", 1)
+      val amount = new TaxOverrideModel()
+      amount.setType(TaxOverrideType.TaxAmount)
+      amount.setTaxAmount(BigDecimal.ONE)
+      overridden.getLines.get(0).setTaxOverride(amount)
+      val adjustment = transaction("adjustment", 1)
+      adjustment.setType(DocumentType.InventoryTransferInvoice)
+
+      for (model <- Seq(transaction("empty", 0), discounted, overridden, adjustment)) {
+        intercept[IllegalArgumentException](batcher.add(model))
+      }
+
+      Thread.sleep(200)
+      batcher.close()
+      assert(server.getRequestCount == 0)
+      assert(outcomes.isEmpty)
+    }
+
+    "write a tax date override as each line's TaxDate" in {
+      val model = transaction("dated", 2)
+      val taxDate = new TaxOverrideModel()
+      taxDate.setType(TaxOverrideType.TaxDate)
+      taxDate.setTaxDate(day("2018-06-30"))
+      model.setTaxOverride(taxDate)
+
+      val content = new java.lang.StringBuilder()
+      TransactionBatcher.validate(model)
+      assert(TransactionBatcher.appendTransaction(content, model) == 2)
+
+      val column = TransactionBatcher.COLUMNS.indexOf("TaxDate")
+      assert(content.toString.split("\r\n").map(_.split(",", -1)(column)).toSeq == Seq("2018-06-30", "2018-06-30"))
+    }
+
+    "report a batch that could not be created, and still finish closing" in withServer { (server, client, _) =>
+      server.withError("/api/v2/companies", 500, null)
+      val outcomes = new Outcomes
+      val batcher = new TransactionBatcher(client, 1, outcomes)
+
+      batcher.add(transaction("refused", 1))
+      batcher.close()
+
+      val outcome = outcomes.next()
+      assert(outcome.error != null)
+      assert(outcome.batch.getId == null)
+    }
+
+    "keep polling after a status read fails" in withServer { (server, client, polls) =>
+      server.withError("/api/v2/companies/1/batches/1", 503, null, 1)
+      val outcomes = new Outcomes
+      val batcher = new TransactionBatcher(client, 1, outcomes).withPollInterval(10, 10, TimeUnit.MILLISECONDS)
+
+      batcher.add(transaction("recovered", 1))
+      batcher.close()
+
+      val outcome = outcomes.next()
+      assert(outcome.error == null)
+      assert(outcome.results("Result.csv").contains("recovered,Imported"))
+      assert(polls.times.size == 3)
+    }
+
+    "report the created batch, with its ID, once status reads keep failing" in withServer { (server, client, polls) =>
+      server.withError("/api/v2/companies/1/batches/1", 503, null)
+      val outcomes = new Outcomes
+      val batcher = new TransactionBatcher(client, 1, outcomes).withPollInterval(10, 10, TimeUnit.MILLISECONDS)
+
+      batcher.add(transaction("lost", 1))
+      batcher.close()
+
+      val outcome = outcomes.next()
+      assert(outcome.error.asInstanceOf[AvaTaxClientException].getStatusCode == 503)
+      assert(outcome.batch.getId == 1 && outcome.batch.getStatus == BatchStatus.Waiting)
+      assert(polls.times.size == 5)
+    }
+  }
+}